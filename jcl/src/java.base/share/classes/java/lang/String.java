@@ -1341,6 +1341,187 @@ public final class String implements Serializable, Comparable<String>, CharSeque
 		}
 	}
 
+	/*
+	 * The following helpers are used by the JIT to fuse a StringBuilder append chain which ends in toString() into a
+	 * single allocation of the value array of the result. The length and coder of the result are accumulated by the
+	 * concatMix methods into a long, with the length in the low 32 bits and the coder in the high 32 bits. The value
+	 * array is then allocated by concatNewArray and filled in from the end by the concatPrepend methods, each of which
+	 * returns the updated index and coder. Finally concatNewString creates the String sharing the value array.
+	 */
+	static long concatMix(long lengthCoder, String s) {
+		if (s == null) {
+			s = "null"; //$NON-NLS-1$
+		}
+
+		lengthCoder = concatAddLength(lengthCoder, s.lengthInternal());
+
+		if (s.coder() != LATIN1) {
+			lengthCoder |= ((long) UTF16) << 32;
+		}
+
+		return lengthCoder;
+	}
+
+	static long concatMix(long lengthCoder, int v) {
+		int vlen = 1;
+
+		int i = v;
+		while ((i /= 10) != 0)
+			vlen++;
+		if (v < 0) {
+			// Leave room for '-'
+			vlen++;
+		}
+
+		return concatAddLength(lengthCoder, vlen);
+	}
+
+	static long concatMix(long lengthCoder, long v) {
+		int vlen = 1;
+
+		long i = v;
+		while ((i /= 10) != 0)
+			vlen++;
+		if (v < 0) {
+			// Leave room for '-'
+			vlen++;
+		}
+
+		return concatAddLength(lengthCoder, vlen);
+	}
+
+	static long concatMix(long lengthCoder, char c) {
+		lengthCoder = concatAddLength(lengthCoder, 1);
+
+		if (c > 255) {
+			lengthCoder |= ((long) UTF16) << 32;
+		}
+
+		return lengthCoder;
+	}
+
+	static long concatMix(long lengthCoder, boolean b) {
+		return concatAddLength(lengthCoder, b ? 4 : 5);
+	}
+
+	private static long concatAddLength(long lengthCoder, int length) {
+		int newLength = (int) lengthCoder + length;
+		if (newLength < 0) {
+			/*[MSG "K0D01", "Array capacity exceeded"]*/
+			throw new OutOfMemoryError(com.ibm.oti.util.Msg.getString("K0D01")); //$NON-NLS-1$
+		}
+
+		return (lengthCoder & 0xFFFFFFFF00000000L) | newLength;
+	}
+
+	private static byte concatCoder(long indexCoder) {
+		if (COMPACT_STRINGS) {
+			return (byte) (indexCoder >>> 32);
+		} else {
+			return UTF16;
+		}
+	}
+
+	static byte[] concatNewArray(long lengthCoder) {
+		int len = (int) lengthCoder;
+
+		if (LATIN1 == concatCoder(lengthCoder)) {
+			return new byte[len];
+		} else {
+			return StringUTF16.newBytesFor(len);
+		}
+	}
+
+	static long concatPrepend(long indexCoder, byte[] buf, String s) {
+		if (s == null) {
+			s = "null"; //$NON-NLS-1$
+		}
+
+		int slen = s.lengthInternal();
+
+		s.getBytes(buf, (int) indexCoder - slen, concatCoder(indexCoder));
+
+		return indexCoder - slen;
+	}
+
+	static long concatPrepend(long indexCoder, byte[] buf, int v) {
+		int index = (int) indexCoder;
+		byte coder = concatCoder(indexCoder);
+
+		int quot;
+		if (v >= 0) {
+			quot = -v;
+		} else {
+			quot = v;
+		}
+
+		do {
+			int res = quot / 10;
+			int rem = quot - (res * 10);
+
+			quot = res;
+
+			// Write the digit into the correct position
+			concatPutChar(buf, --index, (char) ('0' - rem), coder);
+		} while (quot != 0);
+
+		if (v < 0) {
+			concatPutChar(buf, --index, '-', coder);
+		}
+
+		return (indexCoder & 0xFFFFFFFF00000000L) | index;
+	}
+
+	static long concatPrepend(long indexCoder, byte[] buf, long v) {
+		int index = (int) indexCoder;
+		byte coder = concatCoder(indexCoder);
+
+		long quot;
+		if (v >= 0) {
+			quot = -v;
+		} else {
+			quot = v;
+		}
+
+		do {
+			long res = quot / 10;
+			int rem = (int) (quot - (res * 10));
+
+			quot = res;
+
+			// Write the digit into the correct position
+			concatPutChar(buf, --index, (char) ('0' - rem), coder);
+		} while (quot != 0);
+
+		if (v < 0) {
+			concatPutChar(buf, --index, '-', coder);
+		}
+
+		return (indexCoder & 0xFFFFFFFF00000000L) | index;
+	}
+
+	static long concatPrepend(long indexCoder, byte[] buf, char c) {
+		concatPutChar(buf, (int) indexCoder - 1, c, concatCoder(indexCoder));
+
+		return indexCoder - 1;
+	}
+
+	static long concatPrepend(long indexCoder, byte[] buf, boolean b) {
+		return concatPrepend(indexCoder, buf, b ? "true" : "false"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void concatPutChar(byte[] buf, int index, char c, byte coder) {
+		if (LATIN1 == coder) {
+			helpers.putByteInArrayByIndex(buf, index, (byte) c);
+		} else {
+			helpers.putCharInArrayByIndex(buf, index, c);
+		}
+	}
+
+	static String concatNewString(byte[] buf, long indexCoder) {
+		return new String(buf, concatCoder(indexCoder));
+	}
+
 	/*
 	 * Loads from the stringArray if concatenated result is found else it creates a string that is s1 + s2 which is stored in stringArray and then
 	 * returned.
@@ -159,6 +159,18 @@ public final class InternalCRIUSupport {
 		return getLastRestoreTimeImpl();
 	}
 
+	/**
+	 * Retrieve the time taken by each post-restore hook during the last restore.
+	 * Each hook is keyed by its name followed by its registration index, for
+	 * example {@code "User post-restore hook concurrent mode hook #12"}.
+	 *
+	 * @return a map from the hook key to the time taken by the hook in
+	 *         nanoseconds, empty if restore has not occurred.
+	 */
+	public static Map<String, Long> getLastRestoreHookTimes() {
+		return J9InternalCheckpointHookAPI.getLastRestoreHookTimes();
+	}
+
 	/**
 	 * Get the start time of the CRIU process that restores the java process.
 	 * The time that is set by the restored java process when it resumes from
@@ -325,10 +337,15 @@ public final class InternalCRIUSupport {
 	 * such an attempt is detected by JVM.
 	 *
 	 * CONCURRENT_MODE - a hook running when the SINGLE_THREAD_MODE is NOT enabled
+	 *
+	 * PARALLEL_MODE - a CONCURRENT_MODE hook which runs in parallel with the other
+	 * PARALLEL_MODE hooks of the same priority, on a bounded pool of threads. All
+	 * of them complete before hooks of the next priority are run.
 	 */
 	public static enum HookMode {
 		SINGLE_THREAD_MODE,
-		CONCURRENT_MODE
+		CONCURRENT_MODE,
+		PARALLEL_MODE
 	}
 
 	private static boolean loadNativeLibrary() {
@@ -756,7 +773,8 @@ public final class InternalCRIUSupport {
 	 * exception will be thrown.
 	 *
 	 * If CONCURRENT_MODE is requested, the hook will be run alongside all other
-	 * active Java threads.
+	 * active Java threads. PARALLEL_MODE hooks are CONCURRENT_MODE hooks which
+	 * run in parallel with the other PARALLEL_MODE hooks of the same priority.
 	 *
 	 * High-priority hooks are run first after restore, and vice-versa for
 	 * low-priority hooks. The priority of the hook is with respect to the other
@@ -767,8 +785,8 @@ public final class InternalCRIUSupport {
 	 * run in random order.
 	 *
 	 * @param hook     user hook
-	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE or
-	 *                 SINGLE_THREAD_MODE
+	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE,
+	 *                 PARALLEL_MODE or SINGLE_THREAD_MODE
 	 * @param priority the priority of the hook, between LOWEST_USER_HOOK_PRIORITY -
 	 *                 HIGHEST_USER_HOOK_PRIORITY. Throws
 	 *                 UnsupportedOperationException otherwise.
@@ -776,7 +794,7 @@ public final class InternalCRIUSupport {
 	 * @return this
 	 *
 	 * @throws UnsupportedOperationException if the hook mode is not
-	 *                                       SINGLE_THREAD_MODE or CONCURRENT_MODE
+	 *                                       SINGLE_THREAD_MODE, CONCURRENT_MODE or PARALLEL_MODE
 	 *                                       or the priority is not between
 	 *                                       LOWEST_USER_HOOK_PRIORITY and
 	 *                                       HIGHEST_USER_HOOK_PRIORITY.
@@ -816,7 +834,8 @@ public final class InternalCRIUSupport {
 	 * exception will be thrown.
 	 *
 	 * If CONCURRENT_MODE is requested, the hook will be run alongside all other
-	 * active Java threads.
+	 * active Java threads. PARALLEL_MODE hooks are CONCURRENT_MODE hooks which
+	 * run in parallel with the other PARALLEL_MODE hooks of the same priority.
 	 *
 	 * High-priority hooks are run last before checkpoint, and vice-versa for
 	 * low-priority hooks. The priority of the hook is with respect to the other
@@ -827,8 +846,8 @@ public final class InternalCRIUSupport {
 	 * run in random order.
 	 *
 	 * @param hook     user hook
-	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE or
-	 *                 SINGLE_THREAD_MODE
+	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE,
+	 *                 PARALLEL_MODE or SINGLE_THREAD_MODE
 	 * @param priority the priority of the hook, between LOWEST_USER_HOOK_PRIORITY -
 	 *                 HIGHEST_USER_HOOK_PRIORITY. Throws
 	 *                 UnsupportedOperationException otherwise.
@@ -836,7 +855,7 @@ public final class InternalCRIUSupport {
 	 * @return this
 	 *
 	 * @throws UnsupportedOperationException if the hook mode is not
-	 *                                       SINGLE_THREAD_MODE or CONCURRENT_MODE
+	 *                                       SINGLE_THREAD_MODE, CONCURRENT_MODE or PARALLEL_MODE
 	 *                                       or the priority is not between
 	 *                                       LOWEST_USER_HOOK_PRIORITY and
 	 *                                       HIGHEST_USER_HOOK_PRIORITY.
@@ -858,8 +877,10 @@ public final class InternalCRIUSupport {
 				threadModeMsg = "single-threaded mode"; //$NON-NLS-1$
 			} else if (HookMode.CONCURRENT_MODE == mode) {
 				threadModeMsg = "concurrent mode"; //$NON-NLS-1$
+			} else if (HookMode.PARALLEL_MODE == mode) {
+				threadModeMsg = "parallel mode"; //$NON-NLS-1$
 			} else {
-				throw new UnsupportedOperationException("The hook mode must be SINGLE_THREAD_MODE or CONCURRENT_MODE."); //$NON-NLS-1$
+				throw new UnsupportedOperationException("The hook mode must be SINGLE_THREAD_MODE, CONCURRENT_MODE or PARALLEL_MODE."); //$NON-NLS-1$
 			}
 
 			String checkpointMsg = isPreCheckpoint ? "pre-checkpoint " : "post-restore hook "; //$NON-NLS-1$ //$NON-NLS-2$
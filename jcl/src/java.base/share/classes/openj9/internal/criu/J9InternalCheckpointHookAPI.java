@@ -24,7 +24,15 @@ package openj9.internal.criu;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import openj9.internal.criu.InternalCRIUSupport.HookMode;
 
@@ -34,6 +42,8 @@ final class J9InternalCheckpointHookAPI {
 	private static List<J9InternalCheckpointHook> preCheckpointHooksSingleThread = new ArrayList<>();
 	private static List<J9InternalCheckpointHook> postRestoreHooksConcurrentThread = new ArrayList<>();
 	private static List<J9InternalCheckpointHook> preCheckpointHooksConcurrentThread = new ArrayList<>();
+	private static final Map<String, Long> lastRestoreHookTimes = new LinkedHashMap<>();
+	private static int registeredHookCount;
 
 	/**
 	 * This is an internal API
@@ -51,10 +61,13 @@ final class J9InternalCheckpointHookAPI {
 	static synchronized void registerPostRestoreHook(HookMode mode, int priority, String name, Runnable hook)
 			throws UnsupportedOperationException {
 		// The hook mode and priority have been verified  by the caller.
-		J9InternalCheckpointHook internalHook = new J9InternalCheckpointHook(mode, priority, name, hook);
+		J9InternalCheckpointHook internalHook = new J9InternalCheckpointHook(mode, priority, name, hook,
+				registeredHookCount++);
 		if (mode == InternalCRIUSupport.HookMode.SINGLE_THREAD_MODE) {
 			postRestoreHooksSingleThread.add(internalHook);
-		} else if (mode == InternalCRIUSupport.HookMode.CONCURRENT_MODE) {
+		} else if ((mode == InternalCRIUSupport.HookMode.CONCURRENT_MODE)
+				|| (mode == InternalCRIUSupport.HookMode.PARALLEL_MODE)
+		) {
 			postRestoreHooksConcurrentThread.add(internalHook);
 		}
 	}
@@ -74,15 +87,42 @@ final class J9InternalCheckpointHookAPI {
 	static synchronized void registerPreCheckpointHook(HookMode mode, int priority, String name, Runnable hook)
 			throws UnsupportedOperationException {
 		// The hook mode and priority have been verified  by the caller.
-		J9InternalCheckpointHook internalHook = new J9InternalCheckpointHook(mode, priority, name, hook);
+		J9InternalCheckpointHook internalHook = new J9InternalCheckpointHook(mode, priority, name, hook,
+				registeredHookCount++);
 		if (InternalCRIUSupport.HookMode.SINGLE_THREAD_MODE == mode) {
 			preCheckpointHooksSingleThread.add(internalHook);
-		} else if (InternalCRIUSupport.HookMode.CONCURRENT_MODE == mode) {
+		} else if ((InternalCRIUSupport.HookMode.CONCURRENT_MODE == mode)
+				|| (InternalCRIUSupport.HookMode.PARALLEL_MODE == mode)
+		) {
 			preCheckpointHooksConcurrentThread.add(internalHook);
 		}
 	}
 
-	private static void runHooks(List<J9InternalCheckpointHook> hooks, boolean reverse) {
+	/**
+	 * Returns the time taken by each post restore hook during the last restore.
+	 *
+	 * Each hook is keyed by its name followed by its registration index, so hooks
+	 * registered with the same name are reported separately.
+	 *
+	 * @return a map from the hook key to the time taken by the hook in nanoseconds,
+	 *         in the order the hooks completed
+	 */
+	static Map<String, Long> getLastRestoreHookTimes() {
+		synchronized (lastRestoreHookTimes) {
+			return Collections.unmodifiableMap(new LinkedHashMap<>(lastRestoreHookTimes));
+		}
+	}
+
+	private static void recordHookTime(Map<String, Long> hookTimes, J9InternalCheckpointHook hookWrapper, long nanos) {
+		if (hookTimes != null) {
+			synchronized (hookTimes) {
+				hookTimes.put(hookWrapper.getTimingKey(), Long.valueOf(nanos));
+			}
+		}
+	}
+
+	private static void runHooks(List<J9InternalCheckpointHook> hooks, boolean reverse, boolean isRestore,
+			Map<String, Long> hookTimes) {
 		boolean debug = System.getProperty("enable.j9internal.checkpoint.hook.api.debug") != null; //$NON-NLS-1$
 
 		if (reverse) {
@@ -91,13 +131,123 @@ final class J9InternalCheckpointHookAPI {
 			Collections.sort(hooks);
 		}
 
-		for (J9InternalCheckpointHook hookWrapper : hooks) {
-			if (debug) {
-				System.err.println(hookWrapper);
+		int index = 0;
+		while (index < hooks.size()) {
+			J9InternalCheckpointHook hookWrapper = hooks.get(index);
+			if (hookWrapper.isParallel()) {
+				// the parallel hooks of the same priority are adjacent after sorting
+				int end = index + 1;
+				while ((end < hooks.size()) && hooks.get(end).isParallel()
+						&& (hooks.get(end).getHookPriority() == hookWrapper.getHookPriority())
+				) {
+					end += 1;
+				}
+				runParallelHooks(hooks.subList(index, end), debug, isRestore, hookTimes);
+				index = end;
+			} else {
+				if (debug) {
+					System.err.println(hookWrapper);
+				}
+
+				long start = System.nanoTime();
+				hookWrapper.runHook();
+				recordHookTime(hookTimes, hookWrapper, System.nanoTime() - start);
+				index += 1;
+			}
+		}
+	}
+
+	/*
+	 * Run hooks of the same priority on a bounded pool and wait for all of them
+	 * before any hook of a lower priority is run. The pool size and the time to
+	 * wait for the hooks can be set with the openj9.internal.criu.parallelHookThreads
+	 * and openj9.internal.criu.parallelHookTimeout (in milliseconds) properties.
+	 */
+	private static void runParallelHooks(List<J9InternalCheckpointHook> hooks, boolean debug, boolean isRestore,
+			Map<String, Long> hookTimes) {
+		int maxThreads = Integer.getInteger("openj9.internal.criu.parallelHookThreads", //$NON-NLS-1$
+				Runtime.getRuntime().availableProcessors()).intValue();
+		long timeoutMillis = Long.getLong("openj9.internal.criu.parallelHookTimeout", 0).longValue(); //$NON-NLS-1$
+		int hookCount = hooks.size();
+		long[] hookNanos = new long[hookCount];
+		List<Future<?>> results = new ArrayList<>(hookCount);
+		ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(maxThreads, hookCount)), task -> {
+			Thread thread = new Thread(task, "CRIU parallel hook thread"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		// the hooks share one deadline, which includes the time spent waiting for a pool thread
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		try {
+			for (int i = 0; i < hookCount; i++) {
+				J9InternalCheckpointHook hookWrapper = hooks.get(i);
+				int slot = i;
+				if (debug) {
+					System.err.println(hookWrapper);
+				}
+				results.add(pool.submit(() -> {
+					long start = System.nanoTime();
+					try {
+						hookWrapper.runHook();
+					} finally {
+						hookNanos[slot] = System.nanoTime() - start;
+					}
+				}));
+			}
+
+			for (int i = 0; i < hookCount; i++) {
+				try {
+					if (timeoutMillis > 0) {
+						results.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+					} else {
+						results.get(i).get();
+					}
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+					throw hookException("Exception thrown when running " + hooks.get(i).getName(), isRestore, cause); //$NON-NLS-1$
+				} catch (TimeoutException e) {
+					throw hookException("Timed out after " + timeoutMillis + " ms waiting for " + hooks.get(i).getName(), isRestore, e); //$NON-NLS-1$ //$NON-NLS-2$
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw hookException("Interrupted while waiting for " + hooks.get(i).getName(), isRestore, e); //$NON-NLS-1$
+				}
+				recordHookTime(hookTimes, hooks.get(i), hookNanos[i]);
+			}
+		} finally {
+			pool.shutdownNow();
+			awaitPoolTermination(pool, timeoutMillis);
+		}
+	}
+
+	/*
+	 * Wait for the hooks still running after a failure, so that none of them
+	 * outlives the checkpoint or restore which started it. The wait is bounded
+	 * by the parallel hook timeout when one is set.
+	 */
+	private static void awaitPoolTermination(ExecutorService pool, long timeoutMillis) {
+		try {
+			if (timeoutMillis > 0) {
+				pool.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+			} else {
+				pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
 
-			hookWrapper.runHook();
+	private static JVMCRIUException hookException(String message, boolean isRestore, Throwable cause) {
+		if (isRestore) {
+			return new JVMRestoreException(message, 0, cause);
 		}
+		return new JVMCheckpointException(message, 0, cause);
 	}
 
 	/*
@@ -105,7 +255,7 @@ final class J9InternalCheckpointHookAPI {
 	 */
 	@SuppressWarnings("unused")
 	private static void runPreCheckpointHooksSingleThread() {
-		runHooks(preCheckpointHooksSingleThread, true);
+		runHooks(preCheckpointHooksSingleThread, true, false, null);
 	}
 
 	/*
@@ -113,15 +263,18 @@ final class J9InternalCheckpointHookAPI {
 	 */
 	@SuppressWarnings("unused")
 	private static void runPostRestoreHooksSingleThread() {
-		runHooks(postRestoreHooksSingleThread, false);
+		synchronized (lastRestoreHookTimes) {
+			lastRestoreHookTimes.clear();
+		}
+		runHooks(postRestoreHooksSingleThread, false, true, lastRestoreHookTimes);
 	}
 
 	static void runPreCheckpointHooksConcurrentThread() {
-		runHooks(preCheckpointHooksConcurrentThread, true);
+		runHooks(preCheckpointHooksConcurrentThread, true, false, null);
 	}
 
 	static void runPostRestoreHooksConcurrentThread() {
-		runHooks(postRestoreHooksConcurrentThread, false);
+		runHooks(postRestoreHooksConcurrentThread, false, true, lastRestoreHookTimes);
 	}
 
 	final private static class J9InternalCheckpointHook implements Comparable<J9InternalCheckpointHook> {
@@ -130,30 +283,57 @@ final class J9InternalCheckpointHookAPI {
 		private final int priority;
 		private final Runnable hook;
 		private final String name;
+		private final int registrationIndex;
 
 		int getHookPriority() {
 			return priority;
 		}
 
+		String getName() {
+			return name;
+		}
+
+		String getTimingKey() {
+			return name + " #" + registrationIndex; //$NON-NLS-1$
+		}
+
+		boolean isParallel() {
+			return InternalCRIUSupport.HookMode.PARALLEL_MODE == hookMode;
+		}
+
 		@Override
 		public int compareTo(J9InternalCheckpointHook o) {
-			return o.getHookPriority() - this.getHookPriority();
+			int result = o.getHookPriority() - this.getHookPriority();
+			if (result == 0) {
+				// keep the parallel hooks of a priority together
+				result = Boolean.compare(this.isParallel(), o.isParallel());
+			}
+			return result;
 		}
 
 		void runHook() {
 			hook.run();
 		}
 
-		J9InternalCheckpointHook(InternalCRIUSupport.HookMode hookMode, int priority, String name, Runnable hook) {
+		J9InternalCheckpointHook(InternalCRIUSupport.HookMode hookMode, int priority, String name, Runnable hook,
+				int registrationIndex) {
 			this.hookMode = hookMode;
 			this.priority = priority;
 			this.hook = hook;
 			this.name = name;
+			this.registrationIndex = registrationIndex;
 		}
 
 		@Override
 		public String toString() {
-			String hookModeStr = InternalCRIUSupport.HookMode.SINGLE_THREAD_MODE == hookMode ? "single-threaded" : "concurrent"; //$NON-NLS-1$ //$NON-NLS-2$
+			String hookModeStr;
+			if (InternalCRIUSupport.HookMode.SINGLE_THREAD_MODE == hookMode) {
+				hookModeStr = "single-threaded"; //$NON-NLS-1$
+			} else if (InternalCRIUSupport.HookMode.PARALLEL_MODE == hookMode) {
+				hookModeStr = "parallel"; //$NON-NLS-1$
+			} else {
+				hookModeStr = "concurrent"; //$NON-NLS-1$
+			}
 			return "[J9InternalCheckpointHook(" + hookModeStr + " mode): [" + name + "], priority:[" + priority //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 					+ "], runnable:[" + hook + "]]"; //$NON-NLS-1$ //$NON-NLS-2$
 		}
@@ -118,6 +118,12 @@ public class DiagnosticUtils {
 	 */
 	private static final String DIAGNOSTICS_THREAD_PRINT = "Thread.print";
 
+	/**
+	 * Get the contention on inflated object monitors, by class.
+	 */
+	private static final String DIAGNOSTICS_THREAD_MONITOR_CONTENTION = "Thread.monitor_contention";
+	private static final int MONITOR_CONTENTION_STATISTICS = 6;
+
 /*[IF CRIU_SUPPORT]*/
 	/**
 	 * The system property prefix for the key/value pairs specified via CRIU.checkpoint.
@@ -149,6 +155,12 @@ public class DiagnosticUtils {
 	 */
 	private static final String DIAGNOSTICS_GC_CLASS_HISTOGRAM = "GC.class_histogram";
 
+	/**
+	 * Get the most frequent allocation sites sampled by the GC.
+	 */
+	private static final String DIAGNOSTICS_GC_ALLOCATION_SITES = "GC.allocation_sites";
+	private static final String ALLOCATION_SITES_RESET_OPTION = "reset";
+
 	/**
 	 * Commands to generate dumps of various types
 	 */
@@ -175,6 +187,33 @@ public class DiagnosticUtils {
 	 */
 	private static final String DIAGNOSTICS_STAT_CLASS = "jstat.class";
 
+	/**
+	 * Get a snapshot of the VM metrics.
+	 */
+	private static final String DIAGNOSTICS_VM_METRICS = "VM.metrics";
+
+	/**
+	 * Get the state of the JIT compilation queues and threads.
+	 */
+	private static final String DIAGNOSTICS_COMPILER_QUEUE = "Compiler.queue";
+	private static final String COMPILER_QUEUE_THROTTLE_OPTION = "throttle=";
+
+	/* The layout of the array filled by getCompilationQueueInfoImpl(); it must match mgmtcompqueue.c. */
+	private static final int COMPILER_QUEUE_COUNT = 5;
+	private static final int COMPILER_QUEUE_MAX_THREADS = 16;
+	private static final int COMPILER_QUEUE_RECENT_DURATIONS = 16;
+	private static final int COMPILER_QUEUE_OLDEST_ENTRY_AGE = COMPILER_QUEUE_COUNT;
+	private static final int COMPILER_QUEUE_THROTTLE_REMAINING = COMPILER_QUEUE_OLDEST_ENTRY_AGE + 1;
+	private static final int COMPILER_QUEUE_THREAD_COUNT = COMPILER_QUEUE_THROTTLE_REMAINING + 1;
+	private static final int COMPILER_QUEUE_THREAD_STATES = COMPILER_QUEUE_THREAD_COUNT + 1;
+	private static final int COMPILER_QUEUE_THREAD_BUSY_TIMES = COMPILER_QUEUE_THREAD_STATES + COMPILER_QUEUE_MAX_THREADS;
+	private static final int COMPILER_QUEUE_DURATION_COUNT = COMPILER_QUEUE_THREAD_BUSY_TIMES + COMPILER_QUEUE_MAX_THREADS;
+	private static final int COMPILER_QUEUE_DURATIONS = COMPILER_QUEUE_DURATION_COUNT + 1;
+	private static final int COMPILER_QUEUE_INFO_LENGTH = COMPILER_QUEUE_DURATIONS + COMPILER_QUEUE_RECENT_DURATIONS;
+	private static final String[] COMPILER_QUEUE_NAMES = { "sync", "asyncHigh", "asyncNormal", "asyncLow", "lowPriority" };
+	private static final String[] COMPILER_THREAD_STATE_NAMES = { "UNINITIALIZED", "ACTIVE", "SIGNAL_WAIT", "WAITING",
+			"SIGNAL_SUSPEND", "SUSPENDED", "SIGNAL_TERMINATE", "STOPPING", "STOPPED", "ABORT" };
+
 	// load JVMTI agent
 	private static final String DIAGNOSTICS_LOAD_JVMTI_AGENT = "JVMTI.agent_load";
 
@@ -271,6 +310,13 @@ public class DiagnosticUtils {
 	}
 
 	private static native String getHeapClassStatisticsImpl();
+	private static native int getAllocationSiteSamplingDepthImpl();
+	private static native int getAllocationSitesImpl(String[] classNames, String[] methodNames, int[] bytecodeIndexes, long[] sampleCounts);
+	private static native void resetAllocationSitesImpl();
+	private static native int getMonitorContentionImpl(String[] classNames, long[] statistics);
+	private static native int getMetricsSnapshotImpl(long[] values, String[] keys);
+	private static native boolean getCompilationQueueInfoImpl(long[] info);
+	private static native void throttleBackgroundCompilationsImpl(long millis);
 	private static native String triggerDumpsImpl(String dumpOptions, String event) throws InvalidDumpOptionExceptionBase;
 
 	/**
@@ -326,6 +372,153 @@ public class DiagnosticUtils {
 		return result;
 	}
 
+	private static DiagnosticProperties getAllocationSites(String diagnosticCommand) {
+		DiagnosticProperties result = null;
+		boolean doReset = false;
+		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
+		if (parts.length > 2) {
+			return DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
+		} else if (parts.length == 2) {
+			if (ALLOCATION_SITES_RESET_OPTION.equalsIgnoreCase(parts[1])) {
+				doReset = true;
+			} else {
+				return DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
+			}
+		}
+		int depth = getAllocationSiteSamplingDepthImpl();
+		if (0 == depth) {
+			result = DiagnosticProperties.makeErrorProperties("Allocation site sampling is not enabled; use -XXgc:enableAllocationSiteSampling");
+		} else {
+			String[] classNames = new String[depth];
+			String[] methodNames = new String[depth];
+			int[] bytecodeIndexes = new int[depth];
+			long[] sampleCounts = new long[depth];
+			int count = getAllocationSitesImpl(classNames, methodNames, bytecodeIndexes, sampleCounts);
+			StringWriter buffer = new StringWriter();
+			PrintWriter bufferPrinter = new PrintWriter(buffer);
+			bufferPrinter.printf(" num %12s %6s  %s%n", "samples", "bci", "class and allocating method");
+			bufferPrinter.println("-------------------------------------------------------------------");
+			for (int i = 0; i < count; ++i) {
+				String methodName = (null == methodNames[i]) ? "<unknown>" : methodNames[i];
+				bufferPrinter.printf("%4d %12d %6d  %s%n     allocated at %s%n", Integer.valueOf(i + 1), Long.valueOf(sampleCounts[i]),
+						Integer.valueOf(bytecodeIndexes[i]), classNames[i], methodName);
+			}
+			if (doReset) {
+				resetAllocationSitesImpl();
+				bufferPrinter.println("Allocation site samples reset");
+			}
+			bufferPrinter.flush();
+			result = DiagnosticProperties.makeStringResult(buffer.toString());
+		}
+		return result;
+	}
+
+	private static DiagnosticProperties getMonitorContention(String diagnosticCommand) {
+		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
+		if (parts.length > 1) {
+			return DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
+		}
+		int capacity = 64;
+		String[] classNames;
+		long[] statistics;
+		int count;
+		for (;;) {
+			classNames = new String[capacity];
+			statistics = new long[capacity * MONITOR_CONTENTION_STATISTICS];
+			count = getMonitorContentionImpl(classNames, statistics);
+			if (count <= capacity) {
+				break;
+			}
+			capacity = count;
+		}
+		StringWriter buffer = new StringWriter();
+		PrintWriter bufferPrinter = new PrintWriter(buffer);
+		bufferPrinter.printf(" num %8s %10s %10s %10s %10s %14s  %s%n",
+				"monitors", "contended", "spin-acq", "spin-skip", "blocked", "blocked(ms)", "class name");
+		bufferPrinter.println("-------------------------------------------------------------------------------------------");
+		for (int i = 0; i < count; ++i) {
+			int base = i * MONITOR_CONTENTION_STATISTICS;
+			bufferPrinter.printf("%4d %8d %10d %10d %10d %10d %14.3f  %s%n", Integer.valueOf(i + 1),
+					Long.valueOf(statistics[base]), Long.valueOf(statistics[base + 1]), Long.valueOf(statistics[base + 2]),
+					Long.valueOf(statistics[base + 3]), Long.valueOf(statistics[base + 4]),
+					Double.valueOf(statistics[base + 5] / 1_000_000.0), classNames[i]);
+		}
+		bufferPrinter.flush();
+		return DiagnosticProperties.makeStringResult(buffer.toString());
+	}
+
+	private static DiagnosticProperties getCompilationQueue(String diagnosticCommand) {
+		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
+		long throttleMillis = -1;
+		if (parts.length > 2) {
+			return DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
+		} else if (parts.length == 2) {
+			String option = parts[1];
+			if (!option.startsWith(COMPILER_QUEUE_THROTTLE_OPTION)) {
+				return DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
+			}
+			try {
+				throttleMillis = Long.parseLong(option.substring(COMPILER_QUEUE_THROTTLE_OPTION.length()));
+			} catch (NumberFormatException e) {
+				throttleMillis = -1;
+			}
+			if (throttleMillis < 0) {
+				return DiagnosticProperties.makeErrorProperties("Invalid throttling time: " + option);
+			}
+		}
+		long[] info = new long[COMPILER_QUEUE_INFO_LENGTH];
+		if (!getCompilationQueueInfoImpl(info)) {
+			return DiagnosticProperties.makeStringResult("The JIT compiler is not running");
+		}
+		if (throttleMillis >= 0) {
+			throttleBackgroundCompilationsImpl(throttleMillis);
+			getCompilationQueueInfoImpl(info);
+		}
+		StringWriter buffer = new StringWriter();
+		PrintWriter bufferPrinter = new PrintWriter(buffer);
+		bufferPrinter.print("Queued requests:");
+		for (int i = 0; i < COMPILER_QUEUE_COUNT; ++i) {
+			bufferPrinter.printf(" %s=%d", COMPILER_QUEUE_NAMES[i], Long.valueOf(info[i]));
+		}
+		bufferPrinter.printf("%nOldest request age: %d us%n", Long.valueOf(info[COMPILER_QUEUE_OLDEST_ENTRY_AGE]));
+		bufferPrinter.printf("Background compilations throttled: %d ms remaining%n", Long.valueOf(info[COMPILER_QUEUE_THROTTLE_REMAINING]));
+		bufferPrinter.println("Compilation threads:");
+		for (int i = 0; i < info[COMPILER_QUEUE_THREAD_COUNT]; ++i) {
+			int state = (int) info[COMPILER_QUEUE_THREAD_STATES + i];
+			bufferPrinter.printf("  %d: %s, current compilation %d us%n", Integer.valueOf(i),
+					(state < COMPILER_THREAD_STATE_NAMES.length) ? COMPILER_THREAD_STATE_NAMES[state] : Integer.toString(state),
+					Long.valueOf(info[COMPILER_QUEUE_THREAD_BUSY_TIMES + i]));
+		}
+		bufferPrinter.print("Recent compilation durations (us, most recent first):");
+		for (int i = 0; i < info[COMPILER_QUEUE_DURATION_COUNT]; ++i) {
+			bufferPrinter.printf(" %d", Long.valueOf(info[COMPILER_QUEUE_DURATIONS + i]));
+		}
+		bufferPrinter.println();
+		bufferPrinter.flush();
+		return DiagnosticProperties.makeStringResult(buffer.toString());
+	}
+
+	private static DiagnosticProperties getMetricsSnapshot(String diagnosticCommand) {
+		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
+		if (parts.length > 1) {
+			return DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
+		}
+		int length = getMetricsSnapshotImpl(null, null);
+		long[] values = new long[length];
+		String[] keys = new String[length];
+		getMetricsSnapshotImpl(values, keys);
+		StringWriter buffer = new StringWriter();
+		PrintWriter bufferPrinter = new PrintWriter(buffer);
+		for (int i = 0; i < length; ++i) {
+			/* reserved indexes have no key */
+			if (null != keys[i]) {
+				bufferPrinter.printf("%s=%d%n", keys[i], Long.valueOf(values[i]));
+			}
+		}
+		bufferPrinter.flush();
+		return DiagnosticProperties.makeStringResult(buffer.toString());
+	}
+
 	private static DiagnosticProperties getThreadInfo(String diagnosticCommand) {
 		DiagnosticProperties result = null;
 		boolean okay = true;
@@ -744,6 +937,12 @@ public class DiagnosticUtils {
 			+ "         live : include all objects after a global GC collection%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n";
 
+	private static final String DIAGNOSTICS_GC_ALLOCATION_SITES_HELP = "List the most frequent allocation sites sampled by the garbage collector%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_GC_ALLOCATION_SITES + " [options]%n"
+			+ " Options:%n"
+			+ "        reset : discard the samples after printing them%n"
+			+ "NOTE: allocation site sampling must be enabled with -XXgc:enableAllocationSiteSampling.%n";
+
 	private static final String DIAGNOSTICS_GC_RUN_HELP = "Run the garbage collector.%n"
 			+ FORMAT_PREFIX + DIAGNOSTICS_GC_RUN + "%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n";
@@ -752,6 +951,13 @@ public class DiagnosticUtils {
 			+ FORMAT_PREFIX + DIAGNOSTICS_THREAD_PRINT + " [options]%n"
 			+ " Options: -l : print information about ownable synchronizers%n";
 
+	private static final String DIAGNOSTICS_THREAD_MONITOR_CONTENTION_HELP = "List the contention on inflated object monitors, by class of the monitor object%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_THREAD_MONITOR_CONTENTION + "%n"
+			+ " Columns: contended enters, enters acquired by spinning, enters which blocked without spinning,%n"
+			+ "          enters which blocked, and the total time spent blocked%n"
+			+ "NOTE: these statistics are recorded, and spinning adapts to them,%n"
+			+ "      only when -Xthr:adaptiveMonitorSpin is specified.%n";
+
 	private static final String DIAGNOSTICS_DUMP_HEAP_HELP = "Create a heap dump.%n"
 			+ FORMAT_PREFIX + DIAGNOSTICS_DUMP_HEAP + HEAP_DUMP_OPTION_HELP + HEAPSYSTEM_DUMP_OPTION_HELP + GENERIC_DUMP_OPTION_HELP
 			+ DIAGNOSTICS_GC_HEAP_DUMP + " is an alias for " + DIAGNOSTICS_DUMP_HEAP + "%n";
@@ -769,6 +975,17 @@ public class DiagnosticUtils {
 			+ FORMAT_PREFIX + DIAGNOSTICS_STAT_CLASS + "%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n";
 
+	private static final String DIAGNOSTICS_VM_METRICS_HELP = "Print a snapshot of the heap, GC, CPU, thread, class loading, JIT and shared cache counters%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_VM_METRICS + "%n"
+			+ " Each counter is printed as key=value, in the order of the com.ibm.lang.management.MetricsSnapshotMXBean indexes.%n"
+			+ " Counters which are not available are printed as -1.%n";
+
+	private static final String DIAGNOSTICS_COMPILER_QUEUE_HELP = "Print the state of the JIT compilation queues and compilation threads%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_COMPILER_QUEUE + " [options]%n"
+			+ " Options:%n"
+			+ "        throttle=<ms> : throttle background compilations for <ms> milliseconds; 0 ends the throttling%n"
+			+ " Queued requests are counted by priority. Times are in microseconds unless stated otherwise.%n";
+
 	private static final String DIAGNOSTICS_LOAD_JVMTI_AGENT_HELP = "Load JVMTI agent.%n"
 			+ FORMAT_PREFIX + DIAGNOSTICS_LOAD_JVMTI_AGENT + " <agentLibrary> [<agent option>]%n"
 			+ "          agentLibrary: the absolute path of the agent%n"
@@ -813,12 +1030,18 @@ public class DiagnosticUtils {
 		commandTable.put(DIAGNOSTICS_GC_CLASS_HISTOGRAM, DiagnosticUtils::getHeapStatistics);
 		helpTable.put(DIAGNOSTICS_GC_CLASS_HISTOGRAM, DIAGNOSTICS_GC_CLASS_HISTOGRAM_HELP);
 
+		commandTable.put(DIAGNOSTICS_GC_ALLOCATION_SITES, DiagnosticUtils::getAllocationSites);
+		helpTable.put(DIAGNOSTICS_GC_ALLOCATION_SITES, DIAGNOSTICS_GC_ALLOCATION_SITES_HELP);
+
 		commandTable.put(DIAGNOSTICS_GC_RUN, s -> runGC());
 		helpTable.put(DIAGNOSTICS_GC_RUN, DIAGNOSTICS_GC_RUN_HELP);
 
 		commandTable.put(DIAGNOSTICS_THREAD_PRINT, DiagnosticUtils::getThreadInfo);
 		helpTable.put(DIAGNOSTICS_THREAD_PRINT, DIAGNOSTICS_THREAD_PRINT_HELP);
 
+		commandTable.put(DIAGNOSTICS_THREAD_MONITOR_CONTENTION, DiagnosticUtils::getMonitorContention);
+		helpTable.put(DIAGNOSTICS_THREAD_MONITOR_CONTENTION, DIAGNOSTICS_THREAD_MONITOR_CONTENTION_HELP);
+
 		commandTable.put(DIAGNOSTICS_DUMP_HEAP, DiagnosticUtils::doDump);
 		helpTable.put(DIAGNOSTICS_DUMP_HEAP, DIAGNOSTICS_DUMP_HEAP_HELP);
 
@@ -837,6 +1060,12 @@ public class DiagnosticUtils {
 		commandTable.put(DIAGNOSTICS_STAT_CLASS, DiagnosticUtils::getJstatClass);
 		helpTable.put(DIAGNOSTICS_STAT_CLASS, DIAGNOSTICS_JSTAT_CLASS_HELP);
 
+		commandTable.put(DIAGNOSTICS_VM_METRICS, DiagnosticUtils::getMetricsSnapshot);
+		helpTable.put(DIAGNOSTICS_VM_METRICS, DIAGNOSTICS_VM_METRICS_HELP);
+
+		commandTable.put(DIAGNOSTICS_COMPILER_QUEUE, DiagnosticUtils::getCompilationQueue);
+		helpTable.put(DIAGNOSTICS_COMPILER_QUEUE, DIAGNOSTICS_COMPILER_QUEUE_HELP);
+
 		commandTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DiagnosticUtils::loadJVMTIAgent);
 		helpTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DIAGNOSTICS_LOAD_JVMTI_AGENT_HELP);
 
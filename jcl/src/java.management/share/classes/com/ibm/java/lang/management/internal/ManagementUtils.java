@@ -661,7 +661,12 @@ public final class ManagementUtils {
 
 		private static final String HYPERVISOR_MXBEAN_NAME = "com.ibm.virtualization.management:type=Hypervisor"; //$NON-NLS-1$
 
+		private static final String ALLOCATION_SITES_MXBEAN_NAME = "com.ibm.lang.management:type=AllocationSites"; //$NON-NLS-1$
+
+		private static final String COMPILATION_QUEUE_MXBEAN_NAME = "com.ibm.lang.management:type=CompilationQueue"; //$NON-NLS-1$
+
 		private static final String JVM_CPU_MONITOR_MXBEAN_NAME = "com.ibm.lang.management:type=JvmCpuMonitor"; //$NON-NLS-1$
+		private static final String METRICS_SNAPSHOT_MXBEAN_NAME = "com.ibm.lang.management:type=MetricsSnapshot"; //$NON-NLS-1$
 		private static final String OPENJ9_DIAGNOSTICS_MXBEAN_NAME = "openj9.lang.management:type=OpenJ9Diagnostics"; //$NON-NLS-1$
 
 		static void registerAll() {
@@ -711,6 +716,18 @@ public final class ManagementUtils {
 				.addInterface(com.ibm.lang.management.JvmCpuMonitorMXBean.class)
 				.validateAndRegister();
 
+			create(ALLOCATION_SITES_MXBEAN_NAME, com.ibm.lang.management.internal.AllocationSiteMXBeanImpl.getInstance())
+				.addInterface(com.ibm.lang.management.AllocationSiteMXBean.class)
+				.validateAndRegister();
+
+			create(METRICS_SNAPSHOT_MXBEAN_NAME, com.ibm.lang.management.internal.MetricsSnapshotMXBeanImpl.getInstance())
+				.addInterface(com.ibm.lang.management.MetricsSnapshotMXBean.class)
+				.validateAndRegister();
+
+			create(COMPILATION_QUEUE_MXBEAN_NAME, com.ibm.lang.management.internal.CompilationQueueMXBeanImpl.getInstance())
+				.addInterface(com.ibm.lang.management.CompilationQueueMXBean.class)
+				.validateAndRegister();
+
 			create(OPENJ9_DIAGNOSTICS_MXBEAN_NAME, openj9.lang.management.internal.OpenJ9DiagnosticsMXBeanImpl.getInstance())
 				.addInterface(openj9.lang.management.OpenJ9DiagnosticsMXBean.class)
 				.validateAndRegister();
@@ -0,0 +1,212 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.util.Objects;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.AllocationSiteInfoUtil;
+
+/**
+ * <code>AllocationSiteInfo</code> describes an allocation site sampled by the
+ * garbage collector: the class being allocated, the allocating method and the
+ * bytecode index of the allocation, together with an estimate of the number
+ * of samples attributed to the site.
+ *
+ * @see AllocationSiteMXBean
+ */
+public final class AllocationSiteInfo {
+
+	private static final int HASHMASK = 0x0FFFFFFF;
+
+	private final String className;
+	private final String methodName;
+	private final int bytecodeIndex;
+	private final long sampleCount;
+
+	/**
+	 * Creates a new <code>AllocationSiteInfo</code> instance.
+	 *
+	 * @param className the name of the allocated class
+	 * @param methodName the fully qualified name and signature of the allocating method, or <code>null</code>
+	 * @param bytecodeIndex the bytecode index of the allocation, or -1
+	 * @param sampleCount the estimated number of samples attributed to the site
+	 */
+	public AllocationSiteInfo(String className, String methodName, int bytecodeIndex, long sampleCount) {
+		super();
+		this.className = className;
+		this.methodName = methodName;
+		this.bytecodeIndex = bytecodeIndex;
+		this.sampleCount = sampleCount;
+	}
+
+	/**
+	 * Returns the name of the allocated class. Array classes are named by their
+	 * leaf component type followed by a pair of brackets for each dimension.
+	 *
+	 * @return the allocated class name
+	 */
+	public String getClassName() {
+		return className;
+	}
+
+	/**
+	 * Returns the fully qualified name and signature of the allocating method.
+	 *
+	 * @return the allocating method, or <code>null</code> if it could not be determined
+	 */
+	public String getMethodName() {
+		return methodName;
+	}
+
+	/**
+	 * Returns the bytecode index of the allocation within the allocating method.
+	 *
+	 * @return the bytecode index, or -1 if it could not be determined
+	 */
+	public int getBytecodeIndex() {
+		return bytecodeIndex;
+	}
+
+	/**
+	 * Returns the estimated number of samples attributed to this site.
+	 *
+	 * @return the sample count
+	 */
+	public long getSampleCount() {
+		return sampleCount;
+	}
+
+	/**
+	 * Receives a {@link javax.management.openmbean.CompositeData} representing a
+	 * <code>AllocationSiteInfo</code> object and attempts to return the root
+	 * <code>AllocationSiteInfo</code> instance.
+	 *
+	 * @param cd	A {@link javax.management.openmbean.CompositeData} that represents an
+	 * 		{@link AllocationSiteInfo}.
+	 *
+	 * @return	if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 		{@link AllocationSiteInfo},
+	 * 		 If <code>cd</code> is <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException	if argument <code>cd</code> does not correspond to an
+	 * 		{@link AllocationSiteInfo} with the following attributes:
+	 * 		<ul>
+	 *		<li><code>className</code>(<code>java.lang.String</code>)</li>
+	 *		<li><code>methodName</code>(<code>java.lang.String</code>)</li>
+	 *		<li><code>bytecodeIndex</code>(<code>java.lang.Integer</code>)</li>
+	 *		<li><code>sampleCount</code>(<code>java.lang.Long</code>)</li>
+	 * 		</ul>
+	 */
+	public static AllocationSiteInfo from(CompositeData cd) {
+		AllocationSiteInfo result = null;
+
+		if (null != cd) {
+			// Is the new received CompositeData of the required type to create
+			// a new AllocationSiteInfo ?
+			if (!AllocationSiteInfoUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			String className;
+			String methodName;
+			int bytecodeIndex;
+			long sampleCount;
+
+			try {
+				className = (String) cd.get("className"); //$NON-NLS-1$
+				methodName = (String) cd.get("methodName"); //$NON-NLS-1$
+				bytecodeIndex = ((Integer) cd.get("bytecodeIndex")).intValue(); //$NON-NLS-1$
+				sampleCount = ((Long) cd.get("sampleCount")).longValue(); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+
+			result = new AllocationSiteInfo(className, methodName, bytecodeIndex, sampleCount);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link AllocationSiteInfo} object.
+	 *
+	 * @return Text description of this {@link AllocationSiteInfo} object.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(this.className);
+		sb.append(" allocated at "); //$NON-NLS-1$
+		sb.append((null == this.methodName) ? "<unknown>" : this.methodName); //$NON-NLS-1$
+		sb.append(" bci="); //$NON-NLS-1$
+		sb.append(this.bytecodeIndex);
+		sb.append(" samples="); //$NON-NLS-1$
+		sb.append(this.sampleCount);
+		return sb.toString();
+	}
+
+	/**
+	 * Compares this {@link AllocationSiteInfo} object with the given object.
+	 *
+	 * @param obj the object to compare against
+	 * @return <code>true</code> if the objects are equal, <code>false</code> otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof AllocationSiteInfo)) {
+			return false;
+		}
+
+		AllocationSiteInfo other = (AllocationSiteInfo) obj;
+
+		return Objects.equals(this.className, other.className)
+			&& Objects.equals(this.methodName, other.methodName)
+			&& (this.bytecodeIndex == other.bytecodeIndex)
+			&& (this.sampleCount == other.sampleCount);
+	}
+
+	/**
+	 * Returns the hash code for this {@link AllocationSiteInfo} object.
+	 *
+	 * @return the hash code
+	 */
+	@Override
+	public int hashCode() {
+		long uHash = Objects.hashCode(this.className)
+					+ Objects.hashCode(this.methodName)
+					+ this.bytecodeIndex
+					+ this.sampleCount;
+
+		return (int) ((((uHash >> 32) + uHash) & HASHMASK) * 23);
+	}
+
+}
@@ -0,0 +1,94 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * <p>
+ * This interface provides access to the allocation site profiler of the garbage collector.
+ * When enabled with <code>-XXgc:enableAllocationSiteSampling</code>, the garbage collector
+ * periodically samples the allocating method and bytecode index of out-of-line allocations
+ * (i.e. those that refresh a thread's allocation cache) and keeps an estimate of the most
+ * frequent allocation sites.
+ * <ol>
+ *     <li>The number of sites reported is set by <code>-XXgc:allocationSiteSamplingDepth=&lt;n&gt;</code>.
+ *     <li>One in every <code>-XXgc:allocationSiteSamplingPeriod=&lt;n&gt;</code> out-of-line allocations per thread is sampled.
+ *     <li>Sample counts are estimates; sites are reported in descending order of frequency.
+ *     <li>Sites whose class or method has been unloaded are discarded.
+ * </ol>
+ * <br>
+ * <b>Usage example for the {@link AllocationSiteMXBean}</b>
+ * <pre>
+ * {@code
+ *   ...
+ *   try {
+ *      mxbeanName = new ObjectName("com.ibm.lang.management:type=AllocationSites");
+ *   } catch (MalformedObjectNameException e) {
+ *      // Exception Handling
+ *   }
+ *   try {
+ *      MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+ *      if (true != mbeanServer.isRegistered(mxbeanName)) {
+ *         // AllocationSiteMXBean not registered
+ *      }
+ *      AllocationSiteMXBean siteBean = JMX.newMXBeanProxy(mbeanServer, mxbeanName, AllocationSiteMXBean.class);
+ *   } catch (Exception e) {
+ *      // Exception Handling
+ *   }
+ * }
+ * </pre>
+ */
+public interface AllocationSiteMXBean extends PlatformManagedObject {
+
+	/**
+	 * Returns whether allocation site sampling is enabled.
+	 *
+	 * @return <code>true</code> if allocation sites are being sampled, <code>false</code> otherwise.
+	 */
+	public boolean isAllocationSiteSamplingEnabled();
+
+	/**
+	 * Returns the maximum number of allocation sites reported by {@link #getAllocationSites()}.
+	 *
+	 * @return the number of allocation sites tracked, or 0 if allocation site sampling is disabled.
+	 */
+	public int getAllocationSiteSamplingDepth();
+
+	/**
+	 * Returns the most frequently sampled allocation sites, most frequent first.
+	 *
+	 * @return an array of {@link AllocationSiteInfo}, which is empty if no sites have been sampled.
+	 *
+	 * @throws UnsupportedOperationException if allocation site sampling is disabled.
+	 */
+	public AllocationSiteInfo[] getAllocationSites() throws UnsupportedOperationException;
+
+	/**
+	 * Discards all sampled allocation sites.
+	 *
+	 * @throws UnsupportedOperationException if allocation site sampling is disabled.
+	 */
+	public void resetAllocationSites() throws UnsupportedOperationException;
+
+}
@@ -0,0 +1,176 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * <p>
+ * This interface reports the state of the JIT compilation queues and compilation threads,
+ * and controls what the JIT compiles in the background.
+ * <ol>
+ *     <li>Queue depths are reported by priority: synchronous requests, which application
+ *         threads are waiting for, asynchronous requests of high, normal and low priority,
+ *         and the low priority queue used for upgrades and startup compilations.
+ *     <li>{@link #queueMethodsForCompilation(String[], int)} queues methods ahead of their
+ *         invocation counts expiring, for example to warm up a service before it takes traffic.
+ *     <li>{@link #throttleBackgroundCompilations(long)} slows down asynchronous compilations
+ *         for a while, as if the compilation threads exceeded their CPU entitlement, to give the
+ *         CPU to the application during a load spike. Synchronous requests are never throttled.
+ *     <li>When the JIT is not running, the queues are reported as empty, no compilation threads
+ *         are reported and the control operations have no effect.
+ *     <li>The same statistics are available from the <code>Compiler.queue</code> diagnostic command.
+ * </ol>
+ * <br>
+ * <b>Usage example for the {@link CompilationQueueMXBean}</b>
+ * <pre>
+ * {@code
+ *   ...
+ *   CompilationQueueMXBean queueBean = ManagementFactory.getPlatformMXBean(CompilationQueueMXBean.class);
+ *   queueBean.queueMethodsForCompilation(new String[] { "com.example.Service.handle" }, CompilationQueueMXBean.OPT_LEVEL_HOT);
+ *   long[] sizes = queueBean.getQueueSizes();
+ *   long pending = sizes[CompilationQueueMXBean.QUEUE_ASYNC_NORMAL];
+ *   ...
+ * }
+ * </pre>
+ */
+public interface CompilationQueueMXBean extends PlatformManagedObject {
+
+	/** Index of the synchronous requests in {@link #getQueueSizes()}. */
+	public static final int QUEUE_SYNC = 0;
+
+	/** Index of the asynchronous requests for very hot and scorching methods in {@link #getQueueSizes()}. */
+	public static final int QUEUE_ASYNC_HIGH = 1;
+
+	/** Index of the asynchronous requests of normal priority in {@link #getQueueSizes()}. */
+	public static final int QUEUE_ASYNC_NORMAL = 2;
+
+	/** Index of the asynchronous requests below normal priority in {@link #getQueueSizes()}. */
+	public static final int QUEUE_ASYNC_LOW = 3;
+
+	/** Index of the requests in the low priority queue in {@link #getQueueSizes()}. */
+	public static final int QUEUE_LOW_PRIORITY = 4;
+
+	/** Number of queues reported by {@link #getQueueSizes()}. */
+	public static final int QUEUE_COUNT = 5;
+
+	/** Cold optimization level. */
+	public static final int OPT_LEVEL_COLD = 0;
+
+	/** Warm optimization level, used for most first compilations. */
+	public static final int OPT_LEVEL_WARM = 1;
+
+	/** Hot optimization level. */
+	public static final int OPT_LEVEL_HOT = 2;
+
+	/** Very hot optimization level. */
+	public static final int OPT_LEVEL_VERY_HOT = 3;
+
+	/** Scorching optimization level. */
+	public static final int OPT_LEVEL_SCORCHING = 4;
+
+	/**
+	 * Returns the number of queued compilation requests, indexed by the <code>QUEUE_</code> constants.
+	 *
+	 * @return the queue sizes; the array has {@link #QUEUE_COUNT} elements
+	 */
+	public long[] getQueueSizes();
+
+	/**
+	 * Returns how long the oldest queued compilation request has been waiting.
+	 *
+	 * @return the age of the oldest request in microseconds, or 0 if the queues are empty
+	 */
+	public long getOldestEntryAge();
+
+	/**
+	 * Returns the state of each compilation thread, such as <code>ACTIVE</code>, <code>WAITING</code>
+	 * or <code>SUSPENDED</code>.
+	 *
+	 * @return the thread states, one element per compilation thread
+	 */
+	public String[] getCompilationThreadStates();
+
+	/**
+	 * Returns how long each compilation thread has been working on its current compilation,
+	 * in the order of {@link #getCompilationThreadStates()}.
+	 *
+	 * @return the busy times in microseconds; 0 for an idle thread
+	 */
+	public long[] getCompilationThreadBusyTimes();
+
+	/**
+	 * Returns the wall clock durations of the most recent compilations, most recent first.
+	 *
+	 * @return the durations in microseconds; the array has no more than 16 elements
+	 */
+	public long[] getRecentCompilationDurations();
+
+	/**
+	 * Returns how long background compilations remain throttled.
+	 *
+	 * @return the remaining time in milliseconds, or 0 if they are not throttled
+	 */
+	public long getThrottleRemainingTime();
+
+	/**
+	 * Queues methods for asynchronous compilation at the given optimization level.
+	 * Each method is named <code>className.methodName</code>, for example
+	 * <code>java.lang.String.hashCode</code>; all the methods of that name declared by the
+	 * class are queued. Constructors are named <code>className.&lt;init&gt;</code>.
+	 * The classes are found with the system class loader; for a class the system class loader cannot
+	 * find, such as an application class loaded by a custom class loader, the classes of that name
+	 * already loaded by any class loader are used. The classes are not initialized.
+	 * Methods which are native or abstract, or already compiled at the given level or above,
+	 * are not queued; nor are methods of classes which cannot be found.
+	 *
+	 * @param methods the names of the methods to compile
+	 * @param optLevel one of the <code>OPT_LEVEL_</code> constants
+	 * @return the number of methods queued
+	 * @throws IllegalArgumentException if <code>optLevel</code> is not valid or a name
+	 *             does not contain a class name and a method name
+	/*[IF JAVA_SPEC_VERSION < 24]
+	 * @throws SecurityException
+	 *             if a {@link SecurityManager} is being used and the caller
+	 *             does not have the <code>ManagementPermission</code> value
+	 *             of "control".
+	/*[ENDIF] JAVA_SPEC_VERSION < 24
+	 */
+	public int queueMethodsForCompilation(String[] methods, int optLevel);
+
+	/**
+	 * Throttles asynchronous compilations for the given time, replacing any throttling
+	 * in effect. A time of 0 ends the throttling.
+	 *
+	 * @param millis how long to throttle, in milliseconds
+	 * @throws IllegalArgumentException if <code>millis</code> is negative
+	/*[IF JAVA_SPEC_VERSION < 24]
+	 * @throws SecurityException
+	 *             if a {@link SecurityManager} is being used and the caller
+	 *             does not have the <code>ManagementPermission</code> value
+	 *             of "control".
+	/*[ENDIF] JAVA_SPEC_VERSION < 24
+	 */
+	public void throttleBackgroundCompilations(long millis);
+
+}
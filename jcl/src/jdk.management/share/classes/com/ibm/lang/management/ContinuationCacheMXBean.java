@@ -0,0 +1,134 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 19]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * <p>
+ * This interface provides access to the statistics of the continuation cache used by
+ * virtual threads. When a virtual thread terminates, its native continuation structure and
+ * Java stack are kept in a per carrier thread tier 1 cache or in a global tier 2 cache so
+ * that a new virtual thread can reuse them instead of allocating new memory.
+ * <ol>
+ *     <li>The cache sizes are set by <code>-XX:ContinuationCache:t1=&lt;n&gt;,t2=&lt;n&gt;</code>.
+ *     <li>Stacks that grew beyond <code>-XX:ContinuationCache:maxStackSize=&lt;size&gt;</code> are freed
+ *         before a continuation is cached, and a new initial size stack is allocated when it is reused.
+ *     <li>Counters are updated without synchronization, so they are estimates under heavy contention.
+ *     <li>The lookup time is measured on a sample of the cache lookups.
+ * </ol>
+ * <br>
+ * <b>Usage example for the {@link ContinuationCacheMXBean}</b>
+ * <pre>
+ * {@code
+ *   ...
+ *   try {
+ *      mxbeanName = new ObjectName("com.ibm.lang.management:type=ContinuationCache");
+ *   } catch (MalformedObjectNameException e) {
+ *      // Exception Handling
+ *   }
+ *   try {
+ *      MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+ *      if (true != mbeanServer.isRegistered(mxbeanName)) {
+ *         // ContinuationCacheMXBean not registered
+ *      }
+ *      ContinuationCacheMXBean cacheBean = JMX.newMXBeanProxy(mbeanServer, mxbeanName, ContinuationCacheMXBean.class);
+ *   } catch (Exception e) {
+ *      // Exception Handling
+ *   }
+ * }
+ * </pre>
+ */
+public interface ContinuationCacheMXBean extends PlatformManagedObject {
+
+	/**
+	 * Returns the number of continuations each carrier thread can keep in its tier 1 cache.
+	 *
+	 * @return the tier 1 cache size.
+	 */
+	public int getT1CacheSize();
+
+	/**
+	 * Returns the number of continuations that can be kept in the global tier 2 cache.
+	 *
+	 * @return the tier 2 cache size.
+	 */
+	public int getT2CacheSize();
+
+	/**
+	 * Returns the largest stack, in bytes, that is kept with a cached continuation.
+	 *
+	 * @return the maximum cached stack size, or 0 if stacks of any size are cached.
+	 */
+	public long getMaxCachedStackSize();
+
+	/**
+	 * Returns the number of continuations reused from a tier 1 cache.
+	 *
+	 * @return the number of tier 1 cache hits.
+	 */
+	public long getT1CacheHitCount();
+
+	/**
+	 * Returns the number of continuations reused from the tier 2 cache.
+	 *
+	 * @return the number of tier 2 cache hits.
+	 */
+	public long getT2CacheHitCount();
+
+	/**
+	 * Returns the number of continuations that were allocated because both caches were empty.
+	 *
+	 * @return the number of cache misses.
+	 */
+	public long getCacheMissCount();
+
+	/**
+	 * Returns the number of finished continuations that were freed because both caches were full.
+	 *
+	 * @return the number of continuations freed instead of cached.
+	 */
+	public long getCacheFreedCount();
+
+	/**
+	 * Returns the number of oversized stacks freed before their continuation was cached.
+	 *
+	 * @return the number of trimmed stacks.
+	 */
+	public long getTrimmedStackCount();
+
+	/**
+	 * Returns the fraction of continuation creations that were satisfied from either cache.
+	 *
+	 * @return the cache hit ratio between 0.0 and 1.0, or 0.0 if no continuation has been created.
+	 */
+	public double getCacheHitRatio();
+
+	/**
+	 * Returns the average time spent searching the caches when a continuation is created.
+	 *
+	 * @return the average sampled lookup time in nanoseconds, or -1 if no lookup has been sampled.
+	 */
+	public long getAverageLookupTime();
+
+}
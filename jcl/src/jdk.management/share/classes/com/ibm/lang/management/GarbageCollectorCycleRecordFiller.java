@@ -0,0 +1,66 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+/**
+ * Local, allocation-free access to the cycle records of {@link GarbageCollectorMXBean}.
+ * <p>
+ * This is not an MXBean interface: an MXBean operation cannot return data through an array
+ * parameter, because the array is copied over a remote connection. The platform
+ * {@link GarbageCollectorMXBean}s implement this interface in the virtual machine being
+ * monitored, so an agent running in that virtual machine can cast them and copy the records
+ * into its own array without allocating. A proxy for a remote MXBean does not implement this interface.
+ * <br>
+ * <b>Usage example</b>
+ * <pre>
+ * {@code
+ *   GarbageCollectorCycleRecordFiller filler = (GarbageCollectorCycleRecordFiller) gcBean;
+ *   long[] records = new long[64 * GarbageCollectorMXBean.CYCLE_RECORD_LENGTH];
+ *   long lastIndex = 0;
+ *   for (;;) {
+ *      int count = filler.fillCycleRecords(lastIndex, records);
+ *      ...
+ *      if (count > 0) {
+ *         lastIndex = records[((count - 1) * GarbageCollectorMXBean.CYCLE_RECORD_LENGTH) + GarbageCollectorMXBean.CYCLE_RECORD_INDEX];
+ *      }
+ *   }
+ * }
+ * </pre>
+ */
+public interface GarbageCollectorCycleRecordFiller {
+
+	/**
+	 * Copies the records of the collections carried out by this collector whose index is greater
+	 * than <code>afterIndex</code>, oldest first, into consecutive slots of
+	 * {@link GarbageCollectorMXBean#CYCLE_RECORD_LENGTH} elements of <code>records</code>. As many
+	 * records as fit are copied; no objects are allocated. A gap between <code>afterIndex</code>
+	 * and the index of the first record copied means that the missing records have been overwritten.
+	 *
+	 * @param afterIndex the index of the last record already read, or 0 to read the oldest record available
+	 * @param records the array to fill
+	 * @return the number of records copied
+	 * @throws NullPointerException if <code>records</code> is null
+	 */
+	public int fillCycleRecords(long afterIndex, long[] records);
+
+}
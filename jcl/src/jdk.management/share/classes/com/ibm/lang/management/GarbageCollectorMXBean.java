@@ -26,12 +26,92 @@ package com.ibm.lang.management;
 /**
  * The OpenJ9 extension interface for managing and monitoring the virtual machine's
  * garbage collection functionality.
+ * <p>
+ * In addition to the attributes of the most recent collection, the virtual machine keeps
+ * a record of each of the last {@link #getCycleRecordCapacity()} collections carried out
+ * by the collector. The records are read in batches with {@link #getCycleRecords(long)},
+ * locally or through a remote connection:
+ * <pre>
+ * {@code
+ *   long lastIndex = 0;
+ *   for (;;) {
+ *      long[] records = gcBean.getCycleRecords(lastIndex);
+ *      int count = records.length / GarbageCollectorMXBean.CYCLE_RECORD_LENGTH;
+ *      for (int i = 0; i < count; ++i) {
+ *         int base = i * GarbageCollectorMXBean.CYCLE_RECORD_LENGTH;
+ *         long pauseNanos = records[base + GarbageCollectorMXBean.CYCLE_RECORD_PAUSE_TIME];
+ *         ...
+ *      }
+ *      if (count > 0) {
+ *         lastIndex = records[((count - 1) * GarbageCollectorMXBean.CYCLE_RECORD_LENGTH) + GarbageCollectorMXBean.CYCLE_RECORD_INDEX];
+ *      }
+ *      ...
+ *   }
+ * }
+ * </pre>
+ * An agent running in the monitored virtual machine can instead copy the records into its
+ * own array without allocating, through {@link GarbageCollectorCycleRecordFiller}.
  *
  * @since 1.5
  */
 public interface GarbageCollectorMXBean extends
 			com.sun.management.GarbageCollectorMXBean {
 
+	/**
+	 * Offset, within a cycle record, of the index of the collection. The index is the
+	 * collection count of the collector at the end of the collection, starting at 1.
+	 */
+	public static final int CYCLE_RECORD_INDEX = 0;
+
+	/** Offset, within a cycle record, of the start time of the collection, in milliseconds since the virtual machine started. */
+	public static final int CYCLE_RECORD_START_TIME = 1;
+
+	/** Offset, within a cycle record, of the pause time of the collection, in nanoseconds. */
+	public static final int CYCLE_RECORD_PAUSE_TIME = 2;
+
+	/**
+	 * Offset, within a cycle record, of the cause of the collection. The name of the cause
+	 * is returned by {@link #getCycleCauseName(int)}; the cause is -1 if it is unknown.
+	 */
+	public static final int CYCLE_RECORD_CAUSE = 3;
+
+	/** Offset, within a cycle record, of the number of GC threads that participated in the collection. */
+	public static final int CYCLE_RECORD_WORKER_THREADS = 4;
+
+	/** Offset, within a cycle record, of the number of bytes copied by the collection. */
+	public static final int CYCLE_RECORD_COPIED_BYTES = 5;
+
+	/** Offset, within a cycle record, of the number of bytes copied within the nursery by a scavenge. */
+	public static final int CYCLE_RECORD_FLIPPED_BYTES = 6;
+
+	/** Offset, within a cycle record, of the number of bytes copied to the tenure space by a scavenge. */
+	public static final int CYCLE_RECORD_TENURED_BYTES = 7;
+
+	/**
+	 * Offset, within a cycle record, of the first heap memory pool counter. The heap memory pools
+	 * are in the order of {@link java.lang.management.ManagementFactory#getMemoryPoolMXBeans()};
+	 * the bytes used by heap pool <code>n</code> before and after the collection are at
+	 * <code>CYCLE_RECORD_POOL_BASE + (n * CYCLE_RECORD_POOL_FIELDS) + CYCLE_RECORD_POOL_USED_BEFORE</code> and
+	 * <code>CYCLE_RECORD_POOL_BASE + (n * CYCLE_RECORD_POOL_FIELDS) + CYCLE_RECORD_POOL_USED_AFTER</code>.
+	 * There is room for {@link #CYCLE_RECORD_POOL_COUNT} pools; unused pool counters are -1.
+	 */
+	public static final int CYCLE_RECORD_POOL_BASE = 8;
+
+	/** Offset of the bytes used before the collection within the counters of a heap pool. */
+	public static final int CYCLE_RECORD_POOL_USED_BEFORE = 0;
+
+	/** Offset of the bytes used after the collection within the counters of a heap pool. */
+	public static final int CYCLE_RECORD_POOL_USED_AFTER = 1;
+
+	/** Number of counters recorded for each heap pool. */
+	public static final int CYCLE_RECORD_POOL_FIELDS = 2;
+
+	/** Maximum number of heap pools recorded. */
+	public static final int CYCLE_RECORD_POOL_COUNT = 4;
+
+	/** Number of elements of a cycle record. */
+	public static final int CYCLE_RECORD_LENGTH = CYCLE_RECORD_POOL_BASE + (CYCLE_RECORD_POOL_COUNT * CYCLE_RECORD_POOL_FIELDS);
+
 	/**
 	 * Returns the start time <em>in milliseconds</em> of the last garbage
 	 * collection that was carried out by this collector.
@@ -71,4 +151,32 @@ public interface GarbageCollectorMXBean extends
 	 * @return number of compacts performed
 	 */
 	public long getTotalCompacts();
+
+	/**
+	 * Returns the records of the collections carried out by this collector whose index is greater
+	 * than <code>afterIndex</code>, oldest first, in consecutive slots of {@link #CYCLE_RECORD_LENGTH}
+	 * elements. A gap between <code>afterIndex</code> and the index of the first record returned
+	 * means that the missing records have been overwritten.
+	 *
+	 * @param afterIndex the index of the last record already read, or 0 to read the oldest record available
+	 * @return the records; the length of the array is a multiple of {@link #CYCLE_RECORD_LENGTH},
+	 * and the array is empty if there is no record after <code>afterIndex</code>
+	 */
+	public long[] getCycleRecords(long afterIndex);
+
+	/**
+	 * Returns the number of collections of this collector which are kept in the cycle records.
+	 *
+	 * @return the cycle record capacity
+	 */
+	public int getCycleRecordCapacity();
+
+	/**
+	 * Returns the name of a collection cause stored at {@link #CYCLE_RECORD_CAUSE} in a cycle
+	 * record. The cause values are shared by all the collectors, and the name of a cause never changes.
+	 *
+	 * @param cause the cause of a collection
+	 * @return the name of the cause, or null if the cause is unknown
+	 */
+	public String getCycleCauseName(int cause);
 }
@@ -146,4 +146,31 @@ public interface JvmCpuMonitorMXBean extends PlatformManagedObject {
 	 */
 	public String getThreadCategory(long id)
 		throws IllegalArgumentException;
+
+	/**
+	 * This function returns the CPU usage of virtual threads, summed over all the carrier threads
+	 * that have mounted them, including carrier threads that have exited. The usage is accounted
+	 * incrementally each time a virtual thread unmounts from its carrier thread, so reading it does
+	 * not examine any thread, and the usage of virtual threads which are currently mounted is not
+	 * included. The usage is part of the "Application" category usage of the carrier threads.
+	 * Virtual thread CPU accounting is enabled with the -XX:+VirtualThreadCPUAccounting option.
+	 *
+	 * @return the virtual thread CPU usage time in microseconds, or -1 if virtual thread CPU accounting is not enabled.
+	 */
+	public long getVirtualThreadCpuTime();
+
+	/**
+	 * This function returns the CPU usage of the virtual threads which have been mounted on the
+	 * target carrier thread, accounted as described for {@link #getVirtualThreadCpuTime()}.
+	 * The remainder of the CPU usage of the carrier thread is the overhead of scheduling virtual threads.
+	 *
+	 * @param id The thread id of the target carrier thread.
+	 *
+	 * @return the virtual thread CPU usage time in microseconds, or -1 if virtual thread CPU accounting
+	 * is not enabled, or the target thread is not alive or has never mounted a virtual thread.
+	 *
+	 * @throws IllegalArgumentException if the thread id is not valid.
+	 */
+	public long getCarrierVirtualThreadCpuTime(long id)
+		throws IllegalArgumentException;
 }
@@ -322,4 +322,59 @@ public interface MemoryMXBean extends java.lang.management.MemoryMXBean {
 	 * @return number of active GC worker threads
 	 */
 	public int getCurrentGCThreads();
+
+	/**
+	 * Returns the number of times free heap memory has been returned to the operating
+	 * system because the allocation rate stayed low for a sustained period.
+	 * This is always zero unless the VM was started with <code>-XXgc:enableIdleHeapUncommit</code>.
+	 *
+	 * @return number of idle heap uncommit cycles
+	 */
+	public long getIdleHeapUncommitCount();
+
+	/**
+	 * Returns the total number of bytes of heap memory returned to the operating
+	 * system by idle heap uncommit cycles.
+	 * This is always zero unless the VM was started with <code>-XXgc:enableIdleHeapUncommit</code>.
+	 *
+	 * @return number of bytes released by idle heap uncommit cycles
+	 * @see #getIdleHeapUncommitCount()
+	 */
+	public long getIdleHeapUncommitBytesReleased();
+
+	/**
+	 * Returns the number of cleared references that the garbage collector has handed
+	 * over for enqueuing and that have not been enqueued yet.
+	 *
+	 * @return number of pending references
+	 */
+	public long getPendingReferenceCount();
+
+	/**
+	 * Returns the total number of cleared references enqueued by the finalizer
+	 * and reference handler threads.
+	 *
+	 * @return number of references enqueued
+	 */
+	public long getEnqueuedReferenceCount();
+
+	/**
+	 * Returns the average time taken to enqueue all the references handed over by the
+	 * garbage collector, measured from the time references became pending until none
+	 * were left, in nanoseconds.
+	 * Setting <code>-Xgc:referenceHandlerThreads=&lt;n&gt;</code> enqueues references
+	 * on several threads, which can reduce this latency.
+	 *
+	 * @return average reference processing latency in nanoseconds, or 0 if no references have been processed
+	 */
+	public long getAverageReferenceProcessingLatency();
+
+	/**
+	 * Returns the longest time taken to enqueue all the references handed over by the
+	 * garbage collector, in nanoseconds.
+	 *
+	 * @return maximum reference processing latency in nanoseconds
+	 * @see #getAverageReferenceProcessingLatency()
+	 */
+	public long getMaxReferenceProcessingLatency();
 }
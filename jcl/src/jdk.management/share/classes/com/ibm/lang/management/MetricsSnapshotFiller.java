@@ -0,0 +1,62 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+/**
+ * Local, allocation-free access to the counters of {@link MetricsSnapshotMXBean}.
+ * <p>
+ * This is not an MXBean interface: an MXBean operation cannot return data through an array
+ * parameter, because the array is copied over a remote connection. The platform
+ * {@link MetricsSnapshotMXBean} implements this interface in the VM being monitored, so an
+ * agent running in that VM can cast it and sample the counters into its own array without
+ * allocating. A proxy for a remote MXBean does not implement this interface.
+ * <br>
+ * <b>Usage example</b>
+ * <pre>
+ * {@code
+ *   ...
+ *   MetricsSnapshotMXBean snapshotBean = ManagementFactory.getPlatformMXBean(MetricsSnapshotMXBean.class);
+ *   MetricsSnapshotFiller filler = (MetricsSnapshotFiller) snapshotBean;
+ *   long[] values = new long[MetricsSnapshotMXBean.SNAPSHOT_LENGTH];
+ *   for (;;) {
+ *      filler.fillSnapshot(values);
+ *      long heapUsed = values[MetricsSnapshotMXBean.HEAP_USED];
+ *      ...
+ *   }
+ * }
+ * </pre>
+ */
+public interface MetricsSnapshotFiller {
+
+	/**
+	 * Stores the current value of each counter in the supplied array. If the array is shorter
+	 * than the snapshot, only the counters which fit are stored; if it is longer, the remaining
+	 * elements are left unchanged. No objects are allocated.
+	 *
+	 * @param values the array to fill
+	 * @return the number of counters in the snapshot, which may be greater than <code>values.length</code>
+	 * @throws NullPointerException if <code>values</code> is null
+	 */
+	public int fillSnapshot(long[] values);
+
+}
@@ -0,0 +1,196 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * <p>
+ * This interface reads the heap, memory pool, garbage collection, CPU, thread, class loading,
+ * JIT and shared class cache counters of the VM in a single native call. It is intended for
+ * monitoring agents which sample the VM frequently: {@link #getSnapshot()} returns all the
+ * counters in one array, locally or through a remote connection. An agent running in the
+ * monitored VM can instead fill its own array without allocating, through
+ * {@link MetricsSnapshotFiller}.
+ * <ol>
+ *     <li>The index of each counter is given by the constants of this interface. The schema is
+ *         append-only: a counter never moves to another index. New counters take the reserved
+ *         indexes below {@link #HEAP_POOL_BASE}, which are reported as -1 until they are used.
+ *     <li>Counters which are not available, such as the JVM CPU usage when
+ *         <code>-XX:-EnableCPUMonitor</code> is specified, are reported as -1.
+ *     <li>The JVM CPU usage is read by walking every thread, so it is read at most every
+ *         100 milliseconds; snapshots taken closer together report the same values.
+ *     <li>Each source is read consistently, but different sources are read one after the other,
+ *         so the snapshot as a whole is not atomic.
+ *     <li>The same snapshot is available from the <code>VM.metrics</code> diagnostic command.
+ * </ol>
+ * <br>
+ * <b>Usage example for the {@link MetricsSnapshotMXBean}</b>
+ * <pre>
+ * {@code
+ *   ...
+ *   MetricsSnapshotMXBean snapshotBean = ManagementFactory.getPlatformMXBean(MetricsSnapshotMXBean.class);
+ *   for (;;) {
+ *      long[] values = snapshotBean.getSnapshot();
+ *      long heapUsed = values[MetricsSnapshotMXBean.HEAP_USED];
+ *      ...
+ *   }
+ * }
+ * </pre>
+ */
+public interface MetricsSnapshotMXBean extends PlatformManagedObject {
+
+	/** Index of the {@link System#nanoTime()} compatible time at which the snapshot was taken, in nanoseconds. */
+	public static final int TIMESTAMP = 0;
+
+	/** Index of the uptime of the VM, in milliseconds. */
+	public static final int UPTIME = 1;
+
+	/** Index of the amount of heap memory used, in bytes. */
+	public static final int HEAP_USED = 2;
+
+	/** Index of the amount of heap memory committed, in bytes. */
+	public static final int HEAP_COMMITTED = 3;
+
+	/** Index of the maximum heap size, in bytes. */
+	public static final int HEAP_MAX = 4;
+
+	/** Index of the number of collections, summed over all the garbage collectors. */
+	public static final int GC_COUNT = 5;
+
+	/** Index of the time spent in collections, summed over all the garbage collectors, in milliseconds. */
+	public static final int GC_TIME = 6;
+
+	/** Index of the memory freed by collections, summed over all the garbage collectors, in bytes. */
+	public static final int GC_MEMORY_FREED = 7;
+
+	/** Index of the number of compactions, summed over all the garbage collectors. */
+	public static final int GC_COMPACTS = 8;
+
+	/** Index of the CPU time used by the main GC thread, in milliseconds. */
+	public static final int GC_MAIN_THREAD_CPU_TIME = 9;
+
+	/** Index of the CPU time used by the GC worker threads, in milliseconds. */
+	public static final int GC_WORKER_THREADS_CPU_TIME = 10;
+
+	/** Index of the CPU time used by the process, in nanoseconds. */
+	public static final int PROCESS_CPU_TIME = 11;
+
+	/** Index of the CPU time used by the "Application" thread category, in microseconds. */
+	public static final int JVM_APPLICATION_CPU_TIME = 12;
+
+	/** Index of the CPU time used by the "Resource-Monitor" thread category, in microseconds. */
+	public static final int JVM_RESOURCE_MONITOR_CPU_TIME = 13;
+
+	/** Index of the CPU time used by the "System-JVM" thread category, in microseconds. */
+	public static final int JVM_SYSTEM_CPU_TIME = 14;
+
+	/** Index of the CPU time used by the "GC" thread category, in microseconds. */
+	public static final int JVM_GC_CPU_TIME = 15;
+
+	/** Index of the CPU time used by the "JIT" thread category, in microseconds. */
+	public static final int JVM_JIT_CPU_TIME = 16;
+
+	/** Index of the number of live threads. */
+	public static final int THREAD_COUNT = 17;
+
+	/** Index of the number of live daemon threads. */
+	public static final int DAEMON_THREAD_COUNT = 18;
+
+	/** Index of the peak number of live threads. */
+	public static final int PEAK_THREAD_COUNT = 19;
+
+	/** Index of the number of threads started since the VM started. */
+	public static final int TOTAL_STARTED_THREAD_COUNT = 20;
+
+	/** Index of the number of classes currently loaded. */
+	public static final int LOADED_CLASS_COUNT = 21;
+
+	/** Index of the number of classes loaded since the VM started. */
+	public static final int TOTAL_LOADED_CLASS_COUNT = 22;
+
+	/** Index of the number of classes unloaded since the VM started. */
+	public static final int UNLOADED_CLASS_COUNT = 23;
+
+	/** Index of the time spent in JIT compilation, in milliseconds. */
+	public static final int COMPILATION_TIME = 24;
+
+	/** Index of the size of the shared class cache, in bytes. */
+	public static final int SHARED_CACHE_SIZE = 25;
+
+	/** Index of the free space in the shared class cache, in bytes. */
+	public static final int SHARED_CACHE_FREE = 26;
+
+	/**
+	 * Number of scalar counters currently defined. The indexes from <code>SCALAR_COUNT</code> up to
+	 * {@link #HEAP_POOL_BASE} are reserved for counters added later.
+	 */
+	public static final int SCALAR_COUNT = 27;
+
+	/**
+	 * Index of the first heap memory pool counter. The used and committed bytes of heap pool
+	 * <code>n</code>, in the order of {@link #getHeapPoolNames()}, are at
+	 * <code>HEAP_POOL_BASE + (n * HEAP_POOL_FIELDS) + HEAP_POOL_USED</code> and
+	 * <code>HEAP_POOL_BASE + (n * HEAP_POOL_FIELDS) + HEAP_POOL_COMMITTED</code>.
+	 * There is room for {@link #HEAP_POOL_COUNT} pools; unused pool counters are -1.
+	 */
+	public static final int HEAP_POOL_BASE = 64;
+
+	/** Offset of the used bytes within the counters of a heap pool. */
+	public static final int HEAP_POOL_USED = 0;
+
+	/** Offset of the committed bytes within the counters of a heap pool. */
+	public static final int HEAP_POOL_COMMITTED = 1;
+
+	/** Number of counters reported for each heap pool. */
+	public static final int HEAP_POOL_FIELDS = 2;
+
+	/** Maximum number of heap pools reported. */
+	public static final int HEAP_POOL_COUNT = 4;
+
+	/** Number of counters in a snapshot. */
+	public static final int SNAPSHOT_LENGTH = HEAP_POOL_BASE + (HEAP_POOL_COUNT * HEAP_POOL_FIELDS);
+
+	/**
+	 * Returns a new array containing the current value of each counter.
+	 *
+	 * @return the snapshot; the array has {@link #SNAPSHOT_LENGTH} elements
+	 */
+	public long[] getSnapshot();
+
+	/**
+	 * Returns the key of each counter, in index order, e.g. <code>heap.used</code> for
+	 * {@link #HEAP_USED}. These are the keys printed by the <code>VM.metrics</code> diagnostic command.
+	 *
+	 * @return the snapshot keys; the elements at reserved indexes are null
+	 */
+	public String[] getSnapshotKeys();
+
+	/**
+	 * Returns the names of the heap memory pools whose counters are reported, in index order.
+	 *
+	 * @return the heap pool names; the array has no more than {@link #HEAP_POOL_COUNT} elements
+	 */
+	public String[] getHeapPoolNames();
+
+}
@@ -0,0 +1,272 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.util.Objects;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.MonitorContentionInfoUtil;
+
+/**
+ * <code>MonitorContentionInfo</code> summarizes the contention on the inflated
+ * object monitors of all instances of a class: how often threads found the
+ * monitor owned, how often spinning acquired it, how often adaptive spinning
+ * sent a thread straight to blocking, and how long threads spent blocked.
+ *
+ * @see ThreadMXBean#dumpMonitorContention()
+ */
+public final class MonitorContentionInfo {
+
+	private static final int HASHMASK = 0x0FFFFFFF;
+
+	private final String className;
+	private final long monitorCount;
+	private final long contendedEnterCount;
+	private final long spinAcquiredCount;
+	private final long spinSkippedCount;
+	private final long blockedEnterCount;
+	private final long blockedTime;
+
+	/**
+	 * Creates a new <code>MonitorContentionInfo</code> instance.
+	 *
+	 * @param className the name of the class of the monitor objects
+	 * @param monitorCount the number of contended monitors of the class
+	 * @param contendedEnterCount the number of enters which found an inflated monitor owned by another thread
+	 * @param spinAcquiredCount the number of contended enters which acquired the monitor by spinning
+	 * @param spinSkippedCount the number of contended enters which blocked without spinning
+	 * @param blockedEnterCount the number of enters which blocked
+	 * @param blockedTime the total time spent blocked, in nanoseconds
+	 */
+	public MonitorContentionInfo(String className, long monitorCount, long contendedEnterCount, long spinAcquiredCount,
+			long spinSkippedCount, long blockedEnterCount, long blockedTime) {
+		super();
+		this.className = className;
+		this.monitorCount = monitorCount;
+		this.contendedEnterCount = contendedEnterCount;
+		this.spinAcquiredCount = spinAcquiredCount;
+		this.spinSkippedCount = spinSkippedCount;
+		this.blockedEnterCount = blockedEnterCount;
+		this.blockedTime = blockedTime;
+	}
+
+	/**
+	 * Returns the name of the class of the monitor objects.
+	 *
+	 * @return the class name
+	 */
+	public String getClassName() {
+		return className;
+	}
+
+	/**
+	 * Returns the number of contended monitors belonging to instances of the class.
+	 *
+	 * @return the monitor count
+	 */
+	public long getMonitorCount() {
+		return monitorCount;
+	}
+
+	/**
+	 * Returns the number of enters which found an inflated monitor owned by another thread.
+	 *
+	 * @return the contended enter count
+	 */
+	public long getContendedEnterCount() {
+		return contendedEnterCount;
+	}
+
+	/**
+	 * Returns the number of contended enters which acquired the monitor by spinning.
+	 *
+	 * @return the count of enters acquired by spinning
+	 */
+	public long getSpinAcquiredCount() {
+		return spinAcquiredCount;
+	}
+
+	/**
+	 * Returns the number of contended enters which blocked without spinning
+	 * because adaptive spinning judged that spinning would not succeed.
+	 *
+	 * @return the count of enters which skipped spinning
+	 */
+	public long getSpinSkippedCount() {
+		return spinSkippedCount;
+	}
+
+	/**
+	 * Returns the number of enters which had to block.
+	 *
+	 * @return the blocked enter count
+	 */
+	public long getBlockedEnterCount() {
+		return blockedEnterCount;
+	}
+
+	/**
+	 * Returns the total time threads spent blocked entering the monitors.
+	 *
+	 * @return the blocked time in nanoseconds
+	 */
+	public long getBlockedTime() {
+		return blockedTime;
+	}
+
+	/**
+	 * Receives a {@link javax.management.openmbean.CompositeData} representing a
+	 * <code>MonitorContentionInfo</code> object and attempts to return the root
+	 * <code>MonitorContentionInfo</code> instance.
+	 *
+	 * @param cd	A {@link javax.management.openmbean.CompositeData} that represents a
+	 * 		{@link MonitorContentionInfo}.
+	 *
+	 * @return	if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 		{@link MonitorContentionInfo},
+	 * 		 If <code>cd</code> is <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException	if argument <code>cd</code> does not correspond to a
+	 * 		{@link MonitorContentionInfo} with the following attributes:
+	 * 		<ul>
+	 *		<li><code>className</code>(<code>java.lang.String</code>)</li>
+	 *		<li><code>monitorCount</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>contendedEnterCount</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>spinAcquiredCount</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>spinSkippedCount</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>blockedEnterCount</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>blockedTime</code>(<code>java.lang.Long</code>)</li>
+	 * 		</ul>
+	 */
+	public static MonitorContentionInfo from(CompositeData cd) {
+		MonitorContentionInfo result = null;
+
+		if (null != cd) {
+			// Is the new received CompositeData of the required type to create
+			// a new MonitorContentionInfo ?
+			if (!MonitorContentionInfoUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			String className;
+			long monitorCount;
+			long contendedEnterCount;
+			long spinAcquiredCount;
+			long spinSkippedCount;
+			long blockedEnterCount;
+			long blockedTime;
+
+			try {
+				className = (String) cd.get("className"); //$NON-NLS-1$
+				monitorCount = ((Long) cd.get("monitorCount")).longValue(); //$NON-NLS-1$
+				contendedEnterCount = ((Long) cd.get("contendedEnterCount")).longValue(); //$NON-NLS-1$
+				spinAcquiredCount = ((Long) cd.get("spinAcquiredCount")).longValue(); //$NON-NLS-1$
+				spinSkippedCount = ((Long) cd.get("spinSkippedCount")).longValue(); //$NON-NLS-1$
+				blockedEnterCount = ((Long) cd.get("blockedEnterCount")).longValue(); //$NON-NLS-1$
+				blockedTime = ((Long) cd.get("blockedTime")).longValue(); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+
+			result = new MonitorContentionInfo(className, monitorCount, contendedEnterCount, spinAcquiredCount,
+					spinSkippedCount, blockedEnterCount, blockedTime);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link MonitorContentionInfo} object.
+	 *
+	 * @return Text description of this {@link MonitorContentionInfo} object.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(this.className);
+		sb.append(" monitors="); //$NON-NLS-1$
+		sb.append(this.monitorCount);
+		sb.append(" contended="); //$NON-NLS-1$
+		sb.append(this.contendedEnterCount);
+		sb.append(" spinAcquired="); //$NON-NLS-1$
+		sb.append(this.spinAcquiredCount);
+		sb.append(" spinSkipped="); //$NON-NLS-1$
+		sb.append(this.spinSkippedCount);
+		sb.append(" blocked="); //$NON-NLS-1$
+		sb.append(this.blockedEnterCount);
+		sb.append(" blockedTime="); //$NON-NLS-1$
+		sb.append(this.blockedTime);
+		sb.append("ns"); //$NON-NLS-1$
+		return sb.toString();
+	}
+
+	/**
+	 * Compares this {@link MonitorContentionInfo} object with the given object.
+	 *
+	 * @param obj the object to compare against
+	 * @return <code>true</code> if the objects are equal, <code>false</code> otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof MonitorContentionInfo)) {
+			return false;
+		}
+
+		MonitorContentionInfo other = (MonitorContentionInfo) obj;
+
+		return Objects.equals(this.className, other.className)
+			&& (this.monitorCount == other.monitorCount)
+			&& (this.contendedEnterCount == other.contendedEnterCount)
+			&& (this.spinAcquiredCount == other.spinAcquiredCount)
+			&& (this.spinSkippedCount == other.spinSkippedCount)
+			&& (this.blockedEnterCount == other.blockedEnterCount)
+			&& (this.blockedTime == other.blockedTime);
+	}
+
+	/**
+	 * Returns the hash code for this {@link MonitorContentionInfo} object.
+	 *
+	 * @return the hash code
+	 */
+	@Override
+	public int hashCode() {
+		long uHash = Objects.hashCode(this.className)
+					+ this.monitorCount
+					+ this.contendedEnterCount
+					+ this.spinAcquiredCount
+					+ this.spinSkippedCount
+					+ this.blockedEnterCount
+					+ this.blockedTime;
+
+		return (int) ((((uHash >> 32) + uHash) & HASHMASK) * 23);
+	}
+
+}
@@ -103,4 +103,18 @@ public interface ThreadMXBean extends com.sun.management.ThreadMXBean
 			SecurityException,
 			/*[ENDIF] JAVA_SPEC_VERSION < 24 */
 			UnsupportedOperationException;
+
+	/**
+	 * Returns the contention recorded on inflated object monitors, aggregated by
+	 * the class of the monitor object, most contended (by time spent blocked) first.
+	 * Statistics are kept for as long as the monitor object is alive; monitors which
+	 * have never been contended are not included.
+	 * <p>
+	 * The contention is only recorded when the VM is started with
+	 * <code>-Xthr:adaptiveMonitorSpin</code>, which makes spinning on contended monitors
+	 * adapt to this history. Without that option the array is empty.
+	 *
+	 * @return an array of {@link MonitorContentionInfo}, one per contended class
+	 */
+	public MonitorContentionInfo[] dumpMonitorContention();
 }
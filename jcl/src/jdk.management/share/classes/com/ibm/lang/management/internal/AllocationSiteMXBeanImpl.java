@@ -0,0 +1,123 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import com.ibm.lang.management.AllocationSiteInfo;
+import com.ibm.lang.management.AllocationSiteMXBean;
+
+/**
+ * Runtime type for {@link AllocationSiteMXBean}.
+ * <p>
+ * Reports the allocation sites sampled by the garbage collector.
+ * </p>
+ */
+public final class AllocationSiteMXBeanImpl implements AllocationSiteMXBean {
+
+	private static final AllocationSiteMXBeanImpl instance = new AllocationSiteMXBeanImpl();
+
+	/**
+	 * Singleton accessor method. Returns an instance of {@link AllocationSiteMXBeanImpl}
+	 *
+	 * @return a static instance of {@link AllocationSiteMXBeanImpl}
+	 */
+	public static AllocationSiteMXBeanImpl getInstance() {
+		return instance;
+	}
+
+	private AllocationSiteMXBeanImpl() {
+		super();
+	}
+
+	/**
+	 * Returns the object name of the MXBean
+	 *
+	 * @return objectName representing the MXBean
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		try {
+			ObjectName name = new ObjectName("com.ibm.lang.management:type=AllocationSites"); //$NON-NLS-1$
+			return name;
+		} catch (MalformedObjectNameException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isAllocationSiteSamplingEnabled() {
+		return 0 != getSamplingDepthImpl();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getAllocationSiteSamplingDepth() {
+		return getSamplingDepthImpl();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public AllocationSiteInfo[] getAllocationSites() throws UnsupportedOperationException {
+		int depth = getSamplingDepthImpl();
+		if (0 == depth) {
+			throw new UnsupportedOperationException();
+		}
+		String[] classNames = new String[depth];
+		String[] methodNames = new String[depth];
+		int[] bytecodeIndexes = new int[depth];
+		long[] sampleCounts = new long[depth];
+		int count = getAllocationSitesImpl(classNames, methodNames, bytecodeIndexes, sampleCounts);
+		if (count < 0) {
+			count = 0;
+		}
+		AllocationSiteInfo[] sites = new AllocationSiteInfo[count];
+		for (int i = 0; i < count; ++i) {
+			sites[i] = new AllocationSiteInfo(classNames[i], methodNames[i], bytecodeIndexes[i], sampleCounts[i]);
+		}
+		return sites;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void resetAllocationSites() throws UnsupportedOperationException {
+		if (0 == getSamplingDepthImpl()) {
+			throw new UnsupportedOperationException();
+		}
+		resetImpl();
+	}
+
+	private native int getSamplingDepthImpl();
+	private native int getAllocationSitesImpl(String[] classNames, String[] methodNames, int[] bytecodeIndexes, long[] sampleCounts);
+	private native void resetImpl();
+}
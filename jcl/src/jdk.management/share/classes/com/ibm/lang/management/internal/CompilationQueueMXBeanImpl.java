@@ -0,0 +1,250 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import java.lang.reflect.Executable;
+import java.util.Arrays;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+/*[IF JAVA_SPEC_VERSION < 24]*/
+import com.ibm.java.lang.management.internal.ManagementPermissionHelper;
+/*[ENDIF] JAVA_SPEC_VERSION < 24 */
+import com.ibm.lang.management.CompilationQueueMXBean;
+
+/**
+ * Runtime type for {@link CompilationQueueMXBean}.
+ * <p>
+ * Reads the state of the queues and of the compilation threads in a single native call,
+ * with the compilation monitor held.
+ * </p>
+ */
+public final class CompilationQueueMXBeanImpl implements CompilationQueueMXBean {
+
+	/* The layout of the array filled by getCompilationQueueInfoImpl(); it must match mgmtcompqueue.c. */
+	private static final int MAX_THREADS = 16;
+	private static final int RECENT_DURATIONS = 16;
+	private static final int INFO_QUEUE_SIZES = 0;
+	private static final int INFO_OLDEST_ENTRY_AGE = INFO_QUEUE_SIZES + QUEUE_COUNT;
+	private static final int INFO_THROTTLE_REMAINING = INFO_OLDEST_ENTRY_AGE + 1;
+	private static final int INFO_THREAD_COUNT = INFO_THROTTLE_REMAINING + 1;
+	private static final int INFO_THREAD_STATES = INFO_THREAD_COUNT + 1;
+	private static final int INFO_THREAD_BUSY_TIMES = INFO_THREAD_STATES + MAX_THREADS;
+	private static final int INFO_DURATION_COUNT = INFO_THREAD_BUSY_TIMES + MAX_THREADS;
+	private static final int INFO_DURATIONS = INFO_DURATION_COUNT + 1;
+	private static final int INFO_LENGTH = INFO_DURATIONS + RECENT_DURATIONS;
+	/* The most classes of the same name returned by findLoadedClassesImpl(); it must match mgmtcompqueue.c. */
+	private static final int MAX_LOADED_CLASSES = 16;
+
+	/* Names of the values of the JIT CompilationThreadState enum, in order. */
+	private static final String[] THREAD_STATE_NAMES = {
+			"UNINITIALIZED", //$NON-NLS-1$
+			"ACTIVE", //$NON-NLS-1$
+			"SIGNAL_WAIT", //$NON-NLS-1$
+			"WAITING", //$NON-NLS-1$
+			"SIGNAL_SUSPEND", //$NON-NLS-1$
+			"SUSPENDED", //$NON-NLS-1$
+			"SIGNAL_TERMINATE", //$NON-NLS-1$
+			"STOPPING", //$NON-NLS-1$
+			"STOPPED", //$NON-NLS-1$
+			"ABORT" //$NON-NLS-1$
+	};
+
+	private static final CompilationQueueMXBeanImpl instance = new CompilationQueueMXBeanImpl();
+
+	/**
+	 * Singleton accessor method. Returns an instance of {@link CompilationQueueMXBeanImpl}
+	 *
+	 * @return a static instance of {@link CompilationQueueMXBeanImpl}
+	 */
+	public static CompilationQueueMXBeanImpl getInstance() {
+		return instance;
+	}
+
+	private CompilationQueueMXBeanImpl() {
+		super();
+	}
+
+	/**
+	 * Returns the object name of the MXBean
+	 *
+	 * @return objectName representing the MXBean
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		try {
+			ObjectName name = new ObjectName("com.ibm.lang.management:type=CompilationQueue"); //$NON-NLS-1$
+			return name;
+		} catch (MalformedObjectNameException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the queue and thread information; all zeros if the JIT is not running.
+	 */
+	private long[] getInfo() {
+		long[] info = new long[INFO_LENGTH];
+		getCompilationQueueInfoImpl(info);
+		return info;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long[] getQueueSizes() {
+		return Arrays.copyOfRange(getInfo(), INFO_QUEUE_SIZES, INFO_QUEUE_SIZES + QUEUE_COUNT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getOldestEntryAge() {
+		return getInfo()[INFO_OLDEST_ENTRY_AGE];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String[] getCompilationThreadStates() {
+		long[] info = getInfo();
+		int count = (int) info[INFO_THREAD_COUNT];
+		String[] states = new String[count];
+		for (int i = 0; i < count; ++i) {
+			int state = (int) info[INFO_THREAD_STATES + i];
+			states[i] = (state < THREAD_STATE_NAMES.length) ? THREAD_STATE_NAMES[state] : Integer.toString(state);
+		}
+		return states;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long[] getCompilationThreadBusyTimes() {
+		long[] info = getInfo();
+		return Arrays.copyOfRange(info, INFO_THREAD_BUSY_TIMES, INFO_THREAD_BUSY_TIMES + (int) info[INFO_THREAD_COUNT]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long[] getRecentCompilationDurations() {
+		long[] info = getInfo();
+		return Arrays.copyOfRange(info, INFO_DURATIONS, INFO_DURATIONS + (int) info[INFO_DURATION_COUNT]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getThrottleRemainingTime() {
+		return getInfo()[INFO_THROTTLE_REMAINING];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int queueMethodsForCompilation(String[] methods, int optLevel) {
+		/*[IF JAVA_SPEC_VERSION < 24]*/
+		checkManagementSecurityPermission();
+		/*[ENDIF] JAVA_SPEC_VERSION < 24 */
+		if ((optLevel < OPT_LEVEL_COLD) || (optLevel > OPT_LEVEL_SCORCHING)) {
+			throw new IllegalArgumentException("Invalid optimization level: " + optLevel); //$NON-NLS-1$
+		}
+		int queued = 0;
+		for (String method : methods) {
+			int separator = method.lastIndexOf('.');
+			if ((separator <= 0) || (separator == (method.length() - 1))) {
+				throw new IllegalArgumentException("Invalid method name: " + method); //$NON-NLS-1$
+			}
+			String className = method.substring(0, separator);
+			String methodName = method.substring(separator + 1);
+			boolean isConstructor = "<init>".equals(methodName); //$NON-NLS-1$
+			for (Class<?> clazz : findClasses(className)) {
+				Executable[] candidates = isConstructor ? clazz.getDeclaredConstructors() : clazz.getDeclaredMethods();
+				for (Executable candidate : candidates) {
+					if ((isConstructor || methodName.equals(candidate.getName()))
+							&& (queueMethodForCompilationImpl(candidate, optLevel) > 0)
+					) {
+						queued += 1;
+					}
+				}
+			}
+		}
+		return queued;
+	}
+
+	/**
+	 * Finds the classes to compile: the class found by the system class loader or,
+	 * if it cannot find one, the classes of that name already loaded by any class loader.
+	 */
+	private Class<?>[] findClasses(String className) {
+		try {
+			return new Class<?>[] { Class.forName(className, false, ClassLoader.getSystemClassLoader()) };
+		} catch (ClassNotFoundException | LinkageError e) {
+			Class<?>[] classes = new Class<?>[MAX_LOADED_CLASSES];
+			int count = findLoadedClassesImpl(className, classes);
+			return Arrays.copyOf(classes, count);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void throttleBackgroundCompilations(long millis) {
+		/*[IF JAVA_SPEC_VERSION < 24]*/
+		checkManagementSecurityPermission();
+		/*[ENDIF] JAVA_SPEC_VERSION < 24 */
+		if (millis < 0) {
+			throw new IllegalArgumentException("Invalid throttling time: " + millis); //$NON-NLS-1$
+		}
+		throttleBackgroundCompilationsImpl(millis);
+	}
+
+	/*[IF JAVA_SPEC_VERSION < 24]*/
+	private static void checkManagementSecurityPermission() {
+		/* Check the caller has Management Permission. */
+		@SuppressWarnings("removal")
+		SecurityManager manager = System.getSecurityManager();
+		if (manager != null) {
+			manager.checkPermission(ManagementPermissionHelper.MPCONTROL);
+		}
+	}
+	/*[ENDIF] JAVA_SPEC_VERSION < 24 */
+
+	private native boolean getCompilationQueueInfoImpl(long[] info);
+
+	private native int queueMethodForCompilationImpl(Executable method, int optLevel);
+
+	private native int findLoadedClassesImpl(String className, Class<?>[] classes);
+
+	private native void throttleBackgroundCompilationsImpl(long millis);
+}
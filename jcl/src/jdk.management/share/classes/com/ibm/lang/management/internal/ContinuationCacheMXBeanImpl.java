@@ -0,0 +1,177 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 19]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import com.ibm.lang.management.ContinuationCacheMXBean;
+
+/**
+ * Runtime type for {@link ContinuationCacheMXBean}.
+ * <p>
+ * Reports the continuation cache statistics maintained by the VM.
+ * </p>
+ */
+public final class ContinuationCacheMXBeanImpl implements ContinuationCacheMXBean {
+
+	/* Indexes into the array filled by getContinuationCacheStatisticsImpl(), must match mgmtthread.c. */
+	private static final int T1_SIZE = 0;
+	private static final int T2_SIZE = 1;
+	private static final int MAX_STACK_SIZE = 2;
+	private static final int T1_HITS = 3;
+	private static final int T2_HITS = 4;
+	private static final int MISSES = 5;
+	private static final int FREED = 6;
+	private static final int TRIMMED = 7;
+	private static final int LOOKUP_TIME = 8;
+	private static final int LOOKUP_SAMPLES = 9;
+	private static final int STATISTIC_COUNT = 10;
+
+	private static final ContinuationCacheMXBeanImpl instance = new ContinuationCacheMXBeanImpl();
+
+	/**
+	 * Singleton accessor method. Returns an instance of {@link ContinuationCacheMXBeanImpl}
+	 *
+	 * @return a static instance of {@link ContinuationCacheMXBeanImpl}
+	 */
+	public static ContinuationCacheMXBeanImpl getInstance() {
+		return instance;
+	}
+
+	private ContinuationCacheMXBeanImpl() {
+		super();
+	}
+
+	/**
+	 * Returns the object name of the MXBean
+	 *
+	 * @return objectName representing the MXBean
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		try {
+			ObjectName name = new ObjectName("com.ibm.lang.management:type=ContinuationCache"); //$NON-NLS-1$
+			return name;
+		} catch (MalformedObjectNameException e) {
+			return null;
+		}
+	}
+
+	private long getStatistic(int index) {
+		return getStatistics()[index];
+	}
+
+	private long[] getStatistics() {
+		long[] statistics = new long[STATISTIC_COUNT];
+		getContinuationCacheStatisticsImpl(statistics);
+		return statistics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getT1CacheSize() {
+		return (int) getStatistic(T1_SIZE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getT2CacheSize() {
+		return (int) getStatistic(T2_SIZE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getMaxCachedStackSize() {
+		return getStatistic(MAX_STACK_SIZE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getT1CacheHitCount() {
+		return getStatistic(T1_HITS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getT2CacheHitCount() {
+		return getStatistic(T2_HITS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getCacheMissCount() {
+		return getStatistic(MISSES);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getCacheFreedCount() {
+		return getStatistic(FREED);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getTrimmedStackCount() {
+		return getStatistic(TRIMMED);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getCacheHitRatio() {
+		long[] statistics = getStatistics();
+		long hits = statistics[T1_HITS] + statistics[T2_HITS];
+		long total = hits + statistics[MISSES];
+		return (0 == total) ? 0.0 : ((double) hits / total);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getAverageLookupTime() {
+		long[] statistics = getStatistics();
+		long samples = statistics[LOOKUP_SAMPLES];
+		return (0 == samples) ? -1 : (statistics[LOOKUP_TIME] / samples);
+	}
+
+	private native void getContinuationCacheStatisticsImpl(long[] statistics);
+}
@@ -25,6 +25,7 @@ package com.ibm.lang.management.internal;
 import javax.management.MBeanNotificationInfo;
 
 import com.ibm.java.lang.management.internal.GarbageCollectorMXBeanImpl;
+import com.ibm.lang.management.GarbageCollectorCycleRecordFiller;
 import com.ibm.lang.management.GarbageCollectorMXBean;
 import com.sun.management.GarbageCollectionNotificationInfo;
 import com.sun.management.GcInfo;
@@ -32,6 +33,7 @@ import com.sun.management.internal.GcInfoUtil;
 
 import java.lang.management.MemoryUsage;
 import java.lang.management.MemoryPoolMXBean;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -40,7 +42,10 @@ import java.util.Map;
  */
 public final class ExtendedGarbageCollectorMXBeanImpl
 		extends GarbageCollectorMXBeanImpl
-		implements GarbageCollectorMXBean {
+		implements GarbageCollectorMXBean, GarbageCollectorCycleRecordFiller {
+
+	/* The number of records in the ring of each collector, must match J9VM_MANAGEMENT_GC_RECORD_COUNT. */
+	private static final int CYCLE_RECORD_CAPACITY = 64;
 
 	private static String[] poolNames;
 
@@ -77,6 +82,53 @@ public final class ExtendedGarbageCollectorMXBeanImpl
 	 */
 	private native GcInfo getLastGcInfoImpl(int id);
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long[] getCycleRecords(long afterIndex) {
+		long[] records = new long[CYCLE_RECORD_CAPACITY * CYCLE_RECORD_LENGTH];
+		int count = this.getCycleRecordsImpl(id, afterIndex, records);
+		return Arrays.copyOf(records, count * CYCLE_RECORD_LENGTH);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int fillCycleRecords(long afterIndex, long[] records) {
+		if (null == records) {
+			throw new NullPointerException();
+		}
+		return this.getCycleRecordsImpl(id, afterIndex, records);
+	}
+
+	/**
+	 * @see #fillCycleRecords(long, long[])
+	 */
+	private native int getCycleRecordsImpl(int id, long afterIndex, long[] records);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getCycleRecordCapacity() {
+		return CYCLE_RECORD_CAPACITY;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getCycleCauseName(int cause) {
+		return getCycleCauseNameImpl(cause);
+	}
+
+	/**
+	 * @see #getCycleCauseName(int)
+	 */
+	private static native String getCycleCauseNameImpl(int cause);
+
 	static GcInfo buildGcInfo(long index, long startTime, long endTime,
 							long[] initialSize, long[] preUsed, long[] preCommitted, long[] preMax,
 							long[] postUsed, long[] postCommitted, long[] postMax) {
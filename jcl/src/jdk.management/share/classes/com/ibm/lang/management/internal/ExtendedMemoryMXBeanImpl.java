@@ -141,6 +141,66 @@ public final class ExtendedMemoryMXBeanImpl extends MemoryMXBeanImpl implements
 	}
 /*[ENDIF] JAVA_SPEC_VERSION < 20 */
 
+	private native long getIdleHeapUncommitCountImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getIdleHeapUncommitCount() {
+		return getIdleHeapUncommitCountImpl();
+	}
+
+	private native long getIdleHeapUncommitBytesReleasedImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getIdleHeapUncommitBytesReleased() {
+		return getIdleHeapUncommitBytesReleasedImpl();
+	}
+
+	private native long getPendingReferenceCountImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getPendingReferenceCount() {
+		return getPendingReferenceCountImpl();
+	}
+
+	private native long getEnqueuedReferenceCountImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getEnqueuedReferenceCount() {
+		return getEnqueuedReferenceCountImpl();
+	}
+
+	private native long getAverageReferenceProcessingLatencyImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getAverageReferenceProcessingLatency() {
+		return getAverageReferenceProcessingLatencyImpl();
+	}
+
+	private native long getMaxReferenceProcessingLatencyImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getMaxReferenceProcessingLatency() {
+		return getMaxReferenceProcessingLatencyImpl();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -26,6 +26,7 @@ import java.lang.management.ThreadInfo;
 
 import com.ibm.java.lang.management.internal.ThreadMXBeanImpl;
 import com.ibm.lang.management.ExtendedThreadInfo;
+import com.ibm.lang.management.MonitorContentionInfo;
 import com.ibm.lang.management.ThreadMXBean;
 
 /**
@@ -67,6 +68,45 @@ public final class ExtendedThreadMXBeanImpl extends ThreadMXBeanImpl implements
 		return resultArray;
 	}
 
+	/**
+	 * The number of statistics returned by getMonitorContentionImpl() for each class.
+	 */
+	private static final int MONITOR_CONTENTION_STATISTICS = 6;
+
+	/**
+	 * Fill the arrays with the monitor contention statistics of the most contended classes.
+	 *
+	 * @param classNames receives the class names
+	 * @param statistics receives MONITOR_CONTENTION_STATISTICS values per class
+	 * @return the number of contended classes, which may be larger than the arrays
+	 */
+	private native static int getMonitorContentionImpl(String[] classNames, long[] statistics);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public MonitorContentionInfo[] dumpMonitorContention() {
+		int capacity = 64;
+		for (;;) {
+			String[] classNames = new String[capacity];
+			long[] statistics = new long[capacity * MONITOR_CONTENTION_STATISTICS];
+			int count = getMonitorContentionImpl(classNames, statistics);
+			if (count <= capacity) {
+				MonitorContentionInfo[] result = new MonitorContentionInfo[Math.max(count, 0)];
+				for (int index = 0; index < result.length; ++index) {
+					int base = index * MONITOR_CONTENTION_STATISTICS;
+					result[index] = new MonitorContentionInfo(classNames[index], statistics[base],
+							statistics[base + 1], statistics[base + 2], statistics[base + 3],
+							statistics[base + 4], statistics[base + 5]);
+				}
+				return result;
+			}
+			/* More classes are contended than fit; retry with room for all of them. */
+			capacity = count;
+		}
+	}
+
 	private native static long getThreadAllocatedBytesImpl(long threadID);
 
 	/**
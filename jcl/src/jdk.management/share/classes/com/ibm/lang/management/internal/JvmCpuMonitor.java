@@ -191,8 +191,27 @@ public class JvmCpuMonitor implements JvmCpuMonitorMXBean {
 		return threadCat.categoryName();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getVirtualThreadCpuTime() {
+		return getVirtualThreadCpuTimeImpl();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getCarrierVirtualThreadCpuTime(long id) {
+		if (id <= 0) {
+			throw new IllegalArgumentException();
+		}
+		return getCarrierVirtualThreadCpuTimeImpl(id);
+	}
+
 	/* Native implementation that returns the CPU usage statistics filled in */
 	private native JvmCpuMonitorInfo getThreadsCpuUsageImpl(JvmCpuMonitorInfo jcmInfo);
 	private native int setThreadCategoryImpl(long id, int category);
 	private native int getThreadCategoryImpl(long id);
+	private native long getVirtualThreadCpuTimeImpl();
+	private native long getCarrierVirtualThreadCpuTimeImpl(long id);
 }
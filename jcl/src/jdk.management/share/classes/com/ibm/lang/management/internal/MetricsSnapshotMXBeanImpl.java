@@ -0,0 +1,122 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import com.ibm.lang.management.MetricsSnapshotFiller;
+import com.ibm.lang.management.MetricsSnapshotMXBean;
+
+/**
+ * Runtime type for {@link MetricsSnapshotMXBean}.
+ * <p>
+ * Reads all the counters of the snapshot in a single native call.
+ * </p>
+ */
+public final class MetricsSnapshotMXBeanImpl implements MetricsSnapshotMXBean, MetricsSnapshotFiller {
+
+	private static final MetricsSnapshotMXBeanImpl instance = new MetricsSnapshotMXBeanImpl();
+
+	/**
+	 * Singleton accessor method. Returns an instance of {@link MetricsSnapshotMXBeanImpl}
+	 *
+	 * @return a static instance of {@link MetricsSnapshotMXBeanImpl}
+	 */
+	public static MetricsSnapshotMXBeanImpl getInstance() {
+		return instance;
+	}
+
+	private MetricsSnapshotMXBeanImpl() {
+		super();
+	}
+
+	/**
+	 * Returns the object name of the MXBean
+	 *
+	 * @return objectName representing the MXBean
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		try {
+			ObjectName name = new ObjectName("com.ibm.lang.management:type=MetricsSnapshot"); //$NON-NLS-1$
+			return name;
+		} catch (MalformedObjectNameException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int fillSnapshot(long[] values) {
+		if (null == values) {
+			throw new NullPointerException();
+		}
+		return getMetricsSnapshotImpl(values, null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long[] getSnapshot() {
+		long[] values = new long[SNAPSHOT_LENGTH];
+		getMetricsSnapshotImpl(values, null);
+		return values;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String[] getSnapshotKeys() {
+		String[] keys = new String[SNAPSHOT_LENGTH];
+		getMetricsSnapshotImpl(null, keys);
+		return keys;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String[] getHeapPoolNames() {
+		/* The VM creates the heap pool beans in the order their counters are reported. */
+		List<String> names = new ArrayList<>();
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if ((MemoryType.HEAP == pool.getType()) && (names.size() < HEAP_POOL_COUNT)) {
+				names.add(pool.getName());
+			}
+		}
+		return names.toArray(new String[names.size()]);
+	}
+
+	private native int getMetricsSnapshotImpl(long[] values, String[] keys);
+}
@@ -29,7 +29,10 @@ import java.util.List;
 
 import com.ibm.java.lang.management.internal.ComponentBuilder;
 import com.ibm.java.lang.management.internal.ManagementUtils;
+import com.ibm.lang.management.AllocationSiteMXBean;
+import com.ibm.lang.management.CompilationQueueMXBean;
 import com.ibm.lang.management.JvmCpuMonitorMXBean;
+import com.ibm.lang.management.MetricsSnapshotMXBean;
 import com.ibm.virtualization.management.internal.GuestOS;
 import com.ibm.virtualization.management.internal.HypervisorMXBeanImpl;
 import openj9.lang.management.OpenJ9DiagnosticsMXBean;
@@ -102,6 +105,18 @@ public final class PlatformMBeanProvider extends sun.management.spi.PlatformMBea
 			.addInterface(JvmCpuMonitorMXBean.class)
 			.register(allComponents);
 
+		ComponentBuilder.create("com.ibm.lang.management:type=AllocationSites", AllocationSiteMXBeanImpl.getInstance()) //$NON-NLS-1$
+			.addInterface(AllocationSiteMXBean.class)
+			.register(allComponents);
+
+		ComponentBuilder.create("com.ibm.lang.management:type=MetricsSnapshot", MetricsSnapshotMXBeanImpl.getInstance()) //$NON-NLS-1$
+			.addInterface(MetricsSnapshotMXBean.class)
+			.register(allComponents);
+
+		ComponentBuilder.create("com.ibm.lang.management:type=CompilationQueue", CompilationQueueMXBeanImpl.getInstance()) //$NON-NLS-1$
+			.addInterface(CompilationQueueMXBean.class)
+			.register(allComponents);
+
 		/* OpenJ9DiagnosticsMXBeanImpl depends on openj9.jvm. If openj9.jvm is not
 		 * available exclude this component.
 		 */
@@ -117,6 +132,12 @@ public final class PlatformMBeanProvider extends sun.management.spi.PlatformMBea
 			.register(allComponents);
 /*[ENDIF] CRAC_SUPPORT */
 
+		/*[IF JAVA_SPEC_VERSION >= 19]*/
+		ComponentBuilder.create("com.ibm.lang.management:type=ContinuationCache", ContinuationCacheMXBeanImpl.getInstance()) //$NON-NLS-1$
+			.addInterface(com.ibm.lang.management.ContinuationCacheMXBean.class)
+			.register(allComponents);
+		/*[ENDIF] JAVA_SPEC_VERSION >= 19 */
+
 		/*[IF JAVA_SPEC_VERSION >= 21]*/
 		ComponentBuilder.create("com.sun.management:type=HotSpotDiagnostic", ExtendedHotSpotDiagnostic.getInstance()) //$NON-NLS-1$
 			.addInterface(HotSpotDiagnosticMXBean.class)
@@ -23,6 +23,7 @@
 package org.eclipse.openj9.criu;
 
 import java.nio.file.Path;
+import java.util.Map;
 import openj9.internal.criu.InternalCRIUSupport;
 
 /**
@@ -48,10 +49,19 @@ public final class CRIUSupport {
 	 * such an attempt is detected by JVM.
 	 *
 	 * CONCURRENT_MODE - a hook running when the SINGLE_THREAD_MODE is NOT enabled
+	 *
+	 * PARALLEL_MODE - a CONCURRENT_MODE hook which runs in parallel with the other
+	 * PARALLEL_MODE hooks of the same priority, on a bounded pool of threads. All
+	 * of them complete before hooks of the next priority are run. The pool size
+	 * and the time to wait for the hooks can be set with the
+	 * {@code openj9.internal.criu.parallelHookThreads} and
+	 * {@code openj9.internal.criu.parallelHookTimeout} (in milliseconds) system
+	 * properties.
 	 */
 	public static enum HookMode {
 		SINGLE_THREAD_MODE,
-		CONCURRENT_MODE
+		CONCURRENT_MODE,
+		PARALLEL_MODE
 	}
 
 	/**
@@ -146,6 +156,18 @@ public final class CRIUSupport {
 		return InternalCRIUSupport.isCheckpointAllowed();
 	}
 
+	/**
+	 * Retrieve the time taken by each post-restore hook during the last restore.
+	 * Each hook is keyed by its name followed by its registration index, for
+	 * example {@code "User post-restore hook concurrent mode hook #12"}.
+	 *
+	 * @return a map from the hook key to the time taken by the hook in
+	 *         nanoseconds, empty if restore has not occurred.
+	 */
+	public static Map<String, Long> getLastRestoreHookTimes() {
+		return InternalCRIUSupport.getLastRestoreHookTimes();
+	}
+
 	/**
 	 * Returns an error message describing why isCRIUSupportEnabled()
 	 * returns false, and what can be done to remediate the issue.
@@ -444,7 +466,8 @@ public final class CRIUSupport {
 	 * exception will be thrown.
 	 *
 	 * If CONCURRENT_MODE is requested, the hook will be run alongside all other
-	 * active Java threads.
+	 * active Java threads. PARALLEL_MODE hooks are CONCURRENT_MODE hooks which
+	 * run in parallel with the other PARALLEL_MODE hooks of the same priority.
 	 *
 	 * High-priority hooks are run first after restore, and vice-versa for
 	 * low-priority hooks. The priority of the hook is with respect to the other
@@ -455,8 +478,8 @@ public final class CRIUSupport {
 	 * run in random order.
 	 *
 	 * @param hook     user hook
-	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE or
-	 *                 SINGLE_THREAD_MODE
+	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE,
+	 *                 PARALLEL_MODE or SINGLE_THREAD_MODE
 	 * @param priority the priority of the hook, between LOWEST_USER_HOOK_PRIORITY -
 	 *                 HIGHEST_USER_HOOK_PRIORITY. Throws
 	 *                 UnsupportedOperationException otherwise.
@@ -464,19 +487,14 @@ public final class CRIUSupport {
 	 * @return this
 	 *
 	 * @throws UnsupportedOperationException if the hook mode is not
-	 *                                       SINGLE_THREAD_MODE or CONCURRENT_MODE
+	 *                                       SINGLE_THREAD_MODE, CONCURRENT_MODE or PARALLEL_MODE
 	 *                                       or the priority is not between
 	 *                                       LOWEST_USER_HOOK_PRIORITY and
 	 *                                       HIGHEST_USER_HOOK_PRIORITY.
 	 */
 	public CRIUSupport registerPostRestoreHook(Runnable hook, HookMode mode, int priority)
 			throws UnsupportedOperationException {
-		InternalCRIUSupport.HookMode internalMode;
-		if (mode == HookMode.SINGLE_THREAD_MODE) {
-			internalMode = InternalCRIUSupport.HookMode.SINGLE_THREAD_MODE;
-		} else {
-			internalMode = InternalCRIUSupport.HookMode.CONCURRENT_MODE;
-		}
+		InternalCRIUSupport.HookMode internalMode = toInternalHookMode(mode);
 		try {
 			singletonInternalCRIUSupport.registerPostRestoreHook(hook, internalMode, priority);
 		} catch (openj9.internal.criu.JVMCheckpointException jce) {
@@ -524,7 +542,8 @@ public final class CRIUSupport {
 	 * exception will be thrown.
 	 *
 	 * If CONCURRENT_MODE is requested, the hook will be run alongside all other
-	 * active Java threads.
+	 * active Java threads. PARALLEL_MODE hooks are CONCURRENT_MODE hooks which
+	 * run in parallel with the other PARALLEL_MODE hooks of the same priority.
 	 *
 	 * High-priority hooks are run last before checkpoint, and vice-versa for
 	 * low-priority hooks. The priority of the hook is with respect to the other
@@ -535,8 +554,8 @@ public final class CRIUSupport {
 	 * run in random order.
 	 *
 	 * @param hook     user hook
-	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE or
-	 *                 SINGLE_THREAD_MODE
+	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE,
+	 *                 PARALLEL_MODE or SINGLE_THREAD_MODE
 	 * @param priority the priority of the hook, between LOWEST_USER_HOOK_PRIORITY -
 	 *                 HIGHEST_USER_HOOK_PRIORITY. Throws
 	 *                 UnsupportedOperationException otherwise.
@@ -544,19 +563,14 @@ public final class CRIUSupport {
 	 * @return this
 	 *
 	 * @throws UnsupportedOperationException if the hook mode is not
-	 *                                       SINGLE_THREAD_MODE or CONCURRENT_MODE
+	 *                                       SINGLE_THREAD_MODE, CONCURRENT_MODE or PARALLEL_MODE
 	 *                                       or the priority is not between
 	 *                                       LOWEST_USER_HOOK_PRIORITY and
 	 *                                       HIGHEST_USER_HOOK_PRIORITY.
 	 */
 	public CRIUSupport registerPreCheckpointHook(Runnable hook, HookMode mode, int priority)
 			throws UnsupportedOperationException {
-		InternalCRIUSupport.HookMode internalMode;
-		if (mode == HookMode.SINGLE_THREAD_MODE) {
-			internalMode = InternalCRIUSupport.HookMode.SINGLE_THREAD_MODE;
-		} else {
-			internalMode = InternalCRIUSupport.HookMode.CONCURRENT_MODE;
-		}
+		InternalCRIUSupport.HookMode internalMode = toInternalHookMode(mode);
 		try {
 			singletonInternalCRIUSupport.registerPreCheckpointHook(hook, internalMode, priority);
 		} catch (openj9.internal.criu.JVMCheckpointException jce) {
@@ -567,6 +581,18 @@ public final class CRIUSupport {
 		return this;
 	}
 
+	private static InternalCRIUSupport.HookMode toInternalHookMode(HookMode mode) {
+		InternalCRIUSupport.HookMode internalMode;
+		if (mode == HookMode.SINGLE_THREAD_MODE) {
+			internalMode = InternalCRIUSupport.HookMode.SINGLE_THREAD_MODE;
+		} else if (mode == HookMode.PARALLEL_MODE) {
+			internalMode = InternalCRIUSupport.HookMode.PARALLEL_MODE;
+		} else {
+			internalMode = InternalCRIUSupport.HookMode.CONCURRENT_MODE;
+		}
+		return internalMode;
+	}
+
 	/**
 	 * Checkpoint the JVM. This operation will use the CRIU options set by the
 	 * options setters.
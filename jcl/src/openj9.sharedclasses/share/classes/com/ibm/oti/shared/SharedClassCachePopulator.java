@@ -0,0 +1,311 @@
+/*[INCLUDE-IF SharedClasses]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.oti.shared;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SharedClassCachePopulator fills the shared class cache of the running JVM from a list of class names,
+ * without running the application that would normally load them.
+ * <p>
+ * The classes are loaded, but not initialized, in parallel by a class loader that uses a
+ * {@link SharedClassURLClasspathHelper} for the given classpath. Classes that are not yet in the cache are
+ * stored against that classpath, so an application class loader with the same classpath finds them later.
+ * Classes that the parent class loaders find, such as the Java runtime classes, are stored by those loaders.
+ * <p>
+ * To populate a new layer of an existing cache, run the JVM with <code>-Xshareclasses:name=&lt;name&gt;,layer=&lt;n&gt;</code>.
+ * The populator can also be run as a tool:
+ * <pre>
+ * java -Xshareclasses:name=app com.ibm.oti.shared.SharedClassCachePopulator -cp &lt;classpath&gt; [-threads &lt;n&gt;] &lt;classlist&gt;
+ * </pre>
+ * The class list contains one class per line. Lines in the format written by <code>-verbose:class</code>,
+ * <code>-Xlog:class+load</code> and the OpenJ9 <code>class load:</code> form are also accepted, and lines
+ * starting with <code>#</code> are ignored.
+ */
+public final class SharedClassCachePopulator {
+
+	private static final String CLASS_LOAD_PREFIX = "class load:"; //$NON-NLS-1$
+	private static final String LOADED_PREFIX = "[Loaded "; //$NON-NLS-1$
+	private static final String LOG_CLASS_LOAD_TAG = "[class,load]"; //$NON-NLS-1$
+
+	private SharedClassCachePopulator() {
+	}
+
+	/**
+	 * Loads the given classes in parallel so that they are stored in the shared class cache.
+	 *
+	 * @param		classpath The classpath to load the classes from. Only file and jar URLs can be stored in the cache.
+	 * @param		classNames The binary names of the classes to load
+	 * @param		threadCount The number of threads to use, or 0 to use one thread per available processor
+	 *
+	 * @return		The number of classes that were loaded. Classes that cannot be found or fail to load are skipped.
+	 *
+	 * @throws		IllegalStateException
+	 * 					If shared classes is disabled for this JVM.
+	 * @throws		IllegalArgumentException
+	 * 					If <code>threadCount</code> is negative.
+	 * @throws		InterruptedException
+	 * 					If the calling thread is interrupted while waiting for the classes to be loaded.
+	 */
+	public static int populate(URL[] classpath, List<String> classNames, int threadCount) throws InterruptedException {
+		if (threadCount < 0) {
+			/*[MSG "K0553", "parameter {0} has invalid value"]*/
+			throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K0553", "\"threadCount\"")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		SharedClassHelperFactory factory = Shared.getSharedClassHelperFactory();
+		if (null == factory) {
+			/*[MSG "K0557", "Shared Classes support is disabled with -Xshareclasses:none"]*/
+			throw new IllegalStateException(com.ibm.oti.util.Msg.getString("K0557")); //$NON-NLS-1$
+		}
+		if (0 == threadCount) {
+			threadCount = Runtime.getRuntime().availableProcessors();
+		}
+
+		PopulatingClassLoader loader;
+		try {
+			loader = new PopulatingClassLoader(factory, classpath);
+		} catch (HelperAlreadyDefinedException e) {
+			/* a new class loader cannot already have a helper */
+			throw new InternalError(e);
+		}
+
+		final AtomicInteger loadedCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount, task -> {
+			Thread thread = new Thread(task, "Shared class cache populator"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			for (final String className : classNames) {
+				executor.execute(() -> {
+					try {
+						Class.forName(className, false, loader);
+						loadedCount.incrementAndGet();
+					} catch (ClassNotFoundException | LinkageError e) {
+						/* skip classes that are missing from or cannot be loaded with this classpath */
+					}
+				});
+			}
+			executor.shutdown();
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} finally {
+			executor.shutdownNow();
+			loader.close();
+		}
+		return loadedCount.get();
+	}
+
+	/**
+	 * Reads a class list. Each line holds a class name, or a line written by <code>-verbose:class</code>
+	 * or <code>-Xlog:class+load</code>. Lines which do not name a class are ignored.
+	 *
+	 * @param		in The stream to read, which is not closed
+	 *
+	 * @return		The binary names of the classes in the list, in the order they appear
+	 *
+	 * @throws		IOException
+	 * 					If the stream cannot be read.
+	 */
+	public static List<String> readClassList(InputStream in) throws IOException {
+		List<String> classNames = new ArrayList<>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		String line;
+		while (null != (line = reader.readLine())) {
+			String className = parseClassListLine(line);
+			if (null != className) {
+				classNames.add(className);
+			}
+		}
+		return classNames;
+	}
+
+	private static String parseClassListLine(String line) {
+		String name = line.trim();
+		int tagIndex = name.indexOf(LOG_CLASS_LOAD_TAG);
+		if (tagIndex >= 0) {
+			name = name.substring(tagIndex + LOG_CLASS_LOAD_TAG.length()).trim();
+		} else if (name.startsWith(CLASS_LOAD_PREFIX)) {
+			name = name.substring(CLASS_LOAD_PREFIX.length()).trim();
+		} else if (name.startsWith(LOADED_PREFIX)) {
+			name = name.substring(LOADED_PREFIX.length()).trim();
+		}
+		/* drop anything after the name, such as "source: ..." or "from: ..." */
+		int end = 0;
+		while ((end < name.length()) && !Character.isWhitespace(name.charAt(end))) {
+			end += 1;
+		}
+		name = name.substring(0, end);
+		if (name.isEmpty() || name.startsWith("#") || name.startsWith("[")) { //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+		if (name.indexOf('/') >= 0) {
+			if (name.indexOf('.') >= 0) {
+				/* hidden classes, named like "pkg.Name/0x...", cannot be loaded by name */
+				return null;
+			}
+			/* -verbose:class writes internal names such as "java/lang/Object" */
+			name = name.replace('/', '.');
+		}
+		return name;
+	}
+
+	/**
+	 * Populates the shared class cache from a class list.
+	 * <pre>
+	 * SharedClassCachePopulator -cp &lt;classpath&gt; [-threads &lt;n&gt;] &lt;classlist&gt;
+	 * </pre>
+	 *
+	 * @param		args The command line arguments
+	 *
+	 * @throws		Exception
+	 * 					If the class list cannot be read or the cache cannot be populated.
+	 */
+	public static void main(String[] args) throws Exception {
+		String classpath = null;
+		String classListFile = null;
+		int threadCount = 0;
+
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (("-cp".equals(arg) || "-classpath".equals(arg)) && (i + 1 < args.length)) { //$NON-NLS-1$ //$NON-NLS-2$
+				classpath = args[++i];
+			} else if ("-threads".equals(arg) && (i + 1 < args.length)) { //$NON-NLS-1$
+				threadCount = Integer.parseInt(args[++i]);
+			} else if (null == classListFile) {
+				classListFile = arg;
+			} else {
+				classListFile = null;
+				break;
+			}
+		}
+		if ((null == classpath) || (null == classListFile)) {
+			System.err.println("Usage: SharedClassCachePopulator -cp <classpath> [-threads <n>] <classlist>"); //$NON-NLS-1$
+			System.exit(1);
+		}
+
+		List<String> classNames;
+		try (InputStream in = new FileInputStream(classListFile)) {
+			classNames = readClassList(in);
+		}
+		long start = System.nanoTime();
+		int loaded = populate(toURLs(classpath), classNames, threadCount);
+		long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		System.out.println("Loaded " + loaded + " of " + classNames.size() + " classes in " + millis + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	private static URL[] toURLs(String classpath) throws IOException {
+		List<URL> urls = new ArrayList<>();
+		for (String entry : classpath.split(File.pathSeparator)) {
+			if (!entry.isEmpty()) {
+				/* use the canonical path like the application class loader, so its classpath matches the one stored */
+				urls.add(new File(entry).getCanonicalFile().toURI().toURL());
+			}
+		}
+		return urls.toArray(new URL[urls.size()]);
+	}
+
+	/**
+	 * A parallel capable class loader which finds and stores classes using a SharedClassURLClasspathHelper.
+	 * Each classpath entry has its own URLClassLoader so that the index of the entry a class is read from
+	 * can be passed to the helper.
+	 */
+	private static final class PopulatingClassLoader extends ClassLoader {
+		static {
+			registerAsParallelCapable();
+		}
+
+		private final SharedClassURLClasspathHelper helper;
+		private final URLClassLoader[] entryLoaders;
+
+		PopulatingClassLoader(SharedClassHelperFactory factory, URL[] classpath) throws HelperAlreadyDefinedException {
+			super(ClassLoader.getSystemClassLoader().getParent());
+			helper = factory.getURLClasspathHelper(this, classpath);
+			/* the classpath of this loader never changes */
+			helper.confirmAllEntries();
+			entryLoaders = new URLClassLoader[classpath.length];
+			for (int i = 0; i < classpath.length; i++) {
+				entryLoaders[i] = new URLClassLoader(new URL[] { classpath[i] }, null);
+			}
+		}
+
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+			byte[] cachedBytes = helper.findSharedClass(name, null);
+			if (null != cachedBytes) {
+				return defineClass(name, cachedBytes, 0, cachedBytes.length);
+			}
+
+			String resourceName = name.replace('.', '/').concat(".class"); //$NON-NLS-1$
+			for (int i = 0; i < entryLoaders.length; i++) {
+				URL url = entryLoaders[i].findResource(resourceName);
+				if (null != url) {
+					byte[] classBytes;
+					try (InputStream in = url.openStream()) {
+						classBytes = readFully(in);
+					} catch (IOException e) {
+						throw new ClassNotFoundException(name, e);
+					}
+					Class<?> clazz = defineClass(name, classBytes, 0, classBytes.length);
+					helper.storeSharedClass(clazz, i);
+					return clazz;
+				}
+			}
+			throw new ClassNotFoundException(name);
+		}
+
+		void close() {
+			for (URLClassLoader entryLoader : entryLoaders) {
+				try {
+					entryLoader.close();
+				} catch (IOException e) {
+					/* nothing more can be done, the tool is finished with the entry */
+				}
+			}
+		}
+
+		private static byte[] readFully(InputStream in) throws IOException {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int count;
+			while ((count = in.read(buffer)) > 0) {
+				out.write(buffer, 0, count);
+			}
+			return out.toByteArray();
+		}
+	}
+}
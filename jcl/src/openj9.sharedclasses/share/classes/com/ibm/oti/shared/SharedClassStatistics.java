@@ -108,6 +108,50 @@ public class SharedClassStatistics {
 		return numberAttachedImpl();
 	}
 
+	/**
+	 * Returns the number of cache pages read ahead during startup because a previous JVM
+	 * faulted them in during its startup. The read-ahead is only done with the
+	 * <code>-Xshareclasses:startupPagePrefetch</code> option.
+	 * <p>
+	 * This counts pages prefetched, not page faults actually avoided. This JVM may never
+	 * touch a page that was read ahead, and a page may already have been read in by the
+	 * time it is touched.
+	 *
+	 * @return the number of cache pages that were read ahead, or -1 if the JVM is not connected to a cache
+	 */
+	public static long startupPagesPrefetched() {
+		return startupPagesPrefetchedImpl();
+	}
+
+	/**
+	 * Returns the size of the class debug area data (LineNumberTables and LocalVariableTables)
+	 * of all cache layers after compression, as a percentage of its uncompressed size.
+	 *
+	 * <p>This is an estimate. The cache stores the class debug area data uncompressed; the
+	 * data is deflated into a temporary buffer to measure how much compressing it would save.
+	 *
+	 * <p>The estimate is cached: only the debug data added since the previous call, and the
+	 * last partial 64KB chunk of each table, are compressed again.
+	 *
+	 * @return the compressed size as a percentage of the uncompressed size, or -1 if it cannot be determined
+	 */
+	public static long debugDataCompressionPercent() {
+		return debugDataCompressionPercentImpl();
+	}
+
+	/**
+	 * Returns the time taken to decompress the compressed class debug area data of all cache layers,
+	 * as measured by {@link #debugDataCompressionPercent()}.
+	 *
+	 * <p>The decompression time of each complete 64KB chunk is measured once and cached; only the
+	 * debug data added since the previous call is decompressed again.
+	 *
+	 * @return the decompression time in microseconds, or -1 if it cannot be determined
+	 */
+	public static long debugDataDecompressionMicros() {
+		return debugDataDecompressionMicrosImpl();
+	}
+
 	/**
 	 * Returns the full cache path.
 	 *
@@ -157,6 +201,8 @@ public class SharedClassStatistics {
 	}
 
 	private static native String cachePathImpl();
+	private static native long debugDataCompressionPercentImpl();
+	private static native long debugDataDecompressionMicrosImpl();
 	private static native long freeSpaceBytesImpl();
 	private static native long maxAotBytesImpl();
 	private static native long maxJitDataBytesImpl();
@@ -165,6 +211,7 @@ public class SharedClassStatistics {
 	private static native long minJitDataBytesImpl();
 	private static native long numberAttachedImpl();
 	private static native long softmxBytesImpl();
+	private static native long startupPagesPrefetchedImpl();
 
 	/*[IF]*/
 	/*
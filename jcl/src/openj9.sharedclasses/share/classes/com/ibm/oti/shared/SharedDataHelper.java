@@ -44,6 +44,14 @@ import java.nio.ByteBuffer;
  * Tokens have no meaning to the cache, so effectively turn it into a dictionary of classes.</p>
  * <p>E.g. A token may be the location where the class was found, combined with some type of versioning data.</p>
  * <p>If an application stores multiple versions of the same data using the same token, only the most recent will be returned by findSharedData.</p>
+ * <h2>Namespaces and versions</h2>
+ * <p>Data can also be stored against a namespace, a token and a version number. Tokens in different namespaces never match each other,
+ * or tokens used without a namespace. A find only returns the data if it was stored with the same version, so data written by an
+ * older release of an application is ignored rather than misread. A namespace must not contain the NUL character,
+ * and a token used without a namespace must not start with it. Storing a new version replaces the previous data atomically:
+ * the old entry is marked stale and the new entry is added while the cache is locked, so a find returns either the old or the new data.</p>
+ * <p>The ByteBuffer returned by a find maps directly onto the cache, so no data is copied or deserialized. It remains valid for the
+ * lifetime of the JVM, even after the data is replaced.</p>
  *
  * @see SharedHelper
  * @see SharedDataHelperFactory
@@ -62,7 +70,7 @@ public interface SharedDataHelper extends SharedHelper {
 	 * has been granted <q>read</q> permissions to the shared class cache.
 	/*[ENDIF] JAVA_SPEC_VERSION < 24
 	 *
-	 * @param token a token to be used as a key
+	 * @param token a token to be used as a key, which must not start with the NUL character
 	 *
 	 * @return ByteBuffer a read-only ByteBuffer containing the cached data, or null
 	 */
@@ -79,10 +87,48 @@ public interface SharedDataHelper extends SharedHelper {
 	 * has been granted <q>write</q> permissions to the shared class cache.
 	/*[ENDIF] JAVA_SPEC_VERSION < 24
 	 *
-	 * @param token a token to be used as a key
+	 * @param token a token to be used as a key, which must not start with the NUL character
 	 * @param data a ByteBuffer of data to copy to the cache
 	 * @return ByteBuffer a read-only ByteBuffer containing the cached data, or null
 	 */
 	public ByteBuffer storeSharedData(String token, ByteBuffer data);
 
+	/**
+	 * Find data in the shared cache using a namespace, a token and a version.<p>
+	 * Data is returned only if it was stored with an exact String match of the namespace and token,
+	 * and with the same version. Otherwise, null is returned.<br>
+	 * The ByteBuffer returned is read-only, is a direct view of the data in the cache, and cannot be modified.<br>
+	/*[IF JAVA_SPEC_VERSION < 24]
+	 * If a SecurityManager is installed, findSharedData can only be called by code whose caller-classloader
+	 * has been granted <q>read</q> permissions to the shared class cache.
+	/*[ENDIF] JAVA_SPEC_VERSION < 24
+	 *
+	 * @param namespace the namespace of the token, which must not contain the NUL character
+	 * @param token a token to be used as a key within the namespace
+	 * @param version the version of the data that is expected
+	 *
+	 * @return ByteBuffer a read-only ByteBuffer containing the cached data, or null
+	 */
+	public ByteBuffer findSharedData(String namespace, String token, long version);
+
+	/**
+	 * Store data in the shared cache using a namespace, a token and a version.<p>
+	 * If the data is stored successfully, a read-only view of the shared copy of the data is returned. Otherwise, null is returned.<br>
+	 * The remaining bytes of the data buffer are copied; the buffer does not need to be direct.<br>
+	 * If data already exists for the namespace and token, whatever its version, it is marked <q>stale</q> and is
+	 * atomically replaced by the new data.<br>
+	 * If null is passed as the data argument, the data currently stored against the namespace and token is marked <q>stale</q> and null is returned.<br>
+	/*[IF JAVA_SPEC_VERSION < 24]
+	 * If a SecurityManager is installed, storeSharedData can only be called by code whose caller-classloader
+	 * has been granted <q>write</q> permissions to the shared class cache.
+	/*[ENDIF] JAVA_SPEC_VERSION < 24
+	 *
+	 * @param namespace the namespace of the token, which must not contain the NUL character
+	 * @param token a token to be used as a key within the namespace
+	 * @param version the version of the data
+	 * @param data a ByteBuffer of data to copy to the cache
+	 * @return ByteBuffer a read-only ByteBuffer containing the cached data, or null
+	 */
+	public ByteBuffer storeSharedData(String namespace, String token, long version, ByteBuffer data);
+
 }
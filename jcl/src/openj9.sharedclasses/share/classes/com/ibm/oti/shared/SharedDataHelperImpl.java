@@ -34,6 +34,13 @@ import com.ibm.oti.util.Msg;
  * @see SharedAbstractHelper
  */
 final class SharedDataHelperImpl extends SharedAbstractHelper implements SharedDataHelper {
+	/* Keys of namespaced data start with, and separate the namespace from the token with, a character
+	 * which plain tokens may not start with and namespaces may not contain, so keys never collide.
+	 */
+	private static final char NAMESPACE_SEPARATOR = '\0';
+	/* Namespaced data is stored with its version in front of it */
+	private static final int VERSION_HEADER_SIZE = Long.BYTES;
+
 	/* Not public - should only be created by factory */
 	/*[IF JAVA_SPEC_VERSION >= 24]*/
 	SharedDataHelperImpl(ClassLoader loader, int id) {
@@ -51,6 +58,15 @@ final class SharedDataHelperImpl extends SharedAbstractHelper implements SharedD
 
 	@Override
 	public ByteBuffer findSharedData(String token) {
+		if ((token != null) && isNamespacedKey(token)) {
+			/*[MSG "K0D06", "Cannot call {0} with a token starting with the NUL character. Returning null."]*/
+			printVerboseError(Msg.getString("K0D06", "findSharedData")); //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+		return findData(token);
+	}
+
+	private ByteBuffer findData(String token) {
 		ClassLoader loader = getClassLoader();
 		if (loader == null) {
 			/*[MSG "K059f", "ClassLoader has been garbage collected. Returning null."]*/
@@ -77,6 +93,15 @@ final class SharedDataHelperImpl extends SharedAbstractHelper implements SharedD
 
 	@Override
 	public ByteBuffer storeSharedData(String token, ByteBuffer data) {
+		if ((token != null) && isNamespacedKey(token)) {
+			/*[MSG "K0D06", "Cannot call {0} with a token starting with the NUL character. Returning null."]*/
+			printVerboseError(Msg.getString("K0D06", "storeSharedData")); //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+		return storeData(token, data);
+	}
+
+	private ByteBuffer storeData(String token, ByteBuffer data) {
 		ClassLoader loader = getClassLoader();
 		if (loader == null) {
 			/*[MSG "K059f", "ClassLoader has been garbage collected. Returning null."]*/
@@ -106,6 +131,78 @@ final class SharedDataHelperImpl extends SharedAbstractHelper implements SharedD
 		return storeSharedDataImpl(loader, this.id, token, data);
 	}
 
+	@Override
+	public ByteBuffer findSharedData(String namespace, String token, long version) {
+		if (namespace == null) {
+			/*[MSG "K0D04", "Cannot call {0} with null namespace. Returning null."]*/
+			printVerboseError(Msg.getString("K0D04", "findSharedData")); //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+		if (namespace.indexOf(NAMESPACE_SEPARATOR) >= 0) {
+			/*[MSG "K0D05", "Cannot call {0} with a namespace containing the NUL character. Returning null."]*/
+			printVerboseError(Msg.getString("K0D05", "findSharedData")); //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+		if (token == null) {
+			/*[MSG "K05b6", "Cannot call findSharedData with null token. Returning null."]*/
+			printVerboseError(Msg.getString("K05b6")); //$NON-NLS-1$
+			return null;
+		}
+		ByteBuffer cached = findData(namespacedKey(namespace, token));
+		return versionedView(cached, version);
+	}
+
+	@Override
+	public ByteBuffer storeSharedData(String namespace, String token, long version, ByteBuffer data) {
+		if (namespace == null) {
+			/*[MSG "K0D04", "Cannot call {0} with null namespace. Returning null."]*/
+			printVerboseError(Msg.getString("K0D04", "storeSharedData")); //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+		if (namespace.indexOf(NAMESPACE_SEPARATOR) >= 0) {
+			/*[MSG "K0D05", "Cannot call {0} with a namespace containing the NUL character. Returning null."]*/
+			printVerboseError(Msg.getString("K0D05", "storeSharedData")); //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+		if (token == null) {
+			/*[MSG "K05b8", "Cannot call storeSharedData with null token. Returning null."]*/
+			printVerboseError(Msg.getString("K05b8")); //$NON-NLS-1$
+			return null;
+		}
+		ByteBuffer versioned = null;
+		if (data != null) {
+			versioned = ByteBuffer.allocateDirect(VERSION_HEADER_SIZE + data.remaining());
+			versioned.putLong(version);
+			versioned.put(data.duplicate());
+		}
+		/* The cache marks any previous data for the key stale and adds the new data under its write mutex */
+		ByteBuffer cached = storeData(namespacedKey(namespace, token), versioned);
+		return versionedView(cached, version);
+	}
+
+	private static boolean isNamespacedKey(String token) {
+		return (token.length() > 0) && (token.charAt(0) == NAMESPACE_SEPARATOR);
+	}
+
+	/* The namespace contains no separator, so the first separator after the leading one ends it whatever the token holds */
+	private static String namespacedKey(String namespace, String token) {
+		StringBuilder key = new StringBuilder(namespace.length() + token.length() + 2);
+		key.append(NAMESPACE_SEPARATOR).append(namespace).append(NAMESPACE_SEPARATOR).append(token);
+		return key.toString();
+	}
+
+	/* Returns a view of the data after the version header, without copying, if the cached version matches */
+	private static ByteBuffer versionedView(ByteBuffer cached, long version) {
+		if ((cached == null)
+			|| (cached.capacity() < VERSION_HEADER_SIZE)
+			|| (cached.getLong(0) != version)
+		) {
+			return null;
+		}
+		cached.position(VERSION_HEADER_SIZE);
+		return cached.slice();
+	}
+
 	@Override
 	String getHelperType() {
 		return "SharedDataHelper"; //$NON-NLS-1$
@@ -317,6 +317,7 @@ JIT_PRODUCT_SOURCE_FILES+=\
     compiler/env/Startup.cpp \
     compiler/env/SystemSegmentProvider.cpp \
     compiler/env/VMJ9.cpp \
+    compiler/env/WarmStartProfile.cpp \
     compiler/env/annotations/AnnotationBase.cpp \
     compiler/env/annotations/Annotations.cpp \
     compiler/env/annotations/GPUAnnotation.cpp \
@@ -119,8 +119,8 @@ class TR_LowPriorityCompQueue
       TR_MethodToBeCompiled *findAndDequeueFromLPQ(TR::IlGeneratorMethodDetails &details,
          uint8_t reason, TR_J9VMBase *fe, bool & dequeued);
       void enqueueCompReqToLPQ(TR_MethodToBeCompiled *compReq);
-      bool createLowPriorityCompReqAndQueueIt(TR::IlGeneratorMethodDetails &details, void *startPC, uint8_t reason);
-      bool addFirstTimeCompReqToLPQ(J9Method *j9method, uint8_t reason);
+      bool createLowPriorityCompReqAndQueueIt(TR::IlGeneratorMethodDetails &details, void *startPC, uint8_t reason, TR_Hotness optLevel = warm);
+      bool addFirstTimeCompReqToLPQ(J9Method *j9method, uint8_t reason, TR_Hotness optLevel = warm);
       bool addUpgradeReqToLPQ(TR_MethodToBeCompiled*, uint8_t reason = TR_MethodToBeCompiled::REASON_UPGRADE);
       bool addUpgradeReqToLPQ(J9Method *j9method, void *startPC, uint8_t reason);
       int32_t getLowPriorityQueueSize() const { return _sizeLPQ; }
@@ -175,12 +175,14 @@ class TR_LowPriorityCompQueue
       uint32_t _STAT_LPQcompFromIprofiler; // first time compilations coming from LPQ
       uint32_t _STAT_LPQcompFromInterpreter;
       uint32_t _STAT_LPQcompUpgrade;
+      uint32_t _STAT_LPQcompFromWarmStartProfile;
 #if defined(J9VM_OPT_JITSERVER)
       uint32_t _STAT_compReqQueuedByJITServer;
       uint32_t _STAT_LPQcompServerUnavailable;
 #endif /* defined(J9VM_OPT_JITSERVER) */
       // stats written by application threads
       uint32_t _STAT_compReqQueuedByInterpreter;
+      uint32_t _STAT_compReqQueuedByWarmStartProfile;
       uint32_t _STAT_numFailedToEnqueueInLPQ;
    }; // TR_LowPriorityCompQueue
 
@@ -730,6 +732,10 @@ public:
    void setOverallCompCpuUtilization(int32_t c) { _overallCompCpuUtilization = c; }
    TR_YesNoMaybe exceedsCompCpuEntitlement() const { return _exceedsCompCpuEntitlement; }
    void setExceedsCompCpuEntitlement(TR_YesNoMaybe value) { _exceedsCompCpuEntitlement = value; }
+   void throttleBackgroundCompilations(uint64_t durationMs);
+   bool isBackgroundCompThrottled();
+   void recordCompilationDuration(uint64_t durationUsec);
+   void fillCompilationQueueInfo(J9JITCompilationQueueInfo *info); // needs compilation monitor in hand
    int32_t computeCompThreadSleepTime(int32_t compilationTimeMs);
    bool                   isQueuedForCompilation(J9Method *, void *oldStartPC);
    void *                 startPCIfAlreadyCompiled(J9VMThread *, TR::IlGeneratorMethodDetails & details, void *oldStartPC);
@@ -1258,6 +1264,9 @@ private:
    bool                   _rampDownMCT; // flag that from now on we should not activate more than one compilation thread
                                         // Once set, the flag is never reset
    TR_YesNoMaybe          _exceedsCompCpuEntitlement;
+   volatile uint64_t      _backgroundCompThrottleEndTime; // j9time_current_time_millis until which async compilations are throttled on request; 0 if not throttled
+   uint64_t               _recentCompDurations[J9JIT_COMP_QUEUE_RECENT_DURATIONS]; // ring buffer of compilation durations (usec)
+   volatile uint32_t      _numRecentCompDurations; // number of durations ever recorded; the next one goes at this index modulo the buffer size
    J9VMThread            *_samplerThread; // The Os thread for this VM attached thread is stored at jitConfig->samplerThread
    TR_SamplerStates       _samplerState; // access is guarded by J9JavaVM->vmThreadListMutex
    TR_SamplerStates       _prevSamplerState; // previous state of the sampler thread
@@ -63,6 +63,7 @@
 #include "env/PersistentCHTable.hpp"
 #include "env/VMAccessCriticalSection.hpp"
 #include "env/VerboseLog.hpp"
+#include "env/WarmStartProfile.hpp"
 #include "compile/CompilationException.hpp"
 #include "runtime/CodeCacheExceptions.hpp"
 #include "exceptions/JITShutDown.hpp"
@@ -1773,9 +1774,9 @@ void TR_LowPriorityCompQueue::enqueueCompReqToLPQ(TR_MethodToBeCompiled *compReq
    }
 
 //---------------------------- createLowPriorityCompReqAndQueueIt ---------------------
-bool TR_LowPriorityCompQueue::createLowPriorityCompReqAndQueueIt(TR::IlGeneratorMethodDetails &details, void *startPC, uint8_t reason)
+bool TR_LowPriorityCompQueue::createLowPriorityCompReqAndQueueIt(TR::IlGeneratorMethodDetails &details, void *startPC, uint8_t reason, TR_Hotness optLevel)
    {
-   TR_OptimizationPlan *plan = TR_OptimizationPlan::alloc(warm); // TODO: pick first opt level
+   TR_OptimizationPlan *plan = TR_OptimizationPlan::alloc(optLevel);
    if (!plan)
       return false; // OOM
 
@@ -1804,12 +1805,12 @@ bool TR_LowPriorityCompQueue::createLowPriorityCompReqAndQueueIt(TR::IlGenerator
    }
 
 //------------------------ addFirstTimeReqToLPQ ---------------------
-bool TR_LowPriorityCompQueue::addFirstTimeCompReqToLPQ(J9Method *j9method, uint8_t reason)
+bool TR_LowPriorityCompQueue::addFirstTimeCompReqToLPQ(J9Method *j9method, uint8_t reason, TR_Hotness optLevel)
    {
    if (TR::CompilationInfo::isCompiled(j9method))
       return false;
    TR::IlGeneratorMethodDetails details(j9method);
-   return createLowPriorityCompReqAndQueueIt(details, NULL, reason);
+   return createLowPriorityCompReqAndQueueIt(details, NULL, reason, optLevel);
    }
 
 
@@ -5572,9 +5573,10 @@ TR::CompilationInfo::getNextMethodToBeCompiled(TR::CompilationInfoPerThread *com
             _methodQueue = _methodQueue->_next;
             }
          // Check if we need to throttle
-         else if (exceedsCompCpuEntitlement() == TR_yes &&
+         else if ((exceedsCompCpuEntitlement() == TR_yes &&
                !compThreadCameOutOfSleep && // Don't throttle a comp thread that has just slept its share of time
-               (TR::Options::_compThreadCPUEntitlement < 100 || getNumCompThreadsActive() * 100 > (TR::Options::_compThreadCPUEntitlement + 50)))
+               (TR::Options::_compThreadCPUEntitlement < 100 || getNumCompThreadsActive() * 100 > (TR::Options::_compThreadCPUEntitlement + 50))) ||
+               (!compThreadCameOutOfSleep && isBackgroundCompThrottled())) // throttling requested through the management API
             {
             // If at all possible suspend the compilation thread
             // Otherwise, perform a timed wait
@@ -5669,9 +5671,10 @@ TR::CompilationInfo::getNextMethodToBeCompiled(TR::CompilationInfoPerThread *com
                canProcessLowPriorityRequest())
          {
          // Check if we need to throttle
-         if (exceedsCompCpuEntitlement() == TR_yes &&
+         if (((exceedsCompCpuEntitlement() == TR_yes &&
             !compThreadCameOutOfSleep && // Don't throttle a comp thread that has just slept its share of time
-            (TR::Options::_compThreadCPUEntitlement < 100 || getNumCompThreadsActive() * 100 > (TR::Options::_compThreadCPUEntitlement + 50))
+            (TR::Options::_compThreadCPUEntitlement < 100 || getNumCompThreadsActive() * 100 > (TR::Options::_compThreadCPUEntitlement + 50))) ||
+            (!compThreadCameOutOfSleep && isBackgroundCompThrottled())) // throttling requested through the management API
 #if defined(J9VM_OPT_JITSERVER)
             && !getLowPriorityCompQueue().getFirstLPQRequest()->shouldUpgradeOutOfProcessCompilation() // Don't throttle if compilation will be done remotely
 #endif
@@ -5693,9 +5696,10 @@ TR::CompilationInfo::getNextMethodToBeCompiled(TR::CompilationInfoPerThread *com
       else if (!getJProfilingCompQueue().isEmpty() && canProcessJProfilingRequest())
          {
          // Check if we need to throttle
-         if (exceedsCompCpuEntitlement() == TR_yes &&
+         if ((exceedsCompCpuEntitlement() == TR_yes &&
             !compThreadCameOutOfSleep && // Don't throttle a comp thread that has just slept its share of time
-            (TR::Options::_compThreadCPUEntitlement < 100 || getNumCompThreadsActive() * 100 >(TR::Options::_compThreadCPUEntitlement + 50)))
+            (TR::Options::_compThreadCPUEntitlement < 100 || getNumCompThreadsActive() * 100 >(TR::Options::_compThreadCPUEntitlement + 50))) ||
+            (!compThreadCameOutOfSleep && isBackgroundCompThrottled())) // throttling requested through the management API
             {
             // If at all possible suspend the compilation thread
             // Otherwise, perform a timed wait
@@ -5734,6 +5738,97 @@ TR::CompilationInfo::getNextMethodToBeCompiled(TR::CompilationInfoPerThread *com
    return nextMethodToBeCompiled;
    }
 
+//------------------------- throttleBackgroundCompilations ----------------------
+// Throttle asynchronous compilations, as if the compilation threads exceeded
+// their CPU entitlement, for the given number of ms. A duration of 0 lifts
+// the throttling. Synchronous requests and AOT loads are never throttled.
+//-------------------------------------------------------------------------------
+void TR::CompilationInfo::throttleBackgroundCompilations(uint64_t durationMs)
+   {
+   PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
+   // The elapsed time kept in the persistent info only advances when the sampling thread
+   // runs, which may be rarely or never, so the throttling is timed with the wall clock
+   _backgroundCompThrottleEndTime = durationMs > 0 ? (uint64_t)j9time_current_time_millis() + durationMs : 0;
+   if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseCompilationThreads))
+      {
+      TR_VerboseLog::writeLineLocked(TR_Vlog_INFO, "t=%6u Background compilations throttled for %llu ms on request",
+         (uint32_t)getPersistentInfo()->getElapsedTime(), (unsigned long long)durationMs);
+      }
+   }
+
+bool TR::CompilationInfo::isBackgroundCompThrottled()
+   {
+   uint64_t endTime = _backgroundCompThrottleEndTime;
+   if (endTime == 0)
+      return false;
+   PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
+   return (uint64_t)j9time_current_time_millis() < endTime;
+   }
+
+//------------------------- recordCompilationDuration ---------------------------
+// Remember the wall clock duration (usec) of a compilation that just finished.
+// Compilation threads record concurrently, so the slot is claimed atomically.
+//-------------------------------------------------------------------------------
+void TR::CompilationInfo::recordCompilationDuration(uint64_t durationUsec)
+   {
+   uint32_t index = VM_AtomicSupport::addU32((volatile uint32_t *)&_numRecentCompDurations, 1) - 1;
+   _recentCompDurations[index % J9JIT_COMP_QUEUE_RECENT_DURATIONS] = durationUsec;
+   }
+
+//------------------------- fillCompilationQueueInfo ----------------------------
+// Describe the compilation queues and threads for the management API.
+// Needs compilation monitor in hand
+//-------------------------------------------------------------------------------
+void TR::CompilationInfo::fillCompilationQueueInfo(J9JITCompilationQueueInfo *info)
+   {
+   PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
+   uint64_t now = j9time_usec_clock();
+   uint64_t oldestEntryTime = 0;
+
+   memset(info, 0, sizeof(*info));
+   for (TR_MethodToBeCompiled *entry = _methodQueue; entry; entry = entry->_next)
+      {
+      if (entry->_priority >= CP_SYNC_MIN)
+         info->queueSizes[J9JIT_COMP_QUEUE_SYNC]++;
+      else if (entry->_priority >= CP_ASYNC_ABOVE_NORMAL)
+         info->queueSizes[J9JIT_COMP_QUEUE_ASYNC_HIGH]++;
+      else if (entry->_priority >= CP_ASYNC_NORMAL)
+         info->queueSizes[J9JIT_COMP_QUEUE_ASYNC_NORMAL]++;
+      else
+         info->queueSizes[J9JIT_COMP_QUEUE_ASYNC_LOW]++;
+      if (oldestEntryTime == 0 || entry->_entryTime < oldestEntryTime)
+         oldestEntryTime = entry->_entryTime;
+      }
+   info->queueSizes[J9JIT_COMP_QUEUE_LOW_PRIORITY] = getLowPriorityCompQueue().getLowPriorityQueueSize();
+   TR_MethodToBeCompiled *firstLPQEntry = getLowPriorityCompQueue().getFirstLPQRequest();
+   if (firstLPQEntry && (oldestEntryTime == 0 || firstLPQEntry->_entryTime < oldestEntryTime))
+      oldestEntryTime = firstLPQEntry->_entryTime;
+   if (oldestEntryTime != 0 && now > oldestEntryTime)
+      info->oldestEntryAge = now - oldestEntryTime;
+
+   TR::CompilationInfoPerThread * const * arrayOfCompInfoPT = getArrayOfCompilationInfoPerThread();
+   for (int32_t i = getFirstCompThreadID(); i <= getLastCompThreadID() && info->compThreadCount < J9JIT_COMP_QUEUE_MAX_THREADS; i++)
+      {
+      TR::CompilationInfoPerThread *curCompThreadInfoPT = arrayOfCompInfoPT[i];
+      if (!curCompThreadInfoPT)
+         continue;
+      UDATA index = info->compThreadCount++;
+      info->compThreadStates[index] = curCompThreadInfoPT->getCompilationThreadState();
+      if (curCompThreadInfoPT->getMethodBeingCompiled() && now > curCompThreadInfoPT->getTimeWhenCompStarted())
+         info->compThreadBusyTimes[index] = now - curCompThreadInfoPT->getTimeWhenCompStarted();
+      }
+
+   uint32_t numDurations = _numRecentCompDurations;
+   info->recentDurationCount = numDurations < J9JIT_COMP_QUEUE_RECENT_DURATIONS ? numDurations : J9JIT_COMP_QUEUE_RECENT_DURATIONS;
+   for (UDATA i = 0; i < info->recentDurationCount; i++)
+      info->recentDurations[i] = _recentCompDurations[(numDurations - 1 - i) % J9JIT_COMP_QUEUE_RECENT_DURATIONS];
+
+   uint64_t throttleEndTime = _backgroundCompThrottleEndTime;
+   uint64_t nowMs = (uint64_t)j9time_current_time_millis();
+   if (throttleEndTime > nowMs)
+      info->throttleRemaining = throttleEndTime - nowMs;
+   }
+
 //----------------------------- computeCompThreadSleepTime ----------------------
 // Compute how much the compilation thread should sleep for throttling purposes
 // Parameters: compilationTimeMs is the wall clock time spent by previous
@@ -9452,6 +9547,9 @@ TR::CompilationInfoPerThreadBase::wrappedCompile(J9PortLibrary *portLib, void *
             if (isEDOCompilation)
                sc->addHint(method, TR_HintEDO);
 
+            if (auto warmStartProfile = that->getCompilationInfo()->getPersistentInfo()->getWarmStartProfile())
+               warmStartProfile->recordCompilation(compiler, method, compiler->getMethodHotness());
+
             // There is the possibility that a hot/scorching compilation happened outside
             // startup and with hints we move this expensive compilation during startup
             // thus affecting startup time
@@ -10896,6 +10994,7 @@ void TR::CompilationInfoPerThreadBase::logCompilationSuccess(
          TR::CompilationInfoPerThread *cipt = (TR::CompilationInfoPerThread *)this;
          cipt->setLastCompilationDuration(translationTime / 1000);
          }
+      _compInfo.recordCompilationDuration(translationTime);
 
       uintptr_t gcDataBytes = _jitConfig->lastGCDataAllocSize;
       uintptr_t atlasBytes = _jitConfig->lastExceptionTableAllocSize;
@@ -12219,11 +12318,11 @@ TR_LowPriorityCompQueue::TR_LowPriorityCompQueue()
    : _firstLPQentry(NULL), _lastLPQentry(NULL), _sizeLPQ(0), _LPQWeight(0),
      _trackingEnabled(false), _spine(NULL), _STAT_compReqQueuedByIProfiler(0), _STAT_conflict(0),
      _STAT_staleScrubbed(0), _STAT_bypass(0), _STAT_compReqQueuedByJIT(0), _STAT_LPQcompFromIprofiler(0),
-     _STAT_LPQcompFromInterpreter(0), _STAT_LPQcompUpgrade(0),
+     _STAT_LPQcompFromInterpreter(0), _STAT_LPQcompUpgrade(0), _STAT_LPQcompFromWarmStartProfile(0),
 #if defined(J9VM_OPT_JITSERVER)
       _STAT_compReqQueuedByJITServer(0), _STAT_LPQcompServerUnavailable(0),
 #endif /* defined(J9VM_OPT_JITSERVER) */
-     _STAT_compReqQueuedByInterpreter(0), _STAT_numFailedToEnqueueInLPQ(0)
+     _STAT_compReqQueuedByInterpreter(0), _STAT_compReqQueuedByWarmStartProfile(0), _STAT_numFailedToEnqueueInLPQ(0)
    {
    }
 
@@ -12480,6 +12579,8 @@ void TR_LowPriorityCompQueue::incStatsCompFromLPQ(uint8_t reason)
          _STAT_LPQcompFromInterpreter++; break;
       case TR_MethodToBeCompiled::REASON_UPGRADE:
          _STAT_LPQcompUpgrade++; break;
+      case TR_MethodToBeCompiled::REASON_WARM_START_PROFILE:
+         _STAT_LPQcompFromWarmStartProfile++; break;
 #if defined(J9VM_OPT_JITSERVER)
       case TR_MethodToBeCompiled::REASON_SERVER_UNAVAILABLE:
          _STAT_LPQcompServerUnavailable++; break;
@@ -12498,6 +12599,8 @@ void TR_LowPriorityCompQueue::incStatsReqQueuedToLPQ(uint8_t reason)
          _STAT_compReqQueuedByInterpreter++; break;
       case TR_MethodToBeCompiled::REASON_UPGRADE:
          _STAT_compReqQueuedByJIT++; break;
+      case TR_MethodToBeCompiled::REASON_WARM_START_PROFILE:
+         _STAT_compReqQueuedByWarmStartProfile++; break;
 #if defined(J9VM_OPT_JITSERVER)
       case TR_MethodToBeCompiled::REASON_SERVER_UNAVAILABLE:
          _STAT_compReqQueuedByJITServer++; break;
@@ -12511,19 +12614,19 @@ void TR_LowPriorityCompQueue::printStats() const
    {
    fprintf(stderr, "Stats for LPQ:\n");
 #if defined(J9VM_OPT_JITSERVER)
-   fprintf(stderr, "   Requests for LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u JITServer=%3u)\n",
-      _STAT_compReqQueuedByIProfiler + _STAT_compReqQueuedByInterpreter + _STAT_compReqQueuedByJIT + _STAT_compReqQueuedByJITServer,
-      _STAT_compReqQueuedByIProfiler, _STAT_compReqQueuedByInterpreter, _STAT_compReqQueuedByJIT, _STAT_compReqQueuedByJITServer);
-   fprintf(stderr, "   Comps.  from LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u JITServer=%3u)\n",
-      _STAT_LPQcompFromIprofiler + _STAT_LPQcompFromInterpreter + _STAT_LPQcompUpgrade + _STAT_LPQcompServerUnavailable,
-      _STAT_LPQcompFromIprofiler, _STAT_LPQcompFromInterpreter, _STAT_LPQcompUpgrade, _STAT_LPQcompServerUnavailable);
+   fprintf(stderr, "   Requests for LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u WarmStart=%3u JITServer=%3u)\n",
+      _STAT_compReqQueuedByIProfiler + _STAT_compReqQueuedByInterpreter + _STAT_compReqQueuedByJIT + _STAT_compReqQueuedByWarmStartProfile + _STAT_compReqQueuedByJITServer,
+      _STAT_compReqQueuedByIProfiler, _STAT_compReqQueuedByInterpreter, _STAT_compReqQueuedByJIT, _STAT_compReqQueuedByWarmStartProfile, _STAT_compReqQueuedByJITServer);
+   fprintf(stderr, "   Comps.  from LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u WarmStart=%3u JITServer=%3u)\n",
+      _STAT_LPQcompFromIprofiler + _STAT_LPQcompFromInterpreter + _STAT_LPQcompUpgrade + _STAT_LPQcompFromWarmStartProfile + _STAT_LPQcompServerUnavailable,
+      _STAT_LPQcompFromIprofiler, _STAT_LPQcompFromInterpreter, _STAT_LPQcompUpgrade, _STAT_LPQcompFromWarmStartProfile, _STAT_LPQcompServerUnavailable);
 #else
-   fprintf(stderr, "   Requests for LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u)\n",
-      _STAT_compReqQueuedByIProfiler + _STAT_compReqQueuedByInterpreter + _STAT_compReqQueuedByJIT,
-      _STAT_compReqQueuedByIProfiler, _STAT_compReqQueuedByInterpreter, _STAT_compReqQueuedByJIT);
-   fprintf(stderr, "   Comps.  from LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u)\n",
-      _STAT_LPQcompFromIprofiler + _STAT_LPQcompFromInterpreter + _STAT_LPQcompUpgrade,
-      _STAT_LPQcompFromIprofiler, _STAT_LPQcompFromInterpreter, _STAT_LPQcompUpgrade);
+   fprintf(stderr, "   Requests for LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u WarmStart=%3u)\n",
+      _STAT_compReqQueuedByIProfiler + _STAT_compReqQueuedByInterpreter + _STAT_compReqQueuedByJIT + _STAT_compReqQueuedByWarmStartProfile,
+      _STAT_compReqQueuedByIProfiler, _STAT_compReqQueuedByInterpreter, _STAT_compReqQueuedByJIT, _STAT_compReqQueuedByWarmStartProfile);
+   fprintf(stderr, "   Comps.  from LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u WarmStart=%3u)\n",
+      _STAT_LPQcompFromIprofiler + _STAT_LPQcompFromInterpreter + _STAT_LPQcompUpgrade + _STAT_LPQcompFromWarmStartProfile,
+      _STAT_LPQcompFromIprofiler, _STAT_LPQcompFromInterpreter, _STAT_LPQcompUpgrade, _STAT_LPQcompFromWarmStartProfile);
 #endif /* defined(J9VM_OPT_JITSERVER) */
    fprintf(stderr, "   Conflicts        = %4u (tried to cache j9method that didn't have space)\n", _STAT_conflict);
    fprintf(stderr, "   Stale entries    = %4u\n", _STAT_staleScrubbed); // we want very few of these, hopefully 0
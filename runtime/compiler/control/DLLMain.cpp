@@ -25,6 +25,7 @@
 #include "control/Options.hpp"
 #include "env/ClassLoaderTable.hpp"
 #include "env/DependencyTable.hpp"
+#include "env/WarmStartProfile.hpp"
 #include "env/annotations/AnnotationBase.hpp"
 #include "env/ut_j9jit.h"
 #include "control/CompilationRuntime.hpp"
@@ -514,6 +515,13 @@ IDATA J9VMDllMain(J9JavaVM* vm, IDATA stage, void * reserved)
                   TR_AOTDependencyTable *dependencyTable = new (PERSISTENT_NEW) TR_AOTDependencyTable(sharedCache);
                   persistentInfo->setAOTDependencyTable(dependencyTable);
                   }
+
+               if (TR::Options::_enableWarmStartProfile && isJIT)
+                  {
+                  TR_WarmStartProfile *warmStartProfile = new (PERSISTENT_NEW) TR_WarmStartProfile(sharedCache);
+                  persistentInfo->setWarmStartProfile(warmStartProfile);
+                  warmStartProfile->loadFromSharedCache(vm->internalVMFunctions->currentVMThread(vm));
+                  }
 #endif /* !defined(PERSISTENT_COLLECTIONS_UNSUPPORTED) */
                if (!persistentInfo->getAOTDependencyTable())
                   persistentInfo->setTrackAOTDependencies(false);
@@ -67,6 +67,7 @@
 #include "env/VMAccessCriticalSection.hpp"
 #include "env/VMJ9.h"
 #include "env/VerboseLog.hpp"
+#include "env/WarmStartProfile.hpp"
 #include "il/DataTypes.hpp"
 #include "ilgen/IlGeneratorMethodDetails_inlines.hpp"
 #include "infra/Monitor.hpp"
@@ -4048,6 +4049,9 @@ static void jitHookClassInitialize(J9HookInterface * * hookInterface, UDATA even
    if (auto dependencyTable = compInfo->getPersistentInfo()->getAOTDependencyTable())
       dependencyTable->classLoadEvent((TR_OpaqueClassBlock *)cl, false, true);
 
+   if (auto warmStartProfile = compInfo->getPersistentInfo()->getWarmStartProfile())
+      warmStartProfile->classInitialized(vmThread, compInfo, cl);
+
    loadingClasses = false;
    }
 
@@ -4309,6 +4313,10 @@ void JitShutdown(J9JITConfig * jitConfig)
 
    PORT_ACCESS_FROM_JAVAVM(javaVM);
 
+   // Compilation threads have been stopped, so the warm start profile is final
+   if (auto warmStartProfile = TR::CompilationInfo::get(jitConfig)->getPersistentInfo()->getWarmStartProfile())
+      warmStartProfile->storeInSharedCache(vmThread);
+
    TR::Options *options = TR::Options::getCmdLineOptions();
 #if defined(J9VM_INTERP_PROFILING_BYTECODES)
    TR_ASSERT(jitConfig->privateConfig, "privateConfig must exist if a frontend exists\n");
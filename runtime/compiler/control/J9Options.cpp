@@ -221,6 +221,10 @@ int32_t J9::Options::_minTimeBetweenMemoryDisclaims = 500; // ms
 int32_t J9::Options::_mallocTrimPeriod = 0; // seconds; 0 means disabled
 
 int32_t J9::Options::_numFirstTimeCompilationsToExitIdleMode = 25; // Use a large number to disable the feature
+
+bool J9::Options::_enableWarmStartProfile = false;
+int32_t J9::Options::_warmStartProfileMaxMethods = 4096;
+
 int32_t J9::Options::_waitTimeToEnterIdleMode = 5000; // ms
 int32_t J9::Options::_waitTimeToEnterDeepIdleMode = 50000; // ms
 int32_t J9::Options::_waitTimeToExitStartupMode = DEFAULT_WAIT_TIME_TO_EXIT_STARTUP_MODE; // ms
@@ -976,6 +980,8 @@ TR::OptionTable OMR::Options::_feOptions[] = {
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_disableIProfilerClassUnloadThreshold, 0, "F%d", NOT_IN_SUBSET},
    {"dltPostponeThreshold=",      "M<nnn>\tNumber of dlt attempts inv. count for a method is seen not advancing",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_dltPostponeThreshold, 0, "F%d", NOT_IN_SUBSET },
+   {"enableWarmStartProfile", "M\tRecord the opt levels of compiled methods in the shared class cache and queue them as low priority compilations on the next run",
+        TR::Options::setStaticBool, (intptr_t)&TR::Options::_enableWarmStartProfile, 1, "F%d", NOT_IN_SUBSET},
    {"exclude=",           "D<xxx>\tdo not compile methods beginning with xxx", TR::Options::limitOption, 1, 0, "P%s"},
    {"expensiveCompWeight=", "M<nnn>\tweight of a comp request to be considered expensive",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_expensiveCompWeight, 0, "F%d", NOT_IN_SUBSET },
@@ -1305,6 +1311,8 @@ TR::OptionTable OMR::Options::_feOptions[] = {
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_waitTimeToGCR, 0, "F%d", NOT_IN_SUBSET},
    {"waitTimeToStartIProfiler=",                 "M<nnn>\tTime (ms) spent outside startup needed to start IProfiler if it was off",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_waitTimeToStartIProfiler, 0, "F%d", NOT_IN_SUBSET},
+   {"warmStartProfileMaxMethods=",   "M<nnn>\tMaximum number of methods recorded in the warm start profile",
+        TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_warmStartProfileMaxMethods, 0, "F%d", NOT_IN_SUBSET},
    {"weightOfAOTLoad=",              "M<nnn>\tWeight of an AOT load. 0 by default",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_weightOfAOTLoad, 0, "F%d", NOT_IN_SUBSET},
    {"weightOfJSR292=", "M<nnn>\tWeight of an JSR292 compilation. Number between 0 and 255",
@@ -407,6 +407,9 @@ class OMR_EXTENSIBLE Options : public OMR::OptionsConnector
    static int32_t _TLHPrefetchTLHEndLineCount;
    static int32_t _numFirstTimeCompilationsToExitIdleMode; // use large number to disable the feature
 
+   static bool _enableWarmStartProfile; // persist opt levels of compiled methods in the SCC and replay them on the next run
+   static int32_t _warmStartProfileMaxMethods; // maximum number of methods recorded in the warm start profile
+
 #if defined(J9VM_OPT_JITSERVER)
    static int64_t _oldAge;
    static int64_t _oldAgeUnderLowMemory;
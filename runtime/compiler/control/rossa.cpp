@@ -107,6 +107,7 @@
 #include "runtime/Crypto.hpp"
 #endif
 
+#include "infra/CriticalSection.hpp"
 #include "infra/Monitor.hpp"
 
 #include "j9.h"
@@ -1064,6 +1065,99 @@ compileClasses(J9VMThread * vmThread, const char * pattern)
    }
 
 
+extern "C" void
+getCompilationQueueInfo(J9VMThread * vmThread, J9JITCompilationQueueInfo * info)
+   {
+   TR::CompilationInfo * compInfo = TR::CompilationInfo::get(vmThread->javaVM->jitConfig);
+   OMR::CriticalSection queueInfo(compInfo->getCompilationMonitor());
+   compInfo->fillCompilationQueueInfo(info);
+   }
+
+
+// Queue an asynchronous compilation of method at optLevel (one of J9JIT_COMP_OPT_LEVEL_*).
+// A compiled method is queued for recompilation if its body is recompilable and was
+// compiled at a lower level.
+// Returns 1 if a request was queued, 0 if the method does not need to be compiled at
+// that level and -1 if optLevel is invalid or the request could not be allocated.
+extern "C" IDATA
+queueMethodForCompilation(J9VMThread * vmThread, J9Method * method, UDATA optLevel)
+   {
+   static const TR_Hotness hotnessLevels[] = { cold, warm, hot, veryHot, scorching };
+   J9JITConfig * jitConfig = vmThread->javaVM->jitConfig;
+   TR::CompilationInfo * compInfo = TR::CompilationInfo::get(jitConfig);
+   if (!compInfo || optLevel >= sizeof(hotnessLevels) / sizeof(hotnessLevels[0]))
+      return -1;
+   if (compInfo->getPersistentInfo()->getDisableFurtherCompilation())
+      return 0;
+
+   TR_J9VMBase * fe = TR_J9VMBase::get(jitConfig, vmThread);
+   TR_Hotness hotness = hotnessLevels[optLevel];
+   IDATA rc = 0;
+
+   // To prevent class unloading we need VM access
+   bool threadHadNoVMAccess = (!(vmThread->publicFlags & J9_PUBLIC_FLAGS_VM_ACCESS));
+   if (threadHadNoVMAccess)
+      acquireVMAccess(vmThread);
+
+   J9ROMMethod * romMethod = J9_ROM_METHOD_FROM_RAM_METHOD(method);
+   if (!(romMethod->modifiers & (J9AccNative | J9AccAbstract))
+      && !fe->isThunkArchetype(method))
+      {
+      void * startPC = NULL;
+      TR_PersistentJittedBodyInfo * bodyInfo = NULL;
+      bool needsCompilation = true;
+      if (TR::CompilationInfo::isCompiled(method))
+         {
+         startPC = TR::CompilationInfo::getJ9MethodStartPC(method);
+         bodyInfo = TR::Recompilation::getJittedBodyInfoFromPC(startPC);
+         needsCompilation = bodyInfo && (bodyInfo->getHotness() < hotness);
+         }
+
+      if (needsCompilation)
+         {
+         TR_OptimizationPlan * plan = TR_OptimizationPlan::alloc(hotness);
+         if (plan)
+            {
+            bool queued = false;
+            plan->setIsExplicitCompilation(true);
+            if (bodyInfo)
+               {
+               bodyInfo->getMethodInfo()->setReasonForRecompilation(TR_PersistentMethodInfo::RecompDueToOptLevelUpgrade);
+               TR::Recompilation::induceRecompilation(fe, startPC, &queued, plan);
+               }
+            else
+               { // scope for details
+               TR::IlGeneratorMethodDetails details(method);
+               compInfo->compileMethod(vmThread, details, 0, TR_yes, NULL, &queued, plan);
+               }
+
+            if (queued)
+               rc = 1;
+            else
+               TR_OptimizationPlan::freeOptimizationPlan(plan);
+            }
+         else // No memory to create an optimizationPlan
+            {
+            rc = -1;
+            }
+         }
+      }
+
+   if (threadHadNoVMAccess)
+      releaseVMAccess(vmThread);
+
+   return rc;
+   }
+
+
+extern "C" void
+throttleBackgroundCompilations(J9VMThread * vmThread, UDATA durationMillis)
+   {
+   TR::CompilationInfo * compInfo = TR::CompilationInfo::get(vmThread->javaVM->jitConfig);
+   compInfo->throttleBackgroundCompilations(durationMillis);
+   }
+
+
 // -----------------------------------------------------------------------------
 // JIT initialization
 // -----------------------------------------------------------------------------
@@ -1142,6 +1236,9 @@ onLoadInternal(
    jitConfig->enableJit = enableJit;
    jitConfig->compileClass = compileClass;
    jitConfig->compileClasses = compileClasses;
+   jitConfig->getCompilationQueueInfo = getCompilationQueueInfo;
+   jitConfig->queueMethodForCompilation = queueMethodForCompilation;
+   jitConfig->throttleBackgroundCompilations = throttleBackgroundCompilations;
 #ifdef ENABLE_GPU
    jitConfig->launchGPU = launchGPU;
 #endif
@@ -43,6 +43,7 @@ class TR_PersistentMemory;
 class TR_PersistentCHTable;
 class TR_PersistentClassLoaderTable;
 class TR_AOTDependencyTable;
+class TR_WarmStartProfile;
 class TR_MHJ2IThunkTable;
 namespace J9 { class Options; }
 
@@ -161,6 +162,7 @@ class PersistentInfo : public OMR::PersistentInfoConnector
          _runtimeInstrumentationEnabled(false),
          _runtimeInstrumentationRecompilationEnabled(false),
          _aotDependencyTable(NULL),
+         _warmStartProfile(NULL),
          _trackAOTDependencies(false),
 #if defined(J9VM_OPT_JITSERVER)
          _JITServerAddress("localhost"),
@@ -192,6 +194,9 @@ class PersistentInfo : public OMR::PersistentInfoConnector
    void setAOTDependencyTable(TR_AOTDependencyTable *table) { _aotDependencyTable = table; }
    TR_AOTDependencyTable *getAOTDependencyTable() const { return _aotDependencyTable; }
 
+   void setWarmStartProfile(TR_WarmStartProfile *profile) { _warmStartProfile = profile; }
+   TR_WarmStartProfile *getWarmStartProfile() const { return _warmStartProfile; }
+
    TR_OpaqueClassBlock **getVisitedSuperClasses() { return _visitedSuperClasses; }
    void clearVisitedSuperClasses() { _tooManySuperClasses = false; _numVisitedSuperClasses = 0; }
    void setVisitedSuperClasses(TR_OpaqueClassBlock **v) { _visitedSuperClasses = v; }
@@ -408,6 +413,8 @@ class PersistentInfo : public OMR::PersistentInfoConnector
 
    TR_AOTDependencyTable *_aotDependencyTable;
 
+   TR_WarmStartProfile *_warmStartProfile;
+
    // these fields are RW
 
    TR_OpaqueClassBlock **_visitedSuperClasses;
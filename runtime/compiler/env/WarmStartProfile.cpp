@@ -0,0 +1,429 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include <string.h>
+#include <stdio.h>
+#include "compile/Compilation.hpp"
+#include "control/CompilationRuntime.hpp"
+#include "control/Options.hpp"
+#include "env/CompilerEnv.hpp"
+#include "env/J9SharedCache.hpp"
+#include "env/VMJ9.h"
+#include "env/VerboseLog.hpp"
+#include "env/WarmStartProfile.hpp"
+#include "infra/CriticalSection.hpp"
+#include "infra/Monitor.hpp"
+
+#if !defined(PERSISTENT_COLLECTIONS_UNSUPPORTED)
+
+const char * const TR_WarmStartProfile::SCC_KEY = "J9JITWarmStartProfile";
+
+// Each segment starts with (version, number of methods). Each recorded method
+// is serialized as (ROM method offset, opt level, number of inlined sites)
+// followed by the inlined site triples
+static const uintptr_t SEGMENT_HEADER_WORDS = 2;
+static const uintptr_t METHOD_RECORD_WORDS = 3;
+static const uintptr_t INLINED_SITE_WORDS = 3;
+
+// Large enough for SCC_KEY followed by a segment index
+static const size_t SEGMENT_KEY_LENGTH = 32;
+
+static size_t
+segmentKey(char *buffer, uint32_t segment)
+   {
+   return (size_t)snprintf(buffer, SEGMENT_KEY_LENGTH, "%s%u", TR_WarmStartProfile::SCC_KEY, segment);
+   }
+
+// Whether a previous run persisted IProfiler data for romMethod, without which
+// a compilation above warm would have nothing to base its decisions on
+static bool
+hasPersistedProfilingData(J9VMThread *vmThread, J9ROMMethod *romMethod)
+   {
+#if defined(J9VM_OPT_SHARED_CLASSES)
+   J9SharedClassConfig *scConfig = vmThread->javaVM->sharedClassConfig;
+   if (!scConfig || TR::Options::getCmdLineOptions()->getOption(TR_DisablePersistIProfile))
+      return false;
+
+   unsigned char buffer[1000];
+   J9SharedDataDescriptor descriptor;
+   descriptor.address = buffer;
+   descriptor.length = sizeof(buffer);
+   descriptor.type = J9SHR_ATTACHED_DATA_TYPE_JITPROFILE;
+   descriptor.flags = J9SHR_ATTACHED_DATA_NO_FLAGS;
+   IDATA dataIsCorrupt;
+   const U_8 *found = scConfig->findAttachedData(vmThread, romMethod, &descriptor, &dataIsCorrupt);
+   // A stronger check than NULL, as found can be an error value
+   return found == descriptor.address;
+#else
+   return false;
+#endif /* defined(J9VM_OPT_SHARED_CLASSES) */
+   }
+
+TR_WarmStartProfile::TR_WarmStartProfile(TR_J9SharedCache *sharedCache) :
+   _isActive(true),
+   _numUnstoredMethods(0),
+   _numSegments(0),
+   _sharedCache(sharedCache),
+   _monitor(TR::Monitor::create("JIT-WarmStartProfileMonitor")),
+   _profiledMethods(decltype(_profiledMethods)::allocator_type(TR::Compiler->persistentAllocator())),
+   _profiledInlinedSites(decltype(_profiledInlinedSites)::allocator_type(TR::Compiler->persistentAllocator())),
+   _recordedMethods(decltype(_recordedMethods)::allocator_type(TR::Compiler->persistentAllocator()))
+   { }
+
+void
+TR_WarmStartProfile::loadFromSharedCache(J9VMThread *vmThread)
+   {
+#if defined(J9VM_OPT_SHARED_CLASSES)
+   OMR::CriticalSection cs(_monitor);
+   if (!isActive())
+      return;
+
+   uintptr_t numMethods = 0;
+   try
+      {
+      // Segments are stored in order, each holding the methods recorded or
+      // upgraded by one run, so a later record of a method supersedes an earlier one
+      for (; _numSegments < MAX_SEGMENTS; ++_numSegments)
+         {
+         char key[SEGMENT_KEY_LENGTH];
+         size_t keyLength = segmentKey(key, _numSegments);
+         J9SharedDataDescriptor dataDescriptor;
+         dataDescriptor.address = NULL;
+         _sharedCache->sharedCacheConfig()->findSharedData(vmThread, key, keyLength, J9SHR_DATA_TYPE_JITHINT, FALSE, &dataDescriptor, NULL);
+         if (!dataDescriptor.address)
+            break;
+
+         const uintptr_t *cursor = (const uintptr_t *)dataDescriptor.address;
+         const uintptr_t *end = cursor + dataDescriptor.length / sizeof(uintptr_t);
+         if (((uintptr_t)(end - cursor) < SEGMENT_HEADER_WORDS) || (cursor[0] != SCC_VERSION))
+            continue;
+
+         uintptr_t numSegmentMethods = cursor[1];
+         cursor += SEGMENT_HEADER_WORDS;
+         for (uintptr_t i = 0; i < numSegmentMethods; ++i)
+            {
+            if ((uintptr_t)(end - cursor) < METHOD_RECORD_WORDS)
+               break;
+
+            uintptr_t romMethodOffset = cursor[0];
+            TR_Hotness optLevel = (TR_Hotness)cursor[1];
+            uintptr_t numInlinedSites = cursor[2];
+            cursor += METHOD_RECORD_WORDS;
+
+            // Stop at a truncated record rather than reading past the blob
+            if ((uintptr_t)(end - cursor) < numInlinedSites * INLINED_SITE_WORDS)
+               break;
+
+            J9ROMMethod *romMethod = NULL;
+            if ((optLevel >= warm) && (optLevel <= scorching) &&
+                _sharedCache->isROMMethodOffsetInSharedCache(romMethodOffset, &romMethod))
+               {
+               numMethods++;
+               _profiledMethods[romMethod] = optLevel;
+               loadInlinedSites(romMethod, cursor, numInlinedSites);
+
+               auto it = _recordedMethods.find(romMethodOffset);
+               if (it == _recordedMethods.end())
+                  it = _recordedMethods.insert({romMethodOffset, RecordedMethod(optLevel, TR::Compiler->persistentAllocator())}).first;
+               it->second._optLevel = optLevel;
+               it->second._isStored = true;
+               it->second._inlinedSites.assign(cursor, cursor + numInlinedSites * INLINED_SITE_WORDS);
+               }
+            cursor += numInlinedSites * INLINED_SITE_WORDS;
+            }
+         }
+      }
+   catch (std::exception&)
+      {
+      // Nobody reads _profiledMethods before the load is complete
+      _profiledMethods.clear();
+      _profiledInlinedSites.clear();
+      deactivate();
+      return;
+      }
+
+   if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseSCHints))
+      TR_VerboseLog::writeLineLocked(TR_Vlog_SCHINTS, "Warm start profile: loaded %lu methods from %u segments in the SCC",
+                                     (unsigned long)_profiledMethods.size(), _numSegments);
+#endif /* defined(J9VM_OPT_SHARED_CLASSES) */
+   }
+
+void
+TR_WarmStartProfile::loadInlinedSites(J9ROMMethod *romMethod, const uintptr_t *sites, uintptr_t numSites)
+   {
+   auto it = _profiledInlinedSites.find(romMethod);
+   if (it == _profiledInlinedSites.end())
+      it = _profiledInlinedSites.insert({romMethod, PersistentVector<uintptr_t>(PersistentVectorAllocator<uintptr_t>(TR::Compiler->persistentAllocator()))}).first;
+   PersistentVector<uintptr_t> &edges = it->second;
+   edges.clear();
+
+   // The caller of an inlined site is the method compiled, or the method inlined
+   // at the site given by the caller index, which always precedes its callees
+   for (uintptr_t i = 0; i < numSites; ++i)
+      {
+      uintptr_t calleeOffset = sites[i * INLINED_SITE_WORDS];
+      intptr_t callerIndex = (intptr_t)sites[i * INLINED_SITE_WORDS + 1];
+      uintptr_t byteCodeIndex = sites[i * INLINED_SITE_WORDS + 2];
+
+      J9ROMMethod *caller = romMethod;
+      if (callerIndex >= 0)
+         {
+         caller = NULL;
+         if ((uintptr_t)callerIndex < i)
+            _sharedCache->isROMMethodOffsetInSharedCache(sites[callerIndex * INLINED_SITE_WORDS], &caller);
+         }
+      J9ROMMethod *callee = NULL;
+      if (caller && _sharedCache->isROMMethodOffsetInSharedCache(calleeOffset, &callee))
+         {
+         edges.push_back((uintptr_t)caller);
+         edges.push_back(byteCodeIndex);
+         edges.push_back((uintptr_t)callee);
+         }
+      }
+   }
+
+bool
+TR_WarmStartProfile::wasInlined(J9ROMMethod *method, J9ROMMethod *caller, int32_t byteCodeIndex, J9ROMMethod *callee) const
+   {
+   auto it = _profiledInlinedSites.find(method);
+   if (it == _profiledInlinedSites.end())
+      return false;
+
+   const PersistentVector<uintptr_t> &edges = it->second;
+   for (size_t i = 0; i + INLINED_SITE_WORDS <= edges.size(); i += INLINED_SITE_WORDS)
+      {
+      if ((edges[i] == (uintptr_t)caller) &&
+          (edges[i + 1] == (uintptr_t)byteCodeIndex) &&
+          (edges[i + 2] == (uintptr_t)callee))
+         return true;
+      }
+   return false;
+   }
+
+void
+TR_WarmStartProfile::recordCompilation(TR::Compilation *comp, J9Method *method, TR_Hotness optLevel)
+   {
+   // Cold compilations are cheap and are triggered soon enough by invocation
+   // counts; there is nothing to gain from replaying them
+   if ((optLevel < warm) || (optLevel > scorching))
+      return;
+
+   uintptr_t romMethodOffset = TR_SharedCache::INVALID_ROM_METHOD_OFFSET;
+   if (!_sharedCache->isROMMethodInSharedCache(J9_ROM_METHOD_FROM_RAM_METHOD(method), &romMethodOffset))
+      return;
+
+   TR_J9VMBase *fej9 = comp->fej9();
+
+   OMR::CriticalSection cs(_monitor);
+   if (!isActive())
+      return;
+
+   try
+      {
+      auto it = _recordedMethods.find(romMethodOffset);
+      bool isNewMethod = (it == _recordedMethods.end());
+      if (isNewMethod)
+         {
+         if (_recordedMethods.size() >= (size_t)TR::Options::_warmStartProfileMaxMethods)
+            return;
+         it = _recordedMethods.insert({romMethodOffset, RecordedMethod(optLevel, TR::Compiler->persistentAllocator())}).first;
+         }
+      else if (optLevel <= it->second._optLevel)
+         {
+         // Only the highest opt level reached by a method is kept
+         return;
+         }
+
+      RecordedMethod &recordedMethod = it->second;
+      // The method goes into the next segment, unless it is already waiting for it
+      if (isNewMethod || recordedMethod._isStored)
+         _numUnstoredMethods++;
+      recordedMethod._isStored = false;
+      recordedMethod._optLevel = optLevel;
+      recordedMethod._inlinedSites.clear();
+      for (uint32_t i = 0; i < comp->getNumInlinedCallSites(); ++i)
+         {
+         TR_InlinedCallSite &ics = comp->getInlinedCallSite(i);
+         J9Method *inlinedMethod = (J9Method *)fej9->getInlinedCallSiteMethod(&ics);
+         uintptr_t inlinedOffset = TR_SharedCache::INVALID_ROM_METHOD_OFFSET;
+         if (!_sharedCache->isROMMethodInSharedCache(J9_ROM_METHOD_FROM_RAM_METHOD(inlinedMethod), &inlinedOffset))
+            inlinedOffset = TR_SharedCache::INVALID_ROM_METHOD_OFFSET;
+
+         recordedMethod._inlinedSites.push_back(inlinedOffset);
+         recordedMethod._inlinedSites.push_back((uintptr_t)(intptr_t)ics._byteCodeInfo.getCallerIndex());
+         recordedMethod._inlinedSites.push_back((uintptr_t)ics._byteCodeInfo.getByteCodeIndex());
+         }
+      }
+   catch (std::exception&)
+      {
+      deactivate();
+      }
+   }
+
+void
+TR_WarmStartProfile::storeInSharedCache(J9VMThread *vmThread)
+   {
+   OMR::CriticalSection cs(_monitor);
+   if (!isActive() || (_numUnstoredMethods == 0))
+      return;
+
+   try
+      {
+      // Only the methods recorded or upgraded since the last store are written,
+      // so the segments already in the SCC are never rewritten
+      PersistentVector<uintptr_t> data(PersistentVectorAllocator<uintptr_t>(TR::Compiler->persistentAllocator()));
+      data.reserve(SEGMENT_HEADER_WORDS + _numUnstoredMethods * METHOD_RECORD_WORDS);
+      data.push_back(SCC_VERSION);
+      data.push_back(_numUnstoredMethods);
+      for (const auto &entry : _recordedMethods)
+         {
+         const RecordedMethod &recordedMethod = entry.second;
+         if (recordedMethod._isStored)
+            continue;
+         data.push_back(entry.first);
+         data.push_back((uintptr_t)recordedMethod._optLevel);
+         data.push_back(recordedMethod._inlinedSites.size() / INLINED_SITE_WORDS);
+         data.insert(data.end(), recordedMethod._inlinedSites.begin(), recordedMethod._inlinedSites.end());
+         }
+
+      J9SharedDataDescriptor dataDescriptor;
+      dataDescriptor.address = (U_8 *)data.data();
+      dataDescriptor.length = data.size() * sizeof(uintptr_t);
+      dataDescriptor.type = J9SHR_DATA_TYPE_JITHINT;
+      dataDescriptor.flags = J9SHRDATA_SINGLE_STORE_FOR_KEY_TYPE;
+
+      // Another JVM sharing the cache may have stored the next segment first; a
+      // single store for the key then returns its data, and the next index is tried
+      bool stored = false;
+      uint32_t segment = _numSegments;
+      while (segment < MAX_SEGMENTS)
+         {
+         char key[SEGMENT_KEY_LENGTH];
+         size_t keyLength = segmentKey(key, segment);
+         const void *storedData = _sharedCache->storeSharedData(vmThread, key, &dataDescriptor);
+         if (!storedData)
+            break;
+
+         // The returned data carries no length, so look the segment up to compare it with ours
+         J9SharedDataDescriptor foundDescriptor;
+         foundDescriptor.address = NULL;
+         _sharedCache->sharedCacheConfig()->findSharedData(vmThread, key, keyLength, J9SHR_DATA_TYPE_JITHINT, FALSE, &foundDescriptor, NULL);
+         if ((foundDescriptor.address == storedData) &&
+             (foundDescriptor.length == dataDescriptor.length) &&
+             (0 == memcmp(storedData, dataDescriptor.address, dataDescriptor.length)))
+            {
+            stored = true;
+            break;
+            }
+         segment++;
+         }
+
+      if (stored)
+         {
+         for (auto &entry : _recordedMethods)
+            entry.second._isStored = true;
+         _numSegments = segment + 1;
+         }
+
+      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseSCHints))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_SCHINTS, "Warm start profile: %s %u new methods (%lu bytes) in segment %u of the SCC",
+                                        stored ? "stored" : "failed to store",
+                                        _numUnstoredMethods, (unsigned long)dataDescriptor.length, segment);
+      if (stored)
+         _numUnstoredMethods = 0;
+      }
+   catch (std::exception&)
+      {
+      deactivate();
+      }
+   }
+
+void
+TR_WarmStartProfile::classInitialized(J9VMThread *vmThread, TR::CompilationInfo *compInfo, J9Class *clazz)
+   {
+   if (_profiledMethods.empty())
+      return;
+
+   J9ROMClass *romClass = clazz->romClass;
+   J9Method *ramMethods = clazz->ramMethods;
+   bool haveCompMonitor = false;
+   uint32_t numQueued = 0;
+   uint32_t numCapped = 0;
+
+   for (uint32_t i = 0; i < romClass->romMethodCount; ++i)
+      {
+      J9Method *method = ramMethods + i;
+      J9ROMMethod *romMethod = J9_ROM_METHOD_FROM_RAM_METHOD(method);
+      auto it = _profiledMethods.find(romMethod);
+      if (it == _profiledMethods.end())
+         continue;
+
+      if ((romMethod->modifiers & (J9AccNative | J9AccAbstract)) || TR::CompilationInfo::isCompiled(method))
+         continue;
+
+      TR_Hotness optLevel = it->second;
+      bool capped = false;
+      if ((optLevel > warm) && !hasPersistedProfilingData(vmThread, romMethod))
+         {
+         optLevel = warm;
+         capped = true;
+         }
+
+      if (!haveCompMonitor)
+         {
+         compInfo->getCompilationMonitor()->enter();
+         haveCompMonitor = true;
+         }
+
+      if (compInfo->getLowPriorityCompQueue().addFirstTimeCompReqToLPQ(method, TR_MethodToBeCompiled::REASON_WARM_START_PROFILE, optLevel))
+         {
+         numQueued++;
+         if (capped)
+            numCapped++;
+         }
+      }
+
+   if (haveCompMonitor)
+      {
+      // Wake up a sleeping compilation thread to look at the LPQ
+      if (numQueued > 0 && compInfo->getNumCompThreadsJobless() > 0)
+         compInfo->getCompilationMonitor()->notifyAll();
+      compInfo->getCompilationMonitor()->exit();
+      }
+
+   if (numQueued > 0 && TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseSCHints))
+      {
+      J9UTF8 *className = J9ROMCLASS_CLASSNAME(romClass);
+      TR_VerboseLog::writeLineLocked(TR_Vlog_SCHINTS, "Warm start profile: queued %u methods of %.*s to the LPQ, %u capped at warm without profiling data",
+                                     numQueued, J9UTF8_LENGTH(className), (const char *)J9UTF8_DATA(className), numCapped);
+      }
+   }
+
+void
+TR_WarmStartProfile::deactivate()
+   {
+   _recordedMethods.clear();
+   _numUnstoredMethods = 0;
+   _isActive = false;
+   }
+
+#endif /* !defined(PERSISTENT_COLLECTIONS_UNSUPPORTED) */
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#ifndef WARMSTARTPROFILE_INCL
+#define WARMSTARTPROFILE_INCL
+
+#include "j9.h"
+#include "compile/CompilationTypes.hpp"
+#include "env/PersistentCollections.hpp"
+#include "env/TRMemory.hpp"
+
+namespace TR { class Compilation; }
+namespace TR { class CompilationInfo; }
+namespace TR { class Monitor; }
+class TR_J9SharedCache;
+
+#if defined(PERSISTENT_COLLECTIONS_UNSUPPORTED)
+
+class TR_WarmStartProfile
+   {
+public:
+   void loadFromSharedCache(J9VMThread *vmThread) {}
+   void recordCompilation(TR::Compilation *comp, J9Method *method, TR_Hotness optLevel) {}
+   void storeInSharedCache(J9VMThread *vmThread) {}
+   void classInitialized(J9VMThread *vmThread, TR::CompilationInfo *compInfo, J9Class *clazz) {}
+   bool wasInlined(J9ROMMethod *method, J9ROMMethod *caller, int32_t byteCodeIndex, J9ROMMethod *callee) const { return false; }
+   };
+
+#else
+
+/**
+ * \brief JIT warm-start profile persisted in the shared class cache
+ *
+ * While the JVM runs, the profile records the highest optimization level each
+ * method was compiled at, together with the inlining tree of that compilation.
+ * At shutdown (or checkpoint) the methods recorded or upgraded since the
+ * profile was last stored are serialized into a new JIT hint blob in the SCC;
+ * the profile is the sequence of these segments. Methods are identified by
+ * the SCC offset of their ROM method, so the profile stays valid across runs
+ * that share the cache.
+ *
+ * On the next run the stored profile is loaded at startup. When a class is
+ * initialized, every method with a recorded opt level of warm or above is
+ * queued in the low priority compilation queue. Without persisted IProfiler
+ * data for the method a compilation above warm would be done blind, so the
+ * method is queued at warm and left to the usual recompilation mechanisms.
+ * While a profiled method is compiled, the inliner consults the recorded
+ * inlining tree (see wasInlined()) to inline the same call sites again.
+ *
+ * Methods restored from the stored profile are carried over into the newly
+ * recorded profile, so the profile accumulates over successive runs.
+ *
+ * Public methods catch allocation failures and deactivate the profile.
+ */
+class TR_WarmStartProfile
+   {
+public:
+   TR_PERSISTENT_ALLOC(TR_Memory::PersistentInfo)
+   TR_WarmStartProfile(TR_J9SharedCache *sharedCache);
+
+   // Load the profile stored in the SCC by a previous run. Must be called
+   // once, before any Java code runs.
+   void loadFromSharedCache(J9VMThread *vmThread);
+
+   // Record a successful compilation of method at optLevel. Called by
+   // compilation threads after the compiled body has been produced.
+   void recordCompilation(TR::Compilation *comp, J9Method *method, TR_Hotness optLevel);
+
+   // Serialize the recorded profile into the SCC. Called at JIT shutdown and
+   // before a checkpoint is taken.
+   void storeInSharedCache(J9VMThread *vmThread);
+
+   // Queue low priority compilations for the profiled methods of clazz.
+   // Must be called without the compilation monitor in hand.
+   void classInitialized(J9VMThread *vmThread, TR::CompilationInfo *compInfo, J9Class *clazz);
+
+   // Whether the stored profile of method records callee as inlined into
+   // caller at byteCodeIndex. Can be called without the monitor.
+   bool wasInlined(J9ROMMethod *method, J9ROMMethod *caller, int32_t byteCodeIndex, J9ROMMethod *callee) const;
+
+   // Segment i of the profile is stored under SCC_KEY followed by i
+   static const char * const SCC_KEY;
+   static const uintptr_t SCC_VERSION = 2;
+   static const uint32_t MAX_SEGMENTS = 64;
+
+private:
+   struct RecordedMethod
+      {
+      RecordedMethod(TR_Hotness optLevel, TR::PersistentAllocator &allocator) :
+         _optLevel(optLevel),
+         _isStored(false),
+         _inlinedSites(PersistentVectorAllocator<uintptr_t>(allocator))
+         { }
+
+      TR_Hotness _optLevel;
+      // Set once the method at this opt level is part of a stored segment
+      bool _isStored;
+      // Flattened (ROM method offset, caller index, bytecode index) triples,
+      // one per inlined call site of the recorded compilation
+      PersistentVector<uintptr_t> _inlinedSites;
+      };
+
+   bool isActive() const { return _isActive; }
+
+   // Add the inlining tree of a stored method to _profiledInlinedSites
+   void loadInlinedSites(J9ROMMethod *romMethod, const uintptr_t *sites, uintptr_t numSites);
+
+   // Deallocate the internal structures and mark the profile as inactive.
+   // Must be called with the _monitor in hand.
+   void deactivate();
+
+   bool _isActive;
+   // Number of methods recorded or upgraded since the profile was last stored
+   uint32_t _numUnstoredMethods;
+   // Number of segments of the profile in the SCC, which is also the index of
+   // the next segment to store
+   uint32_t _numSegments;
+
+   TR_J9SharedCache *_sharedCache;
+   TR::Monitor *const _monitor;
+
+   // Opt levels restored from the stored profile, keyed by ROM method. Only
+   // written by loadFromSharedCache(), so it can be read without the monitor.
+   PersistentUnorderedMap<J9ROMMethod *, TR_Hotness> _profiledMethods;
+
+   // Inlining trees restored from the stored profile, as flattened (caller ROM
+   // method, bytecode index, callee ROM method) triples keyed by the ROM method
+   // compiled. Only written by loadFromSharedCache().
+   PersistentUnorderedMap<J9ROMMethod *, PersistentVector<uintptr_t> > _profiledInlinedSites;
+
+   // Profile recorded in this run, keyed by ROM method offset in the SCC
+   PersistentUnorderedMap<uintptr_t, RecordedMethod> _recordedMethods;
+   };
+
+#endif /* defined(PERSISTENT_COLLECTIONS_UNSUPPORTED) */
+#endif
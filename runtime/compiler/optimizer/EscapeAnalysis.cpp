@@ -1708,11 +1708,7 @@ void TR_EscapeAnalysis::findCandidates()
       // Found a "new" opcode. See if it is a candidate for local allocation.
       //
       //
-      bool inAColdBlock = false;
-      if (_curBlock->isCold() ||
-          _curBlock->isCatchBlock() ||
-         (_curBlock->getFrequency() == (MAX_COLD_BLOCK_COUNT+1)))
-         inAColdBlock = true;
+      bool inAColdBlock = isColdBlock(_curBlock);
 
       if (trace())
          {
@@ -1980,6 +1976,38 @@ Candidate *TR_EscapeAnalysis::createCandidateIfValid(TR::Node *node, TR_OpaqueCl
 
 
 
+/**
+ * A block is cold for the purposes of escape analysis if it is marked cold, is a catch block,
+ * has the frequency given to cold blocks, or ends by throwing an exception.  A candidate that
+ * escapes only in cold blocks can still be allocated locally: it is heapified on entry to
+ * each cold block in which it escapes (see heapifyForColdBlocks).  Treating throwing blocks
+ * as cold lets objects that only escape into an exception being constructed and thrown, such
+ * as a value object passed to the exception's constructor, be allocated locally on the paths
+ * that do not throw.
+ */
+bool TR_EscapeAnalysis::isColdBlock(TR::Block *block)
+   {
+   if (block->isCold() ||
+       block->isCatchBlock() ||
+       //(block->getHotness(comp()->getFlowGraph()) == deadCold) ||
+       (block->getFrequency() == (MAX_COLD_BLOCK_COUNT+1)))
+      return true;
+
+   static const char *disableThrowColdEscape = feGetEnv("TR_DisableThrowColdEscape");
+   if (disableThrowColdEscape)
+      return false;
+
+   TR::TreeTop *lastTree = block->getLastRealTreeTop();
+   if (!lastTree)
+      return false;
+
+   TR::Node *lastNode = lastTree->getNode();
+   if (lastNode->getOpCode().isCheck() || lastNode->getOpCodeValue() == TR::treetop)
+      lastNode = lastNode->getFirstChild();
+
+   return lastNode->getOpCodeValue() == TR::athrow;
+   }
+
 bool TR_EscapeAnalysis::isEscapePointCold(Candidate *candidate, TR::Node *node)
    {
    static const char *disableColdEsc = feGetEnv("TR_DisableColdEscape");
@@ -4065,10 +4093,7 @@ void TR_EscapeAnalysis::checkEscape(TR::TreeTop *firstTree, bool isCold, bool &
             _inColdBlock = false;
             if (!_parms)
                _curBlock = node->getBlock();
-            if (((_curBlock->isCold() ||
-                  _curBlock->isCatchBlock() ||
-                  //(_curBlock->getHotness(comp()->getFlowGraph()) == deadCold)) &&
-                  (_curBlock->getFrequency() == (MAX_COLD_BLOCK_COUNT+1))) &&
+            if ((isColdBlock(_curBlock) &&
                  !_parms) ||
                 isCold)
                _inColdBlock = true;
@@ -4097,10 +4122,7 @@ void TR_EscapeAnalysis::checkEscape(TR::TreeTop *firstTree, bool isCold, bool &
             _inColdBlock = false;
             if (!_parms)
                 _curBlock = node->getBlock();
-            if ((_curBlock->isCold() ||
-                 _curBlock->isCatchBlock() ||
-                 //(_curBlock->getHotness(comp()->getFlowGraph()) == deadCold)) &&
-                (_curBlock->getFrequency() == (MAX_COLD_BLOCK_COUNT+1))) &&
+            if (isColdBlock(_curBlock) &&
                 !_parms)
                 _inColdBlock = true;
             }
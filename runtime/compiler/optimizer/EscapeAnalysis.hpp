@@ -611,6 +611,7 @@ class TR_EscapeAnalysis : public TR::Optimization
    bool     checkUse(TR::Node *node, TR::Node *useNode, TR::NodeChecklist& visited);
    bool     checkIfUseIsInSameLoopAsDef(TR::TreeTop *defTree, TR::Node *useNode);
 
+   bool     isColdBlock(TR::Block *block);
    bool     isEscapePointCold(Candidate *candidate, TR::Node *node);
    bool     checkIfEscapePointIsCold(Candidate *candidate, TR::Node *node);
    void     forceEscape(TR::Node *node, TR::Node *reason, bool forceFail = false);
@@ -35,6 +35,7 @@
 #include "env/CHTable.hpp"
 #include "env/PersistentCHTable.hpp"
 #include "env/VMJ9.h"
+#include "env/WarmStartProfile.hpp"
 #include "env/jittypes.h"
 #include "il/Block.hpp"
 #include "il/Node.hpp"
@@ -2897,6 +2898,30 @@ TR_J9InlinerPolicy::isInlineableJNI(TR_ResolvedMethod *method,TR::Node *callNode
    return false;
    }
 
+// Whether the compilation of the method being compiled that was recorded in the
+// warm start profile inlined the call target at the same call site
+bool
+TR_J9InlinerPolicy::wasInlinedInWarmStartProfile(TR_CallTarget *calltarget)
+   {
+   TR_WarmStartProfile *warmStartProfile = comp()->getPersistentInfo()->getWarmStartProfile();
+   if (!warmStartProfile)
+      return false;
+#if defined(J9VM_OPT_JITSERVER)
+   // The profile holds client ROM methods, which the server cannot look up
+   if (comp()->isOutOfProcessCompilation())
+      return false;
+#endif /* defined(J9VM_OPT_JITSERVER) */
+
+   TR_CallSite *callsite = calltarget->_myCallSite;
+   if (!callsite || !callsite->_callerResolvedMethod || !calltarget->_calleeMethod)
+      return false;
+
+   J9ROMMethod *method = J9_ROM_METHOD_FROM_RAM_METHOD((J9Method *)comp()->getMethodBeingCompiled()->getPersistentIdentifier());
+   J9ROMMethod *caller = J9_ROM_METHOD_FROM_RAM_METHOD((J9Method *)callsite->_callerResolvedMethod->getPersistentIdentifier());
+   J9ROMMethod *callee = J9_ROM_METHOD_FROM_RAM_METHOD((J9Method *)calltarget->_calleeMethod->getPersistentIdentifier());
+   return warmStartProfile->wasInlined(method, caller, callsite->_bcInfo.getByteCodeIndex(), callee);
+   }
+
 //first check J9 specific tryToInline methods and then general tryToInline methods
 bool
 TR_J9InlinerPolicy::tryToInline(TR_CallTarget * calltarget, TR_CallStack * callStack, bool toInline)
@@ -2929,6 +2954,13 @@ TR_J9InlinerPolicy::tryToInline(TR_CallTarget * calltarget, TR_CallStack * callS
             traceMsg(comp(), "@IntrisicCandidate was specified for %s, in tryToInline\n", method->signature(comp()->trMemory()));
          return true;
          }
+
+      if (wasInlinedInWarmStartProfile(calltarget))
+         {
+         if (comp()->trace(OMR::inlining))
+            traceMsg(comp(), "%s was inlined at this call site by the compilation recorded in the warm start profile, in tryToInline\n", method->signature(comp()->trMemory()));
+         return true;
+         }
       }
    else
       {
@@ -212,6 +212,7 @@ class TR_J9InlinerPolicy : public OMR_InlinerPolicy
       virtual void determineAggressionInLoops(TR::ResolvedMethodSymbol *callerSymbol);
       virtual int32_t getInitialBytecodeSize(TR_ResolvedMethod *feMethod, TR::ResolvedMethodSymbol * methodSymbol, TR::Compilation *comp);
       virtual bool tryToInline(TR_CallTarget *, TR_CallStack *, bool);
+      bool wasInlinedInWarmStartProfile(TR_CallTarget *calltarget);
       virtual bool inlineMethodEvenForColdBlocks(TR_ResolvedMethod *method);
       virtual bool willBeInlinedInCodeGen(TR::RecognizedMethod method);
       virtual bool canInlineMethodWhileInstrumenting(TR_ResolvedMethod *method);
@@ -1062,9 +1062,25 @@ bool TR_SPMDKernelParallelizer::autoSIMDReductionSupported(TR::Compilation *comp
    return true;
    }
 
+//returns the scalar max or min opcode for the data type, or BadILOp if there is none
+TR::ILOpCodes TR_SPMDKernelParallelizer::minMaxOpCode(TR::DataType dataType, TR_SPMDReductionOp reductionOp)
+   {
+   bool isMax = (reductionOp == Reduction_Max);
+
+   switch (dataType)
+      {
+      case TR::Int32:
+         return isMax ? TR::imax : TR::imin;
+      case TR::Int64:
+         return isMax ? TR::lmax : TR::lmin;
+      default:
+         return TR::BadILOp;
+      }
+   }
+
 //isReduction is run to check that the reduction matches the reduction pattern
 //-only uses the reduction symref once
-//-reduction operation is support (currently only add and mul)
+//-reduction operation is support (currently add, mul, and integral max and min)
 //-only the reduction operation is used between the store node and the reduction variable load
 bool TR_SPMDKernelParallelizer::isReduction(TR::Compilation *comp, TR_RegionStructure *loop, TR::Node *node, TR_SPMDReductionInfo* reductionInfo, TR_SPMDReductionOp pathOp)
    {
@@ -1086,6 +1102,13 @@ bool TR_SPMDKernelParallelizer::isReduction(TR::Compilation *comp, TR_RegionStru
       opCode = node->getOpCode();
    }
 
+   //max and min are only matched for integral types: the vector forms of fmax/dmax do not
+   //follow the NaN and signed zero rules of Math.max and Math.min
+   TR::ILOpCodes opCodeValue = opCode.getOpCodeValue();
+   bool isMax = (opCodeValue == minMaxOpCode(node->getDataType(), Reduction_Max));
+   bool isMin = (opCodeValue == minMaxOpCode(node->getDataType(), Reduction_Min));
+   bool isMinMax = isMax || isMin;
+
    if (opCode.isLoadVar())
       {
       if (opCode.isLoadDirect() && node->getSymbolReference() == reductionInfo->reductionSymRef)
@@ -1097,7 +1120,7 @@ bool TR_SPMDKernelParallelizer::isReduction(TR::Compilation *comp, TR_RegionStru
       else
          return false;
       }
-   else if (opCode.isAdd() || opCode.isMul() || opCode.isSub()) //TODO: add max, min and bitwise operations here
+   else if (opCode.isAdd() || opCode.isMul() || opCode.isSub() || isMinMax) //TODO: add bitwise operations here
       {
       if (opCode.isAdd() || opCode.isSub()) //sub is a special case of add. It only works if the reduction var is on the left
          {
@@ -1125,6 +1148,14 @@ bool TR_SPMDKernelParallelizer::isReduction(TR::Compilation *comp, TR_RegionStru
                return false;
             }
          }
+      else if (isMinMax)
+         {
+         TR_SPMDReductionOp minMaxOp = isMax ? Reduction_Max : Reduction_Min;
+         if (pathOp == Reduction_OpUninitialized)
+            pathOp = minMaxOp;
+         else if (pathOp != minMaxOp)
+            return false;
+         }
       else
          {
          return false;
@@ -1184,7 +1215,9 @@ bool TR_SPMDKernelParallelizer::noReductionVar(TR::Compilation *comp, TR_RegionS
       else
          return true;
       }
-   else if (opCode.isAdd() || opCode.isSub() || opCode.isMul() || opCode.isDiv() || opCode.isRem()) //TODO: add max, min and bitwise operations here
+   else if (opCode.isAdd() || opCode.isSub() || opCode.isMul() || opCode.isDiv() || opCode.isRem()
+            || (opCode.getOpCodeValue() == minMaxOpCode(node->getDataType(), Reduction_Max))
+            || (opCode.getOpCodeValue() == minMaxOpCode(node->getDataType(), Reduction_Min))) //TODO: add bitwise operations here
       {
       TR::Node *firstChild = node->getFirstChild();
       TR::Node *secondChild = node->getSecondChild();
@@ -1216,8 +1249,8 @@ bool TR_SPMDKernelParallelizer::reductionLoopEntranceProcessing(TR::Compilation
    if (reductionOp == Reduction_OpUninitialized)
       return true; //Nothing needs to be done
 
-   //we only know how to handle add and multiply ops right now
-   if (!(reductionOp == Reduction_Add || reductionOp == Reduction_Mul))
+   //we only know how to handle add, multiply, max and min ops right now
+   if (!(reductionOp == Reduction_Add || reductionOp == Reduction_Mul || reductionOp == Reduction_Max || reductionOp == Reduction_Min))
       {
       if (trace) traceMsg(comp, "   reductionLoopEntranceProcessing: Invalid or unknown reductionOp during transformation phase.\n");
       TR_ASSERT(0, "Invalid or unknown reductionOp during transformation phase");
@@ -1236,11 +1269,11 @@ bool TR_SPMDKernelParallelizer::reductionLoopEntranceProcessing(TR::Compilation
    TR::DataType scalarDataType = symRef->getSymbol()->getDataType();
    TR::ILOpCodes splatConstType = comp->il.opCodeForConst(scalarDataType);
 
-   //splat the identity for the initial value
+   //splat the identity, or the value on loop entry for max and min, for the initial value
    TR::ILOpCodes splatsOpCode = TR::ILOpCode::createVectorOpCode(TR::vsplats, scalarDataType.scalarToVector(VECTOR_LENGTH));
 
    TR::Node *splatsNode = TR::Node::create(insertionPoint->getNode(), splatsOpCode, 1);
-   TR::Node *constNode = TR::Node::create(insertionPoint->getNode(), splatConstType, 0);
+   TR::Node *initialValueNode = NULL;
    uint8_t identity = 0;
 
    switch (reductionOp)
@@ -1251,40 +1284,49 @@ bool TR_SPMDKernelParallelizer::reductionLoopEntranceProcessing(TR::Compilation
       case Reduction_Mul: //identity is 1
          identity = 1;
          break;
+      case Reduction_Max: //max(x, x) == x, so every element can start from the value on loop entry
+      case Reduction_Min:
+         initialValueNode = TR::Node::createWithSymRef(insertionPoint->getNode(), comp->il.opCodeForDirectLoad(scalarDataType), 0, symRef);
+         break;
       default:
          if (trace) traceMsg(comp, "   reductionLoopEntranceProcessing: Invalid or unknown reductionOp during transformation phase (2).\n");
          TR_ASSERT(0, "Invalid or unknown reductionOp during transformation phase (2)");
          return false;
       }
 
-   switch (scalarDataType)
+   if (!initialValueNode)
       {
-      case TR::Int8:
-         constNode->setByte(identity);
-         break;
-      case TR::Int16:
-         constNode->setShortInt(identity);
-         break;
-      case TR::Int32:
-         constNode->setInt(identity);
-         break;
-      case TR::Int64:
-         constNode->setLongInt(identity);
-         break;
-      case TR::Float:
-         constNode->setFloat(identity);
-         break;
-      case TR::Double:
-         constNode->setDouble(identity);
-         break;
-      default:
-         if (trace) traceMsg(comp, "   reductionLoopEntranceProcessing: Unknown vector data type during transformation phase.\n");
-         TR_ASSERT(0, "Unknown vector data type during transformation phase.");
-         return false;
-         break;
+      initialValueNode = TR::Node::create(insertionPoint->getNode(), splatConstType, 0);
+
+      switch (scalarDataType)
+         {
+         case TR::Int8:
+            initialValueNode->setByte(identity);
+            break;
+         case TR::Int16:
+            initialValueNode->setShortInt(identity);
+            break;
+         case TR::Int32:
+            initialValueNode->setInt(identity);
+            break;
+         case TR::Int64:
+            initialValueNode->setLongInt(identity);
+            break;
+         case TR::Float:
+            initialValueNode->setFloat(identity);
+            break;
+         case TR::Double:
+            initialValueNode->setDouble(identity);
+            break;
+         default:
+            if (trace) traceMsg(comp, "   reductionLoopEntranceProcessing: Unknown vector data type during transformation phase.\n");
+            TR_ASSERT(0, "Unknown vector data type during transformation phase.");
+            return false;
+            break;
+         }
       }
 
-   splatsNode->setAndIncChild(0, constNode);
+   splatsNode->setAndIncChild(0, initialValueNode);
 
    TR::Node *vstoreNode = TR::Node::create(insertionPoint->getNode(), TR::ILOpCode::createVectorOpCode(TR::vstore, vecSymRef->getSymbol()->getDataType()), 1);
    vstoreNode->setAndIncChild(0, splatsNode);
@@ -1309,8 +1351,8 @@ bool TR_SPMDKernelParallelizer::reductionLoopExitProcessing(TR::Compilation *com
    if (reductionOp == Reduction_OpUninitialized)
       return true; //Nothing needs to be done
 
-   //we only know how to handle add and multiply ops right now
-   if (!(reductionOp == Reduction_Add || reductionOp == Reduction_Mul))
+   //we only know how to handle add, multiply, max and min ops right now
+   if (!(reductionOp == Reduction_Add || reductionOp == Reduction_Mul || reductionOp == Reduction_Max || reductionOp == Reduction_Min))
       {
       if (trace) traceMsg(comp, "   reductionLoopExitProcessing: Invalid or unknown reductionOp during transformation phase.\n");
       TR_ASSERT(0, "Invalid or unknown reductionOp during transformation phase");
@@ -1327,6 +1369,11 @@ bool TR_SPMDKernelParallelizer::reductionLoopExitProcessing(TR::Compilation *com
       case Reduction_Mul:
          scalarReductionOp = TR::ILOpCode::multiplyOpCode(scalarDataType);
          break;
+      case Reduction_Max:
+      case Reduction_Min:
+         scalarReductionOp = minMaxOpCode(scalarDataType, reductionOp);
+         TR_ASSERT(scalarReductionOp != TR::BadILOp, "Max or min reduction of an unsupported data type");
+         break;
       default:
          if (trace) traceMsg(comp, "   reductionLoopExitProcessing: Invalid or unknown reductionOp during transformation phase (2).\n");
          TR_ASSERT(0, "Invalid or unknown reductionOp during transformation phase (2)");
@@ -1402,7 +1449,7 @@ bool TR_SPMDKernelParallelizer::reductionLoopExitProcessing(TR::Compilation *com
       TR::TreeTop *insertionPoint = reductionBlock->getEntry();
 
       //read each element from the vector and perform the reduction operation to combine them
-      //only add and mult are supported right now
+      //only add, mult, max and min are supported right now
 
       TR::DataType vectorType = vecSymRef->getSymbol()->getDataType();
 
@@ -193,6 +193,8 @@ class TR_SPMDKernelParallelizer : public TR_LoopTransformer
       Reduction_Invalid, //the reduction uses multiple different operators or is unsupported for other reasons
       Reduction_Add,
       Reduction_Mul,
+      Reduction_Max,
+      Reduction_Min,
       };
 
    struct TR_SPMDReductionInfo
@@ -228,6 +230,7 @@ class TR_SPMDKernelParallelizer : public TR_LoopTransformer
    bool autoSIMDReductionSupported(TR::Compilation *comp, TR::Node *node);
    bool isReduction(TR::Compilation *comp, TR_RegionStructure *loop, TR::Node *node, TR_SPMDReductionInfo* reductionInfo, TR_SPMDReductionOp pathOp);
    bool noReductionVar(TR::Compilation *comp, TR_RegionStructure *loop, TR::Node *node, TR_SPMDReductionInfo* reductionInfo);
+   static TR::ILOpCodes minMaxOpCode(TR::DataType dataType, TR_SPMDReductionOp reductionOp);
    bool reductionLoopEntranceProcessing(TR::Compilation *comp, TR_RegionStructure *loop, TR::SymbolReference *symRef, TR::SymbolReference *vecSymRef, TR_SPMDReductionOp reductionOp);
    bool reductionLoopExitProcessing(TR::Compilation *comp, TR_RegionStructure *loop, TR::SymbolReference *symRef, TR::SymbolReference *vecSymRef, TR_SPMDReductionOp reductionOp);
 
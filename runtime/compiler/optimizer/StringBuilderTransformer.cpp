@@ -27,15 +27,19 @@
 #include "env/CompilerEnv.hpp"
 #include "env/VMAccessCriticalSection.hpp"
 #include "env/VMJ9.h"
+#include "env/PersistentCHTable.hpp"
+#include "env/PersistentInfo.hpp"
 #include "il/Block.hpp"
 #include "il/StaticSymbol.hpp"
 #include "infra/String.hpp"
 #include "optimizer/Optimization_inlines.hpp"
+#include "optimizer/TransformUtil.hpp"
 #include "ras/DebugCounter.hpp"
 
 #define OPT_DETAILS "O^O STRINGBUILDER TRANSFORMER: "
 
 static const char* StringBuilderClassName = "java/lang/StringBuilder";
+static const char* StringClassName = "java/lang/String";
 
 /** \note
  *     This optimization is disabled for AOT compilations due to a functional issue. Consider an AOT compilation of the
@@ -125,6 +129,8 @@ int32_t TR_StringBuilderTransformer::performOnBlock(TR::Block* block)
                traceMsg(comp(), "[0x%p] Found new java/lang/StringBuilder node.\n", currentNode);
                }
 
+            TR::TreeTop* newTreeTop = iter.currentTree();
+
             ++iter;
 
             if (iter.currentNode()->getOpCodeValue() == TR::allocationFence)
@@ -137,9 +143,18 @@ int32_t TR_StringBuilderTransformer::performOnBlock(TR::Block* block)
             if (initNode != NULL)
                {
                List<TR_Pair<TR::Node*, TR::RecognizedMethod> > appendArguments (trMemory());
+               List<TR::TreeTop> appendTreeTops (trMemory());
+               TR::TreeTop* toStringTreeTop = NULL;
 
-               if (findStringBuilderChainedAppendArguments(iter, currentNode, appendArguments) != NULL)
+               if (findStringBuilderChainedAppendArguments(iter, currentNode, appendArguments, appendTreeTops, toStringTreeTop) != NULL)
                   {
+                  if (fuseStringBuilderChainedAppends(newTreeTop, iter.currentTree(), appendArguments, appendTreeTops, toStringTreeTop))
+                     {
+                     // The trees of the StringBuilder have been removed so resume the walk after the fused chain
+                     iter = TR::TreeTopIterator(toStringTreeTop, comp());
+                     continue;
+                     }
+
                   int32_t capacity = computeHeuristicStringBuilderInitCapacity(appendArguments);
 
                   // Guard against the possibility that the computed capacity has overflowed,
@@ -302,7 +317,7 @@ TR::Node* TR_StringBuilderTransformer::findStringBuilderInit(TR::TreeTopIterator
  *     This notion of chaining along with node reference counts ensures that the StringBuilder object  is not used
  *     anywhere outside the chained StringBuilder.append(...) sequence.
  */
-TR::Node* TR_StringBuilderTransformer::findStringBuilderChainedAppendArguments(TR::TreeTopIterator iter, TR::Node* newNode, List<TR_Pair<TR::Node*, TR::RecognizedMethod> >& appendArguments)
+TR::Node* TR_StringBuilderTransformer::findStringBuilderChainedAppendArguments(TR::TreeTopIterator iter, TR::Node* newNode, List<TR_Pair<TR::Node*, TR::RecognizedMethod> >& appendArguments, List<TR::TreeTop>& appendTreeTops, TR::TreeTop*& toStringTreeTop)
    {
    TR::Node* stringBuilderReceiver = newNode;
 
@@ -367,6 +382,7 @@ TR::Node* TR_StringBuilderTransformer::findStringBuilderChainedAppendArguments(T
                            }
 
                         appendArguments.add(new (trHeapMemory()) TR_Pair<TR::Node*, TR::RecognizedMethod> (acallNode->getSecondChild(), recognizedMethod));
+                        appendTreeTops.add(iter.currentTree());
 
                         // The result of this append call is chained to the next so update the current receiver
                         stringBuilderReceiver = acallNode;
@@ -407,6 +423,8 @@ TR::Node* TR_StringBuilderTransformer::findStringBuilderChainedAppendArguments(T
                            traceMsg(comp(), "[0x%p] Found java/lang/StringBuilder.toString acall node.\n", acallNode);
                            }
 
+                        toStringTreeTop = iter.currentTree();
+
                         return acallNode;
                         }
                      else
@@ -465,6 +483,291 @@ TR::Node* TR_StringBuilderTransformer::findStringBuilderChainedAppendArguments(T
    return NULL;
    }
 
+/** \details
+ *     The chain is fused into the following sequence of trees, where the arguments of the original appends remain
+ *     anchored at the positions of the original appends so that their order of evaluation is unchanged:
+ *
+ *     \code
+ *     treetop
+ *       aload                                          <- argument of the first append
+ *     treetop
+ *       acall  java/lang/String.valueOf(Ljava/lang/Object;)Ljava/lang/String;
+ *         aload                                        <- argument of the second append
+ *     treetop
+ *       lcall  java/lang/String.concatMix(JLjava/lang/String;)J
+ *         lconst 0
+ *         ==>aload
+ *     treetop
+ *       lcall  java/lang/String.concatMix(JLjava/lang/String;)J
+ *         ==>lcall
+ *         ==>acall
+ *     treetop
+ *       acall  java/lang/String.concatNewArray(J)[B
+ *         ==>lcall
+ *     treetop
+ *       lcall  java/lang/String.concatPrepend(J[BLjava/lang/String;)J
+ *         ==>lcall
+ *         ==>acall  concatNewArray
+ *         ==>acall  valueOf
+ *     treetop
+ *       lcall  java/lang/String.concatPrepend(J[BLjava/lang/String;)J
+ *         ==>lcall
+ *         ==>acall  concatNewArray
+ *         ==>aload
+ *     treetop
+ *       acall  java/lang/String.concatNewString([BJ)Ljava/lang/String;
+ *         ==>acall  concatNewArray
+ *         ==>lcall
+ *     \endcode
+ *
+ *     The helpers exist in every class library whose String is backed by a byte[] value, that is Java 9 and later;
+ *     the chain is left to be presized if any of them cannot be found.
+ */
+bool TR_StringBuilderTransformer::fuseStringBuilderChainedAppends(TR::TreeTop* newTreeTop, TR::TreeTop* initTreeTop, List<TR_Pair<TR::Node*, TR::RecognizedMethod> >& appendArguments, List<TR::TreeTop>& appendTreeTops, TR::TreeTop* toStringTreeTop)
+   {
+   static const bool disableFusion = feGetEnv("TR_StringBuilderTransformerDisableFusion") != NULL;
+
+   // The OSR bookkeeping of the removed StringBuilder would have to be updated as well
+   if (disableFusion || comp()->isOSRTransitionTarget(TR::postExecutionOSR))
+      {
+      return false;
+      }
+
+   if (classesRedefined())
+      {
+      if (trace())
+         {
+         traceMsg(comp(), "[0x%p] Not fusing append chain as java/lang/StringBuilder or java/lang/String has been redefined.\n", toStringTreeTop->getNode());
+         }
+
+      return false;
+      }
+
+   TR::ResolvedMethodSymbol* methodSymbol = comp()->getMethodSymbol();
+   TR::SymbolReferenceTable* symRefTab = getSymRefTab();
+
+   TR::SymbolReference* newArraySymRef = symRefTab->methodSymRefFromName(methodSymbol, "java/lang/String", "concatNewArray", "(J)[B", TR::MethodSymbol::Static);
+   TR::SymbolReference* newStringSymRef = symRefTab->methodSymRefFromName(methodSymbol, "java/lang/String", "concatNewString", "([BJ)Ljava/lang/String;", TR::MethodSymbol::Static);
+
+   if (newArraySymRef == NULL || newStringSymRef == NULL)
+      {
+      if (trace())
+         {
+         traceMsg(comp(), "[0x%p] Not fusing append chain as the java/lang/String concatenation helpers are not available.\n", toStringTreeTop->getNode());
+         }
+
+      return false;
+      }
+
+   int32_t numArguments = appendArguments.getSize();
+
+   TR::Node** values = (TR::Node**) trMemory()->allocateStackMemory(numArguments * sizeof(TR::Node*));
+   TR::SymbolReference** mixSymRefs = (TR::SymbolReference**) trMemory()->allocateStackMemory(numArguments * sizeof(TR::SymbolReference*));
+   TR::SymbolReference** prependSymRefs = (TR::SymbolReference**) trMemory()->allocateStackMemory(numArguments * sizeof(TR::SymbolReference*));
+   TR::SymbolReference** valueOfSymRefs = (TR::SymbolReference**) trMemory()->allocateStackMemory(numArguments * sizeof(TR::SymbolReference*));
+
+   // Note that the lists hold the last append of the chain first
+   ListIterator<TR_Pair<TR::Node*, TR::RecognizedMethod> > argumentIter(&appendArguments);
+
+   int32_t i = 0;
+
+   for (TR_Pair<TR::Node*, TR::RecognizedMethod>* pair = argumentIter.getFirst(); pair != NULL; pair = argumentIter.getNext(), ++i)
+      {
+      const char* mixSignature = "(JLjava/lang/String;)J";
+      const char* prependSignature = "(J[BLjava/lang/String;)J";
+      const char* valueOfSignature = NULL;
+
+      switch (pair->getValue())
+         {
+         case TR::java_lang_StringBuilder_append_bool:
+            {
+            mixSignature = "(JZ)J";
+            prependSignature = "(J[BZ)J";
+            }
+            break;
+
+         case TR::java_lang_StringBuilder_append_char:
+            {
+            mixSignature = "(JC)J";
+            prependSignature = "(J[BC)J";
+            }
+            break;
+
+         case TR::java_lang_StringBuilder_append_int:
+            {
+            mixSignature = "(JI)J";
+            prependSignature = "(J[BI)J";
+            }
+            break;
+
+         case TR::java_lang_StringBuilder_append_long:
+            {
+            mixSignature = "(JJ)J";
+            prependSignature = "(J[BJ)J";
+            }
+            break;
+
+         case TR::java_lang_StringBuilder_append_double:
+            {
+            valueOfSignature = "(D)Ljava/lang/String;";
+            }
+            break;
+
+         case TR::java_lang_StringBuilder_append_float:
+            {
+            valueOfSignature = "(F)Ljava/lang/String;";
+            }
+            break;
+
+         case TR::java_lang_StringBuilder_append_Object:
+            {
+            valueOfSignature = "(Ljava/lang/Object;)Ljava/lang/String;";
+            }
+            break;
+
+         case TR::java_lang_StringBuilder_append_String:
+            break;
+
+         default:
+            {
+            TR_ASSERT(false, "Unreachable case reached.");
+            }
+         }
+
+      mixSymRefs[i] = symRefTab->methodSymRefFromName(methodSymbol, "java/lang/String", "concatMix", mixSignature, TR::MethodSymbol::Static);
+      prependSymRefs[i] = symRefTab->methodSymRefFromName(methodSymbol, "java/lang/String", "concatPrepend", prependSignature, TR::MethodSymbol::Static);
+      valueOfSymRefs[i] = NULL;
+
+      if (valueOfSignature != NULL)
+         {
+         valueOfSymRefs[i] = symRefTab->methodSymRefFromName(methodSymbol, "java/lang/String", "valueOf", valueOfSignature, TR::MethodSymbol::Static);
+
+         if (valueOfSymRefs[i] == NULL)
+            {
+            return false;
+            }
+         }
+
+      if (mixSymRefs[i] == NULL || prependSymRefs[i] == NULL)
+         {
+         return false;
+         }
+      }
+
+   if (!performTransformation(comp(), "%sFusing java/lang/StringBuilder append chain of %d arguments ending at node [0x%p]\n", OPT_DETAILS, numArguments, toStringTreeTop->getNode()))
+      {
+      return false;
+      }
+
+   TR::Node* toStringNode = toStringTreeTop->getNode()->getFirstChild();
+
+   // Arguments which have no concatenation helper of their own are converted to a String where they were appended
+   i = 0;
+
+   for (TR_Pair<TR::Node*, TR::RecognizedMethod>* pair = argumentIter.getFirst(); pair != NULL; pair = argumentIter.getNext(), ++i)
+      {
+      if (valueOfSymRefs[i] != NULL)
+         {
+         values[i] = TR::Node::createWithSymRef(pair->getKey(), TR::acall, 1, pair->getKey(), valueOfSymRefs[i]);
+         }
+      else
+         {
+         values[i] = pair->getKey();
+         }
+      }
+
+   // Compute the length and coder of the result from the first argument to the last
+   TR::TreeTop* cursorTreeTop = toStringTreeTop->getPrevTreeTop();
+   TR::Node* lengthCoder = TR::Node::lconst(toStringNode, 0);
+
+   for (i = numArguments - 1; i >= 0; --i)
+      {
+      lengthCoder = TR::Node::createWithSymRef(TR::lcall, 2, 2, lengthCoder, values[i], mixSymRefs[i]);
+      cursorTreeTop = TR::TreeTop::create(comp(), cursorTreeTop, TR::Node::create(toStringNode, TR::treetop, 1, lengthCoder));
+      }
+
+   TR::Node* buffer = TR::Node::createWithSymRef(TR::acall, 1, 1, lengthCoder, newArraySymRef);
+   cursorTreeTop = TR::TreeTop::create(comp(), cursorTreeTop, TR::Node::create(toStringNode, TR::treetop, 1, buffer));
+
+   // Write the arguments into the value array from the last to the first
+   TR::Node* indexCoder = lengthCoder;
+
+   for (i = 0; i < numArguments; ++i)
+      {
+      indexCoder = TR::Node::createWithSymRef(TR::lcall, 3, 3, indexCoder, buffer, values[i], prependSymRefs[i]);
+      cursorTreeTop = TR::TreeTop::create(comp(), cursorTreeTop, TR::Node::create(toStringNode, TR::treetop, 1, indexCoder));
+      }
+
+   // The toString call becomes the creation of the result so that its users are unaffected
+   toStringNode->getFirstChild()->recursivelyDecReferenceCount();
+   TR::Node::recreateWithoutProperties(toStringNode, TR::acall, 2, newStringSymRef);
+   toStringNode->setAndIncChild(0, buffer);
+   toStringNode->setAndIncChild(1, indexCoder);
+   TR::Node::recreate(toStringTreeTop->getNode(), TR::treetop);
+
+   // Replace each append with an anchor of its argument, from the last append to the first
+   ListIterator<TR::TreeTop> appendTreeTopIter(&appendTreeTops);
+
+   i = 0;
+
+   for (TR::TreeTop* appendTreeTop = appendTreeTopIter.getFirst(); appendTreeTop != NULL; appendTreeTop = appendTreeTopIter.getNext(), ++i)
+      {
+      TR::Node* appendTreeTopNode = appendTreeTop->getNode();
+
+      appendTreeTopNode->recursivelyDecReferenceCount();
+      TR::Node::recreate(appendTreeTopNode, TR::treetop);
+      appendTreeTopNode->setNumChildren(1);
+      appendTreeTopNode->setAndIncChild(0, values[i]);
+      }
+
+   // Remove the StringBuilder itself
+   TR::TreeTop* fenceTreeTop = newTreeTop->getNextTreeTop();
+
+   if (fenceTreeTop->getNode()->getOpCodeValue() == TR::allocationFence && fenceTreeTop->getNode()->getAllocation() == newTreeTop->getNode()->getFirstChild())
+      {
+      TR::TransformUtil::removeTree(comp(), fenceTreeTop);
+      }
+
+   TR::TransformUtil::removeTree(comp(), initTreeTop);
+   TR::TransformUtil::removeTree(comp(), newTreeTop);
+
+   TR::DebugCounter::incStaticDebugCounter(comp(), TR::DebugCounter::debugCounterName(comp(), "StringBuilderTransformer/Fused/%d/%s", numArguments, comp()->signature()));
+
+   return true;
+   }
+
+/** \details
+ *     Under HCR the fused chain no longer calls into java/lang/StringBuilder and calls the java/lang/String
+ *     concatenation helpers directly, so it must not be fused once either class has been redefined. This follows
+ *     TR_StringPeepholes::classesRedefined(), which replaces StringBuilder calls in the same way.
+ */
+bool TR_StringBuilderTransformer::classesRedefined()
+   {
+   if (!comp()->getOption(TR_EnableHCR))
+      {
+      return false;
+      }
+
+   return classRedefined(StringBuilderClassName) || classRedefined(StringClassName);
+   }
+
+/** \details
+ *     A class which has not been loaded yet cannot have been redefined.
+ */
+bool TR_StringBuilderTransformer::classRedefined(const char* className)
+   {
+   TR_OpaqueClassBlock* clazz = comp()->fej9()->getSystemClassFromClassName(className, strlen(className));
+
+   if (clazz == NULL)
+      {
+      return false;
+      }
+
+   TR_PersistentClassInfo* clazzInfo = comp()->getPersistentInfo()->getPersistentCHTable()->findClassInfoAfterLocking(clazz, fe());
+
+   return clazzInfo == NULL || clazzInfo->classHasBeenRedefined();
+   }
+
 /** \details
  *     If the StringBuilder.append(...) argument is a compile time constant we statically determine number of chars
  *     needed to represent the argument by doing the String conversion at compile time. If the argument is not a
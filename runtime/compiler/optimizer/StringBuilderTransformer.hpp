@@ -72,6 +72,24 @@ namespace TR { class Block; }
  *     heuristically tries to estimate the sizes of the append arguments. If it can the optimization will precisely
  *     determine the sizes of all constant append arguments.
  *
+ *     When the helpers java/lang/String.concatMix, concatNewArray, concatPrepend and concatNewString are available
+ *     and every append argument is a String, int, long, char, boolean, or an Object, float or double which can be
+ *     converted to a String at the point of the original append, the chain is instead fused. The StringBuilder is
+ *     removed and the exact length and coder of the result are computed at runtime from the arguments, after which
+ *     the value array of the resulting String is allocated once and the arguments are written directly into it:
+ *
+ *     \code
+ *     String result = (new StringBuilder ()).append(s).append(i).toString();
+ *     \endcode
+ *
+ *     becomes the equivalent of:
+ *
+ *     \code
+ *     long lengthCoder = String.concatMix(String.concatMix(0, s), i);
+ *     byte[] buf = String.concatNewArray(lengthCoder);
+ *     String result = String.concatNewString(buf, String.concatPrepend(String.concatPrepend(lengthCoder, buf, i), buf, s));
+ *     \endcode
+ *
  *  \section Debug Counters
  *     You can track the locations of where this optimization succeeded or failed via the following debug counter:
  *
@@ -127,6 +145,13 @@ namespace TR { class Block; }
  *
  *     This environment variable can be used to override the final capacity that this optimization has heuristically
  *     calculated with the ### supplied.
+ *
+ *     \code
+ *     export TR_StringBuilderTransformerDisableFusion=1;
+ *     \endcode
+ *
+ *     This environment variable disables fusion of the append chain so that only the StringBuilder capacity is
+ *     presized.
  */
 class TR_StringBuilderTransformer : public TR::Optimization
    {
@@ -210,11 +235,64 @@ class TR_StringBuilderTransformer : public TR::Optimization
     *     If this function returns non-NULL this out parameter contains an ordered list of all the arguments of the
     *     sequence of chained StringBuilder.append(...) calls.
     *
+    *  \param appendTreeTops
+    *     If this function returns non-NULL this out parameter contains the tree tops anchoring the chained
+    *     StringBuilder.append(...) calls, in the same order as \p appendArguments.
+    *
+    *  \param toStringTreeTop
+    *     If this function returns non-NULL this out parameter is the tree top anchoring the call to
+    *     StringBuilder.toString().
+    *
     *  \return
     *     The call to StringBuilder.toString() or NULL if the call was not found or if the StringBuilder.append(...)
     *     chain was broken.
     */
-   TR::Node* findStringBuilderChainedAppendArguments(TR::TreeTopIterator iter, TR::Node* newNode, List<TR_Pair<TR::Node*, TR::RecognizedMethod> >& appendArguments);
+   TR::Node* findStringBuilderChainedAppendArguments(TR::TreeTopIterator iter, TR::Node* newNode, List<TR_Pair<TR::Node*, TR::RecognizedMethod> >& appendArguments, List<TR::TreeTop>& appendTreeTops, TR::TreeTop*& toStringTreeTop);
+
+   /** \brief
+    *     Attempts to replace a sequence of chained StringBuilder.append(...) calls terminated by a call to
+    *     StringBuilder.toString() with calls to the String concatenation helpers, which compute the exact length and
+    *     coder of the result and write the arguments directly into its value array.
+    *
+    *  \param newTreeTop
+    *     The tree top anchoring the TR::New node of the StringBuilder.
+    *
+    *  \param initTreeTop
+    *     The tree top anchoring the call to StringBuilder.<init>().
+    *
+    *  \param appendArguments
+    *     An ordered list of all the arguments of the sequence of chained StringBuilder.append(...) calls.
+    *
+    *  \param appendTreeTops
+    *     The tree tops anchoring the chained StringBuilder.append(...) calls, in the same order as
+    *     \p appendArguments.
+    *
+    *  \param toStringTreeTop
+    *     The tree top anchoring the call to StringBuilder.toString().
+    *
+    *  \return
+    *     true if the chain was fused; false otherwise, in which case the trees are left unchanged.
+    */
+   bool fuseStringBuilderChainedAppends(TR::TreeTop* newTreeTop, TR::TreeTop* initTreeTop, List<TR_Pair<TR::Node*, TR::RecognizedMethod> >& appendArguments, List<TR::TreeTop>& appendTreeTops, TR::TreeTop* toStringTreeTop);
+
+   /** \brief
+    *     Determines whether java/lang/StringBuilder or java/lang/String has been redefined under HCR.
+    *
+    *  \return
+    *     true if either class has been redefined; false otherwise.
+    */
+   bool classesRedefined();
+
+   /** \brief
+    *     Determines whether a system class has been redefined under HCR.
+    *
+    *  \param className
+    *     The name of the class in internal (slash separated) form.
+    *
+    *  \return
+    *     true if the class has been redefined; false otherwise.
+    */
+   bool classRedefined(const char* className);
 
    /** \brief
     *     Given a list of arguments of a sequence of chained StringBuilder.append(...) calls outputs the heuristically
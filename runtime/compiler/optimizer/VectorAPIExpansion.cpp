@@ -54,13 +54,22 @@ TR_VectorAPIExpansion::perform()
 
    _trace = traceVectorAPIExpansion;
 
-   if (J2SE_VERSION(TR::Compiler->javaVM) >= J2SE_V17 &&
-       !disableVectorAPIExpansion &&
-       !TR::Compiler->om.canGenerateArraylets() &&
+   const char *notExpandedReason = NULL;
+
+   if (J2SE_VERSION(TR::Compiler->javaVM) < J2SE_V17)
+      notExpandedReason = "Java version is older than 17";
+   else if (disableVectorAPIExpansion)
+      notExpandedReason = "Vector API expansion is disabled";
+   else if (TR::Compiler->om.canGenerateArraylets())
+      notExpandedReason = "arraylets are not supported";
+
+   if (!notExpandedReason &&
        findVectorMethods(comp()))
       expandVectorAPI();
 
-   findVectorMethods(comp(), true);
+   if (TR::Options::getVerboseOption(TR_VerboseVectorAPI))
+      reportNotExpandedIntrinsics(notExpandedReason);
+
    return 0;
    }
 
@@ -162,11 +171,20 @@ TR_VectorAPIExpansion::getElementTypeAndNumLanes(TR::Node *node, TR::DataType &e
    }
 
 void
-TR_VectorAPIExpansion::invalidateSymRef(TR::SymbolReference *symRef)
+TR_VectorAPIExpansion::invalidateSymRef(TR::SymbolReference *symRef, const char *reason)
    {
    int32_t id = symRef->getReferenceNumber();
    _aliasTable[id]._classId = -1;
    _aliasTable[id]._tempClassId = -1;
+   setInvalidReason(id, reason);
+   }
+
+void
+TR_VectorAPIExpansion::setInvalidReason(int32_t id, const char *reason)
+   {
+   // keep the first reason since the later ones are usually its consequences
+   if (!_aliasTable[id]._invalidReason)
+      _aliasTable[id]._invalidReason = reason;
    }
 
 void
@@ -300,7 +318,7 @@ TR_VectorAPIExpansion::visitNodeToBuildVectorAliases(TR::Node *node, bool verify
                   {
                   if (_trace)
                      traceMsg(comp(), "Invalidating1 #%d due to rhs %p in node %p\n", id1, rhs, node);
-                  invalidateSymRef(node->getSymbolReference());
+                  invalidateSymRef(node->getSymbolReference(), "vector shape differs from other values stored to the same variable");
                   }
 
                }
@@ -361,7 +379,7 @@ TR_VectorAPIExpansion::visitNodeToBuildVectorAliases(TR::Node *node, bool verify
             {
             if (_trace)
                traceMsg(comp(), "Invalidating2 #%d due to rhs %p in node %p\n", id1, rhs, node);
-            invalidateSymRef(node->getSymbolReference());
+            invalidateSymRef(node->getSymbolReference(), "variable is assigned a value that is not a Vector API object");
             }
          }
       }
@@ -457,7 +475,7 @@ TR_VectorAPIExpansion::visitNodeToBuildVectorAliases(TR::Node *node, bool verify
                   if (_trace)
                      traceMsg(comp(), "Invalidating3 #%d due to child %d (%p) in node %p\n",
                               node->getSymbolReference()->getReferenceNumber(), i, child, node);
-                  invalidateSymRef(node->getSymbolReference());
+                  invalidateSymRef(node->getSymbolReference(), "operand is not a variable");
                   }
                }
             }
@@ -473,7 +491,7 @@ TR_VectorAPIExpansion::visitNodeToBuildVectorAliases(TR::Node *node, bool verify
             if (_trace)
                traceMsg(comp(), "Invalidating4 #%d since it's not a vector API method in node %p\n",
                      node->getSymbolReference()->getReferenceNumber(), node);
-            invalidateSymRef(node->getSymbolReference());
+            invalidateSymRef(node->getSymbolReference(), "passed to a method that is not a Vector API intrinsic");
             continue;
             }
 
@@ -523,7 +541,7 @@ TR_VectorAPIExpansion::visitNodeToBuildVectorAliases(TR::Node *node, bool verify
                traceMsg(comp(), "Invalidating5 #%d (isVectorAPICall=%d) due to unknown elementType=%d or numLanes=%d in node %p\n",
                         node->getSymbolReference()->getReferenceNumber(), isVectorAPICall, (int)methodElementType, methodNumLanes, node);
 
-            invalidateSymRef(node->getSymbolReference());
+            invalidateSymRef(node->getSymbolReference(), "element type or number of lanes is not a constant");
             }
          }
       else
@@ -570,7 +588,7 @@ TR_VectorAPIExpansion::visitNodeToBuildVectorAliases(TR::Node *node, bool verify
                   if (_trace)
                      traceMsg(comp(), "Invalidating6 #%d due to unsupported opcode in node %p\n",
                               node->getSymbolReference()->getReferenceNumber(), node);
-                  invalidateSymRef(node->getSymbolReference());
+                  invalidateSymRef(node->getSymbolReference(), "operation can be neither vectorized nor scalarized on this platform");
                   }
                }
             }
@@ -608,7 +626,7 @@ TR_VectorAPIExpansion::visitNodeToBuildVectorAliases(TR::Node *node, bool verify
          {
          if (_trace)
             traceMsg(comp(), "Invalidating7 #%d due to its adress used by loadaddr node %p\n", node->getSymbolReference()->getReferenceNumber(), node);
-         invalidateSymRef(node->getSymbolReference());
+         invalidateSymRef(node->getSymbolReference(), "address of the variable is taken");
          }
       }
    else if (opCode.isArrayRef() ||
@@ -628,7 +646,7 @@ TR_VectorAPIExpansion::visitNodeToBuildVectorAliases(TR::Node *node, bool verify
             if (_trace)
                traceMsg(comp(), "Invalidating8 #%d due to its address used by %p\n",
                                  child->getSymbolReference()->getReferenceNumber(), node);
-               invalidateSymRef(child->getSymbolReference());
+               invalidateSymRef(child->getSymbolReference(), "used as an array or object reference");
             }
          }
       }
@@ -644,7 +662,7 @@ TR_VectorAPIExpansion::visitNodeToBuildVectorAliases(TR::Node *node, bool verify
             if (_trace)
                traceMsg(comp(), "Invalidating9 #%d due to its address used by %p\n",
                                  child->getSymbolReference()->getReferenceNumber(), node);
-            invalidateSymRef(child->getSymbolReference());
+            invalidateSymRef(child->getSymbolReference(), "stored to memory or returned");
             }
          }
       }
@@ -691,7 +709,7 @@ TR_VectorAPIExpansion::visitNodeToBuildVectorAliases(TR::Node *node, bool verify
                   traceMsg(comp(), "Invalidating10 #%d since it's used by unsupported node %p (%s)\n",
                                     child->getSymbolReference()->getReferenceNumber(), node,
                                     node->getOpCode().getName());
-               invalidateSymRef(child->getSymbolReference());
+               invalidateSymRef(child->getSymbolReference(), "used by an unsupported node");
                }
             }
          }
@@ -763,6 +781,7 @@ TR_VectorAPIExpansion::findAllAliases(int32_t classId, int32_t id,
             if (_trace)
                traceMsg(comp(), "Invalidating11 %s class #%d since #%d is already invalid\n", tempAliases ? "temp" : "whole", classId, i);
             _aliasTable[classId].*classField = -1; // invalidate the whole class
+            setInvalidReason(classId, _aliasTable[i]._invalidReason);
             }
 
          }
@@ -938,7 +957,7 @@ TR_VectorAPIExpansion::getObjectTypeFromClassNode(TR::Compilation *comp, TR::Nod
 
 
 bool
-TR_VectorAPIExpansion::findVectorMethods(TR::Compilation *comp, bool reportFoundMethods)
+TR_VectorAPIExpansion::findVectorMethods(TR::Compilation *comp)
    {
    bool trace = comp->getOption(TR_TraceVectorAPIExpansion);
 
@@ -964,25 +983,76 @@ TR_VectorAPIExpansion::findVectorMethods(TR::Compilation *comp, bool reportFound
 
          if (isVectorAPIMethod(methodSymbol))
             {
-            if (reportFoundMethods &&
-                TR::Options::getVerboseOption(TR_VerboseVectorAPI))
-               {
-               TR_VerboseLog::writeLine(TR_Vlog_VECTOR_API, "Did not vectorize intrinsic in %s at %s %s",
-                                        comp->signature(), comp->getHotnessName(comp->getMethodHotness()),
-                                        comp->isDLT() ? "DLT" : "");
-               }
-            else
-               {
-               if (trace)
-                  traceMsg(comp, "%s found Vector API method\n", OPT_DETAILS_VECTOR);
-               return true;
-               }
+            if (trace)
+               traceMsg(comp, "%s found Vector API method\n", OPT_DETAILS_VECTOR);
+            return true;
             }
          }
       }
    return false;
    }
 
+void
+TR_VectorAPIExpansion::reportNotExpandedIntrinsics(const char *notExpandedReason)
+   {
+   int32_t numNotExpanded = 0;
+
+   for (TR::TreeTop *tt = comp()->getMethodSymbol()->getFirstTreeTop(); tt ; tt = tt->getNextTreeTop())
+      {
+      TR::Node *node = tt->getNode();
+      TR::ILOpCodes opCodeValue = node->getOpCodeValue();
+
+      if (opCodeValue == TR::treetop || opCodeValue == TR::NULLCHK ||
+          treeTopAllowedWithBoxing(opCodeValue))
+          {
+          node = node->getFirstChild();
+          }
+
+      if (!node->getOpCode().isFunctionCall())
+         continue;
+
+      TR::MethodSymbol *methodSymbol = node->getSymbolReference()->getSymbol()->castToMethodSymbol();
+
+      if (!isVectorAPIMethod(methodSymbol))
+         continue;
+
+      const char *reason = notExpandedReason;
+
+      if (!reason)
+         {
+         int32_t id = node->getSymbolReference()->getReferenceNumber();
+
+         if (id < _aliasTable.size())
+            {
+            // the reason is recorded either on the symbol reference itself or on the alias class it belongs to
+            reason = _aliasTable[id]._invalidReason;
+
+            int32_t classId = _aliasTable[id]._classId;
+            if (!reason && classId > 0 && classId < _aliasTable.size())
+               reason = _aliasTable[classId]._invalidReason;
+            }
+
+         if (!reason)
+            reason = boxingAllowed() ? "operands or result are boxed" : "unknown reason";
+         }
+
+      TR::Method *method = methodSymbol->getMethod();
+      TR_VerboseLog::writeLine(TR_Vlog_VECTOR_API, "Did not vectorize %.*s (bci %d, inlined site %d) in %s at %s %s: %s",
+                               method->nameLength(), method->nameChars(),
+                               node->getByteCodeIndex(), node->getInlinedSiteIndex(),
+                               comp()->signature(), comp()->getHotnessName(comp()->getMethodHotness()),
+                               comp()->isDLT() ? "DLT" : "", reason);
+      numNotExpanded++;
+      }
+
+   if (numNotExpanded > 0)
+      {
+      TR_VerboseLog::writeLine(TR_Vlog_VECTOR_API, "%d intrinsic calls were not vectorized in %s at %s %s",
+                               numNotExpanded, comp()->signature(), comp()->getHotnessName(comp()->getMethodHotness()),
+                               comp()->isDLT() ? "DLT" : "");
+      }
+   }
+
 bool
 TR_VectorAPIExpansion::validateSymRef(int32_t id, int32_t i, vec_sz_t &classLength, TR::DataType &classType,
                                       int32_t vectorAliasTableElement::* classField)
@@ -998,6 +1068,7 @@ TR_VectorAPIExpansion::validateSymRef(int32_t id, int32_t i, vec_sz_t &classLeng
       {
       if (_trace)
          traceMsg(comp(), "%s invalidating12 class #%d due to symref #%d\n", OPT_DETAILS_VECTOR, id, i);
+      setInvalidReason(id, _aliasTable[i]._invalidReason);
       return false;
       }
    else if (symRef->getSymbol()->isShadow() ||
@@ -1013,6 +1084,7 @@ TR_VectorAPIExpansion::validateSymRef(int32_t id, int32_t i, vec_sz_t &classLeng
 
       if (_trace)
          traceMsg(comp(), "%s invalidating13 class #%d due to symref #%d\n", OPT_DETAILS_VECTOR, id, i);
+      setInvalidReason(id, "stored to a field, a static or a parameter");
       return false;
       }
    else if (symRef->getSymbol()->isMethod())
@@ -1027,6 +1099,7 @@ TR_VectorAPIExpansion::validateSymRef(int32_t id, int32_t i, vec_sz_t &classLeng
             {
             if (_trace)
                traceMsg(comp(), "%s Invalidating14 class #%d due to non-API method #%d\n", OPT_DETAILS_VECTOR, id, i);
+            setInvalidReason(id, "passed to a method that is not a Vector API intrinsic");
             return false;
             }
          }
@@ -1063,6 +1136,7 @@ TR_VectorAPIExpansion::validateSymRef(int32_t id, int32_t i, vec_sz_t &classLeng
          if (_trace)
             traceMsg(comp(), "%s invalidating15 class #%d due to symref #%d temp length %d, class length %d\n",
                                OPT_DETAILS_VECTOR, id, i, tempLength, classLength);
+         setInvalidReason(id, "variable holds vectors of different lengths");
          return false;
          }
 
@@ -1086,6 +1160,7 @@ TR_VectorAPIExpansion::validateSymRef(int32_t id, int32_t i, vec_sz_t &classLeng
          if (_trace)
             traceMsg(comp(), "%s invalidating16 class #%d due to symref #%d temp type %s, class type %s\n",
                      OPT_DETAILS_VECTOR, id, i, TR::DataType::getName(tempType), TR::DataType::getName(classType));
+         setInvalidReason(id, "variable holds vectors of different element types");
          return false;
          }
       }
@@ -1175,6 +1250,7 @@ TR_VectorAPIExpansion::validateVectorAliasClasses(TR_BitVector *vectorAliasTable
 
                _aliasTable[id]._cantVectorize = true;
                _aliasTable[id]._cantScalarize = true;
+               setInvalidReason(id, "variable holds different kinds of Vector API objects");
                vectorClass = false;
                break;
                }
@@ -1190,6 +1266,7 @@ TR_VectorAPIExpansion::validateVectorAliasClasses(TR_BitVector *vectorAliasTable
 
                   if (_aliasTable[id]._cantScalarize)
                      {
+                     setInvalidReason(id, "operation can be neither vectorized nor scalarized on this platform");
                      vectorClass = false;
                      break;
                      }
@@ -1206,6 +1283,7 @@ TR_VectorAPIExpansion::validateVectorAliasClasses(TR_BitVector *vectorAliasTable
                   {
                   if (!boxingAllowed())
                      {
+                     setInvalidReason(id, "operation can be neither vectorized nor scalarized on this platform");
                      vectorClass = false;
                      break;
                      }
@@ -1236,6 +1314,7 @@ TR_VectorAPIExpansion::validateVectorAliasClasses(TR_BitVector *vectorAliasTable
          traceMsg(comp(), "Invalidating17 %s class #%d\n", tempClasses ? "temp" : "whole", id);
 
       _aliasTable[id].*classField = -1;
+      setInvalidReason(id, "vector length or element type is not known");
 
       int32_t &wholeClass = _aliasTable[id]._classId;
 
@@ -1248,6 +1327,7 @@ TR_VectorAPIExpansion::validateVectorAliasClasses(TR_BitVector *vectorAliasTable
                traceMsg(comp(), "Invalidating18 whole class #%d due to temp class #%d\n", wholeClass, id);
 
             _aliasTable[wholeClass]._classId = -1;
+            setInvalidReason(wholeClass, _aliasTable[id]._invalidReason);
             wholeClass = -1;
             }
          }
@@ -1450,6 +1530,7 @@ TR_VectorAPIExpansion::boxChild(TR::TreeTop *treeTop, TR::Node *node, uint32_t i
       int32_t classId = _aliasTable[child->getSymbolReference()->getReferenceNumber()]._classId;
 
       _aliasTable[classId]._classId = -1;
+      setInvalidReason(classId, "boxing is not supported for this vector shape");
 
       if (_trace)
          traceMsg(comp(), "Invalidated class #%d due to unsupported boxing of %d child of node %p in %s\n",
@@ -3284,8 +3365,8 @@ TR::ILOpCodes TR_VectorAPIExpansion::ILOpcodeFromVectorAPIOpcode(TR::Compilation
          case VECTOR_OP_SUB: return scalar ? TR::ILOpCode::subtractOpCode(elementType) : TR::ILOpCode::createVectorOpCode(TR::vsub, vectorType);
          case VECTOR_OP_MUL: return scalar ? TR::ILOpCode::multiplyOpCode(elementType) : TR::ILOpCode::createVectorOpCode(TR::vmul, vectorType);
          case VECTOR_OP_DIV: return scalar ? TR::ILOpCode::divideOpCode(elementType) : TR::ILOpCode::createVectorOpCode(TR::vdiv, vectorType);
-         case VECTOR_OP_MIN: return scalar ? TR::BadILOp : TR::ILOpCode::createVectorOpCode(TR::vmin, vectorType);
-         case VECTOR_OP_MAX: return scalar ? TR::BadILOp : TR::ILOpCode::createVectorOpCode(TR::vmax, vectorType);
+         case VECTOR_OP_MIN: return scalar ? scalarMinMaxOpCode(comp, elementType, false) : TR::ILOpCode::createVectorOpCode(TR::vmin, vectorType);
+         case VECTOR_OP_MAX: return scalar ? scalarMinMaxOpCode(comp, elementType, true) : TR::ILOpCode::createVectorOpCode(TR::vmax, vectorType);
          case VECTOR_OP_AND: return scalar ? TR::ILOpCode::andOpCode(elementType) : TR::ILOpCode::createVectorOpCode(TR::vand, vectorType);
          case VECTOR_OP_OR:  return scalar ? TR::ILOpCode::orOpCode(elementType)  : TR::ILOpCode::createVectorOpCode(TR::vor, vectorType);
          case VECTOR_OP_XOR: return scalar ? TR::ILOpCode::xorOpCode(elementType) : TR::ILOpCode::createVectorOpCode(TR::vxor, vectorType);
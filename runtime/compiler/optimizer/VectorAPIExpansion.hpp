@@ -294,7 +294,7 @@ class TR_VectorAPIExpansion : public TR::Optimization
       vectorAliasTableElement() : _symRef(NULL), _vecSymRef(NULL),
                                   _vecLen(vec_len_default), _elementType(TR::NoType), _aliases(NULL), _classId(0),
                                   _cantVectorize(false), _cantScalarize(false), _objectType(Unknown),
-                                  _tempAliases(NULL), _tempClassId(0) {}
+                                  _tempAliases(NULL), _tempClassId(0), _invalidReason(NULL) {}
 
       TR::SymbolReference *_symRef;
       union
@@ -316,6 +316,11 @@ class TR_VectorAPIExpansion : public TR::Optimization
 
       TR_BitVector        *_tempAliases;
       int32_t              _tempClassId;
+
+     /** \brief
+      *   Why the symbol reference or class was invalidated, reported in the verbose log
+      */
+      const char          *_invalidReason;
       };
 
 
@@ -393,14 +398,20 @@ class TR_VectorAPIExpansion : public TR::Optimization
     *  \param comp
     *     Compilation
     *
-    *  \param reportFoundMethods
-    *     Report found Vector API intrinsics
-    *
     *  \return
     *     \c true if it finds any methods,
     *     \c false otherwise
     */
-   static bool findVectorMethods(TR::Compilation *comp, bool reportFoundMethods = false);
+   static bool findVectorMethods(TR::Compilation *comp);
+
+   /** \brief
+    *     Writes a verbose log line for each Vector API intrinsic that is still called
+    *     in the method being compiled, with the reason it was not vectorized or scalarized
+    *
+    *  \param notExpandedReason
+    *     Reason that applies to every intrinsic if the expansion was not attempted, or \c NULL
+    */
+   void reportNotExpandedIntrinsics(const char *notExpandedReason);
 
    /** \brief
     *     Checks if boxing/unboxing is supported
@@ -665,8 +676,24 @@ class TR_VectorAPIExpansion : public TR::Optimization
    *   \param symRef
    *     Symbol reference
    *
+   *   \param reason
+   *     Reason reported by \c reportNotExpandedIntrinsics()
+   *
+   */
+   void invalidateSymRef(TR::SymbolReference *symRef, const char *reason);
+
+  /** \brief
+   *     Records why a symbol reference or alias class was invalidated, unless a reason
+   *     was already recorded
+   *
+   *   \param id
+   *     Symbol reference number or class id
+   *
+   *   \param reason
+   *     Reason reported by \c reportNotExpandedIntrinsics()
+   *
    */
-   void invalidateSymRef(TR::SymbolReference *symRef);
+   void setInvalidReason(int32_t id, const char *reason);
 
   /** \brief
    *     Adds symbol references of two nodes to each other alias sets
@@ -1672,6 +1699,40 @@ class TR_VectorAPIExpansion : public TR::Optimization
       return result;
       }
 
+  /** \brief
+   *    Returns scalar min or max opcode for the element type
+   *
+   *   \param comp
+   *      Compilation
+   *
+   *   \param elementType
+   *      Element type, with Byte and Short already promoted to Int
+   *
+   *   \param isMax
+   *      true for max, false for min
+   *
+   *   \return
+   *      scalar opcode, or TR::BadILOp if it is not supported
+   */
+   static TR::ILOpCodes scalarMinMaxOpCode(TR::Compilation *comp, TR::DataType elementType, bool isMax)
+      {
+      switch (elementType)
+         {
+         case TR::Int32:
+            return isMax ? TR::imax : TR::imin;
+         case TR::Int64:
+            return isMax ? TR::lmax : TR::lmin;
+         case TR::Float:
+            if (!comp->cg()->getSupportsInlineMath_MaxMin_FD()) return TR::BadILOp;
+            return isMax ? TR::fmax : TR::fmin;
+         case TR::Double:
+            if (!comp->cg()->getSupportsInlineMath_MaxMin_FD()) return TR::BadILOp;
+            return isMax ? TR::dmax : TR::dmin;
+         default:
+            return TR::BadILOp;
+         }
+      }
+
   /** \brief
    *    Reports missing opcode and returns TR::BadILOp
    *
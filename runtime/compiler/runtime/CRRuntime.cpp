@@ -37,6 +37,7 @@
 #include "env/RawAllocator.hpp"
 #include "env/SystemSegmentProvider.hpp"
 #include "env/VerboseLog.hpp"
+#include "env/WarmStartProfile.hpp"
 #include "infra/Assert.hpp"
 #include "infra/CriticalSection.hpp"
 #include "infra/Monitor.hpp"
@@ -806,6 +807,10 @@ TR::CRRuntime::prepareForCheckpoint()
                        "Checkpoint");
    }
 
+   // Persist the profile after the compilations for checkpoint have completed
+   if (auto warmStartProfile = getCompInfo()->getPersistentInfo()->getWarmStartProfile())
+      warmStartProfile->storeInSharedCache(vmThread);
+
    if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseCheckpointRestore))
       TR_VerboseLog::writeLineLocked(TR_Vlog_CHECKPOINT_RESTORE, "Ready for checkpoint");
 
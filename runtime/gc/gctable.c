@@ -267,8 +267,15 @@ J9MemoryManagerFunctions MemoryManagerFunctions = {
 	j9gc_stringHashFn,
 	j9gc_stringHashEqualFn,
 	j9gc_ensureLockedSynchronizersIntegrity,
+	j9gc_get_allocation_site_sampling_depth,
+	j9gc_get_allocation_sites,
+	j9gc_reset_allocation_sites,
+	j9gc_get_idle_heap_uncommit_stats,
+	j9gc_get_reference_processing_stats,
+	j9gc_get_cycle_copy_stats,
 #if defined(J9VM_OPT_CRIU_SUPPORT)
 	j9gc_prepare_for_checkpoint,
+	j9gc_shrink_for_checkpoint,
 	j9gc_reinitialize_for_restore,
 #endif /* defined(J9VM_OPT_CRIU_SUPPORT) */
 };
@@ -168,6 +168,12 @@ GC_FinalizeListManager::addReferenceObjects(j9object_t head, j9object_t tail, UD
 	_referenceObjects = head;
 	_referenceObjectCount += objectCount;
 
+	/* The list is also reset and re-added while the GC fixes up its roots, keep the original backlog start time */
+	if (0 == _referenceBacklogStartTime) {
+		OMRPORT_ACCESS_FROM_OMRVM(_extensions->getOmrVM());
+		_referenceBacklogStartTime = omrtime_hires_clock();
+	}
+
 	unlock();
 }
 
@@ -179,11 +185,70 @@ GC_FinalizeListManager::popReferenceObject()
 	if (NULL != value) {
 		_referenceObjects = _extensions->accessBarrier->getReferenceLink(value);
 		_referenceObjectCount -= 1;
+		_referenceObjectsInFlight += 1;
 	}
 
 	return value;
 }
 
+UDATA
+GC_FinalizeListManager::popReferenceObjects(j9object_t *buffer, UDATA maxCount)
+{
+	Assert_MM_true(1 == omrthread_monitor_owned_by_self(_mutex)); /* caller must be holding _mutex */
+
+	UDATA count = 0;
+	while (count < maxCount) {
+		j9object_t referenceObject = popReferenceObject();
+		if (NULL == referenceObject) {
+			break;
+		}
+		buffer[count] = referenceObject;
+		count += 1;
+	}
+
+	return count;
+}
+
+bool
+GC_FinalizeListManager::completeReferenceObjects(UDATA count)
+{
+	lock();
+
+	Assert_MM_true(count <= _referenceObjectsInFlight);
+	_referenceObjectsInFlight -= count;
+	_referenceObjectsProcessed += count;
+
+	bool complete = isReferenceProcessingComplete();
+	if (complete && (0 != _referenceBacklogStartTime)) {
+		OMRPORT_ACCESS_FROM_OMRVM(_extensions->getOmrVM());
+		U_64 latency = omrtime_hires_delta(_referenceBacklogStartTime, omrtime_hires_clock(), OMRPORT_TIME_DELTA_IN_NANOSECONDS);
+		_referenceBacklogStartTime = 0;
+		_referenceBacklogDrainCount += 1;
+		_referenceBacklogTotalLatency += latency;
+		if (latency > _referenceBacklogMaxLatency) {
+			_referenceBacklogMaxLatency = latency;
+		}
+	}
+
+	unlock();
+
+	return complete;
+}
+
+void
+GC_FinalizeListManager::getReferenceProcessingStats(UDATA *pending, UDATA *processed, UDATA *drainCount, U_64 *totalLatency, U_64 *maxLatency)
+{
+	lock();
+
+	*pending = _referenceObjectCount + _referenceObjectsInFlight;
+	*processed = _referenceObjectsProcessed;
+	*drainCount = _referenceBacklogDrainCount;
+	*totalLatency = _referenceBacklogTotalLatency;
+	*maxLatency = _referenceBacklogMaxLatency;
+
+	unlock();
+}
+
 void
 GC_FinalizeListManager::addClassLoaders(J9ClassLoader *head, J9ClassLoader *tail, UDATA count)
 {
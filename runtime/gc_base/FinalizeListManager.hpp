@@ -75,6 +75,12 @@ private:
     UDATA _referenceObjectCount; /** count of the reference object */
     J9ClassLoader *_classLoaders; /**< head of the linked list of unloaded classloaders which have open native libraries  */
     UDATA _classLoaderCount; /** count of the class loaders */
+    UDATA _referenceObjectsInFlight; /**< count of reference objects popped from the list whose enqueueImpl() has not returned yet */
+    UDATA _referenceObjectsProcessed; /**< total count of reference objects handed to enqueueImpl() */
+    U_64 _referenceBacklogStartTime; /**< hires clock when the reference list last became non-empty, 0 while there is no backlog */
+    UDATA _referenceBacklogDrainCount; /**< number of times the reference backlog was drained */
+    U_64 _referenceBacklogTotalLatency; /**< sum of the time taken to drain each reference backlog, in nanoseconds */
+    U_64 _referenceBacklogMaxLatency; /**< longest time taken to drain a reference backlog, in nanoseconds */
 protected:
 public:
     
@@ -137,6 +143,46 @@ public:
 	virtual UDATA getDefaultCount() {return _defaultFinalizableObjectCount;}
 	MMINLINE UDATA getClassloaderCount() {return _classLoaderCount;}
 	MMINLINE UDATA getReferenceCount() {return _referenceObjectCount;}
+	MMINLINE UDATA getReferenceInFlightCount() {return _referenceObjectsInFlight;}
+
+	/**
+	 * Check whether all reference objects handed over by the GC have been enqueued.
+	 * @return true if the reference list is empty and no reference is being enqueued
+	 */
+	MMINLINE bool isReferenceProcessingComplete() {return (0 == _referenceObjectCount) && (0 == _referenceObjectsInFlight);}
+
+	/**
+	 * Pop up to maxCount reference objects from the reference list in one go, so that
+	 * several reference handler threads can drain the list without contending on each object.
+	 * Popped objects are counted as in flight until completeReferenceObjects() is called.
+	 *
+	 * @note Must be called while holding this class' _mutex
+	 *
+	 * @param buffer[out] the array receiving the popped reference objects
+	 * @param maxCount[in] the capacity of buffer
+	 * @return the number of reference objects popped
+	 */
+	UDATA popReferenceObjects(j9object_t *buffer, UDATA maxCount);
+
+	/**
+	 * Record that enqueueImpl() has returned for reference objects previously popped from the list.
+	 * Updates the reference backlog latency when the backlog is drained.
+	 *
+	 * @param count[in] the number of reference objects processed
+	 * @return true if reference processing is now complete
+	 */
+	bool completeReferenceObjects(UDATA count);
+
+	/**
+	 * Return the reference processing statistics.
+	 *
+	 * @param pending[out] number of reference objects waiting to be, or being, enqueued
+	 * @param processed[out] total number of reference objects enqueued
+	 * @param drainCount[out] number of times the reference backlog was drained
+	 * @param totalLatency[out] sum of the backlog drain times in nanoseconds
+	 * @param maxLatency[out] longest backlog drain time in nanoseconds
+	 */
+	void getReferenceProcessingStats(UDATA *pending, UDATA *processed, UDATA *drainCount, U_64 *totalLatency, U_64 *maxLatency);
 
 	static GC_FinalizeListManager	*newInstance(MM_EnvironmentBase *env);
 	virtual void kill(MM_EnvironmentBase *env);
@@ -346,6 +392,12 @@ public:
 	    ,_referenceObjectCount(0)
 	    ,_classLoaders(NULL)
 	    ,_classLoaderCount(0)
+	    ,_referenceObjectsInFlight(0)
+	    ,_referenceObjectsProcessed(0)
+	    ,_referenceBacklogStartTime(0)
+	    ,_referenceBacklogDrainCount(0)
+	    ,_referenceBacklogTotalLatency(0)
+	    ,_referenceBacklogMaxLatency(0)
 	{
 		_typeId = __FUNCTION__;
 	};
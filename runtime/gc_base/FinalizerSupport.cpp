@@ -166,6 +166,9 @@ finalizeForcedUnfinalizedToFinalizable(J9VMThread *vmThread)
 #define FINALIZE_WORKER_MODE_FORCED 1
 #define FINALIZE_WORKER_MODE_CL_UNLOAD 2
 
+/* How long, in milliseconds, VM shutdown waits for the reference handler threads to exit before abandoning them */
+#define REFERENCE_HANDLER_SHUTDOWN_TIMEOUT 1000
+
 struct finalizeWorkerData {
 	omrthread_monitor_t monitor;
 	J9JavaVM *vm;
@@ -181,6 +184,8 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg);
 IDATA FinalizeMainRunFinalization(J9JavaVM * vm, omrthread_t * indirectWorkerThreadHandle, struct finalizeWorkerData **indirectWorkerData, IDATA finalizeCycleLimit, IDATA mode);
 static int J9THREAD_PROC FinalizeMainThread(void *javaVM);
 static int  J9THREAD_PROC gpProtectedFinalizeWorkerThread(void *entryArg);
+static int J9THREAD_PROC gpProtectedReferenceHandlerThread(void *entryArg);
+static void wakeReferenceHandlerThreads(J9JavaVM *vm);
 
 static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 {
@@ -242,6 +247,11 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 			currentWaitTime = finalizeCycleInterval;
 		}
 
+		/* Let the reference handler threads enqueue references in parallel with the worker */
+		if ((NULL != extensions->referenceHandlerMonitor) && (0 != finalizeListManager->getReferenceCount())) {
+			wakeReferenceHandlerThreads(vm);
+		}
+
 		/* Adjust the wait time based on how full the finalizable queue is (magic for now) */
 		finalizableListUsed = finalizeListManager->getJobCount();
 		if(0 != finalizableListUsed) {
@@ -575,10 +585,13 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 
 			/* processing will release/acquire VM access */
 			process(env, finalizeJob, j9VMInternalsClass, runFinalizeMID, referenceEnqueueImplMID);
+			if (FINALIZE_JOB_TYPE_REFERENCE == (finalizeJob->type & FINALIZE_JOB_TYPE_REFERENCE)) {
+				finalizeListManager->completeReferenceObjects(1);
+			}
 
 			if ((NULL != vm->processReferenceMonitor) && (0 != vm->processReferenceActive)) {
 				omrthread_monitor_enter(vm->processReferenceMonitor);
-				if (0 == finalizeListManager->getReferenceCount()) {
+				if (finalizeListManager->isReferenceProcessingComplete()) {
 					/* There is no more pending reference. */
 					vm->processReferenceActive = 0;
 				}
@@ -792,9 +805,313 @@ gpProtectedFinalizeWorkerThread(void *entryArg)
 	return 0;
 }
 
+/**
+ * Pop a batch of references from the reference list and call enqueueImpl() on each of them.
+ * The batch is held in JNI local references while VM access is released.
+ *
+ * @param env the reference handler thread, which must not hold VM access
+ * @param batch scratch array receiving the popped reference objects
+ * @param localRefs scratch array receiving the local references to the popped objects
+ * @param refMID the method ID of Reference.enqueueImpl()
+ * @return the number of references processed, 0 if the reference list was empty
+ */
+static UDATA
+processReferenceBatch(J9VMThread *env, j9object_t *batch, jobject *localRefs, jmethodID refMID)
+{
+	J9JavaVM *vm = env->javaVM;
+	J9InternalVMFunctions *fns = vm->internalVMFunctions;
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	GC_FinalizeListManager *finalizeListManager = extensions->finalizeListManager;
+	UDATA count = 0;
+
+	fns->internalEnterVMFromJNI(env);
+	finalizeListManager->lock();
+	count = finalizeListManager->popReferenceObjects(batch, extensions->referenceHandlerBatchSize);
+	if ((0 != count) && (NULL != vm->processReferenceMonitor)) {
+		/*
+		 * Mark processing active before the list lock is released, otherwise a waiter could see
+		 * an empty list and no active processing while the popped batch is still to be enqueued.
+		 * Holders of processReferenceMonitor never take the list lock, so the nesting is safe.
+		 */
+		omrthread_monitor_enter(vm->processReferenceMonitor);
+		vm->processReferenceActive = 1;
+		omrthread_monitor_exit(vm->processReferenceMonitor);
+	}
+	finalizeListManager->unlock();
+	for (UDATA i = 0; i < count; i++) {
+		localRefs[i] = fns->j9jni_createLocalRef((JNIEnv *)env, batch[i]);
+	}
+	fns->internalReleaseVMAccess(env);
+
+	if (0 != count) {
+		for (UDATA i = 0; i < count; i++) {
+			if ((NULL != refMID) && (NULL != localRefs[i])) {
+#if defined(J9VM_PORT_ZOS_CEEHDLRSUPPORT)
+				/* Tell the interpreter to not register a user condition handler for this callin */
+				env->privateFlags |= J9_PRIVATE_FLAGS_SKIP_THREAD_SIGNAL_PROTECTION;
+#endif
+				((JNIEnv *)env)->CallBooleanMethod(localRefs[i], refMID);
+				((JNIEnv *)env)->ExceptionClear();
+			}
+			((JNIEnv *)env)->DeleteLocalRef(localRefs[i]);
+		}
+
+		bool complete = finalizeListManager->completeReferenceObjects(count);
+		if (NULL != vm->processReferenceMonitor) {
+			omrthread_monitor_enter(vm->processReferenceMonitor);
+			if (complete) {
+				vm->processReferenceActive = 0;
+			}
+			omrthread_monitor_notify_all(vm->processReferenceMonitor);
+			omrthread_monitor_exit(vm->processReferenceMonitor);
+		}
+	}
+
+	return count;
+}
+
+/**
+ * Record the J9VMThread of the calling reference handler thread, so that shutdown can tell whether it is suspended.
+ * Must be called with referenceHandlerMonitor held; the handle of the thread is stored before the monitor is released
+ * by wakeReferenceHandlerThreads().
+ *
+ * @param vm the Java VM
+ * @param vmThread the J9VMThread of the caller, or NULL once it no longer runs Java code
+ */
+static void
+setReferenceHandlerVMThread(J9JavaVM *vm, J9VMThread *vmThread)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	omrthread_t self = omrthread_self();
+
+	for (UDATA i = 0; i < extensions->referenceHandlerThreadsStarted; i++) {
+		if (self == extensions->referenceHandlerThreadHandles[i]) {
+			extensions->referenceHandlerVMThreads[i] = vmThread;
+			break;
+		}
+	}
+}
+
+/**
+ * Reference handler thread, started when -Xgc:referenceHandlerThreads=<n> is set.
+ * Drains the reference list in batches alongside the finalize worker, so that a large
+ * backlog of cleared references (e.g. Cleaners of direct buffers) is enqueued in parallel
+ * rather than one reference at a time on the single finalize worker.
+ */
+static int J9THREAD_PROC
+ReferenceHandlerThread(void *arg)
+{
+	J9JavaVM *vm = (J9JavaVM *)arg;
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	MM_Forge *forge = extensions->getForge();
+	GC_FinalizeListManager *finalizeListManager = extensions->finalizeListManager;
+	omrthread_monitor_t monitor = extensions->referenceHandlerMonitor;
+	J9InternalVMFunctions *fns = vm->internalVMFunctions;
+	J9VMThread *env = NULL;
+	jmethodID referenceEnqueueImplMID = NULL;
+	UDATA batchSize = extensions->referenceHandlerBatchSize;
+	j9object_t *batch = (j9object_t *)forge->allocate(batchSize * sizeof(j9object_t), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+	jobject *localRefs = (jobject *)forge->allocate(batchSize * sizeof(jobject), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+
+	if ((NULL != batch) && (NULL != localRefs)
+		&& (JNI_OK == fns->attachSystemDaemonThread(vm, &env, "Reference handler thread"))
+	) {
+		fns->internalEnterVMFromJNI(env);
+		env->privateFlags |= J9_PRIVATE_FLAGS_USE_BOOTSTRAP_LOADER;
+		fns->internalReleaseVMAccess(env);
+		env->gpProtected = 1;
+
+		if (J9_ARE_ANY_BITS_SET(vm->jclFlags, J9_JCL_FLAG_FINALIZATION)) {
+			jclass referenceClazz = ((JNIEnv *)env)->FindClass("java/lang/ref/Reference");
+			if (NULL != referenceClazz) {
+				referenceEnqueueImplMID = ((JNIEnv *)env)->GetMethodID(referenceClazz, "enqueueImpl", "()Z");
+			}
+			if (NULL == referenceEnqueueImplMID) {
+				((JNIEnv *)env)->ExceptionClear();
+			}
+		}
+
+		omrthread_monitor_enter(monitor);
+		setReferenceHandlerVMThread(vm, env);
+		while (!extensions->referenceHandlerShutdown) {
+			if (0 == finalizeListManager->getReferenceCount()) {
+				omrthread_monitor_wait(monitor);
+				continue;
+			}
+			omrthread_monitor_exit(monitor);
+			/* Stop between batches on shutdown, the rest of a large backlog is not worth delaying VM exit for */
+			while (!extensions->referenceHandlerShutdown
+				&& (0 != processReferenceBatch(env, batch, localRefs, referenceEnqueueImplMID))
+			) {
+				fns->jniResetStackReferences((JNIEnv *)env);
+			}
+			omrthread_monitor_enter(monitor);
+		}
+		setReferenceHandlerVMThread(vm, NULL);
+		omrthread_monitor_exit(monitor);
+
+		((JavaVM *)vm)->DetachCurrentThread();
+	}
+
+	if (NULL != batch) {
+		forge->free(batch);
+	}
+	if (NULL != localRefs) {
+		forge->free(localRefs);
+	}
+
+	omrthread_monitor_enter(monitor);
+	extensions->referenceHandlerThreadsRunning -= 1;
+	omrthread_monitor_notify_all(monitor);
+	omrthread_exit(monitor); /* exit the monitor, and terminate the thread */
+
+	/* NO EXECUTION GUARANTEE BEYOND THIS POINT */
+
+	return 0;
+}
+
+static UDATA
+ReferenceHandlerThreadGlue(J9PortLibrary* portLib, void* userData)
+{
+	return ReferenceHandlerThread(userData);
+}
+
+static int J9THREAD_PROC
+gpProtectedReferenceHandlerThread(void *entryArg)
+{
+	J9JavaVM *vm = (J9JavaVM *)entryArg;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	UDATA rc;
+
+	j9sig_protect(ReferenceHandlerThreadGlue, vm,
+		vm->internalVMFunctions->structuredSignalHandlerVM, vm,
+		J9PORT_SIG_FLAG_SIGALLSYNC | J9PORT_SIG_FLAG_MAY_CONTINUE_EXECUTION,
+		&rc);
+
+	return 0;
+}
+
+/**
+ * Start the reference handler threads on first use and wake them up to drain the reference list.
+ * Called by the finalize main thread after the GC has handed over reference objects.
+ */
+static void
+wakeReferenceHandlerThreads(J9JavaVM *vm)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+
+	omrthread_monitor_enter(extensions->referenceHandlerMonitor);
+	while (!extensions->referenceHandlerShutdown && (extensions->referenceHandlerThreadsStarted < extensions->referenceHandlerThreads)) {
+		omrthread_t handle = NULL;
+		IDATA result = vm->internalVMFunctions->createThreadWithCategory(
+							&handle,
+							vm->defaultOSStackSize,
+							extensions->finalizeWorkerPriority,
+							0,
+							&gpProtectedReferenceHandlerThread,
+							vm,
+							J9THREAD_CATEGORY_APPLICATION_THREAD);
+		if (0 != result) {
+			/* Continue with the threads that could be started, the finalize worker still enqueues references */
+			break;
+		}
+		extensions->referenceHandlerThreadHandles[extensions->referenceHandlerThreadsStarted] = handle;
+		extensions->referenceHandlerVMThreads[extensions->referenceHandlerThreadsStarted] = NULL;
+		extensions->referenceHandlerThreadsStarted += 1;
+		extensions->referenceHandlerThreadsRunning += 1;
+	}
+	omrthread_monitor_notify_all(extensions->referenceHandlerMonitor);
+	omrthread_monitor_exit(extensions->referenceHandlerMonitor);
+}
+
+/**
+ * Count the reference handler threads shutdown has to wait for: those that have not exited,
+ * less those suspended in Java, which would never get to exit.
+ * Must be called with referenceHandlerMonitor held.
+ */
+static UDATA
+countReferenceHandlersToWaitFor(J9JavaVM *vm)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	UDATA count = extensions->referenceHandlerThreadsRunning;
+
+	for (UDATA i = 0; i < extensions->referenceHandlerThreadsStarted; i++) {
+		J9VMThread *vmThread = extensions->referenceHandlerVMThreads[i];
+		if ((NULL != vmThread) && J9_ARE_ANY_BITS_SET(vmThread->publicFlags, J9_PUBLIC_FLAGS_HALT_THREAD_JAVA_SUSPEND)) {
+			count -= 1;
+		}
+	}
+
+	return count;
+}
+
+/**
+ * Ask the reference handler threads to exit and wait for them, unless called on one of them.
+ * The wait is bounded by REFERENCE_HANDLER_SHUTDOWN_TIMEOUT: threads that are suspended, or stuck
+ * in a Cleaner or reference queue action, are abandoned like an overrunning finalize worker, and
+ * the monitor and thread tables they still use are left allocated.
+ */
+static void
+shutdownReferenceHandlerThreads(J9JavaVM *vm)
+{
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	omrthread_t self = omrthread_self();
+	bool waitForHandlers = true;
+	bool handlersExited = false;
+
+	omrthread_monitor_enter(extensions->referenceHandlerMonitor);
+	extensions->referenceHandlerShutdown = true;
+	omrthread_monitor_notify_all(extensions->referenceHandlerMonitor);
+	for (UDATA i = 0; i < extensions->referenceHandlerThreadsStarted; i++) {
+		if (self == extensions->referenceHandlerThreadHandles[i]) {
+			/* Shutdown was requested from a Cleaner or reference queue action */
+			waitForHandlers = false;
+			break;
+		}
+	}
+	if (waitForHandlers) {
+		I_64 deadline = j9time_current_time_millis() + REFERENCE_HANDLER_SHUTDOWN_TIMEOUT;
+		while (0 != countReferenceHandlersToWaitFor(vm)) {
+			I_64 remaining = deadline - j9time_current_time_millis();
+			if (remaining <= 0) {
+				break;
+			}
+			omrthread_monitor_wait_timed(extensions->referenceHandlerMonitor, remaining, 0);
+		}
+		handlersExited = (0 == extensions->referenceHandlerThreadsRunning);
+	}
+	omrthread_monitor_exit(extensions->referenceHandlerMonitor);
+
+	if (handlersExited) {
+		/* The handler threads exit the monitor as they terminate, it is safe to destroy it now */
+		omrthread_monitor_destroy(extensions->referenceHandlerMonitor);
+		extensions->referenceHandlerMonitor = NULL;
+		extensions->getForge()->free(extensions->referenceHandlerThreadHandles);
+		extensions->referenceHandlerThreadHandles = NULL;
+		extensions->getForge()->free(extensions->referenceHandlerVMThreads);
+		extensions->referenceHandlerVMThreads = NULL;
+	}
+}
+
 int j9gc_finalizer_startup(J9JavaVM * vm)
 {
 	IDATA result;
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+
+	if (0 != extensions->referenceHandlerThreads) {
+		extensions->referenceHandlerThreadHandles = (omrthread_t *)extensions->getForge()->allocate(
+				extensions->referenceHandlerThreads * sizeof(omrthread_t), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+		extensions->referenceHandlerVMThreads = (J9VMThread **)extensions->getForge()->allocate(
+				extensions->referenceHandlerThreads * sizeof(J9VMThread *), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+		if ((NULL == extensions->referenceHandlerThreadHandles)
+			|| (NULL == extensions->referenceHandlerVMThreads)
+			|| (0 != omrthread_monitor_init_with_name(&extensions->referenceHandlerMonitor, 0, "GC reference handler"))
+		) {
+			/* Fall back to enqueuing references on the finalize worker only */
+			extensions->referenceHandlerMonitor = NULL;
+		}
+	}
 
 	omrthread_monitor_enter(vm->finalizeMainMonitor);
 
@@ -872,6 +1189,10 @@ void j9gc_finalizer_shutdown(J9JavaVM * vm)
 		}
 	}
 	omrthread_monitor_exit(vm->finalizeMainMonitor);
+
+	if (NULL != MM_GCExtensions::getExtensions(vm)->referenceHandlerMonitor) {
+		shutdownReferenceHandlerThreads(vm);
+	}
 }
 
 /**
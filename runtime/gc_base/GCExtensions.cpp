@@ -31,11 +31,13 @@
 #include "ModronAssertions.h"
 #include "util_api.h"
 
+#include "AllocationSiteStats.hpp"
 #include "AtomicSupport.hpp"
 #include "EnvironmentBase.hpp"
 #include "Forge.hpp"
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
  #include  "IdleGCManager.hpp"
+ #include  "IdleHeapUncommitManager.hpp"
 #endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
 #include "MemorySpace.hpp"
 #include "MemorySubSpace.hpp"
@@ -182,8 +184,18 @@ MM_GCExtensions::tearDown(MM_EnvironmentBase *env)
 		idleGCManager->kill(env);
 		idleGCManager = NULL;
 	}
+
+	if (NULL != idleHeapUncommitManager) {
+		idleHeapUncommitManager->kill(env);
+		idleHeapUncommitManager = NULL;
+	}
 #endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
 
+	if (NULL != allocationSiteStats) {
+		allocationSiteStats->kill(env);
+		allocationSiteStats = NULL;
+	}
+
 	MM_GCExtensionsBase::tearDown(env);
 }
 
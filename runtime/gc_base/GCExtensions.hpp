@@ -70,8 +70,11 @@ class GC_FinalizeListManager;
 class MM_ReferenceObjectList;
 #endif /* J9VM_GC_REALTIME */
 
+class MM_AllocationSiteStats;
+
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
 class MM_IdleGCManager;
+class MM_IdleHeapUncommitManager;
 #endif
 
 #define DEFAULT_SURVIVOR_MINIMUM_FREESIZE 	2048
@@ -158,6 +161,14 @@ public:
 #if defined(J9VM_GC_FINALIZATION)
 	uintptr_t finalizeMainPriority; /**< cmd line option to set finalize main thread priority */
 	uintptr_t finalizeWorkerPriority; /**< cmd line option to set finalize worker thread priority */
+	uintptr_t referenceHandlerThreads; /**< number of threads enqueuing cleared references in parallel with the finalize worker, 0 to leave it to the finalize worker */
+	uintptr_t referenceHandlerBatchSize; /**< maximum number of references a reference handler thread takes from the reference list at once */
+	omrthread_monitor_t referenceHandlerMonitor; /**< monitor the reference handler threads wait on for work, NULL unless referenceHandlerThreads is set */
+	omrthread_t *referenceHandlerThreadHandles; /**< the reference handler threads started so far */
+	J9VMThread **referenceHandlerVMThreads; /**< the J9VMThread of each started reference handler thread, NULL while not attached, protected by referenceHandlerMonitor */
+	uintptr_t referenceHandlerThreadsStarted; /**< number of reference handler threads started, protected by referenceHandlerMonitor */
+	uintptr_t referenceHandlerThreadsRunning; /**< number of reference handler threads that have not exited, protected by referenceHandlerMonitor */
+	volatile bool referenceHandlerShutdown; /**< set to ask the reference handler threads to exit, written under referenceHandlerMonitor and also read between batches without it */
 #endif /* J9VM_GC_FINALIZATION */
 
 	MM_ClassLoaderManager* classLoaderManager; /**< Pointer to the gc's classloader manager to process classloaders/classes */
@@ -170,6 +181,7 @@ public:
 	uintptr_t objectListFragmentCount; /**< the size of Local Object Buffer(per gc thread), used by referenceObjectBuffer, UnfinalizedObjectBuffer and OwnableSynchronizerObjectBuffer */
 
 	MM_Wildcard* numaCommonThreadClassNamePatterns; /**< A linked list of thread class names which should be associated with the common context */
+	bool tarokCopyForwardToWorkerNode; /**< if set, copy-forward copies objects with no node preference into the allocation context of the copying GC thread's NUMA node */
 
 	class UserSpecifiedParameters {
 	private:
@@ -223,8 +235,20 @@ public:
 
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
 	MM_IdleGCManager* idleGCManager; /**< Manager which registers for VM Runtime State notification & manages free heap on notification */
+	bool idleHeapUncommit; /**< if set, free heap memory is uncommitted after the allocation rate stays low, see MM_IdleHeapUncommitManager */
+	uintptr_t idleHeapUncommitCheckInterval; /**< milliseconds between allocation rate samples */
+	uintptr_t idleHeapUncommitAllocationRate; /**< allocation rate (bytes/second) at or below which a sample counts as idle */
+	uintptr_t idleHeapUncommitQuietIntervals; /**< number of consecutive idle samples required before uncommitting */
+	uintptr_t idleHeapUncommitRSSTarget; /**< process resident set size (bytes) below which no uncommit is attempted, 0 for no target */
+	uintptr_t idleHeapUncommitMinimumInterval; /**< minimum number of milliseconds between two uncommit cycles */
+	MM_IdleHeapUncommitManager *idleHeapUncommitManager; /**< the idle uncommit manager, NULL unless idleHeapUncommit is set */
 #endif
 
+	bool doAllocationSiteSampling; /**< if set, the allocation site of every allocationSiteSamplingPeriod-th out-of-line allocation is sampled */
+	uintptr_t allocationSiteSamplingPeriod; /**< number of out-of-line (TLH refresh) allocations per thread between allocation site samples */
+	uint32_t allocationSiteSamplingDepth; /**< number of most frequent allocation sites to report */
+	MM_AllocationSiteStats *allocationSiteStats; /**< the allocation site profiler, NULL unless doAllocationSiteSampling is set */
+
 	double maxRAMPercent; /**< Value of -XX:MaxRAMPercentage specified by the user */
 	double initialRAMPercent; /**< Value of -XX:InitialRAMPercentage specified by the user */
 	uintptr_t minimumFreeSizeForSurvivor; /**< minimum free size can be reused by collector as survivor, for balanced GC only */
@@ -420,6 +444,14 @@ public:
 #if defined(J9VM_GC_FINALIZATION)
 		, finalizeMainPriority(J9THREAD_PRIORITY_NORMAL)
 		, finalizeWorkerPriority(J9THREAD_PRIORITY_NORMAL)
+		, referenceHandlerThreads(0)
+		, referenceHandlerBatchSize(64)
+		, referenceHandlerMonitor(NULL)
+		, referenceHandlerThreadHandles(NULL)
+		, referenceHandlerVMThreads(NULL)
+		, referenceHandlerThreadsStarted(0)
+		, referenceHandlerThreadsRunning(0)
+		, referenceHandlerShutdown(false)
 #endif /* J9VM_GC_FINALIZATION */
 		, classLoaderManager(NULL)
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
@@ -428,6 +460,7 @@ public:
 		, unfinalizedObjectLists(NULL)
 		, objectListFragmentCount(0)
 		, numaCommonThreadClassNamePatterns(NULL)
+		, tarokCopyForwardToWorkerNode(false)
 		, userSpecifiedParameters()
 		, tlhMaximumSizeSpecified(false)
 		, virtualLargeObjectHeap()
@@ -438,7 +471,18 @@ public:
 		, _HeapManagementMXBeanBackCompatibilityEnabled(false)
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
 		, idleGCManager(NULL)
+		, idleHeapUncommit(false)
+		, idleHeapUncommitCheckInterval(5000)
+		, idleHeapUncommitAllocationRate(1024 * 1024)
+		, idleHeapUncommitQuietIntervals(6)
+		, idleHeapUncommitRSSTarget(0)
+		, idleHeapUncommitMinimumInterval(60000)
+		, idleHeapUncommitManager(NULL)
 #endif
+		, doAllocationSiteSampling(false)
+		, allocationSiteSamplingPeriod(64)
+		, allocationSiteSamplingDepth(16)
+		, allocationSiteStats(NULL)
 		, maxRAMPercent(-1.0) /* this would get overwritten by user specified value */
 		, initialRAMPercent(0.0) /* this would get overwritten by user specified value */
 		, minimumFreeSizeForSurvivor(DEFAULT_SURVIVOR_MINIMUM_FREESIZE)
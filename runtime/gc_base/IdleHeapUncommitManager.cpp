@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include "j9.h"
+#include "j9cfg.h"
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+#include "j9consts.h"
+#include "j9port.h"
+
+#include "IdleHeapUncommitManager.hpp"
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+#include "Heap.hpp"
+#include "MemorySpace.hpp"
+#include "MemorySubSpace.hpp"
+#include "ObjectAllocationInterface.hpp"
+#include "VMAccess.hpp"
+#include "VMThreadListIterator.hpp"
+
+MM_IdleHeapUncommitManager *
+MM_IdleHeapUncommitManager::newInstance(MM_EnvironmentBase *env)
+{
+	MM_IdleHeapUncommitManager *manager = (MM_IdleHeapUncommitManager *)env->getForge()->allocate(sizeof(MM_IdleHeapUncommitManager), MM_AllocationCategory::FIXED, J9_GET_CALLSITE());
+	if (NULL != manager) {
+		new(manager) MM_IdleHeapUncommitManager(env);
+		if (!manager->initialize(env)) {
+			manager->kill(env);
+			manager = NULL;
+		}
+	}
+	return manager;
+}
+
+void
+MM_IdleHeapUncommitManager::kill(MM_EnvironmentBase *env)
+{
+	tearDown(env);
+	env->getForge()->free(this);
+}
+
+bool
+MM_IdleHeapUncommitManager::initialize(MM_EnvironmentBase *env)
+{
+	return 0 == omrthread_monitor_init_with_name(&_mutex, 0, "GC idle heap uncommit");
+}
+
+void
+MM_IdleHeapUncommitManager::tearDown(MM_EnvironmentBase *env)
+{
+	stopThread(env);
+
+	if (NULL != _mutex) {
+		omrthread_monitor_destroy(_mutex);
+		_mutex = NULL;
+	}
+}
+
+bool
+MM_IdleHeapUncommitManager::startThread(MM_EnvironmentBase *env)
+{
+	bool started = false;
+
+	omrthread_monitor_enter(_mutex);
+	if (0 == _javaVM->internalVMFunctions->createThreadWithCategory(
+				NULL,
+				_javaVM->defaultOSStackSize,
+				J9THREAD_PRIORITY_NORMAL,
+				0,
+				MM_IdleHeapUncommitManager::threadProc,
+				this,
+				J9THREAD_CATEGORY_SYSTEM_GC_THREAD)) {
+		while (THREAD_INACTIVE == _threadState) {
+			omrthread_monitor_wait(_mutex);
+		}
+		started = (THREAD_ACTIVE == _threadState);
+	}
+	omrthread_monitor_exit(_mutex);
+
+	return started;
+}
+
+void
+MM_IdleHeapUncommitManager::stopThread(MM_EnvironmentBase *env)
+{
+	if (NULL != _mutex) {
+		omrthread_monitor_enter(_mutex);
+		_shutdown = true;
+		omrthread_monitor_notify_all(_mutex);
+		while (THREAD_ACTIVE == _threadState) {
+			omrthread_monitor_wait(_mutex);
+		}
+		omrthread_monitor_exit(_mutex);
+	}
+}
+
+int J9THREAD_PROC
+MM_IdleHeapUncommitManager::threadProc(void *userData)
+{
+	MM_IdleHeapUncommitManager *manager = (MM_IdleHeapUncommitManager *)userData;
+	J9JavaVM *vm = manager->_javaVM;
+	J9VMThread *vmThread = NULL;
+
+	if (JNI_OK == vm->internalVMFunctions->attachSystemDaemonThread(vm, &vmThread, "GC Idle Heap Uncommit")) {
+		manager->run(vmThread);
+		((JavaVM *)vm)->DetachCurrentThread();
+	}
+
+	omrthread_monitor_enter(manager->_mutex);
+	manager->_threadState = THREAD_TERMINATED;
+	omrthread_monitor_notify_all(manager->_mutex);
+	omrthread_exit(manager->_mutex);
+
+	/* NO RETURN */
+	return 0;
+}
+
+void
+MM_IdleHeapUncommitManager::run(J9VMThread *vmThread)
+{
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(_javaVM);
+	uint64_t lastSampleTime = j9time_current_time_millis();
+
+	_lastBytesAllocated = getBytesAllocated();
+
+	omrthread_monitor_enter(_mutex);
+	_threadState = THREAD_ACTIVE;
+	omrthread_monitor_notify_all(_mutex);
+
+	while (!_shutdown) {
+		omrthread_monitor_wait_timed(_mutex, (I_64)ext->idleHeapUncommitCheckInterval, 0);
+		if (!_shutdown) {
+			omrthread_monitor_exit(_mutex);
+			uint64_t now = j9time_current_time_millis();
+			sample(vmThread, now - lastSampleTime);
+			lastSampleTime = now;
+			omrthread_monitor_enter(_mutex);
+		}
+	}
+	omrthread_monitor_exit(_mutex);
+}
+
+uintptr_t
+MM_IdleHeapUncommitManager::getBytesAllocated()
+{
+	uintptr_t total = 0;
+	J9VMThread *walkThread = NULL;
+
+	/* exiting threads move their counts to _bytesAllocatedByExitedThreads with the vmThreadListMutex held, so each thread is counted exactly once */
+	omrthread_monitor_enter(_javaVM->vmThreadListMutex);
+	total = _bytesAllocatedByExitedThreads;
+	GC_VMThreadListIterator iterator(_javaVM);
+	while (NULL != (walkThread = iterator.nextVMThread())) {
+		MM_EnvironmentBase *walkEnv = MM_EnvironmentBase::getEnvironment(walkThread->omrVMThread);
+		if (NULL != walkEnv->_objectAllocationInterface) {
+			uintptr_t threadBytes = 0;
+			walkEnv->_objectAllocationInterface->getAllocationStats()->bytesAllocatedCumulative(&threadBytes);
+			total += threadBytes;
+		}
+	}
+	omrthread_monitor_exit(_javaVM->vmThreadListMutex);
+
+	return total;
+}
+
+void
+MM_IdleHeapUncommitManager::threadExited(MM_EnvironmentBase *env)
+{
+	if (NULL != env->_objectAllocationInterface) {
+		uintptr_t threadBytes = 0;
+		env->_objectAllocationInterface->getAllocationStats()->bytesAllocatedCumulative(&threadBytes);
+		_bytesAllocatedByExitedThreads += threadBytes;
+	}
+}
+
+bool
+MM_IdleHeapUncommitManager::isAboveRSSTarget()
+{
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(_javaVM);
+	bool result = true;
+
+	if (0 != ext->idleHeapUncommitRSSTarget) {
+		PORT_ACCESS_FROM_JAVAVM(_javaVM);
+		uint64_t rss = 0;
+		/* if the resident set size can not be determined, behave as if no target was set */
+		if (0 == j9vmem_get_process_memory_size(J9PORT_VMEM_PROCESS_PHYSICAL, &rss)) {
+			result = (rss > (uint64_t)ext->idleHeapUncommitRSSTarget);
+		}
+	}
+
+	return result;
+}
+
+void
+MM_IdleHeapUncommitManager::sample(J9VMThread *vmThread, uint64_t intervalMillis)
+{
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(_javaVM);
+	uintptr_t bytesAllocated = getBytesAllocated();
+	uintptr_t delta = bytesAllocated - _lastBytesAllocated;
+	uint64_t rate = (0 == intervalMillis) ? 0 : (((uint64_t)delta * 1000) / intervalMillis);
+
+	_lastBytesAllocated = bytesAllocated;
+
+	if (rate > (uint64_t)ext->idleHeapUncommitAllocationRate) {
+		_lowAllocationIntervals = 0;
+		return;
+	}
+
+	_lowAllocationIntervals += 1;
+	if (_lowAllocationIntervals < ext->idleHeapUncommitQuietIntervals) {
+		return;
+	}
+
+	if ((0 != _lastUncommitTime) && ((j9time_current_time_millis() - _lastUncommitTime) < (uint64_t)ext->idleHeapUncommitMinimumInterval)) {
+		return;
+	}
+
+	if (isAboveRSSTarget()) {
+		uncommitFreeHeap(vmThread);
+		_lastUncommitTime = j9time_current_time_millis();
+		_lowAllocationIntervals = 0;
+		/* do not count any allocation made during the cycle against the next sample */
+		_lastBytesAllocated = getBytesAllocated();
+	}
+}
+
+void
+MM_IdleHeapUncommitManager::uncommitFreeHeap(J9VMThread *vmThread)
+{
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(vmThread->omrVMThread);
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(env);
+	MM_MemorySubSpace *tenureMemorySubspace = ext->heap->getDefaultMemorySpace()->getTenureMemorySubSpace();
+
+	_javaVM->internalVMFunctions->internalAcquireVMAccess(vmThread);
+
+	/* The idle GC compacts the tenure space (gencon) or the heap regions (balanced) when free memory is fragmented
+	 * across pages beyond gcOnIdleCompactThreshold, which is what lets whole pages be released below.
+	 */
+	VM_VMAccess::setPublicFlags(vmThread, J9_PUBLIC_FLAGS_NOT_AT_SAFE_POINT);
+	ext->heap->systemGarbageCollect(env, J9MMCONSTANT_EXPLICIT_GC_IDLE_GC);
+	VM_VMAccess::clearPublicFlags(vmThread, J9_PUBLIC_FLAGS_NOT_AT_SAFE_POINT);
+
+	env->acquireExclusiveVMAccess();
+	uintptr_t released = tenureMemorySubspace->releaseFreeMemoryPages(env, MEMORY_TYPE_OLD);
+	env->releaseExclusiveVMAccess();
+
+	_javaVM->internalVMFunctions->internalReleaseVMAccess(vmThread);
+
+	_bytesReleased += released;
+	_uncommitCycles += 1;
+}
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
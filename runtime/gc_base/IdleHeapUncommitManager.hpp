@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Base
+ */
+#if !defined(IDLEHEAPUNCOMMITMANAGER_HPP_)
+#define IDLEHEAPUNCOMMITMANAGER_HPP_
+#include "j9.h"
+#include "j9cfg.h"
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+#include "BaseNonVirtual.hpp"
+#include "EnvironmentBase.hpp"
+
+/**
+ * Returns committed-but-unused java heap memory to the operating system once the allocation rate has stayed low
+ * for a sustained period, independently of the VM runtime state notifications handled by MM_IdleGCManager.
+ *
+ * A background thread samples the cumulative number of bytes allocated by all mutator threads, including the ones which
+ * have exited, every
+ * idleHeapUncommitCheckInterval milliseconds. After idleHeapUncommitQuietIntervals consecutive samples below
+ * idleHeapUncommitAllocationRate bytes/second, and while the process resident set is above idleHeapUncommitRSSTarget,
+ * an idle GC is triggered (which compacts sparsely used tenure space or regions when they are fragmented beyond
+ * gcOnIdleCompactThreshold) and the free pages of the tenure space are released. Cycles are rate limited to one every
+ * idleHeapUncommitMinimumInterval milliseconds.
+ */
+class MM_IdleHeapUncommitManager : public MM_BaseNonVirtual
+{
+private:
+	enum ThreadState {
+		THREAD_INACTIVE = 0, /**< the thread has not started (or failed to start) */
+		THREAD_ACTIVE, /**< the thread is running its sampling loop */
+		THREAD_TERMINATED /**< the thread has detached and is about to exit */
+	};
+
+	J9JavaVM *_javaVM; /**< reference to the language runtime */
+	omrthread_monitor_t _mutex; /**< protects the thread state and is waited on between samples */
+	volatile ThreadState _threadState; /**< the state of the background thread */
+	volatile bool _shutdown; /**< set to ask the background thread to exit */
+
+	uintptr_t _lastBytesAllocated; /**< cumulative bytes allocated by all threads at the previous sample */
+	uintptr_t _bytesAllocatedByExitedThreads; /**< cumulative bytes allocated by the threads which have exited, protected by the vmThreadListMutex */
+	uintptr_t _lowAllocationIntervals; /**< number of consecutive samples below the allocation rate threshold */
+	uint64_t _lastUncommitTime; /**< time (in milliseconds) at which the last uncommit cycle completed */
+
+	volatile uintptr_t _uncommitCycles; /**< number of uncommit cycles performed */
+	volatile uintptr_t _bytesReleased; /**< total number of heap bytes released to the operating system */
+
+protected:
+public:
+
+private:
+	static int J9THREAD_PROC threadProc(void *userData);
+
+	/**
+	 * Body of the background thread: samples the allocation rate until shutdown is requested.
+	 * @param vmThread the attached thread
+	 */
+	void run(J9VMThread *vmThread);
+
+	/**
+	 * @return the cumulative number of bytes allocated since startup, by the attached threads and by the threads which have exited
+	 */
+	uintptr_t getBytesAllocated();
+
+	/**
+	 * @return true if the process resident set is above the configured target (or the target is unset, or unknown)
+	 */
+	bool isAboveRSSTarget();
+
+	/**
+	 * Take one sample and, if the allocation rate has been low for long enough, uncommit free heap memory.
+	 * @param vmThread the attached background thread
+	 * @param intervalMillis the time elapsed since the previous sample
+	 */
+	void sample(J9VMThread *vmThread, uint64_t intervalMillis);
+
+	/**
+	 * Run an idle GC and release the free pages of the tenure space.
+	 * @param vmThread the attached background thread
+	 */
+	void uncommitFreeHeap(J9VMThread *vmThread);
+
+protected:
+	bool initialize(MM_EnvironmentBase *env);
+	void tearDown(MM_EnvironmentBase *env);
+
+public:
+	static MM_IdleHeapUncommitManager *newInstance(MM_EnvironmentBase *env);
+	void kill(MM_EnvironmentBase *env);
+
+	/**
+	 * Start the background sampling thread.
+	 * @return true if the thread was started and attached, false otherwise
+	 */
+	bool startThread(MM_EnvironmentBase *env);
+
+	/**
+	 * Ask the background thread to exit and wait until it has detached from the VM.
+	 */
+	void stopThread(MM_EnvironmentBase *env);
+
+	/**
+	 * Add the bytes allocated by an exiting thread to the global allocation count, so that the count does not drop
+	 * when the thread is gone. Called with the vmThreadListMutex held, after the thread has been unlinked.
+	 * @param env the environment of the exiting thread
+	 */
+	void threadExited(MM_EnvironmentBase *env);
+
+	/**
+	 * @return the number of uncommit cycles performed
+	 */
+	uintptr_t getUncommitCycles() { return _uncommitCycles; }
+
+	/**
+	 * @return the total number of heap bytes released to the operating system
+	 */
+	uintptr_t getBytesReleased() { return _bytesReleased; }
+
+	MM_IdleHeapUncommitManager(MM_EnvironmentBase *env)
+		: MM_BaseNonVirtual()
+		, _javaVM((J9JavaVM *)env->getOmrVM()->_language_vm)
+		, _mutex(NULL)
+		, _threadState(THREAD_INACTIVE)
+		, _shutdown(false)
+		, _lastBytesAllocated(0)
+		, _bytesAllocatedByExitedThreads(0)
+		, _lowAllocationIntervals(0)
+		, _lastUncommitTime(0)
+		, _uncommitCycles(0)
+		, _bytesReleased(0)
+	{
+		_typeId = __FUNCTION__;
+	}
+};
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
+#endif /* IDLEHEAPUNCOMMITMANAGER_HPP_ */
@@ -266,6 +266,7 @@ extern J9_CFUNC void j9gc_ensureLockedSynchronizersIntegrity(J9VMThread *vmThrea
 
 #if defined(J9VM_OPT_CRIU_SUPPORT)
 extern J9_CFUNC void j9gc_prepare_for_checkpoint(J9VMThread *vmThread);
+extern J9_CFUNC UDATA j9gc_shrink_for_checkpoint(J9VMThread *vmThread);
 extern J9_CFUNC BOOLEAN j9gc_reinitialize_for_restore(J9VMThread *vmThread, const char **nlsMsgFormat);
 extern J9_CFUNC BOOLEAN gcReinitializeDefaultsForRestore(J9VMThread *vmThread);
 #endif /* defined(J9VM_OPT_CRIU_SUPPORT) */
@@ -298,6 +299,12 @@ extern BOOLEAN j9gc_stringHashEqualFn (void *leftKey, void *rightKey, void *user
 extern J9_CFUNC UDATA j9gc_get_bytes_allocated_by_thread(J9VMThread* vmThread);
 extern J9_CFUNC BOOLEAN j9gc_get_cumulative_bytes_allocated_by_thread(J9VMThread *vmThread, UDATA *cumulativeValue);
 extern J9_CFUNC BOOLEAN j9gc_get_cumulative_class_unloading_stats(J9VMThread *vmThread, UDATA *anonymous, UDATA *classes, UDATA *classloaders);
+extern J9_CFUNC UDATA j9gc_get_allocation_site_sampling_depth(J9JavaVM *javaVM);
+extern J9_CFUNC UDATA j9gc_get_allocation_sites(J9VMThread *vmThread, J9AllocationSiteSample *samples, UDATA maxSamples);
+extern J9_CFUNC void j9gc_reset_allocation_sites(J9VMThread *vmThread);
+extern J9_CFUNC void j9gc_get_idle_heap_uncommit_stats(J9JavaVM *javaVM, UDATA *uncommitCycles, UDATA *bytesReleased);
+extern J9_CFUNC void j9gc_get_reference_processing_stats(J9JavaVM *javaVM, UDATA *pending, UDATA *processed, UDATA *drainCount, U_64 *totalLatency, U_64 *maxLatency);
+extern J9_CFUNC void j9gc_get_cycle_copy_stats(OMR_VMThread *omrVMThread, UDATA *copiedBytes, UDATA *flippedBytes, UDATA *tenuredBytes);
 
 #ifdef __cplusplus
 }
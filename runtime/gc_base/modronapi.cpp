@@ -31,13 +31,21 @@
 #include "modronopt.h"
 #include "modronnls.h"
 
+#include "AllocationSiteStats.hpp"
+#if defined(J9VM_GC_VLHGC)
+#include "CycleStateVLHGC.hpp"
+#endif /* defined(J9VM_GC_VLHGC) */
 #include "EnvironmentBase.hpp"
+#include "FinalizeListManager.hpp"
 #include "GCExtensions.hpp"
 #include "HeapMemorySnapshot.hpp"
 #include "Heap.hpp"
 #include "HeapRegionDescriptor.hpp"
 #include "HeapRegionIterator.hpp"
 #include "HeapRegionManager.hpp"
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+#include "IdleHeapUncommitManager.hpp"
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
 #include "GlobalCollector.hpp"
 #include "ObjectAllocationInterface.hpp"
 #include "ObjectModel.hpp"
@@ -1090,6 +1098,150 @@ j9gc_get_cumulative_class_unloading_stats(J9VMThread *vmThread, UDATA *anonymous
 	return true;
 }
 
+/**
+ * Return the number of allocation sites reported by the allocation site profiler.
+ *
+ * @param[in] javaVM the J9JavaVM
+ * @return the number of sites tracked accurately, or 0 if allocation site sampling is disabled
+ */
+UDATA
+j9gc_get_allocation_site_sampling_depth(J9JavaVM *javaVM)
+{
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(javaVM);
+	UDATA depth = 0;
+	if (NULL != ext->allocationSiteStats) {
+		depth = ext->allocationSiteStats->getTopKFrequent();
+	}
+	return depth;
+}
+
+/**
+ * Copy the most frequently sampled allocation sites, most frequent first.
+ * The caller must hold VM access for as long as the returned classes and methods are in use.
+ *
+ * @param[in] vmThread the current thread
+ * @param[out] samples the array to fill
+ * @param[in] maxSamples the capacity of samples
+ * @return the number of entries written, 0 if allocation site sampling is disabled
+ */
+UDATA
+j9gc_get_allocation_sites(J9VMThread *vmThread, J9AllocationSiteSample *samples, UDATA maxSamples)
+{
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(vmThread->javaVM);
+	UDATA count = 0;
+	if (NULL != ext->allocationSiteStats) {
+		count = ext->allocationSiteStats->getTopSites(samples, maxSamples);
+	}
+	return count;
+}
+
+/**
+ * Discard all samples recorded by the allocation site profiler.
+ *
+ * @param[in] vmThread the current thread
+ */
+void
+j9gc_reset_allocation_sites(J9VMThread *vmThread)
+{
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(vmThread->javaVM);
+	if (NULL != ext->allocationSiteStats) {
+		ext->allocationSiteStats->reset();
+	}
+}
+
+/**
+ * Return the counters of the idle heap uncommit policy (-XXgc:enableIdleHeapUncommit).
+ * Both counters are zero if the policy is not enabled.
+ *
+ * @param[in] javaVM the J9JavaVM
+ * @param[out] uncommitCycles the number of uncommit cycles performed
+ * @param[out] bytesReleased the total number of heap bytes released to the operating system
+ */
+void
+j9gc_get_idle_heap_uncommit_stats(J9JavaVM *javaVM, UDATA *uncommitCycles, UDATA *bytesReleased)
+{
+	*uncommitCycles = 0;
+	*bytesReleased = 0;
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+	MM_GCExtensions *ext = MM_GCExtensions::getExtensions(javaVM);
+	if (NULL != ext->idleHeapUncommitManager) {
+		*uncommitCycles = ext->idleHeapUncommitManager->getUncommitCycles();
+		*bytesReleased = ext->idleHeapUncommitManager->getBytesReleased();
+	}
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
+}
+
+/**
+ * Return the statistics of the enqueuing of cleared references by the finalize worker
+ * and the reference handler threads (-Xgc:referenceHandlerThreads).
+ * A backlog starts when the GC hands references over while none are pending, and is
+ * drained once all of them have been enqueued.
+ *
+ * @param[in] javaVM the J9JavaVM
+ * @param[out] pending the number of references waiting to be, or being, enqueued
+ * @param[out] processed the total number of references enqueued
+ * @param[out] drainCount the number of reference backlogs drained
+ * @param[out] totalLatency the sum of the backlog drain times in nanoseconds
+ * @param[out] maxLatency the longest backlog drain time in nanoseconds
+ */
+void
+j9gc_get_reference_processing_stats(J9JavaVM *javaVM, UDATA *pending, UDATA *processed, UDATA *drainCount, U_64 *totalLatency, U_64 *maxLatency)
+{
+	*pending = 0;
+	*processed = 0;
+	*drainCount = 0;
+	*totalLatency = 0;
+	*maxLatency = 0;
+#if defined(J9VM_GC_FINALIZATION)
+	GC_FinalizeListManager *finalizeListManager = MM_GCExtensions::getExtensions(javaVM)->finalizeListManager;
+	if (NULL != finalizeListManager) {
+		finalizeListManager->getReferenceProcessingStats(pending, processed, drainCount, totalLatency, maxLatency);
+	}
+#endif /* defined(J9VM_GC_FINALIZATION) */
+}
+
+/**
+ * Return the number of bytes copied by the collection in progress on the given thread.
+ * Only a scavenge or a balanced partial collection copy objects, all the counters are
+ * zero for any other type of collection.
+ *
+ * @param[in] omrVMThread the thread performing the collection
+ * @param[out] copiedBytes the total number of bytes copied
+ * @param[out] flippedBytes the number of bytes copied within the nursery by a scavenge
+ * @param[out] tenuredBytes the number of bytes copied to the tenure space by a scavenge
+ */
+void
+j9gc_get_cycle_copy_stats(OMR_VMThread *omrVMThread, UDATA *copiedBytes, UDATA *flippedBytes, UDATA *tenuredBytes)
+{
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(omrVMThread);
+
+	*copiedBytes = 0;
+	*flippedBytes = 0;
+	*tenuredBytes = 0;
+	switch (env->_cycleState->_type) {
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+	case OMR_GC_CYCLE_TYPE_SCAVENGE:
+	{
+		MM_ScavengerStats *stats = &MM_GCExtensions::getExtensions(env)->scavengerStats;
+		*flippedBytes = stats->_flipBytes;
+		*tenuredBytes = stats->_tenureAggregateBytes;
+		*copiedBytes = *flippedBytes + *tenuredBytes;
+		break;
+	}
+#endif /* defined(J9VM_GC_MODRON_SCAVENGER) */
+#if defined(J9VM_GC_VLHGC)
+	case OMR_GC_CYCLE_TYPE_VLHGC_PARTIAL_GARBAGE_COLLECT:
+	{
+		MM_CopyForwardStats *stats = &static_cast<MM_CycleStateVLHGC *>(env->_cycleState)->_vlhgcIncrementStats._copyForwardStats;
+		*copiedBytes = stats->_copyBytesEden + stats->_copyBytesNonEden;
+		break;
+	}
+#endif /* defined(J9VM_GC_VLHGC) */
+	default:
+		break;
+	}
+}
+
 /**
  * Return information about the total CPU time consumed by GC threads, as well
  * as the number of GC threads. The time for the main and worker threads is
@@ -1274,6 +1426,35 @@ j9gc_prepare_for_checkpoint(J9VMThread *vmThread)
 	acquireVMAccess(vmThread);
 }
 
+/**
+ * Compact the heap and release the free heap pages back to the operating system, so that they
+ * are not written to the checkpoint image. Called with VM access, after j9gc_prepare_for_checkpoint().
+ * @return the number of bytes of heap memory released
+ */
+UDATA
+j9gc_shrink_for_checkpoint(J9VMThread *vmThread)
+{
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(vmThread->omrVMThread);
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+	MM_MemorySubSpace *tenureMemorySubspace = extensions->heap->getDefaultMemorySpace()->getTenureMemorySubSpace();
+
+	env->acquireExclusiveVMAccess();
+
+	/* J9MMCONSTANT_EXPLICIT_GC_RASDUMP_COMPACT forces a compaction and allows the GC to run while the current
+	 * thread is holding exclusive VM access, which keeps the free memory contiguous until it is released below.
+	 */
+	j9gc_modron_global_collect_with_overrides(vmThread, J9MMCONSTANT_EXPLICIT_GC_RASDUMP_COMPACT);
+	if (J9_GC_POLICY_METRONOME == vmThread->javaVM->gcPolicy) {
+		/* In metronome, the previous GC call may have only finished the current cycle. */
+		j9gc_modron_global_collect_with_overrides(vmThread, J9MMCONSTANT_EXPLICIT_GC_RASDUMP_COMPACT);
+	}
+	UDATA released = tenureMemorySubspace->releaseFreeMemoryPages(env, MEMORY_TYPE_OLD);
+
+	env->releaseExclusiveVMAccess();
+
+	return released;
+}
+
 BOOLEAN
 j9gc_reinitialize_for_restore(J9VMThread *vmThread, const char **nlsMsgFormat)
 {
@@ -65,6 +65,7 @@ public:
 	MM_ContinuationObjectBuffer *_continuationObjectBuffer; /**< The thread-specific buffer of recently allocated continuation objects */
 
 	struct GCmovedObjectHashCode movedObjectHashCodeCache; /**< Structure to aid on object movement and hashing */
+	uintptr_t _allocationSiteSampleCountdown; /**< Number of out-of-line allocations remaining before the next allocation site sample */
 #if defined(J9VM_ENV_DATA64)
 	bool _shouldFixupDataAddrForContiguous; /**< Boolean to check if dataAddr fixup is needed on contiguous indexable object movement */
 #endif /* defined(J9VM_ENV_DATA64) */
@@ -78,6 +79,7 @@ public:
 		,_unfinalizedObjectBuffer(NULL)
 		,_ownableSynchronizerObjectBuffer(NULL)
 		,_continuationObjectBuffer(NULL)
+		,_allocationSiteSampleCountdown(0)
 #if defined(J9VM_ENV_DATA64)
 		,_shouldFixupDataAddrForContiguous(false)
 #endif /* defined(J9VM_ENV_DATA64) */
@@ -37,6 +37,7 @@
 #include "rommeth.h"
 
 #include "AllocateDescription.hpp"
+#include "AllocationSiteStats.hpp"
 #include "AtomicOperations.hpp"
 #include "EnvironmentBase.hpp"
 #include "GlobalCollector.hpp"
@@ -62,6 +63,7 @@ static void dumpStackFrames(J9VMThread *currentThread);
 static void traceAllocateIndexableObject(J9VMThread *vmThread, J9Class* clazz, uintptr_t objSize, uintptr_t numberOfIndexedFields);
 static J9Object * traceAllocateObject(J9VMThread *vmThread, J9Object * object, J9Class* clazz, uintptr_t objSize, uintptr_t numberOfIndexedFields=0);
 static bool traceObjectCheck(J9VMThread *vmThread, bool *shouldTriggerAllocationSampling = NULL);
+static void sampleAllocationSite(J9VMThread *vmThread, J9Class *clazz);
 
 #define STACK_FRAMES_TO_DUMP	8
 
@@ -256,6 +258,8 @@ traceAllocateObject(J9VMThread *vmThread, J9Object * object, J9Class* clazz, uin
 		env->_oolTraceAllocationBytes = (env->_oolTraceAllocationBytes) % byteGranularity;
 	}
 
+	sampleAllocationSite(vmThread, clazz);
+
 	if (shouldTrigggerObjectAllocationSampling) {
 		PORT_ACCESS_FROM_VMC(vmThread);
 		MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(vmThread->omrVMThread);
@@ -287,6 +291,28 @@ traceAllocateObject(J9VMThread *vmThread, J9Object * object, J9Class* clazz, uin
 	return object;
 }
 
+/**
+ * Feed the allocation site profiler, if enabled. This is only reached on the out-of-line
+ * allocation path (i.e. when the thread's TLH is refreshed), and only one in every
+ * allocationSiteSamplingPeriod of those allocations per thread walks the stack.
+ */
+static void
+sampleAllocationSite(J9VMThread *vmThread, J9Class *clazz)
+{
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(vmThread->omrVMThread);
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+	MM_AllocationSiteStats *allocationSiteStats = extensions->allocationSiteStats;
+
+	if (NULL != allocationSiteStats) {
+		GC_Environment *gcEnv = env->getGCEnvironment();
+		if (0 == gcEnv->_allocationSiteSampleCountdown) {
+			gcEnv->_allocationSiteSampleCountdown = extensions->allocationSiteSamplingPeriod;
+			allocationSiteStats->recordSample(env, clazz);
+		}
+		gcEnv->_allocationSiteSampleCountdown -= 1;
+	}
+}
+
 /* Required to check if we're going to trace or not since a java stack trace needs
  * stack frames built up; therefore we can't be in the noGC version of allocates
  *
@@ -51,6 +51,7 @@
 #include "Tgc.hpp"
 #endif /* J9VM_GC_MODRON_TRACE && !defined(J9VM_GC_REALTIME) */
 
+#include "AllocationSiteStats.hpp"
 #if defined (J9VM_GC_HEAP_CARD_TABLE)
 #include "CardTable.hpp"
 #endif /* defined (J9VM_GC_HEAP_CARD_TABLE) */
@@ -106,6 +107,7 @@
 #include "Validator.hpp"
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
 #include "IdleGCManager.hpp"
+#include "IdleHeapUncommitManager.hpp"
 #endif
 
 /**
@@ -226,6 +228,13 @@ cleanupMutatorModelJava(J9VMThread* vmThread)
 			/* this can only be called if the heap still exists since it will ask the TLH chunk to be abandoned with crashes if the heap is deallocated */
 			GC_OMRVMThreadInterface::flushCachesForGC(env);
 		}
+
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+		MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+		if (NULL != extensions->idleHeapUncommitManager) {
+			extensions->idleHeapUncommitManager->threadExited(env);
+		}
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
 	}
 
 	cleanupMutatorModel(vmThread->omrVMThread, 0);
@@ -524,6 +533,13 @@ j9gc_initialize_heap(J9JavaVM *vm, IDATA *memoryParameterTable, UDATA heapBytesR
 		goto error_no_memory;
 	}
 
+	if (extensions->doAllocationSiteSampling) {
+		extensions->allocationSiteStats = MM_AllocationSiteStats::newInstance(&env, extensions->allocationSiteSamplingDepth);
+		if (NULL == extensions->allocationSiteStats) {
+			goto error_no_memory;
+		}
+	}
+
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
 	if (extensions->gcOnIdle) {
 		/* Enable idle tuning only for gencon policy */
@@ -534,6 +550,14 @@ j9gc_initialize_heap(J9JavaVM *vm, IDATA *memoryParameterTable, UDATA heapBytesR
 			}
 		}
 	}
+
+	if (extensions->idleHeapUncommit) {
+		/* Uncommit is driven by the allocation rate rather than the runtime state, so it is not limited to gencon */
+		extensions->idleHeapUncommitManager = MM_IdleHeapUncommitManager::newInstance(&env);
+		if (NULL == extensions->idleHeapUncommitManager) {
+			goto error_no_memory;
+		}
+	}
 #endif
 
 	return JNI_OK;
@@ -672,6 +696,15 @@ gcStartupHeapManagement(J9JavaVM *javaVM)
 		result = JNI_ENOMEM;
 	}
 
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+	if ((JNI_OK == result) && (NULL != extensions->idleHeapUncommitManager)) {
+		MM_EnvironmentBase env(javaVM->omrVM);
+		if (!extensions->idleHeapUncommitManager->startThread(&env)) {
+			result = JNI_ENOMEM;
+		}
+	}
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
+
 	if (JNI_OK != result) {
 		PORT_ACCESS_FROM_JAVAVM(javaVM);
 		extensions->getGlobalCollector()->collectorShutdown(extensions);
@@ -795,6 +828,14 @@ gcShutdownHeapManagement(J9JavaVM *javaVM)
 	j9gc_finalizer_shutdown(javaVM);
 #endif /* J9VM_GC_FINALIZATION */
 
+#if defined(OMR_GC_IDLE_HEAP_MANAGER)
+	/* stop the uncommit thread while the dispatcher can still service the collection it may be running */
+	if (NULL != extensions->idleHeapUncommitManager) {
+		MM_EnvironmentBase env(javaVM->omrVM);
+		extensions->idleHeapUncommitManager->stopThread(&env);
+	}
+#endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
+
 	if (extensions->dispatcher) {
 		extensions->dispatcher->shutDownThreads();
 	}
@@ -551,6 +551,14 @@ gcParseXXgcArguments(J9JavaVM *vm, char *optArg)
 			extensions->tarokEnableLeafFirstCopying = false;
 			continue;
 		}
+		if (try_scan(&scan_start, "tarokEnableCopyForwardToWorkerNode")) {
+			extensions->tarokCopyForwardToWorkerNode = true;
+			continue;
+		}
+		if (try_scan(&scan_start, "tarokDisableCopyForwardToWorkerNode")) {
+			extensions->tarokCopyForwardToWorkerNode = false;
+			continue;
+		}
 		if (try_scan(&scan_start, "tarokEnableStableRegionDetection")) {
 			extensions->tarokEnableStableRegionDetection = true;
 			continue;
@@ -1070,6 +1078,46 @@ gcParseXXgcArguments(J9JavaVM *vm, char *optArg)
 			continue;
 		}
 
+		if (try_scan(&scan_start, "enableAllocationSiteSampling")) {
+			extensions->doAllocationSiteSampling = true;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "disableAllocationSiteSampling")) {
+			extensions->doAllocationSiteSampling = false;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "allocationSiteSamplingDepth=")) {
+			if (!scan_u32_helper(vm, &scan_start, &extensions->allocationSiteSamplingDepth, "allocationSiteSamplingDepth=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->allocationSiteSamplingDepth) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "-XXgc:allocationSiteSamplingDepth", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+
+			extensions->doAllocationSiteSampling = true;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "allocationSiteSamplingPeriod=")) {
+			if (!scan_udata_helper(vm, &scan_start, &extensions->allocationSiteSamplingPeriod, "allocationSiteSamplingPeriod=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->allocationSiteSamplingPeriod) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "-XXgc:allocationSiteSamplingPeriod", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+
+			extensions->doAllocationSiteSampling = true;
+			continue;
+		}
+
 #if defined(J9VM_GC_SPARSE_HEAP_ALLOCATION)
 		if (try_scan(&scan_start, "enableVirtualLargeObjectHeap")) {
 			extensions->virtualLargeObjectHeap._wasSpecified = true;
@@ -1232,6 +1280,66 @@ gcParseXXgcArguments(J9JavaVM *vm, char *optArg)
 			extensions->pageFragmentationCompactThreshold = ((float)percentage) / 100.0f;
 			continue;
 		}
+
+		if (try_scan(&scan_start, "enableIdleHeapUncommit")) {
+			extensions->idleHeapUncommit = true;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "disableIdleHeapUncommit")) {
+			extensions->idleHeapUncommit = false;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "idleHeapUncommitCheckInterval=")) {
+			if (!scan_udata_helper(vm, &scan_start, &extensions->idleHeapUncommitCheckInterval, "idleHeapUncommitCheckInterval=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->idleHeapUncommitCheckInterval) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "-XXgc:idleHeapUncommitCheckInterval", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "idleHeapUncommitAllocationRate=")) {
+			if (!scan_udata_memory_size_helper(vm, &scan_start, &extensions->idleHeapUncommitAllocationRate, "idleHeapUncommitAllocationRate=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "idleHeapUncommitQuietIntervals=")) {
+			if (!scan_udata_helper(vm, &scan_start, &extensions->idleHeapUncommitQuietIntervals, "idleHeapUncommitQuietIntervals=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->idleHeapUncommitQuietIntervals) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "-XXgc:idleHeapUncommitQuietIntervals", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "idleHeapUncommitRSSTarget=")) {
+			if (!scan_udata_memory_size_helper(vm, &scan_start, &extensions->idleHeapUncommitRSSTarget, "idleHeapUncommitRSSTarget=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "idleHeapUncommitMinimumInterval=")) {
+			if (!scan_udata_helper(vm, &scan_start, &extensions->idleHeapUncommitMinimumInterval, "idleHeapUncommitMinimumInterval=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
 #endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
 
 #if defined (J9VM_GC_VLHGC)
@@ -1315,6 +1315,25 @@ gcParseXgcArguments(J9JavaVM *vm, char *optArg)
 			}
 			continue;
 		}
+		if (try_scan(&scan_start, "referenceHandlerThreads=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->referenceHandlerThreads, "referenceHandlerThreads=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+		if (try_scan(&scan_start, "referenceHandlerBatchSize=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->referenceHandlerBatchSize, "referenceHandlerBatchSize=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if(0 == extensions->referenceHandlerBatchSize) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "-Xgc:referenceHandlerBatchSize", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
 #endif /* J9VM_GC_FINALIZATION */
 
 #if defined(J9MODRON_USE_CUSTOM_SPINLOCKS)
@@ -0,0 +1,322 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Stats
+ */
+
+#include "AllocationSiteStats.hpp"
+
+#include "hashtable_api.h"
+#include "j9consts.h"
+#include "j9cp.h"
+#include "vmhook_internal.h"
+
+#include "EnvironmentBase.hpp"
+#include "FrequentObjectsStats.hpp"
+#include "GCExtensions.hpp"
+#include "ModronAssertions.h"
+
+/* The site table is pruned back to the contents of the sketch once it holds this many times the sketch capacity */
+#define SITE_TABLE_TO_SKETCH_RATIO 2
+
+extern "C" {
+static uintptr_t allocationSiteFrameIterator(J9VMThread *currentThread, J9StackWalkState *walkState);
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+static void allocationSiteStatsClassesUnloadHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData);
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+}
+
+static bool keepTrackedSite(MM_AllocationSiteStats::AllocationSite *site);
+static bool keepLiveSite(MM_AllocationSiteStats::AllocationSite *site);
+
+uintptr_t
+MM_AllocationSiteStats::AllocationSite::hash(void *key, void *userData)
+{
+	AllocationSite *site = (AllocationSite *)key;
+	return ((uintptr_t)site->clazz ^ (uintptr_t)site->method) + (uintptr_t)site->bytecodeIndex;
+}
+
+uintptr_t
+MM_AllocationSiteStats::AllocationSite::equal(void *leftKey, void *rightKey, void *userData)
+{
+	AllocationSite *left = (AllocationSite *)leftKey;
+	AllocationSite *right = (AllocationSite *)rightKey;
+	return (left->clazz == right->clazz) && (left->method == right->method) && (left->bytecodeIndex == right->bytecodeIndex);
+}
+
+/**
+ * Create and return a new instance of MM_AllocationSiteStats.
+ *
+ * @param topKFrequent the number of allocation sites to report accurately
+ * @return the new instance, or NULL on failure.
+ */
+MM_AllocationSiteStats *
+MM_AllocationSiteStats::newInstance(MM_EnvironmentBase *env, uint32_t topKFrequent)
+{
+	MM_AllocationSiteStats *allocationSiteStats = (MM_AllocationSiteStats *)env->getForge()->allocate(sizeof(MM_AllocationSiteStats), MM_AllocationCategory::FIXED, J9_GET_CALLSITE());
+	if (NULL != allocationSiteStats) {
+		new(allocationSiteStats) MM_AllocationSiteStats(env, topKFrequent);
+		if (!allocationSiteStats->initialize(env)) {
+			allocationSiteStats->kill(env);
+			allocationSiteStats = NULL;
+		}
+	}
+	return allocationSiteStats;
+}
+
+bool
+MM_AllocationSiteStats::initialize(MM_EnvironmentBase *env)
+{
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+
+	_frequentSites = MM_FrequentObjectsStats::newInstance(env, _topKFrequent);
+	if (NULL == _frequentSites) {
+		return false;
+	}
+	_topKFrequent = _frequentSites->_topKFrequent;
+	_sketchCapacity = _topKFrequent * K_TO_SIZE_RATIO;
+
+	_savedSites = (SavedSite *)env->getForge()->allocate(sizeof(SavedSite) * _sketchCapacity, MM_AllocationCategory::FIXED, J9_GET_CALLSITE());
+	if (NULL == _savedSites) {
+		return false;
+	}
+
+	_siteTable = hashTableNew(OMRPORT_FROM_J9PORT(PORTLIB), J9_GET_CALLSITE(), (uint32_t)(_sketchCapacity * SITE_TABLE_TO_SKETCH_RATIO), sizeof(AllocationSite), sizeof(J9Class *), 0, OMRMEM_CATEGORY_MM, AllocationSite::hash, AllocationSite::equal, NULL, NULL);
+	if (NULL == _siteTable) {
+		return false;
+	}
+
+	if (0 != omrthread_monitor_init_with_name(&_mutex, 0, "MM_AllocationSiteStats")) {
+		return false;
+	}
+
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+	J9HookInterface **vmHooks = _javaVM->internalVMFunctions->getVMHookInterface(_javaVM);
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_CLASSES_UNLOAD, allocationSiteStatsClassesUnloadHook, OMR_GET_CALLSITE(), this)) {
+		return false;
+	}
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_ANON_CLASSES_UNLOAD, allocationSiteStatsClassesUnloadHook, OMR_GET_CALLSITE(), this)) {
+		(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_CLASSES_UNLOAD, allocationSiteStatsClassesUnloadHook, this);
+		return false;
+	}
+	_hooksRegistered = true;
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+
+	return true;
+}
+
+void
+MM_AllocationSiteStats::tearDown(MM_EnvironmentBase *env)
+{
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+	if (_hooksRegistered) {
+		J9HookInterface **vmHooks = _javaVM->internalVMFunctions->getVMHookInterface(_javaVM);
+		(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_CLASSES_UNLOAD, allocationSiteStatsClassesUnloadHook, this);
+		(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_ANON_CLASSES_UNLOAD, allocationSiteStatsClassesUnloadHook, this);
+		_hooksRegistered = false;
+	}
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+
+	if (NULL != _mutex) {
+		omrthread_monitor_destroy(_mutex);
+		_mutex = NULL;
+	}
+	if (NULL != _siteTable) {
+		hashTableFree(_siteTable);
+		_siteTable = NULL;
+	}
+	if (NULL != _savedSites) {
+		env->getForge()->free(_savedSites);
+		_savedSites = NULL;
+	}
+	if (NULL != _frequentSites) {
+		_frequentSites->kill(env);
+		_frequentSites = NULL;
+	}
+}
+
+void
+MM_AllocationSiteStats::kill(MM_EnvironmentBase *env)
+{
+	tearDown(env);
+	env->getForge()->free(this);
+}
+
+void
+MM_AllocationSiteStats::recordSample(MM_EnvironmentBase *env, J9Class *clazz)
+{
+	J9VMThread *vmThread = (J9VMThread *)env->getLanguageVMThread();
+	J9StackWalkState walkState;
+	AllocationSite site;
+
+	site.clazz = clazz;
+	site.method = NULL;
+	site.bytecodeIndex = -1;
+
+	/* Only the top visible Java frame is of interest; inlined frames are reported individually */
+	walkState.walkThread = vmThread;
+	walkState.skipCount = 0;
+	walkState.maxFrames = 1;
+	walkState.userData1 = &site;
+	walkState.frameWalkFunction = allocationSiteFrameIterator;
+	walkState.flags = J9_STACKWALK_ITERATE_FRAMES
+			| J9_STACKWALK_VISIBLE_ONLY
+			| J9_STACKWALK_COUNT_SPECIFIED
+			| J9_STACKWALK_RECORD_BYTECODE_PC_OFFSET;
+	_javaVM->walkStackFrames(vmThread, &walkState);
+
+	omrthread_monitor_enter(_mutex);
+	AllocationSite *entry = (AllocationSite *)hashTableAdd(_siteTable, &site);
+	if (NULL != entry) {
+		_frequentSites->updateKey(entry);
+		if (hashTableGetCount(_siteTable) >= (_sketchCapacity * SITE_TABLE_TO_SKETCH_RATIO)) {
+			pruneEvictedSites();
+		}
+	}
+	omrthread_monitor_exit(_mutex);
+}
+
+uintptr_t
+MM_AllocationSiteStats::getTopSites(J9AllocationSiteSample *samples, uintptr_t maxSamples)
+{
+	OMRSpaceSaving *spaceSaving = _frequentSites->_spaceSaving;
+	uintptr_t count = 0;
+
+	omrthread_monitor_enter(_mutex);
+	uintptr_t available = OMR_MIN(spaceSavingGetCurSize(spaceSaving), (uintptr_t)_topKFrequent);
+	for (count = 0; (count < available) && (count < maxSamples); count++) {
+		AllocationSite *site = (AllocationSite *)spaceSavingGetKthMostFreq(spaceSaving, count + 1);
+		samples[count].clazz = site->clazz;
+		samples[count].method = site->method;
+		samples[count].bytecodeIndex = site->bytecodeIndex;
+		samples[count].sampleCount = spaceSavingGetKthMostFreqCount(spaceSaving, count + 1);
+	}
+	omrthread_monitor_exit(_mutex);
+
+	return count;
+}
+
+void
+MM_AllocationSiteStats::reset()
+{
+	omrthread_monitor_enter(_mutex);
+	_frequentSites->clear();
+	rebuild(keepTrackedSite);
+	omrthread_monitor_exit(_mutex);
+}
+
+void
+MM_AllocationSiteStats::purgeDyingSites()
+{
+	omrthread_monitor_enter(_mutex);
+	rebuild(keepLiveSite);
+	omrthread_monitor_exit(_mutex);
+}
+
+void
+MM_AllocationSiteStats::pruneEvictedSites()
+{
+	rebuild(keepTrackedSite);
+}
+
+void
+MM_AllocationSiteStats::rebuild(bool (*keepSite)(AllocationSite *site))
+{
+	OMRSpaceSaving *spaceSaving = _frequentSites->_spaceSaving;
+	uintptr_t tracked = spaceSavingGetCurSize(spaceSaving);
+	uintptr_t saved = 0;
+
+	Assert_MM_true(tracked <= _sketchCapacity);
+
+	/* Sketch keys point into the site table, so copy the surviving sites out before the table is emptied */
+	for (uintptr_t i = 0; i < tracked; i++) {
+		AllocationSite *site = (AllocationSite *)spaceSavingGetKthMostFreq(spaceSaving, i + 1);
+		if (keepSite(site)) {
+			_savedSites[saved].site = *site;
+			_savedSites[saved].count = spaceSavingGetKthMostFreqCount(spaceSaving, i + 1);
+			saved += 1;
+		}
+	}
+
+	_frequentSites->clear();
+
+	J9HashTableState walkState;
+	AllocationSite *entry = (AllocationSite *)hashTableStartDo(_siteTable, &walkState);
+	while (NULL != entry) {
+		hashTableDoRemove(&walkState);
+		entry = (AllocationSite *)hashTableNextDo(&walkState);
+	}
+
+	/* Re-insert in descending order of frequency; entries freed above are reused by the table pool */
+	for (uintptr_t i = 0; i < saved; i++) {
+		entry = (AllocationSite *)hashTableAdd(_siteTable, &_savedSites[i].site);
+		if (NULL != entry) {
+			_frequentSites->updateKey(entry, _savedSites[i].count);
+		}
+	}
+}
+
+static bool
+keepTrackedSite(MM_AllocationSiteStats::AllocationSite *site)
+{
+	return true;
+}
+
+static bool
+keepLiveSite(MM_AllocationSiteStats::AllocationSite *site)
+{
+	if (J9AccClassDying == (J9CLASS_FLAGS(site->clazz) & J9AccClassDying)) {
+		return false;
+	}
+	if ((NULL != site->method) && (J9AccClassDying == (J9CLASS_FLAGS(J9_CLASS_FROM_METHOD(site->method)) & J9AccClassDying))) {
+		return false;
+	}
+	return true;
+}
+
+extern "C" {
+
+static uintptr_t
+allocationSiteFrameIterator(J9VMThread *currentThread, J9StackWalkState *walkState)
+{
+	MM_AllocationSiteStats::AllocationSite *site = (MM_AllocationSiteStats::AllocationSite *)walkState->userData1;
+
+	site->method = walkState->method;
+	site->bytecodeIndex = walkState->bytecodePCOffset;
+	return J9_STACKWALK_STOP_ITERATING;
+}
+
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+/**
+ * Sites are keyed by J9Class and J9Method pointers, which become invalid once the classes are unloaded.
+ * The unloading classes have already been flagged as dying when the hooks are triggered.
+ */
+static void
+allocationSiteStatsClassesUnloadHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData)
+{
+	((MM_AllocationSiteStats *)userData)->purgeDyingSites();
+}
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+
+} /* extern "C" */
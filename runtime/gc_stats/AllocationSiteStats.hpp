@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Stats
+ */
+
+#if !defined(ALLOCATIONSITESTATS_HPP_)
+#define ALLOCATIONSITESTATS_HPP_
+
+#include "j9.h"
+#include "omrthread.h"
+
+#include "Base.hpp"
+#include "EnvironmentBase.hpp"
+
+class MM_FrequentObjectsStats;
+
+/*
+ * Keeps track of the most frequent allocation sites (allocated class, allocating method and bytecode index).
+ * Samples are taken on the out-of-line allocation path, i.e. when a thread refreshes its TLH, and are
+ * aggregated using the same space-saving sketch as MM_FrequentObjectsStats.
+ */
+class MM_AllocationSiteStats : public MM_Base
+{
+/* Data Members */
+public:
+	/* An allocation site; entries live in _siteTable and their addresses are the keys of the sketch */
+	struct AllocationSite {
+		J9Class *clazz; /**< The class being allocated */
+		J9Method *method; /**< The method performing the allocation, or NULL if it could not be determined */
+		intptr_t bytecodeIndex; /**< The bytecode index of the allocation within method, or -1 if unknown */
+
+		static uintptr_t hash(void *key, void *userData);
+		static uintptr_t equal(void *leftKey, void *rightKey, void *userData);
+	};
+private:
+	/* A site and its sketch count, saved while the sketch is rebuilt */
+	struct SavedSite {
+		AllocationSite site;
+		uintptr_t count;
+	};
+	J9JavaVM *_javaVM;
+	MM_FrequentObjectsStats *_frequentSites; /**< Space-saving sketch keyed by AllocationSite entries of _siteTable */
+	uintptr_t _sketchCapacity; /**< Maximum number of keys held by the sketch */
+	SavedSite *_savedSites; /**< Scratch space of _sketchCapacity entries used to rebuild the sketch without allocating */
+	J9HashTable *_siteTable; /**< Unique allocation sites referenced by the sketch */
+	omrthread_monitor_t _mutex; /**< Protects the sketch and the site table */
+	uint32_t _topKFrequent; /**< Number of sites reported accurately by the sketch */
+	bool _hooksRegistered; /**< True if the class unload hooks were successfully registered */
+
+/* Function Members */
+public:
+	static MM_AllocationSiteStats *newInstance(MM_EnvironmentBase *env, uint32_t topKFrequent);
+	virtual void kill(MM_EnvironmentBase *env);
+
+	/**
+	 * Attribute an allocation of clazz to the Java frame at the top of the current thread's stack.
+	 * Must be called by a mutator thread holding VM access with a walkable stack.
+	 * @param env the allocating thread
+	 * @param clazz the class being allocated
+	 */
+	void recordSample(MM_EnvironmentBase *env, J9Class *clazz);
+
+	/**
+	 * Copy the most frequent allocation sites, most frequent first.
+	 * The caller must hold VM access so that the reported classes and methods cannot be unloaded.
+	 * @param samples the array to fill
+	 * @param maxSamples the capacity of samples
+	 * @return the number of entries written
+	 */
+	uintptr_t getTopSites(J9AllocationSiteSample *samples, uintptr_t maxSamples);
+
+	/**
+	 * Discard all recorded samples.
+	 */
+	void reset();
+
+	/**
+	 * Remove sites which refer to classes or methods about to be unloaded.
+	 * Called from the class unload hooks while exclusive VM access is held.
+	 */
+	void purgeDyingSites();
+
+	uint32_t getTopKFrequent() const { return _topKFrequent; }
+
+	MM_AllocationSiteStats(MM_EnvironmentBase *env, uint32_t topKFrequent)
+		: MM_Base()
+		, _javaVM((J9JavaVM *)env->getOmrVM()->_language_vm)
+		, _frequentSites(NULL)
+		, _sketchCapacity(0)
+		, _savedSites(NULL)
+		, _siteTable(NULL)
+		, _mutex(NULL)
+		, _topKFrequent(topKFrequent)
+		, _hooksRegistered(false)
+	{}
+
+protected:
+	virtual bool initialize(MM_EnvironmentBase *env);
+	virtual void tearDown(MM_EnvironmentBase *env);
+
+private:
+	/**
+	 * Drop site table entries which have been evicted from the sketch, so the table stays proportional
+	 * to the sketch size. Caller must hold _mutex.
+	 */
+	void pruneEvictedSites();
+
+	/**
+	 * Rebuild the sketch and the site table, keeping only those sites accepted by the filter.
+	 * Caller must hold _mutex.
+	 */
+	void rebuild(bool (*keepSite)(AllocationSite *site));
+};
+
+#endif /* !ALLOCATIONSITESTATS_HPP_ */
@@ -79,6 +79,12 @@ public:
 	uintptr_t _doubleMappedArrayletsCandidates; /**< The number of double mapped arraylets that have been visited during marking */
 #endif /* J9VM_GC_ENABLE_DOUBLE_MAP */
 
+	uintptr_t _hotFieldCopies; /**< The number of hot field children this thread forwarded while depth copying their parent */
+	uintptr_t _hotFieldCopiesColocated; /**< The number of those depth copies which start in the same 4KB page as their parent */
+
+	uintptr_t _copyObjectsLocalNode; /**< The number of objects copied into a region on the NUMA node of the copying thread */
+	uintptr_t _copyObjectsRemoteNode; /**< The number of objects copied into a region on a different NUMA node than the copying thread */
+
 	uint64_t _cycleStartTime; /**< The start time of a copy forward cycle */
 
 private:
@@ -119,6 +125,12 @@ public:
 		_doubleMappedArrayletsCleared = 0;
 		_doubleMappedArrayletsCandidates = 0;
 #endif /* J9VM_GC_ENABLE_DOUBLE_MAP */
+
+		_hotFieldCopies = 0;
+		_hotFieldCopiesColocated = 0;
+
+		_copyObjectsLocalNode = 0;
+		_copyObjectsRemoteNode = 0;
 	}
 	
 	/**
@@ -152,6 +164,12 @@ public:
 		_doubleMappedArrayletsCleared += stats->_doubleMappedArrayletsCleared;
 		_doubleMappedArrayletsCandidates += stats->_doubleMappedArrayletsCandidates;
 #endif /* J9VM_GC_ENABLE_DOUBLE_MAP */
+
+		_hotFieldCopies += stats->_hotFieldCopies;
+		_hotFieldCopiesColocated += stats->_hotFieldCopiesColocated;
+
+		_copyObjectsLocalNode += stats->_copyObjectsLocalNode;
+		_copyObjectsRemoteNode += stats->_copyObjectsRemoteNode;
 	}
 
 	MM_CopyForwardStats() :
@@ -177,6 +195,10 @@ public:
 		, _doubleMappedArrayletsCleared(0)
 		, _doubleMappedArrayletsCandidates(0)
 #endif /* J9VM_GC_ENABLE_DOUBLE_MAP */
+		, _hotFieldCopies(0)
+		, _hotFieldCopiesColocated(0)
+		, _copyObjectsLocalNode(0)
+		, _copyObjectsRemoteNode(0)
 	{}
 };
 
@@ -33,15 +33,26 @@
  */
 MM_FrequentObjectsStats *
 MM_FrequentObjectsStats::newInstance(MM_EnvironmentBase *env)
+{
+	return newInstance(env, MM_GCExtensions::getExtensions(env)->frequentObjectAllocationSamplingDepth);
+}
+
+/**
+ * Create and return a new instance of MM_FrequentObjectsStats tracking the given number of most frequent keys.
+ *
+ * @param topKFrequent the number of keys to report accurately, or 0 for the default
+ * @return the new instance, or NULL on failure.
+ */
+MM_FrequentObjectsStats *
+MM_FrequentObjectsStats::newInstance(MM_EnvironmentBase *env, uint32_t topKFrequent)
 {
 	PORT_ACCESS_FROM_ENVIRONMENT(env);
 	MM_FrequentObjectsStats *frequentObjectsStats;
-	uint32_t frequentObjectAllocationSamplingDepth = MM_GCExtensions::getExtensions(env)->frequentObjectAllocationSamplingDepth;
 
 	frequentObjectsStats = (MM_FrequentObjectsStats *)env->getForge()->allocate(sizeof(MM_FrequentObjectsStats), MM_AllocationCategory::FIXED, J9_GET_CALLSITE());
 	if (NULL != frequentObjectsStats) {
-		if (0 != frequentObjectAllocationSamplingDepth) {
-			new(frequentObjectsStats) MM_FrequentObjectsStats(PORTLIB, frequentObjectAllocationSamplingDepth);
+		if (0 != topKFrequent) {
+			new(frequentObjectsStats) MM_FrequentObjectsStats(PORTLIB, topKFrequent);
 		} else {
 			new(frequentObjectsStats) MM_FrequentObjectsStats(PORTLIB);
 		}
@@ -66,6 +66,7 @@ private:
 /* Function Members */
 public:
 	static MM_FrequentObjectsStats *newInstance(MM_EnvironmentBase *env);
+	static MM_FrequentObjectsStats *newInstance(MM_EnvironmentBase *env, uint32_t topKFrequent);
 	virtual void kill(MM_EnvironmentBase *env);
 
 	/* reset the stats*/
@@ -87,6 +88,16 @@ public:
 		spaceSavingUpdate(_spaceSaving, J9OBJECT_CLAZZ((J9VMThread *)env->getLanguageVMThread(), object), 1);
 	}
 
+	/*
+	 * Update stats with an opaque key (e.g. an allocation site) rather than an object's class
+	 * @param key the key to record; must remain valid for as long as it is tracked
+	 * @param count the weight to add for the key
+	 */
+	void updateKey(void *key, uintptr_t count = 1)
+	{
+		spaceSavingUpdate(_spaceSaving, key, count);
+	}
+
 	/* Creates a data structure which keeps track of the k most frequent class allocations (estimated probability of 90% of
 	 * reporting this accurately (and in the correct order).  The larger k is, the more memory is required
 	 * @param portLibrary the port library
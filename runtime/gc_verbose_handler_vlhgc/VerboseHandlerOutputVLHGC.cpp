@@ -443,6 +443,16 @@ MM_VerboseHandlerOutputVLHGC::handleCopyForwardEnd(J9HookInterface** hook, UDATA
 				copyForwardStats->_copyObjectsNonEden, copyForwardStats->_copyBytesNonEden, copyForwardStats->_copyDiscardBytesNonEden);
 	writer->formatAndOutput(env, 1, "<memory-cardclean objects=\"%zu\" bytes=\"%zu\" />",
 				copyForwardStats->_objectsCardClean, copyForwardStats->_bytesCardClean);
+	if (0 != copyForwardStats->_hotFieldCopies) {
+		UDATA colocatedPercent = (UDATA)((100 * (U_64)copyForwardStats->_hotFieldCopiesColocated) / ((U_64)copyForwardStats->_hotFieldCopies));
+		writer->formatAndOutput(env, 1, "<hot-field-copy objects=\"%zu\" colocated=\"%zu\" colocated-percent=\"%zu\" />",
+				copyForwardStats->_hotFieldCopies, copyForwardStats->_hotFieldCopiesColocated, colocatedPercent);
+	}
+	if (0 != (copyForwardStats->_copyObjectsLocalNode + copyForwardStats->_copyObjectsRemoteNode)) {
+		UDATA remotePercent = (UDATA)((100 * (U_64)copyForwardStats->_copyObjectsRemoteNode) / ((U_64)(copyForwardStats->_copyObjectsLocalNode + copyForwardStats->_copyObjectsRemoteNode)));
+		writer->formatAndOutput(env, 1, "<numa-copy local=\"%zu\" remote=\"%zu\" remote-percent=\"%zu\" />",
+				copyForwardStats->_copyObjectsLocalNode, copyForwardStats->_copyObjectsRemoteNode, remotePercent);
+	}
 	if(copyForwardStats->_aborted || (0 != copyForwardStats->_nonEvacuateRegionCount)) {
 		writer->formatAndOutput(env, 1, "<memory-traced type=\"eden\" objects=\"%zu\" bytes=\"%zu\" />",
 					copyForwardStats->_scanObjectsEden, copyForwardStats->_scanBytesEden);
@@ -70,6 +70,7 @@
 #include "FinalizeListManager.hpp"
 #include "ForwardedHeader.hpp"
 #include "GlobalAllocationManager.hpp"
+#include "GlobalAllocationManagerTarok.hpp"
 #include "Heap.hpp"
 #include "HeapMapIterator.hpp"
 #include "HeapMapWordIterator.hpp"
@@ -140,6 +141,8 @@
 
 /* If scavenger dynamicBreadthFirstScanOrdering and alwaysDepthCopyFirstOffset is enabled, always copy the first offset of each object after the object itself is copied */
 #define DEFAULT_HOT_FIELD_OFFSET 1
+/* a depth copied hot field child is co-located with its parent when both start in the same page of this size */
+#define HOT_FIELD_COLOCATION_PAGE_SIZE 4096
 
 #define	AllCompressedCardsInWordClean		0
 #define AllCompressedCardsInByteClean		0
@@ -380,12 +383,17 @@ MM_CopyForwardScheme::tearDown(MM_EnvironmentVLHGC *env)
 }
 
 MM_AllocationContextTarok *
-MM_CopyForwardScheme::getPreferredAllocationContext(MM_AllocationContextTarok *suggestedContext, J9Object *objectPtr)
+MM_CopyForwardScheme::getPreferredAllocationContext(MM_EnvironmentVLHGC *env, MM_AllocationContextTarok *suggestedContext, J9Object *objectPtr)
 {
 	MM_AllocationContextTarok *preferredContext = suggestedContext;
 
 	if (preferredContext == _commonContext) {
-		preferredContext = getContextForHeapAddress(objectPtr);
+		if (_extensions->tarokCopyForwardToWorkerNode && (NULL != env->_copyForwardNodeContext)) {
+			/* keep the copy on the node of the thread doing (and then scanning) it */
+			preferredContext = env->_copyForwardNodeContext;
+		} else {
+			preferredContext = getContextForHeapAddress(objectPtr);
+		}
 	} /* no code beyond this point without modifying else statement below */
 	return preferredContext;
 }
@@ -1493,6 +1501,13 @@ MM_CopyForwardScheme::workerSetupForCopyForward(MM_EnvironmentVLHGC *env)
 		env->_copyForwardCompactGroups[compactGroup].initialize(env);
 	}
 
+	/* record the node this thread is bound to so that copies can be attributed (and optionally directed) to it */
+	if (_extensions->_numaManager.isPhysicalNUMASupported()) {
+		env->_copyForwardNumaNode = env->getNumaAffinity();
+		/* an unbound thread (affinity 0) or a node owning no memory keeps copying to the original context */
+		env->_copyForwardNodeContext = ((MM_GlobalAllocationManagerTarok *)_extensions->globalAllocationManager)->findNodeAllocationContext(env->_copyForwardNumaNode);
+	}
+
 	Assert_MM_true(NULL == env->_lastOverflowedRsclWithReleasedBuffers);
 }
 
@@ -1987,7 +2002,7 @@ MM_CopyForwardScheme::copy(MM_EnvironmentVLHGC *env, MM_AllocationContextTarok *
 		}
 #endif /* J9VM_INTERP_NATIVE_SUPPORT */
 
-		reservingContext = getPreferredAllocationContext(reservingContext, object);
+		reservingContext = getPreferredAllocationContext(env, reservingContext, object);
 
 		copyCache = reserveMemoryForCopy(env, object, reservingContext, objectReserveSizeInBytes);
 
@@ -2094,6 +2109,17 @@ MM_CopyForwardScheme::copy(MM_EnvironmentVLHGC *env, MM_AllocationContextTarok *
 					env->_copyForwardCompactGroups[destinationCompactGroup]._nonEdenStats._copiedObjects += 1;
 					env->_copyForwardCompactGroups[destinationCompactGroup]._nonEdenStats._copiedBytes += objectCopySizeInBytes;
 				}
+				if (NULL != env->_hotFieldCopyParent) {
+					countHotFieldCopy(env, destinationObjectPtr);
+				}
+				if (0 != env->_copyForwardNumaNode) {
+					uintptr_t destinationNode = _regionManager->tableDescriptorForAddress(destinationObjectPtr)->getNumaNode();
+					if (destinationNode == env->_copyForwardNumaNode) {
+						env->_copyForwardStats._copyObjectsLocalNode += 1;
+					} else {
+						env->_copyForwardStats._copyObjectsRemoteNode += 1;
+					}
+				}
 				copyCache->_allocationAgeSizeProduct += ((double)objectReserveSizeInBytes * (double)sourceRegion->getAllocationAge());
 				copyCache->_objectSize += objectReserveSizeInBytes;
 				copyCache->_lowerAgeBound = OMR_MIN(copyCache->_lowerAgeBound, sourceRegion->getLowerAgeBound());
@@ -2174,12 +2200,29 @@ MM_CopyForwardScheme::copyHotField(MM_EnvironmentVLHGC *env, J9Object *destinati
 		MM_ForwardedHeader forwardHeaderHotField(objectPtr, compressed);
 		if (!forwardHeaderHotField.isForwardedPointer()) {
 			env->_hotFieldCopyDepthCount += 1;
+			/* counted by copy() only if this thread forwards the object, see countHotFieldCopy() */
+			env->_hotFieldCopyParent = destinationObjectPtr;
 			copy(env, reservingContext, &forwardHeaderHotField);
+			env->_hotFieldCopyParent = NULL;
 			env->_hotFieldCopyDepthCount -= 1;
 		}
 	}
 }
 
+MMINLINE void
+MM_CopyForwardScheme::countHotFieldCopy(MM_EnvironmentVLHGC *env, J9Object *destinationObjectPtr)
+{
+	/* the child only lands next to its parent when both are copied into the same compact group (copy cache) */
+	uintptr_t parent = (uintptr_t)env->_hotFieldCopyParent;
+	uintptr_t child = (uintptr_t)destinationObjectPtr;
+	env->_copyForwardStats._hotFieldCopies += 1;
+	if ((parent / HOT_FIELD_COLOCATION_PAGE_SIZE) == (child / HOT_FIELD_COLOCATION_PAGE_SIZE)) {
+		env->_copyForwardStats._hotFieldCopiesColocated += 1;
+	}
+	/* copies done while copying this object (its leaf children or its own hot fields) are not children of the parent */
+	env->_hotFieldCopyParent = NULL;
+}
+
 void
 MM_CopyForwardScheme::flushCacheMarkMap(MM_EnvironmentVLHGC *env, MM_CopyScanCacheVLHGC *cache)
 {
@@ -4457,6 +4500,8 @@ MM_CopyForwardScheme::workThreadGarbageCollect(MM_EnvironmentVLHGC *env)
 	mergeGCStats(env);
 
 	env->_copyForwardCompactGroups = NULL;
+	env->_copyForwardNumaNode = 0;
+	env->_copyForwardNodeContext = NULL;
 
 	return ;
 }
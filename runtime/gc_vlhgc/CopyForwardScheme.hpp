@@ -880,6 +880,11 @@ private:
 	 * @param offset  - the object field offset of the hot field to be copied 
 	 */ 
 	MMINLINE void copyHotField(MM_EnvironmentVLHGC *env, J9Object *destinationObjectPtr, uint8_t offset, MM_AllocationContextTarok *reservingContext);
+
+	/* Count a hot field child which this thread has just forwarded, and whether it is co-located with its parent.
+	 * @param destinationObjectPtr - the copy of the hot field child, its parent is env->_hotFieldCopyParent
+	 */
+	MMINLINE void countHotFieldCopy(MM_EnvironmentVLHGC *env, J9Object *destinationObjectPtr);
 	/**
 	 * Push any remaining cached mark map data out before the copy scan cache is released.
 	 * @param env GC thread.
@@ -1068,11 +1073,13 @@ protected:
 	 * Checks whether the suggestedContext passed in is a preferred allocation context for
 	 * object relocation. If so the same context is returned if not the object's original context
 	 * is returned.
+	 * When -XXgc:tarokEnableCopyForwardToWorkerNode is set, the context of the copying thread's NUMA node is preferred over the object's original context.
+	 * @param[in] env The current GC thread
 	 * @param[in] suggestedContext The allocation context we intended to copy the object into
 	 * @param[in] objectPtr A pointer to the object being copied
-	 * @return The reservingContext or the object's owning context if the suggestedContext is not a preferred object relocation context
+	 * @return The reservingContext or the object's owning context (or the thread's node context) if the suggestedContext is not a preferred object relocation context
 	 */
-	MMINLINE MM_AllocationContextTarok *getPreferredAllocationContext(MM_AllocationContextTarok *suggestedContext, J9Object *objectPtr);
+	MMINLINE MM_AllocationContextTarok *getPreferredAllocationContext(MM_EnvironmentVLHGC *env, MM_AllocationContextTarok *suggestedContext, J9Object *objectPtr);
 
 public:
 
@@ -45,6 +45,7 @@
 #include "UnfinalizedObjectBufferVLHGC.hpp"
 #include "WorkStack.hpp"
 
+class MM_AllocationContextTarok;
 class MM_GCExtensions;
 class MM_CopyForwardCompactGroup;
 class MM_CopyScanCache;
@@ -66,6 +67,9 @@ public:
 	MM_CopyScanCache *_deferredScanCache; /**< a partially scanned cache, to be scanned later */
 
 	MM_CopyForwardCompactGroup *_copyForwardCompactGroups;  /**< List of copy-forward data for each compact group for the given GC thread (only for GC threads during copy forward operations) */
+	uintptr_t _copyForwardNumaNode; /**< NUMA node the GC thread is bound to during copy forward, or 0 if it is not bound (only for GC threads during copy forward operations) */
+	MM_AllocationContextTarok *_copyForwardNodeContext; /**< allocation context owning the regions of _copyForwardNumaNode, NULL if the thread is not bound to a node or that node owns no memory, in which case copies go to the original context (only for GC threads during copy forward operations) */
+	J9Object *_hotFieldCopyParent; /**< copy of the object whose hot field is being depth copied, cleared once the child has been counted (only for GC threads during copy forward operations) */
 	
 	uintptr_t _previousConcurrentYieldCheckBytesScanned;	/**< The number of bytes scanned in the mark stats at the end of the previous shouldYieldFromTask check in concurrent mark */
 
@@ -150,6 +150,7 @@ MM_GlobalAllocationManagerTarok::initializeAllocationContexts(MM_EnvironmentBase
 		return false;
 	}
 	memset(_perNodeContextSets, 0x0, owningByNodeSize);
+	_perNodeContextSetsCount = maximumNodeNumberOwningMemory + 1;
 
 	/* create the common context */
 	MM_AllocationContextBalanced *commonContext = MM_AllocationContextBalanced::newInstance(env, subspace, 0, COMMON_CONTEXT_INDEX);
@@ -190,6 +191,20 @@ MM_GlobalAllocationManagerTarok::initializeAllocationContexts(MM_EnvironmentBase
 	return true;
 }
 
+MM_AllocationContextTarok *
+MM_GlobalAllocationManagerTarok::findNodeAllocationContext(UDATA numaNode)
+{
+	MM_AllocationContextTarok *context = NULL;
+	/* node 0 maps to the common context, which is not bound to any node */
+	if ((0 != numaNode) && (numaNode < _perNodeContextSetsCount)) {
+		context = _perNodeContextSets[numaNode];
+		if (context == _managedAllocationContexts[COMMON_CONTEXT_INDEX]) {
+			context = NULL;
+		}
+	}
+	return context;
+}
+
 bool
 MM_GlobalAllocationManagerTarok::initialize(MM_EnvironmentBase *env)
 {
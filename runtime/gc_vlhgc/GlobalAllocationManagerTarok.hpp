@@ -53,6 +53,7 @@ public:
 protected:
 private:
 	MM_AllocationContextBalanced **_perNodeContextSets; /**< an array which is extensions->numaNodes elements long, containing the "first" AllocationContextVLHGC in each corresponding per-node circular list */
+	UDATA _perNodeContextSetsCount; /**< the number of elements in _perNodeContextSets (the highest NUMA node owning memory, plus one) */
 
 	MM_RuntimeExecManager _runtimeExecManager; /**< A helper object used to intercept Runtime.exec() and manage affinity to workaround limitations on Linux */
 
@@ -76,6 +77,15 @@ public:
 	 */
 	bool initializeAllocationContexts(MM_EnvironmentBase *env, MM_MemorySubSpaceTarok *subspace);
 	
+	/**
+	 * Find the first allocation context whose regions are bound to the given NUMA node.
+	 * Unlike getAllocationContextForNumaNode(), this never answers the common context and does not
+	 * require a context to exist.
+	 * @param numaNode[in] The NUMA node number
+	 * @return The context for the node, or NULL if numaNode is 0 or no context owns memory on that node
+	 */
+	MM_AllocationContextTarok *findNodeAllocationContext(UDATA numaNode);
+
 	/**
 	 * @return The actual free memory size of all the regions managed by the contexts under the receiver
 	 */
@@ -173,6 +183,7 @@ protected:
 	MM_GlobalAllocationManagerTarok(MM_EnvironmentBase *env)
 		: MM_GlobalAllocationManager(env)
 		, _perNodeContextSets(NULL)
+		, _perNodeContextSetsCount(0)
 		, _runtimeExecManager(env)
 	{
 		_typeId = __FUNCTION__;
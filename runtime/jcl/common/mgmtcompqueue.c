@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include <string.h>
+
+#include "jni.h"
+#include "j9.h"
+#include "jclprots.h"
+#include "jcl_internal.h"
+
+/*
+ * Layout of the array filled by getCompilationQueueInfoImpl(). It must match the constants
+ * in CompilationQueueMXBeanImpl.
+ */
+#define COMPQUEUE_QUEUE_SIZES 0
+#define COMPQUEUE_OLDEST_ENTRY_AGE (COMPQUEUE_QUEUE_SIZES + J9JIT_COMP_QUEUE_BUCKETS)
+#define COMPQUEUE_THROTTLE_REMAINING (COMPQUEUE_OLDEST_ENTRY_AGE + 1)
+#define COMPQUEUE_THREAD_COUNT (COMPQUEUE_THROTTLE_REMAINING + 1)
+#define COMPQUEUE_THREAD_STATES (COMPQUEUE_THREAD_COUNT + 1)
+#define COMPQUEUE_THREAD_BUSY_TIMES (COMPQUEUE_THREAD_STATES + J9JIT_COMP_QUEUE_MAX_THREADS)
+#define COMPQUEUE_DURATION_COUNT (COMPQUEUE_THREAD_BUSY_TIMES + J9JIT_COMP_QUEUE_MAX_THREADS)
+#define COMPQUEUE_DURATIONS (COMPQUEUE_DURATION_COUNT + 1)
+#define COMPQUEUE_LENGTH (COMPQUEUE_DURATIONS + J9JIT_COMP_QUEUE_RECENT_DURATIONS)
+
+/* The most classes of the same name returned by findLoadedClassesImpl() */
+#define COMPQUEUE_MAX_LOADED_CLASSES 16
+
+/**
+ * Fill the info array with the state of the JIT compilation queues and threads.
+ *
+ * @param env the current thread
+ * @param info an array of at least COMPQUEUE_LENGTH entries
+ * @return JNI_TRUE if the JIT is loaded and the array was filled, JNI_FALSE otherwise
+ */
+static jboolean
+getCompilationQueueInfo(JNIEnv *env, jlongArray info)
+{
+	jboolean result = JNI_FALSE;
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JITConfig *jitConfig = currentThread->javaVM->jitConfig;
+
+	if ((NULL != jitConfig) && (NULL != jitConfig->getCompilationQueueInfo)
+		&& ((*env)->GetArrayLength(env, info) >= COMPQUEUE_LENGTH)
+	) {
+		J9JITCompilationQueueInfo queueInfo;
+		jlong values[COMPQUEUE_LENGTH];
+		UDATA idx = 0;
+
+		jitConfig->getCompilationQueueInfo(currentThread, &queueInfo);
+
+		memset(values, 0, sizeof(values));
+		for (idx = 0; idx < J9JIT_COMP_QUEUE_BUCKETS; ++idx) {
+			values[COMPQUEUE_QUEUE_SIZES + idx] = (jlong)queueInfo.queueSizes[idx];
+		}
+		values[COMPQUEUE_OLDEST_ENTRY_AGE] = (jlong)queueInfo.oldestEntryAge;
+		values[COMPQUEUE_THROTTLE_REMAINING] = (jlong)queueInfo.throttleRemaining;
+		values[COMPQUEUE_THREAD_COUNT] = (jlong)queueInfo.compThreadCount;
+		for (idx = 0; idx < queueInfo.compThreadCount; ++idx) {
+			values[COMPQUEUE_THREAD_STATES + idx] = (jlong)queueInfo.compThreadStates[idx];
+			values[COMPQUEUE_THREAD_BUSY_TIMES + idx] = (jlong)queueInfo.compThreadBusyTimes[idx];
+		}
+		values[COMPQUEUE_DURATION_COUNT] = (jlong)queueInfo.recentDurationCount;
+		for (idx = 0; idx < queueInfo.recentDurationCount; ++idx) {
+			values[COMPQUEUE_DURATIONS + idx] = (jlong)queueInfo.recentDurations[idx];
+		}
+
+		(*env)->SetLongArrayRegion(env, info, 0, COMPQUEUE_LENGTH, values);
+		result = JNI_TRUE;
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+	return result;
+}
+
+/**
+ * Throttle background compilations for the given number of milliseconds; 0 lifts the throttling.
+ *
+ * @param env the current thread
+ * @param durationMillis how long to throttle
+ */
+static void
+throttleBackgroundCompilations(JNIEnv *env, jlong durationMillis)
+{
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JITConfig *jitConfig = currentThread->javaVM->jitConfig;
+
+	if ((NULL != jitConfig) && (NULL != jitConfig->throttleBackgroundCompilations)) {
+		jitConfig->throttleBackgroundCompilations(currentThread, (UDATA)durationMillis);
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+}
+
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_getCompilationQueueInfoImpl(JNIEnv *env, jobject beanInstance, jlongArray info)
+{
+	return getCompilationQueueInfo(env, info);
+}
+
+jint JNICALL
+Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_queueMethodForCompilationImpl(JNIEnv *env, jobject beanInstance, jobject method, jint optLevel)
+{
+	jint result = -1;
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JITConfig *jitConfig = currentThread->javaVM->jitConfig;
+
+	if ((NULL != jitConfig) && (NULL != jitConfig->queueMethodForCompilation)) {
+		jmethodID methodID = (*env)->FromReflectedMethod(env, method);
+
+		if (NULL != methodID) {
+			result = (jint)jitConfig->queueMethodForCompilation(currentThread, ((J9JNIMethodID *)methodID)->method, (UDATA)optLevel);
+		}
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+	return result;
+}
+
+jint JNICALL
+Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_findLoadedClassesImpl(JNIEnv *env, jobject beanInstance, jstring className, jobjectArray classes)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *vm = currentThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = vm->internalVMFunctions;
+	jsize maxCount = (*env)->GetArrayLength(env, classes);
+	jsize foundCount = 0;
+	const char *utfName = (*env)->GetStringUTFChars(env, className, NULL);
+
+	if (NULL != utfName) {
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		UDATA length = strlen(utfName);
+		U_8 *internalName = (U_8 *)j9mem_allocate_memory(length + 1, J9MEM_CATEGORY_VM_JCL);
+
+		if (NULL != internalName) {
+			J9ClassLoaderWalkState walkState;
+			J9ClassLoader *classLoader = NULL;
+			jobject found[COMPQUEUE_MAX_LOADED_CLASSES];
+			J9Class *foundClasses[COMPQUEUE_MAX_LOADED_CLASSES];
+			UDATA idx = 0;
+			jsize i = 0;
+
+			/* The class tables are keyed by the internal class name */
+			for (idx = 0; idx < length; ++idx) {
+				internalName[idx] = ('.' == utfName[idx]) ? '/' : (U_8)utfName[idx];
+			}
+			if (maxCount > COMPQUEUE_MAX_LOADED_CLASSES) {
+				maxCount = COMPQUEUE_MAX_LOADED_CLASSES;
+			}
+
+			vmFuncs->internalEnterVMFromJNI(currentThread);
+			omrthread_monitor_enter(vm->classTableMutex);
+			classLoader = vmFuncs->allClassLoadersStartDo(&walkState, vm, 0);
+			while ((NULL != classLoader) && (foundCount < maxCount)) {
+				J9Class *clazz = vmFuncs->hashClassTableAt(classLoader, internalName, length);
+
+				if (NULL != clazz) {
+					/* A class is also in the table of each loader that initiated loading it */
+					for (i = 0; i < foundCount; ++i) {
+						if (foundClasses[i] == clazz) {
+							break;
+						}
+					}
+					if (i == foundCount) {
+						foundClasses[foundCount] = clazz;
+						foundCount += 1;
+					}
+				}
+				classLoader = vmFuncs->allClassLoadersNextDo(&walkState);
+			}
+			vmFuncs->allClassLoadersEndDo(&walkState);
+			omrthread_monitor_exit(vm->classTableMutex);
+			/* The classes cannot be unloaded while this thread has VM access */
+			for (i = 0; i < foundCount; ++i) {
+				found[i] = vmFuncs->j9jni_createLocalRef(env, J9VM_J9CLASS_TO_HEAPCLASS(foundClasses[i]));
+			}
+			vmFuncs->internalExitVMToJNI(currentThread);
+
+			for (i = 0; i < foundCount; ++i) {
+				(*env)->SetObjectArrayElement(env, classes, i, found[i]);
+				(*env)->DeleteLocalRef(env, found[i]);
+			}
+			j9mem_free_memory(internalName);
+		}
+		(*env)->ReleaseStringUTFChars(env, className, utfName);
+	}
+	return (jint)foundCount;
+}
+
+void JNICALL
+Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_throttleBackgroundCompilationsImpl(JNIEnv *env, jobject beanInstance, jlong durationMillis)
+{
+	throttleBackgroundCompilations(env, durationMillis);
+}
+
+jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getCompilationQueueInfoImpl(JNIEnv *env, jclass unused, jlongArray info)
+{
+	return getCompilationQueueInfo(env, info);
+}
+
+void JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_throttleBackgroundCompilationsImpl(JNIEnv *env, jclass unused, jlong durationMillis)
+{
+	throttleBackgroundCompilations(env, durationMillis);
+}
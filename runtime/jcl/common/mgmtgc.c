@@ -39,6 +39,21 @@ typedef enum {
 
 #define GC_FIELD_TOTAL_GC_TIME
 
+/* The layout of a cycle record, must match com.ibm.lang.management.GarbageCollectorMXBean */
+#define CYCLE_RECORD_INDEX 0
+#define CYCLE_RECORD_START_TIME 1
+#define CYCLE_RECORD_PAUSE_TIME 2
+#define CYCLE_RECORD_CAUSE 3
+#define CYCLE_RECORD_WORKER_THREADS 4
+#define CYCLE_RECORD_COPIED_BYTES 5
+#define CYCLE_RECORD_FLIPPED_BYTES 6
+#define CYCLE_RECORD_TENURED_BYTES 7
+#define CYCLE_RECORD_POOL_BASE 8
+#define CYCLE_RECORD_POOL_USED_BEFORE 0
+#define CYCLE_RECORD_POOL_USED_AFTER 1
+#define CYCLE_RECORD_POOL_FIELDS 2
+#define CYCLE_RECORD_LENGTH (CYCLE_RECORD_POOL_BASE + (J9VM_MAX_HEAP_MEMORYPOOL_COUNT * CYCLE_RECORD_POOL_FIELDS))
+
 static UDATA getIndexFromCollectorID(J9JavaLangManagementData *mgmt, UDATA id);
 static jlong getCollectorField(JNIEnv *env, jint id, GarbageCollectorField field);
 
@@ -262,6 +277,88 @@ fail:
 	return NULL;
 }
 
+jint JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getCycleRecordsImpl(JNIEnv *env, jobject beanInstance, jint id, jlong afterIndex, jlongArray records)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	J9GarbageCollectorData *gc = &mgmt->garbageCollectors[getIndexFromCollectorID(mgmt, (UDATA) id)];
+	jsize maxRecords = (*env)->GetArrayLength(env, records) / CYCLE_RECORD_LENGTH;
+	jlong *recordsElems = NULL;
+	jint count = 0;
+
+	if (0 == maxRecords) {
+		return 0;
+	}
+
+	recordsElems = (jlong *) (*env)->GetPrimitiveArrayCritical(env, records, NULL);
+	if (NULL == recordsElems) {
+		return 0;
+	}
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	{
+		U_64 lastIndex = gc->lastGcInfo.index;
+		U_64 nextIndex = 1;
+		U_32 idx = 0;
+
+		if (afterIndex > 0) {
+			nextIndex = (U_64)afterIndex + 1;
+		}
+		/* skip the records which have been overwritten */
+		if ((lastIndex > J9VM_MANAGEMENT_GC_RECORD_COUNT) && (nextIndex <= (lastIndex - J9VM_MANAGEMENT_GC_RECORD_COUNT))) {
+			nextIndex = lastIndex - J9VM_MANAGEMENT_GC_RECORD_COUNT + 1;
+		}
+		for (; (nextIndex <= lastIndex) && (count < maxRecords); ++nextIndex, ++count) {
+			J9GarbageCollectionRecord *record = &gc->records[nextIndex % J9VM_MANAGEMENT_GC_RECORD_COUNT];
+			jlong *slots = &recordsElems[count * CYCLE_RECORD_LENGTH];
+
+			slots[CYCLE_RECORD_INDEX] = (jlong)record->index;
+			slots[CYCLE_RECORD_START_TIME] = (jlong)record->startTime;
+			slots[CYCLE_RECORD_PAUSE_TIME] = (jlong)record->pauseTime;
+			slots[CYCLE_RECORD_CAUSE] = (jlong)record->cause;
+			slots[CYCLE_RECORD_WORKER_THREADS] = (jlong)record->workerThreads;
+			slots[CYCLE_RECORD_COPIED_BYTES] = (jlong)record->copiedBytes;
+			slots[CYCLE_RECORD_FLIPPED_BYTES] = (jlong)record->flippedBytes;
+			slots[CYCLE_RECORD_TENURED_BYTES] = (jlong)record->tenuredBytes;
+			for (idx = 0; idx < J9VM_MAX_HEAP_MEMORYPOOL_COUNT; ++idx) {
+				jlong *poolSlots = &slots[CYCLE_RECORD_POOL_BASE + (idx * CYCLE_RECORD_POOL_FIELDS)];
+				if (idx < mgmt->supportedMemoryPools) {
+					poolSlots[CYCLE_RECORD_POOL_USED_BEFORE] = (jlong)record->preUsed[idx];
+					poolSlots[CYCLE_RECORD_POOL_USED_AFTER] = (jlong)record->postUsed[idx];
+				} else {
+					poolSlots[CYCLE_RECORD_POOL_USED_BEFORE] = -1;
+					poolSlots[CYCLE_RECORD_POOL_USED_AFTER] = -1;
+				}
+			}
+		}
+	}
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	(*env)->ReleasePrimitiveArrayCritical(env, records, recordsElems, 0);
+
+	return count;
+}
+
+jstring JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getCycleCauseNameImpl(JNIEnv *env, jclass clazz, jint cause)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	const char *name = NULL;
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	if ((0 <= cause) && ((U_32)cause < mgmt->gcCauseCount)) {
+		name = mgmt->gcCauses[cause];
+	}
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	if (NULL == name) {
+		return NULL;
+	}
+	return (*env)->NewStringUTF(env, name);
+}
+
 static jlong
 getCollectorField(JNIEnv *env, jint id, GarbageCollectorField field)
 {
@@ -62,6 +62,8 @@ static void managementLocalGCEnd(J9HookInterface **hook, UDATA eventNum, void *e
 static void managementCompactEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
 static void gcStartEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *frees, UDATA collectorID);
 static void gcEndEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *frees, UDATA *maxs, UDATA collectorID, OMR_VMThread *omrVMThread);
+static void recordGarbageCollection(J9JavaVM *vm, J9GarbageCollectorData *gcData, OMR_VMThread *omrVMThread);
+static I_32 getGcCauseIndex(J9JavaLangManagementData *mgmt, const char *gcCause);
 static jint initMemoryManagement(J9JavaVM *vm);
 static U_32 getNumberSupported(U_32 supportedIDs);
 static UDATA getArrayIndexFromManagerID(J9JavaLangManagementData *mgmt, UDATA id);
@@ -501,6 +503,7 @@ gcStartEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA
 	} else {
 		gcInfo->startTime -= mgmt->vmStartTime;
 	}
+	gcData->lastGcStartNanos = j9time_nano_time();
 
 	mgmt->preCollectionHeapSize = heapSize;
 	mgmt->preCollectionHeapUsed = heapUsed;
@@ -863,6 +866,8 @@ gcEndEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *f
 		}
 	}
 
+	recordGarbageCollection(vm, gcData, omrVMThread);
+
 	/* garbage collection notification */
 	notificationEnabled = mgmt->notificationEnabled;
 	omrthread_rwmutex_exit_write(mgmt->managementDataLock);
@@ -908,6 +913,65 @@ gcEndEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *f
 	}
 }
 
+/*
+ * Stores the statistics of the collection which just ended in the cycle record ring of the collector,
+ * overwriting the oldest record once the ring is full. The caller must hold the managementDataLock
+ * for writing, and must have updated lastGcInfo for the collection.
+ */
+static void
+recordGarbageCollection(J9JavaVM *vm, J9GarbageCollectorData *gcData, OMR_VMThread *omrVMThread)
+{
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9GarbageCollectionInfo *gcInfo = &gcData->lastGcInfo;
+	J9GarbageCollectionRecord *record = &gcData->records[gcInfo->index % J9VM_MANAGEMENT_GC_RECORD_COUNT];
+	UDATA copiedBytes = 0;
+	UDATA flippedBytes = 0;
+	UDATA tenuredBytes = 0;
+	I_64 pauseTime = 0;
+	UDATA idx = 0;
+
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	pauseTime = j9time_nano_time() - gcData->lastGcStartNanos;
+	vm->memoryManagerFunctions->j9gc_get_cycle_copy_stats(omrVMThread, &copiedBytes, &flippedBytes, &tenuredBytes);
+
+	record->index = gcInfo->index;
+	record->startTime = gcInfo->startTime;
+	record->pauseTime = (pauseTime > 0) ? (U_64)pauseTime : 0;
+	record->cause = getGcCauseIndex(mgmt, gcInfo->gcCause);
+	record->workerThreads = mgmt->gcCurrentThreads;
+	record->copiedBytes = copiedBytes;
+	record->flippedBytes = flippedBytes;
+	record->tenuredBytes = tenuredBytes;
+	for (idx = 0; idx < mgmt->supportedMemoryPools; ++idx) {
+		record->preUsed[idx] = gcInfo->preUsed[idx];
+		record->postUsed[idx] = gcInfo->postUsed[idx];
+	}
+}
+
+/*
+ * Returns the index of a GC cause in mgmt->gcCauses, adding the cause if it has not been seen before.
+ * The causes are static strings owned by the GC, so they are compared by address. Returns -1 if
+ * the table is full. The caller must hold the managementDataLock for writing.
+ */
+static I_32
+getGcCauseIndex(J9JavaLangManagementData *mgmt, const char *gcCause)
+{
+	U_32 idx = 0;
+
+	for (idx = 0; idx < mgmt->gcCauseCount; ++idx) {
+		if (mgmt->gcCauses[idx] == gcCause) {
+			return (I_32)idx;
+		}
+	}
+	if ((NULL != gcCause) && (J9VM_MANAGEMENT_GC_CAUSE_COUNT > mgmt->gcCauseCount)) {
+		mgmt->gcCauses[mgmt->gcCauseCount] = gcCause;
+		mgmt->gcCauseCount += 1;
+		return (I_32)idx;
+	}
+	return -1;
+}
+
 static jint
 initMemoryManagement(J9JavaVM *vm)
 {
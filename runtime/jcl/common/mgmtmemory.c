@@ -20,14 +20,22 @@
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
  *******************************************************************************/
 
+#include <string.h>
+
 #include "jni.h"
 #include "j9.h"
+#include "j9cp.h"
+#include "rommeth.h"
 #include "mgmtinit.h"
 #include "jvminit.h"
 #include "verbose_api.h"
 
 static UDATA getIndexFromMemoryPoolID(J9JavaLangManagementData *mgmt, UDATA id);
 static UDATA getIndexFromGCID(J9JavaLangManagementData *mgmt, UDATA id);
+static UDATA copyDottedName(J9UTF8 *name, char *buffer);
+static UDATA copyAllocatedClassName(J9Class *clazz, char *buffer);
+static UDATA copyAllocatingMethodName(J9Method *method, char *buffer);
+static jint getAllocationSites(JNIEnv *env, jobjectArray classNames, jobjectArray methodNames, jintArray bytecodeIndexes, jlongArray sampleCounts);
 
 jobject JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getHeapMemoryUsageImpl(JNIEnv *env, jobject beanInstance, jclass memoryUsage, jobject memUsageConstructor)
@@ -854,3 +862,312 @@ static UDATA getIndexFromGCID(J9JavaLangManagementData *mgmt, UDATA id)
 	}
 	return idx;
 }
+
+/**
+ * Copy a class name, converting '/' separators to '.'.
+ * @param name the name to copy
+ * @param buffer the destination, or NULL to compute the length only
+ * @return the number of characters copied, not including a terminator
+ */
+static UDATA
+copyDottedName(J9UTF8 *name, char *buffer)
+{
+	UDATA length = J9UTF8_LENGTH(name);
+
+	if (NULL != buffer) {
+		U_8 *data = J9UTF8_DATA(name);
+		UDATA i = 0;
+		for (i = 0; i < length; i++) {
+			buffer[i] = ('/' == data[i]) ? '.' : (char)data[i];
+		}
+	}
+	return length;
+}
+
+/**
+ * Copy the name of an allocated class, using the leaf component type followed
+ * by a "[]" pair per dimension for arrays.
+ * @param clazz the allocated class
+ * @param buffer the destination, or NULL to compute the length only
+ * @return the number of bytes required, including the NUL terminator
+ */
+static UDATA
+copyAllocatedClassName(J9Class *clazz, char *buffer)
+{
+	UDATA arity = 0;
+	UDATA length = 0;
+	UDATA i = 0;
+
+	if (J9ROMCLASS_IS_ARRAY(clazz->romClass)) {
+		J9ArrayClass *arrayClass = (J9ArrayClass *)clazz;
+		arity = arrayClass->arity;
+		clazz = arrayClass->leafComponentType;
+	}
+	length = copyDottedName(J9ROMCLASS_CLASSNAME(clazz->romClass), buffer);
+	if (NULL != buffer) {
+		for (i = 0; i < arity; i++) {
+			buffer[length + (i * 2)] = '[';
+			buffer[length + (i * 2) + 1] = ']';
+		}
+		buffer[length + (arity * 2)] = '\0';
+	}
+	return length + (arity * 2) + 1;
+}
+
+/**
+ * Copy the fully qualified name and signature of an allocating method, e.g. "java.lang.String.concat(Ljava/lang/String;)Ljava/lang/String;".
+ * @param method the method, may be NULL if the allocating frame could not be determined
+ * @param buffer the destination, or NULL to compute the length only
+ * @return the number of bytes required, including the NUL terminator
+ */
+static UDATA
+copyAllocatingMethodName(J9Method *method, char *buffer)
+{
+	UDATA length = 0;
+
+	if (NULL != method) {
+		J9ROMMethod *romMethod = J9_ROM_METHOD_FROM_RAM_METHOD(method);
+		J9UTF8 *methodName = J9ROMMETHOD_NAME(romMethod);
+		J9UTF8 *methodSignature = J9ROMMETHOD_SIGNATURE(romMethod);
+
+		length = copyDottedName(J9ROMCLASS_CLASSNAME(J9_CLASS_FROM_METHOD(method)->romClass), buffer);
+		if (NULL != buffer) {
+			buffer[length] = '.';
+			memcpy(buffer + length + 1, J9UTF8_DATA(methodName), J9UTF8_LENGTH(methodName));
+			memcpy(buffer + length + 1 + J9UTF8_LENGTH(methodName), J9UTF8_DATA(methodSignature), J9UTF8_LENGTH(methodSignature));
+		}
+		length += 1 + J9UTF8_LENGTH(methodName) + J9UTF8_LENGTH(methodSignature);
+	}
+	if (NULL != buffer) {
+		buffer[length] = '\0';
+	}
+	return length + 1;
+}
+
+/**
+ * Fill the given arrays with the most frequently sampled allocation sites, most frequent first.
+ * The names are copied to native memory while VM access is held, because creating the Java strings
+ * may trigger a GC which could unload the classes they were read from.
+ * @return the number of sites written, or -1 if an exception is pending
+ */
+static jint
+getAllocationSites(JNIEnv *env, jobjectArray classNames, jobjectArray methodNames, jintArray bytecodeIndexes, jlongArray sampleCounts)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = javaVM->internalVMFunctions;
+	J9AllocationSiteSample *samples = NULL;
+	char *names = NULL;
+	jint *indexes = NULL;
+	jlong *counts = NULL;
+	UDATA capacity = (UDATA)(*env)->GetArrayLength(env, sampleCounts);
+	UDATA count = 0;
+	UDATA namesSize = 0;
+	UDATA i = 0;
+	jint result = -1;
+
+	PORT_ACCESS_FROM_ENV(env);
+
+	if (0 == capacity) {
+		return 0;
+	}
+	samples = j9mem_allocate_memory(capacity * sizeof(J9AllocationSiteSample), J9MEM_CATEGORY_VM_JCL);
+	indexes = j9mem_allocate_memory(capacity * sizeof(jint), J9MEM_CATEGORY_VM_JCL);
+	counts = j9mem_allocate_memory(capacity * sizeof(jlong), J9MEM_CATEGORY_VM_JCL);
+	if ((NULL == samples) || (NULL == indexes) || (NULL == counts)) {
+		goto oom;
+	}
+
+	vmFuncs->internalEnterVMFromJNI(currentThread);
+	count = javaVM->memoryManagerFunctions->j9gc_get_allocation_sites(currentThread, samples, capacity);
+	for (i = 0; i < count; i++) {
+		namesSize += copyAllocatedClassName(samples[i].clazz, NULL);
+		namesSize += copyAllocatingMethodName(samples[i].method, NULL);
+	}
+	if (0 != namesSize) {
+		names = j9mem_allocate_memory(namesSize, J9MEM_CATEGORY_VM_JCL);
+	}
+	if (NULL != names) {
+		char *cursor = names;
+		for (i = 0; i < count; i++) {
+			cursor += copyAllocatedClassName(samples[i].clazz, cursor);
+			cursor += copyAllocatingMethodName(samples[i].method, cursor);
+			indexes[i] = (jint)samples[i].bytecodeIndex;
+			counts[i] = (jlong)samples[i].sampleCount;
+		}
+	}
+	vmFuncs->internalExitVMToJNI(currentThread);
+
+	if ((NULL == names) && (0 != count)) {
+		goto oom;
+	}
+
+	if (0 != count) {
+		char *cursor = names;
+		for (i = 0; i < count; i++) {
+			jstring className = (*env)->NewStringUTF(env, cursor);
+			cursor += strlen(cursor) + 1;
+			if (NULL == className) {
+				goto done;
+			}
+			(*env)->SetObjectArrayElement(env, classNames, (jsize)i, className);
+			(*env)->DeleteLocalRef(env, className);
+			if (NULL != samples[i].method) {
+				jstring methodName = (*env)->NewStringUTF(env, cursor);
+				if (NULL == methodName) {
+					goto done;
+				}
+				(*env)->SetObjectArrayElement(env, methodNames, (jsize)i, methodName);
+				(*env)->DeleteLocalRef(env, methodName);
+			}
+			cursor += strlen(cursor) + 1;
+		}
+		(*env)->SetIntArrayRegion(env, bytecodeIndexes, 0, (jsize)count, indexes);
+		(*env)->SetLongArrayRegion(env, sampleCounts, 0, (jsize)count, counts);
+	}
+	result = (jint)count;
+	goto done;
+
+oom:
+	vmFuncs->throwNativeOOMError(env, 0, 0);
+done:
+	j9mem_free_memory(names);
+	j9mem_free_memory(counts);
+	j9mem_free_memory(indexes);
+	j9mem_free_memory(samples);
+	return result;
+}
+
+jint JNICALL
+Java_com_ibm_lang_management_internal_AllocationSiteMXBeanImpl_getSamplingDepthImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+
+	return (jint)javaVM->memoryManagerFunctions->j9gc_get_allocation_site_sampling_depth(javaVM);
+}
+
+jint JNICALL
+Java_com_ibm_lang_management_internal_AllocationSiteMXBeanImpl_getAllocationSitesImpl(JNIEnv *env, jobject beanInstance, jobjectArray classNames, jobjectArray methodNames, jintArray bytecodeIndexes, jlongArray sampleCounts)
+{
+	return getAllocationSites(env, classNames, methodNames, bytecodeIndexes, sampleCounts);
+}
+
+void JNICALL
+Java_com_ibm_lang_management_internal_AllocationSiteMXBeanImpl_resetImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+
+	javaVM->internalVMFunctions->internalEnterVMFromJNI(currentThread);
+	javaVM->memoryManagerFunctions->j9gc_reset_allocation_sites(currentThread);
+	javaVM->internalVMFunctions->internalExitVMToJNI(currentThread);
+}
+
+jint JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getAllocationSiteSamplingDepthImpl(JNIEnv *env, jclass unused)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+
+	return (jint)javaVM->memoryManagerFunctions->j9gc_get_allocation_site_sampling_depth(javaVM);
+}
+
+jint JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getAllocationSitesImpl(JNIEnv *env, jclass unused, jobjectArray classNames, jobjectArray methodNames, jintArray bytecodeIndexes, jlongArray sampleCounts)
+{
+	return getAllocationSites(env, classNames, methodNames, bytecodeIndexes, sampleCounts);
+}
+
+void JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_resetAllocationSitesImpl(JNIEnv *env, jclass unused)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+
+	javaVM->internalVMFunctions->internalEnterVMFromJNI(currentThread);
+	javaVM->memoryManagerFunctions->j9gc_reset_allocation_sites(currentThread);
+	javaVM->internalVMFunctions->internalExitVMToJNI(currentThread);
+}
+
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getIdleHeapUncommitCountImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	UDATA uncommitCycles = 0;
+	UDATA bytesReleased = 0;
+
+	javaVM->memoryManagerFunctions->j9gc_get_idle_heap_uncommit_stats(javaVM, &uncommitCycles, &bytesReleased);
+
+	return (jlong)uncommitCycles;
+}
+
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getIdleHeapUncommitBytesReleasedImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	UDATA uncommitCycles = 0;
+	UDATA bytesReleased = 0;
+
+	javaVM->memoryManagerFunctions->j9gc_get_idle_heap_uncommit_stats(javaVM, &uncommitCycles, &bytesReleased);
+
+	return (jlong)bytesReleased;
+}
+
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getPendingReferenceCountImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	UDATA pending = 0;
+	UDATA processed = 0;
+	UDATA drainCount = 0;
+	U_64 totalLatency = 0;
+	U_64 maxLatency = 0;
+
+	javaVM->memoryManagerFunctions->j9gc_get_reference_processing_stats(javaVM, &pending, &processed, &drainCount, &totalLatency, &maxLatency);
+
+	return (jlong)pending;
+}
+
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getEnqueuedReferenceCountImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	UDATA pending = 0;
+	UDATA processed = 0;
+	UDATA drainCount = 0;
+	U_64 totalLatency = 0;
+	U_64 maxLatency = 0;
+
+	javaVM->memoryManagerFunctions->j9gc_get_reference_processing_stats(javaVM, &pending, &processed, &drainCount, &totalLatency, &maxLatency);
+
+	return (jlong)processed;
+}
+
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getAverageReferenceProcessingLatencyImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	UDATA pending = 0;
+	UDATA processed = 0;
+	UDATA drainCount = 0;
+	U_64 totalLatency = 0;
+	U_64 maxLatency = 0;
+
+	javaVM->memoryManagerFunctions->j9gc_get_reference_processing_stats(javaVM, &pending, &processed, &drainCount, &totalLatency, &maxLatency);
+
+	return (0 == drainCount) ? 0 : (jlong)(totalLatency / drainCount);
+}
+
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getMaxReferenceProcessingLatencyImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	UDATA pending = 0;
+	UDATA processed = 0;
+	UDATA drainCount = 0;
+	U_64 totalLatency = 0;
+	U_64 maxLatency = 0;
+
+	javaVM->memoryManagerFunctions->j9gc_get_reference_processing_stats(javaVM, &pending, &processed, &drainCount, &totalLatency, &maxLatency);
+
+	return (jlong)maxLatency;
+}
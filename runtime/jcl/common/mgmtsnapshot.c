@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include <string.h>
+
+#include "jni.h"
+#include "j9.h"
+#include "jclprots.h"
+#include "jcl_internal.h"
+#include "mgmtinit.h"
+
+/*
+ * Indexes into the array filled by getMetricsSnapshotImpl(). The schema is append-only: existing
+ * indexes must never change meaning. They must match the constants in MetricsSnapshotMXBean.
+ * New scalar counters take the reserved indexes from METRICS_SCALAR_COUNT up to METRICS_HEAP_POOL_BASE.
+ */
+#define METRICS_TIMESTAMP 0
+#define METRICS_UPTIME 1
+#define METRICS_HEAP_USED 2
+#define METRICS_HEAP_COMMITTED 3
+#define METRICS_HEAP_MAX 4
+#define METRICS_GC_COUNT 5
+#define METRICS_GC_TIME 6
+#define METRICS_GC_MEMORY_FREED 7
+#define METRICS_GC_COMPACTS 8
+#define METRICS_GC_MAIN_CPU_TIME 9
+#define METRICS_GC_WORKER_CPU_TIME 10
+#define METRICS_PROCESS_CPU_TIME 11
+#define METRICS_JVM_APPLICATION_CPU_TIME 12
+#define METRICS_JVM_RESOURCE_MONITOR_CPU_TIME 13
+#define METRICS_JVM_SYSTEM_CPU_TIME 14
+#define METRICS_JVM_GC_CPU_TIME 15
+#define METRICS_JVM_JIT_CPU_TIME 16
+#define METRICS_THREAD_COUNT 17
+#define METRICS_DAEMON_THREAD_COUNT 18
+#define METRICS_PEAK_THREAD_COUNT 19
+#define METRICS_TOTAL_STARTED_THREAD_COUNT 20
+#define METRICS_LOADED_CLASS_COUNT 21
+#define METRICS_TOTAL_LOADED_CLASS_COUNT 22
+#define METRICS_UNLOADED_CLASS_COUNT 23
+#define METRICS_COMPILATION_TIME 24
+#define METRICS_SHARED_CACHE_SIZE 25
+#define METRICS_SHARED_CACHE_FREE 26
+#define METRICS_SCALAR_COUNT 27
+#define METRICS_HEAP_POOL_BASE 64
+#define METRICS_HEAP_POOL_USED 0
+#define METRICS_HEAP_POOL_COMMITTED 1
+#define METRICS_HEAP_POOL_FIELDS 2
+#define METRICS_LENGTH (METRICS_HEAP_POOL_BASE + (J9VM_MAX_HEAP_MEMORYPOOL_COUNT * METRICS_HEAP_POOL_FIELDS))
+
+#define METRICS_POOL_KEY_BUFFER_SIZE (J9MEMORYPOOLDATA_MAX_NAME_BUFFER_SIZE + 32)
+
+/* Minimum time between two walks of the thread list for the JVM CPU usage */
+#define METRICS_JVM_CPU_USAGE_INTERVAL_NS (100 * J9PORT_TIME_NS_PER_MS)
+
+static const char * const metricsKeys[METRICS_SCALAR_COUNT] = {
+	"timestamp.ns",
+	"uptime.ms",
+	"heap.used",
+	"heap.committed",
+	"heap.max",
+	"gc.count",
+	"gc.time.ms",
+	"gc.memoryFreed",
+	"gc.compacts",
+	"gc.mainThreadCpu.ms",
+	"gc.workerThreadsCpu.ms",
+	"cpu.process.ns",
+	"cpu.jvm.application.us",
+	"cpu.jvm.resourceMonitor.us",
+	"cpu.jvm.system.us",
+	"cpu.jvm.gc.us",
+	"cpu.jvm.jit.us",
+	"threads.live",
+	"threads.daemon",
+	"threads.peak",
+	"threads.totalStarted",
+	"classes.loaded",
+	"classes.totalLoaded",
+	"classes.unloaded",
+	"jit.compilationTime.ms",
+	"sharedCache.size",
+	"sharedCache.free"
+};
+
+static void fillJvmCpuUsage(J9JavaVM *vm, I_64 nowNanos, jlong *values);
+static void fillMetricsSnapshot(JNIEnv *env, jlong *values);
+static jint fillMetricsKeys(JNIEnv *env, jobjectArray keys);
+static jint getMetricsSnapshot(JNIEnv *env, jlongArray values, jobjectArray keys);
+
+/**
+ * Store the CPU time of each JVM thread category. The times are read by walking every thread, so a
+ * reading is reused by the snapshots taken within METRICS_JVM_CPU_USAGE_INTERVAL_NS of it.
+ *
+ * @param vm the J9JavaVM
+ * @param nowNanos the time of the snapshot
+ * @param values the snapshot to fill
+ */
+static void
+fillJvmCpuUsage(J9JavaVM *vm, I_64 nowNanos, jlong *values)
+{
+	J9JavaLangManagementData *mgmt = vm->managementData;
+
+	/* hold the vmThreadListMutex so that a thread doesn't die while the thread library walks the threads;
+	 * it also protects the last reading
+	 */
+	omrthread_monitor_enter(vm->vmThreadListMutex);
+	if ((0 == mgmt->jvmCpuUsageSampled)
+		|| ((U_64)(nowNanos - mgmt->jvmCpuUsageSampleTime) >= METRICS_JVM_CPU_USAGE_INTERVAL_NS)
+	) {
+		J9ThreadsCpuUsage cpuUsage;
+
+		memset(&cpuUsage, 0, sizeof(cpuUsage));
+		mgmt->jvmCpuUsageSampleRC = omrthread_get_jvm_cpu_usage_info(&cpuUsage);
+		mgmt->jvmCpuUsageSampleTime = nowNanos;
+		mgmt->jvmCpuUsageSampled = 1;
+		mgmt->jvmCpuUsageSample[0] = (U_64)cpuUsage.applicationCpuTime;
+		mgmt->jvmCpuUsageSample[1] = (U_64)cpuUsage.resourceMonitorCpuTime;
+		mgmt->jvmCpuUsageSample[2] = (U_64)cpuUsage.systemJvmCpuTime;
+		mgmt->jvmCpuUsageSample[3] = (U_64)cpuUsage.gcCpuTime;
+		mgmt->jvmCpuUsageSample[4] = (U_64)cpuUsage.jitCpuTime;
+	}
+	if (mgmt->jvmCpuUsageSampleRC >= 0) {
+		values[METRICS_JVM_APPLICATION_CPU_TIME] = (jlong)mgmt->jvmCpuUsageSample[0];
+		values[METRICS_JVM_RESOURCE_MONITOR_CPU_TIME] = (jlong)mgmt->jvmCpuUsageSample[1];
+		values[METRICS_JVM_SYSTEM_CPU_TIME] = (jlong)mgmt->jvmCpuUsageSample[2];
+		values[METRICS_JVM_GC_CPU_TIME] = (jlong)mgmt->jvmCpuUsageSample[3];
+		values[METRICS_JVM_JIT_CPU_TIME] = (jlong)mgmt->jvmCpuUsageSample[4];
+	}
+	omrthread_monitor_exit(vm->vmThreadListMutex);
+}
+
+/**
+ * Gather every metric of the snapshot. Each source is read once under the lock that protects it;
+ * the locks are taken one after the other, never nested, so a snapshot cannot deadlock with a GC
+ * or a thread start. Values which are not available are set to -1.
+ *
+ * @param env the current thread
+ * @param values an array of METRICS_LENGTH entries to fill
+ */
+static void
+fillMetricsSnapshot(JNIEnv *env, jlong *values)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *vm = currentThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = vm->internalVMFunctions;
+	J9MemoryManagerFunctions *mmFuncs = vm->memoryManagerFunctions;
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	omrthread_process_time_t processTime = {0};
+	I_64 nowNanos = 0;
+	I_64 criuTimeDeltaMillis = 0;
+	jlong compilationTime = 0;
+	jlong committed = 0;
+	U_32 idx = 0;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	for (idx = 0; idx < METRICS_LENGTH; ++idx) {
+		values[idx] = -1;
+	}
+
+	nowNanos = j9time_nano_time();
+	values[METRICS_TIMESTAMP] = (jlong)nowNanos;
+#if defined(J9VM_OPT_CRIU_SUPPORT)
+	criuTimeDeltaMillis = vm->checkpointState.checkpointRestoreTimeDelta / J9PORT_TIME_NS_PER_MS;
+#endif /* defined(J9VM_OPT_CRIU_SUPPORT) */
+
+	committed = (jlong)mmFuncs->j9gc_heap_total_memory(vm);
+	values[METRICS_HEAP_COMMITTED] = committed;
+	values[METRICS_HEAP_USED] = committed - (jlong)mmFuncs->j9gc_heap_free_memory(vm);
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+
+	values[METRICS_UPTIME] = (jlong)(j9time_current_time_millis() - mgmt->vmStartTime - criuTimeDeltaMillis);
+	values[METRICS_HEAP_MAX] = (jlong)mgmt->maximumHeapSize;
+
+	values[METRICS_GC_COUNT] = 0;
+	values[METRICS_GC_TIME] = 0;
+	values[METRICS_GC_MEMORY_FREED] = 0;
+	values[METRICS_GC_COMPACTS] = 0;
+	for (idx = 0; idx < mgmt->supportedCollectors; ++idx) {
+		J9GarbageCollectorData *gc = &mgmt->garbageCollectors[idx];
+
+		values[METRICS_GC_COUNT] += (jlong)gc->lastGcInfo.index;
+		values[METRICS_GC_TIME] += (jlong)gc->totalGCTime;
+		values[METRICS_GC_MEMORY_FREED] += (jlong)gc->totalMemoryFreed;
+		values[METRICS_GC_COMPACTS] += (jlong)gc->totalCompacts;
+	}
+	values[METRICS_GC_MAIN_CPU_TIME] = (jlong)mgmt->gcMainCpuTime;
+	values[METRICS_GC_WORKER_CPU_TIME] = (jlong)mgmt->gcWorkerCpuTime;
+
+	values[METRICS_THREAD_COUNT] = (jlong)mgmt->liveJavaThreads;
+	values[METRICS_DAEMON_THREAD_COUNT] = (jlong)mgmt->liveJavaDaemonThreads;
+	values[METRICS_PEAK_THREAD_COUNT] = (jlong)mgmt->peakLiveJavaThreads;
+	values[METRICS_TOTAL_STARTED_THREAD_COUNT] = (jlong)mgmt->totalJavaThreadsStarted;
+
+	values[METRICS_LOADED_CLASS_COUNT] = (jlong)(mgmt->totalClassLoads - mgmt->totalClassUnloads);
+	values[METRICS_TOTAL_LOADED_CLASS_COUNT] = (jlong)mgmt->totalClassLoads;
+	values[METRICS_UNLOADED_CLASS_COUNT] = (jlong)mgmt->totalClassUnloads;
+
+	compilationTime = (jlong)mgmt->totalCompilationTime;
+	if (mgmt->threadsCompiling > 0) {
+		compilationTime += checkedTimeInterval((U_64)nowNanos, (U_64)mgmt->lastCompilationStart) * mgmt->threadsCompiling;
+	}
+	values[METRICS_COMPILATION_TIME] = compilationTime / J9PORT_TIME_NS_PER_MS;
+
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	/* acquire vmAccess once for all the heap pools so that their usages are consistent with each other */
+	vmFuncs->internalEnterVMFromJNI(currentThread);
+	for (idx = 0; (idx < mgmt->supportedMemoryPools) && (idx < J9VM_MAX_HEAP_MEMORYPOOL_COUNT); ++idx) {
+		UDATA total = 0;
+		UDATA free = 0;
+		jlong *pool = &values[METRICS_HEAP_POOL_BASE + (idx * METRICS_HEAP_POOL_FIELDS)];
+
+		mmFuncs->j9gc_pool_memoryusage(vm, (mgmt->memoryPools[idx].id & J9VM_MANAGEMENT_POOL_HEAP_ID_MASK), &free, &total);
+		pool[METRICS_HEAP_POOL_USED] = (jlong)(total - free);
+		pool[METRICS_HEAP_POOL_COMMITTED] = (jlong)total;
+	}
+	vmFuncs->internalExitVMToJNI(currentThread);
+
+	if (0 == omrthread_get_process_times(&processTime)) {
+		values[METRICS_PROCESS_CPU_TIME] = (jlong)(processTime._userTime + processTime._systemTime);
+	}
+
+	fillJvmCpuUsage(vm, nowNanos, values);
+
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	if (NULL != vm->sharedClassConfig) {
+		values[METRICS_SHARED_CACHE_SIZE] = (jlong)vm->sharedClassConfig->getCacheSizeBytes(vm);
+		values[METRICS_SHARED_CACHE_FREE] = (jlong)vm->sharedClassConfig->getFreeSpaceBytes(vm);
+	}
+#endif /* defined(J9VM_OPT_SHARED_CLASSES) */
+}
+
+/**
+ * Store the key of each metric in the keys array. Heap pool keys include the pool name.
+ * The elements at reserved indexes are left null.
+ *
+ * @param env the current thread
+ * @param keys the array to fill, which must have at least METRICS_LENGTH entries
+ * @return 0 on success, or -1 if an exception is pending
+ */
+static jint
+fillMetricsKeys(JNIEnv *env, jobjectArray keys)
+{
+	J9JavaLangManagementData *mgmt = ((J9VMThread *)env)->javaVM->managementData;
+	char poolKey[METRICS_POOL_KEY_BUFFER_SIZE];
+	jint idx = 0;
+	PORT_ACCESS_FROM_ENV(env);
+
+	for (idx = 0; idx < METRICS_LENGTH; ++idx) {
+		const char *key = NULL;
+		jstring keyString = NULL;
+
+		if (idx < METRICS_SCALAR_COUNT) {
+			key = metricsKeys[idx];
+		} else if (idx < METRICS_HEAP_POOL_BASE) {
+			continue;
+		} else {
+			U_32 poolIndex = (U_32)((idx - METRICS_HEAP_POOL_BASE) / METRICS_HEAP_POOL_FIELDS);
+			const char *suffix = (METRICS_HEAP_POOL_USED == ((idx - METRICS_HEAP_POOL_BASE) % METRICS_HEAP_POOL_FIELDS)) ? "used" : "committed";
+
+			if (poolIndex < mgmt->supportedMemoryPools) {
+				j9str_printf(poolKey, sizeof(poolKey), "pool.%s.%s", mgmt->memoryPools[poolIndex].name, suffix);
+			} else {
+				j9str_printf(poolKey, sizeof(poolKey), "pool.%u.%s", poolIndex, suffix);
+			}
+			key = poolKey;
+		}
+
+		keyString = (*env)->NewStringUTF(env, key);
+		if (NULL == keyString) {
+			return -1;
+		}
+		(*env)->SetObjectArrayElement(env, keys, idx, keyString);
+		(*env)->DeleteLocalRef(env, keyString);
+		if ((*env)->ExceptionCheck(env)) {
+			return -1;
+		}
+	}
+
+	return 0;
+}
+
+/**
+ * Fill the values array, and optionally the keys array, with a snapshot of the VM metrics.
+ * Only as many values as fit in the array are stored, so callers built against an older,
+ * shorter schema keep working.
+ *
+ * @param env the current thread
+ * @param values the array to fill, or NULL to only fill the keys
+ * @param keys an array of at least METRICS_LENGTH entries to fill with the metric keys, or NULL
+ * @return the number of metrics in the schema
+ */
+static jint
+getMetricsSnapshot(JNIEnv *env, jlongArray values, jobjectArray keys)
+{
+	if (NULL != values) {
+		jlong snapshot[METRICS_LENGTH];
+		jsize count = (*env)->GetArrayLength(env, values);
+
+		if (count > METRICS_LENGTH) {
+			count = METRICS_LENGTH;
+		}
+		fillMetricsSnapshot(env, snapshot);
+		(*env)->SetLongArrayRegion(env, values, 0, count, snapshot);
+	}
+
+	if ((NULL != keys) && ((*env)->GetArrayLength(env, keys) >= METRICS_LENGTH)) {
+		fillMetricsKeys(env, keys);
+	}
+
+	return METRICS_LENGTH;
+}
+
+jint JNICALL
+Java_com_ibm_lang_management_internal_MetricsSnapshotMXBeanImpl_getMetricsSnapshotImpl(JNIEnv *env, jobject beanInstance, jlongArray values, jobjectArray keys)
+{
+	return getMetricsSnapshot(env, values, keys);
+}
+
+jint JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMetricsSnapshotImpl(JNIEnv *env, jclass unused, jlongArray values, jobjectArray keys)
+{
+	return getMetricsSnapshot(env, values, keys);
+}
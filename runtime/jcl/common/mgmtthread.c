@@ -44,6 +44,7 @@
 #include "j9cp.h"
 #include "jniidcacheinit.h"
 
+#include <stdlib.h>
 #include <string.h>
 
 #include "vmaccess.h"
@@ -107,6 +108,34 @@ typedef struct SynchronizerIterData {
 	UDATA allinfolen;
 } SynchronizerIterData;
 
+/* The per-class contention statistics, in the order they are returned to Java */
+#define MONITOR_CONTENTION_MONITORS 0
+#define MONITOR_CONTENTION_CONTENDED_ENTERS 1
+#define MONITOR_CONTENTION_SPIN_ACQUIRED 2
+#define MONITOR_CONTENTION_SPIN_SKIPPED 3
+#define MONITOR_CONTENTION_BLOCKED_ENTERS 4
+#define MONITOR_CONTENTION_BLOCKED_TIME 5
+#define MONITOR_CONTENTION_STATISTIC_COUNT 6
+
+/* Indexes into the statistics array filled by getContinuationCacheStatisticsImpl(). */
+#define CONTINUATION_CACHE_T1_SIZE 0
+#define CONTINUATION_CACHE_T2_SIZE 1
+#define CONTINUATION_CACHE_MAX_STACK_SIZE 2
+#define CONTINUATION_CACHE_T1_HITS 3
+#define CONTINUATION_CACHE_T2_HITS 4
+#define CONTINUATION_CACHE_MISSES 5
+#define CONTINUATION_CACHE_FREED 6
+#define CONTINUATION_CACHE_TRIMMED 7
+#define CONTINUATION_CACHE_LOOKUP_TIME 8
+#define CONTINUATION_CACHE_LOOKUP_SAMPLES 9
+#define CONTINUATION_CACHE_STATISTIC_COUNT 10
+
+typedef struct MonitorContentionEntry {
+	J9Class *clazz;
+	char *className;
+	jlong statistics[MONITOR_CONTENTION_STATISTIC_COUNT];
+} MonitorContentionEntry;
+
 static void handlerContendedEnter(J9HookInterface** hook, UDATA eventNum, void* eventData, void* userData);
 static void handlerContendedEntered(J9HookInterface** hook, UDATA eventNum, void* eventData, void* userData);
 static void handlerMonitorWait(J9HookInterface** hook, UDATA eventNum, void* eventData, void* userData);
@@ -140,6 +169,11 @@ static jboolean isInNative(JNIEnv *env, jobjectArray stackTrace);
 static void throwError(J9VMThread * currentThread, UDATA exc);
 static jlong findNativeThreadId(J9VMThread *currentThread, jlong threadID);
 
+static UDATA monitorContentionHash(void *entry, void *userData);
+static UDATA monitorContentionEquals(void *leftEntry, void *rightEntry, void *userData);
+static int compareByBlockedTime(const void *a, const void *b);
+static jint getMonitorContention(JNIEnv *env, jobjectArray classNames, jlongArray statistics);
+
 static void
 throwError(J9VMThread * currentThread, UDATA exc)
 {
@@ -2541,6 +2575,70 @@ Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadCategoryImpl(JNIEnv
 	return THREAD_CATEGORY_INVALID;
 }
 
+/**
+ * Returns the CPU time used by virtual threads, summed over all the carrier threads.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @return 				The CPU time in microseconds, or -1 if -XX:+VirtualThreadCPUAccounting is not specified.
+ */
+jlong JNICALL
+Java_com_ibm_lang_management_internal_JvmCpuMonitor_getVirtualThreadCpuTimeImpl(JNIEnv *env, jobject beanInstance)
+{
+	jlong cpuTime = -1;
+#if JAVA_SPEC_VERSION >= 19
+	J9JavaVM *javaVM = ((J9VMThread *)env)->javaVM;
+
+	if (J9_ARE_ANY_BITS_SET(javaVM->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_VIRTUAL_THREAD_CPU_ACCOUNTING)) {
+		cpuTime = (jlong)(javaVM->virtualThreadCpuTime / 1000);
+	}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+	return cpuTime;
+}
+
+/**
+ * Returns the CPU time used by the virtual threads mounted on the carrier thread whose threadID is passed.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @param threadID 		The thread ID of the carrier thread.
+ * @return 				The CPU time in microseconds, or -1 if -XX:+VirtualThreadCPUAccounting is not
+ * 						specified or the thread is not an alive carrier thread.
+ */
+jlong JNICALL
+Java_com_ibm_lang_management_internal_JvmCpuMonitor_getCarrierVirtualThreadCpuTimeImpl(JNIEnv *env, jobject beanInstance, jlong threadID)
+{
+	jlong cpuTime = -1;
+#if JAVA_SPEC_VERSION >= 19
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+	J9InternalVMFunctions *vmfns = javaVM->internalVMFunctions;
+
+	if (J9_ARE_ANY_BITS_SET(javaVM->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_VIRTUAL_THREAD_CPU_ACCOUNTING)) {
+		J9VMThread *targetThread = NULL;
+
+		vmfns->internalEnterVMFromJNI(currentThread);
+		omrthread_monitor_enter(javaVM->vmThreadListMutex);
+		/* Only the threads which have mounted a virtual thread are on the carrier thread list. */
+		targetThread = javaVM->carrierThreadList;
+		if (NULL != targetThread) {
+			do {
+				/* carrierThreadObject is the thread object of the carrier itself, whether or not a virtual thread is mounted */
+				j9object_t carrierThreadObject = targetThread->carrierThreadObject;
+				if ((NULL != carrierThreadObject) && (getThreadID(currentThread, carrierThreadObject) == threadID)) {
+					cpuTime = (jlong)(targetThread->virtualThreadCpuTime / 1000);
+					break;
+				}
+				targetThread = targetThread->carrierLinkNext;
+			} while (targetThread != javaVM->carrierThreadList);
+		}
+		omrthread_monitor_exit(javaVM->vmThreadListMutex);
+		vmfns->internalExitVMToJNI(currentThread);
+	}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+	return cpuTime;
+}
+
 /**
  * @brief Helper function that finds a native thread identifier corresponding to
  * a unique thread identifier specified to it.
@@ -2675,3 +2773,222 @@ _exit:
 	j9mem_free_memory(nativeIds);	/* Safe to free null */
 	Trc_JCL_threadmxbean_getNativeThreadIdsImpl_Exit(env, resultArray);
 }
+
+static UDATA
+monitorContentionHash(void *entry, void *userData)
+{
+	return (UDATA)((MonitorContentionEntry *)entry)->clazz;
+}
+
+static UDATA
+monitorContentionEquals(void *leftEntry, void *rightEntry, void *userData)
+{
+	return ((MonitorContentionEntry *)leftEntry)->clazz == ((MonitorContentionEntry *)rightEntry)->clazz;
+}
+
+/**
+ * Sort monitor contention entries in descending order of time spent blocked,
+ * then of contended enters.
+ */
+static int
+compareByBlockedTime(const void *a, const void *b)
+{
+	const MonitorContentionEntry *aEntry = *(const MonitorContentionEntry * const *)a;
+	const MonitorContentionEntry *bEntry = *(const MonitorContentionEntry * const *)b;
+	int result = 0;
+	UDATA i = 0;
+	UDATA const keys[] = { MONITOR_CONTENTION_BLOCKED_TIME, MONITOR_CONTENTION_CONTENDED_ENTERS };
+
+	for (i = 0; (0 == result) && (i < sizeof(keys) / sizeof(keys[0])); i++) {
+		if (bEntry->statistics[keys[i]] < aEntry->statistics[keys[i]]) {
+			result = -1;
+		} else if (bEntry->statistics[keys[i]] > aEntry->statistics[keys[i]]) {
+			result = 1;
+		}
+	}
+	return result;
+}
+
+/**
+ * Aggregate the contention statistics recorded in the inflated object monitors by the class of the
+ * monitor object, and fill the given arrays with the most contended classes first. Monitors which
+ * have never been contended are ignored.
+ *
+ * The statistics are kept in the monitor table entries, so they survive deflation but are lost
+ * when the monitor object is collected.
+ *
+ * @param[in] env the JNIEnv
+ * @param[in] classNames receives the class names
+ * @param[in] statistics receives MONITOR_CONTENTION_STATISTIC_COUNT values per class
+ * @return the number of contended classes, which may exceed the capacity of the arrays,
+ * or -1 if an exception is pending
+ */
+static jint
+getMonitorContention(JNIEnv *env, jobjectArray classNames, jlongArray statistics)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = javaVM->internalVMFunctions;
+	J9HashTable *classTable = NULL;
+	J9HashTableState walkState;
+	MonitorContentionEntry **sorted = NULL;
+	UDATA capacity = (UDATA)(*env)->GetArrayLength(env, classNames);
+	UDATA classCount = 0;
+	UDATA tableIndex = 0;
+	UDATA i = 0;
+	BOOLEAN outOfMemory = FALSE;
+	jint result = -1;
+
+	PORT_ACCESS_FROM_ENV(env);
+
+	classTable = hashTableNew(OMRPORT_FROM_J9PORT(PORTLIB), J9_GET_CALLSITE(), 0, sizeof(MonitorContentionEntry), 0, 0,
+			J9MEM_CATEGORY_VM_JCL, monitorContentionHash, monitorContentionEquals, NULL, NULL);
+	if (NULL == classTable) {
+		vmFuncs->throwNativeOOMError(env, 0, 0);
+		return -1;
+	}
+
+	vmFuncs->internalEnterVMFromJNI(currentThread);
+	omrthread_monitor_enter(javaVM->monitorTableMutex);
+	for (tableIndex = 0; (tableIndex < javaVM->monitorTableCount) && !outOfMemory; tableIndex++) {
+		J9HashTable *monitorTable = javaVM->monitorTables[tableIndex];
+		J9ObjectMonitor *objectMonitor = NULL;
+
+		if (NULL == monitorTable) {
+			continue;
+		}
+		objectMonitor = (J9ObjectMonitor *)hashTableStartDo(monitorTable, &walkState);
+		while (NULL != objectMonitor) {
+			if ((0 != objectMonitor->contendedEnterCount) || (0 != objectMonitor->blockedEnterCount)) {
+				j9object_t object = J9WEAKROOT_OBJECT_LOAD(currentThread, &((J9ThreadAbstractMonitor *)objectMonitor->monitor)->userData);
+				if (NULL != object) {
+					MonitorContentionEntry key = { 0 };
+					MonitorContentionEntry *entry = NULL;
+
+					key.clazz = J9OBJECT_CLAZZ(currentThread, object);
+					entry = (MonitorContentionEntry *)hashTableAdd(classTable, &key);
+					if (NULL == entry) {
+						outOfMemory = TRUE;
+						break;
+					}
+					entry->statistics[MONITOR_CONTENTION_MONITORS] += 1;
+					entry->statistics[MONITOR_CONTENTION_CONTENDED_ENTERS] += (jlong)objectMonitor->contendedEnterCount;
+					entry->statistics[MONITOR_CONTENTION_SPIN_ACQUIRED] += (jlong)objectMonitor->spinAcquiredCount;
+					entry->statistics[MONITOR_CONTENTION_SPIN_SKIPPED] += (jlong)objectMonitor->spinSkippedCount;
+					entry->statistics[MONITOR_CONTENTION_BLOCKED_ENTERS] += (jlong)objectMonitor->blockedEnterCount;
+					entry->statistics[MONITOR_CONTENTION_BLOCKED_TIME] += (jlong)objectMonitor->blockedTime;
+				}
+			}
+			objectMonitor = (J9ObjectMonitor *)hashTableNextDo(&walkState);
+		}
+	}
+	omrthread_monitor_exit(javaVM->monitorTableMutex);
+
+	/* Copy out the names of the classes which will be reported while the classes cannot be unloaded */
+	if (!outOfMemory) {
+		classCount = hashTableGetCount(classTable);
+		if (0 != classCount) {
+			sorted = j9mem_allocate_memory(classCount * sizeof(MonitorContentionEntry *), J9MEM_CATEGORY_VM_JCL);
+			if (NULL == sorted) {
+				outOfMemory = TRUE;
+			}
+		}
+	}
+	if (!outOfMemory && (0 != classCount)) {
+		MonitorContentionEntry *entry = (MonitorContentionEntry *)hashTableStartDo(classTable, &walkState);
+		i = 0;
+		while (NULL != entry) {
+			sorted[i] = entry;
+			i += 1;
+			entry = (MonitorContentionEntry *)hashTableNextDo(&walkState);
+		}
+		qsort(sorted, classCount, sizeof(MonitorContentionEntry *), compareByBlockedTime);
+		for (i = 0; (i < classCount) && (i < capacity); i++) {
+			J9UTF8 *name = J9ROMCLASS_CLASSNAME(sorted[i]->clazz->romClass);
+			UDATA length = J9UTF8_LENGTH(name);
+			char *className = j9mem_allocate_memory(length + 1, J9MEM_CATEGORY_VM_JCL);
+			UDATA c = 0;
+
+			if (NULL == className) {
+				outOfMemory = TRUE;
+				break;
+			}
+			for (c = 0; c < length; c++) {
+				className[c] = ('/' == J9UTF8_DATA(name)[c]) ? '.' : (char)J9UTF8_DATA(name)[c];
+			}
+			className[length] = '\0';
+			sorted[i]->className = className;
+			sorted[i]->clazz = NULL;
+		}
+	}
+	vmFuncs->internalExitVMToJNI(currentThread);
+
+	if (outOfMemory) {
+		vmFuncs->throwNativeOOMError(env, 0, 0);
+		goto done;
+	}
+
+	for (i = 0; (i < classCount) && (i < capacity); i++) {
+		jstring className = (*env)->NewStringUTF(env, sorted[i]->className);
+		if (NULL == className) {
+			goto done;
+		}
+		(*env)->SetObjectArrayElement(env, classNames, (jsize)i, className);
+		(*env)->DeleteLocalRef(env, className);
+		(*env)->SetLongArrayRegion(env, statistics, (jsize)(i * MONITOR_CONTENTION_STATISTIC_COUNT), MONITOR_CONTENTION_STATISTIC_COUNT, sorted[i]->statistics);
+		if ((*env)->ExceptionCheck(env)) {
+			goto done;
+		}
+	}
+	result = (jint)classCount;
+
+done:
+	if (NULL != sorted) {
+		for (i = 0; (i < classCount) && (i < capacity); i++) {
+			j9mem_free_memory(sorted[i]->className);
+		}
+		j9mem_free_memory(sorted);
+	}
+	hashTableFree(classTable);
+	return result;
+}
+
+jint JNICALL
+Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getMonitorContentionImpl(JNIEnv *env, jclass unused, jobjectArray classNames, jlongArray statistics)
+{
+	return getMonitorContention(env, classNames, statistics);
+}
+
+jint JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMonitorContentionImpl(JNIEnv *env, jclass unused, jobjectArray classNames, jlongArray statistics)
+{
+	return getMonitorContention(env, classNames, statistics);
+}
+
+void JNICALL
+Java_com_ibm_lang_management_internal_ContinuationCacheMXBeanImpl_getContinuationCacheStatisticsImpl(JNIEnv *env, jobject beanInstance, jlongArray statistics)
+{
+	jlong values[CONTINUATION_CACHE_STATISTIC_COUNT];
+#if JAVA_SPEC_VERSION >= 19
+	J9JavaVM *vm = ((J9VMThread *)env)->javaVM;
+
+	values[CONTINUATION_CACHE_T1_SIZE] = (jlong)vm->continuationT1Size;
+	values[CONTINUATION_CACHE_T2_SIZE] = (jlong)vm->continuationT2Size;
+	values[CONTINUATION_CACHE_MAX_STACK_SIZE] = (jlong)vm->continuationCacheMaxStackSize;
+	values[CONTINUATION_CACHE_T1_HITS] = (jlong)vm->t1CacheHit;
+	values[CONTINUATION_CACHE_T2_HITS] = (jlong)vm->t2CacheHit;
+	values[CONTINUATION_CACHE_MISSES] = (jlong)vm->cacheMiss;
+	values[CONTINUATION_CACHE_FREED] = (jlong)vm->cacheFree;
+	values[CONTINUATION_CACHE_TRIMMED] = (jlong)vm->cacheTrim;
+	{
+		/* Read the time and the number of samples together so the average is consistent. */
+		U_64 lookupStatistics = vm->cacheLookupStatistics;
+		values[CONTINUATION_CACHE_LOOKUP_TIME] = (jlong)J9_CONTINUATION_CACHE_LOOKUP_TIME(lookupStatistics);
+		values[CONTINUATION_CACHE_LOOKUP_SAMPLES] = (jlong)J9_CONTINUATION_CACHE_LOOKUP_SAMPLES(lookupStatistics);
+	}
+#else /* JAVA_SPEC_VERSION >= 19 */
+	memset(values, 0, sizeof(values));
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
+	(*env)->SetLongArrayRegion(env, statistics, 0, CONTINUATION_CACHE_STATISTIC_COUNT, values);
+}
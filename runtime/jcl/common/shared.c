@@ -1961,6 +1961,79 @@ Java_com_ibm_oti_shared_SharedClassStatistics_numberAttachedImpl(JNIEnv *env, jo
 #endif /* defined(J9VM_OPT_SHARED_CLASSES) */
 }
 
+jlong JNICALL
+Java_com_ibm_oti_shared_SharedClassStatistics_startupPagesPrefetchedImpl(JNIEnv *env, jobject thisObj)
+{
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9JavaVM *vm = ((J9VMThread *)env)->javaVM;
+	jlong result = -1;
+
+	Trc_JCL_com_ibm_oti_shared_SharedClassStatistics_startupPagesPrefetchedImpl_Entry(env);
+
+	if (NULL != vm->sharedClassConfig) {
+		J9SharedClassJavacoreDataDescriptor descriptor;
+		if (0 != vm->sharedClassConfig->getJavacoreData(vm, &descriptor)) {
+			result = (jlong)descriptor.startupPagesPrefetched;
+		}
+	}
+
+	Trc_JCL_com_ibm_oti_shared_SharedClassStatistics_startupPagesPrefetchedImpl_Exit(env, result);
+	return result;
+#else /* defined(J9VM_OPT_SHARED_CLASSES) */
+	return 0;
+#endif /* defined(J9VM_OPT_SHARED_CLASSES) */
+}
+
+jlong JNICALL
+Java_com_ibm_oti_shared_SharedClassStatistics_debugDataCompressionPercentImpl(JNIEnv *env, jobject thisObj)
+{
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *vm = currentThread->javaVM;
+	jlong result = -1;
+
+	Trc_JCL_com_ibm_oti_shared_SharedClassStatistics_debugDataCompressionPercentImpl_Entry(env);
+
+	if (NULL != vm->sharedClassConfig) {
+		J9SharedClassDebugAreaCompressionStats stats;
+		if (vm->sharedClassConfig->getDebugAreaCompressionStats(currentThread, &stats)
+			&& (0 != stats.uncompressedBytes)
+		) {
+			result = (jlong)((stats.compressedBytes * 100) / stats.uncompressedBytes);
+		}
+	}
+
+	Trc_JCL_com_ibm_oti_shared_SharedClassStatistics_debugDataCompressionPercentImpl_Exit(env, result);
+	return result;
+#else /* defined(J9VM_OPT_SHARED_CLASSES) */
+	return -1;
+#endif /* defined(J9VM_OPT_SHARED_CLASSES) */
+}
+
+jlong JNICALL
+Java_com_ibm_oti_shared_SharedClassStatistics_debugDataDecompressionMicrosImpl(JNIEnv *env, jobject thisObj)
+{
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *vm = currentThread->javaVM;
+	jlong result = -1;
+
+	Trc_JCL_com_ibm_oti_shared_SharedClassStatistics_debugDataDecompressionMicrosImpl_Entry(env);
+
+	if (NULL != vm->sharedClassConfig) {
+		J9SharedClassDebugAreaCompressionStats stats;
+		if (vm->sharedClassConfig->getDebugAreaCompressionStats(currentThread, &stats)) {
+			result = (jlong)stats.decompressionMicros;
+		}
+	}
+
+	Trc_JCL_com_ibm_oti_shared_SharedClassStatistics_debugDataDecompressionMicrosImpl_Exit(env, result);
+	return result;
+#else /* defined(J9VM_OPT_SHARED_CLASSES) */
+	return -1;
+#endif /* defined(J9VM_OPT_SHARED_CLASSES) */
+}
+
 
 void JNICALL
 Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_notifyClasspathChange2(JNIEnv* env, jobject thisObj, jobject classLoaderObj)
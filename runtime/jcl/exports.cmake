@@ -111,7 +111,23 @@ omr_add_exports(jclse
 	Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_resetPeakThreadCountImpl
 	Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_setThreadContentionMonitoringEnabledImpl
 	Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_setThreadCpuTimeEnabledImpl
+	Java_com_ibm_lang_management_internal_AllocationSiteMXBeanImpl_getAllocationSitesImpl
+	Java_com_ibm_lang_management_internal_AllocationSiteMXBeanImpl_getSamplingDepthImpl
+	Java_com_ibm_lang_management_internal_AllocationSiteMXBeanImpl_resetImpl
+	Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_findLoadedClassesImpl
+	Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_getCompilationQueueInfoImpl
+	Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_queueMethodForCompilationImpl
+	Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_throttleBackgroundCompilationsImpl
+	Java_com_ibm_lang_management_internal_ContinuationCacheMXBeanImpl_getContinuationCacheStatisticsImpl
+	Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getAverageReferenceProcessingLatencyImpl
+	Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getEnqueuedReferenceCountImpl
+	Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getIdleHeapUncommitBytesReleasedImpl
+	Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getIdleHeapUncommitCountImpl
+	Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getMaxReferenceProcessingLatencyImpl
+	Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getPendingReferenceCountImpl
+	Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getMonitorContentionImpl
 	Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadAllocatedBytesImpl
+	Java_com_ibm_lang_management_internal_MetricsSnapshotMXBeanImpl_getMetricsSnapshotImpl
 	Java_com_ibm_jit_JITHelpers_arrayShapeElementCountMask
 	Java_com_ibm_jit_JITHelpers_getNumBitsInDescriptionWord
 	Java_com_ibm_jit_JITHelpers_getNumBitsInReferenceField
@@ -214,6 +230,8 @@ omr_add_exports(jclse
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_Object_2Ljava_lang_String_2
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2Ljava_lang_String_2
+	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getCycleCauseNameImpl
+	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getCycleRecordsImpl
 	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastGcInfoImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getFreePhysicalMemorySizeImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getHardwareModelImpl
@@ -231,8 +249,10 @@ omr_add_exports(jclse
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_hasCpuLoadCompatibilityFlag
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_isDLPAREnabled
 	Java_com_ibm_lang_management_internal_ExtendedRuntimeMXBeanImpl_getVMIdleStateImpl
+	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getCarrierVirtualThreadCpuTimeImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadCategoryImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadsCpuUsageImpl
+	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getVirtualThreadCpuTimeImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_setThreadCategoryImpl
 	Java_com_ibm_lang_management_internal_MemoryNotificationThreadShutdown_sendShutdownNotification
 	Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificationLoop
@@ -240,7 +260,14 @@ omr_add_exports(jclse
 	Java_com_ibm_lang_management_internal_OperatingSystemNotificationThread_processNotificationLoop
 	Java_com_ibm_lang_management_internal_UnixExtendedOperatingSystem_getMaxFileDescriptorCountImpl
 	Java_com_ibm_lang_management_internal_UnixExtendedOperatingSystem_getOpenFileDescriptorCountImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getAllocationSiteSamplingDepthImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getAllocationSitesImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getCompilationQueueInfoImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMetricsSnapshotImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMonitorContentionImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_resetAllocationSitesImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_throttleBackgroundCompilationsImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpAllThreadsImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_triggerDumpsImpl
 	Java_openj9_management_internal_IDCacheInitializer_initIDCache
@@ -259,6 +286,8 @@ omr_add_exports(jclse
 	Java_com_ibm_oti_shared_SharedAbstractHelper_getIsVerboseImpl
 	Java_com_ibm_oti_shared_SharedClassAbstractHelper_initializeShareableClassloaderImpl
 	Java_com_ibm_oti_shared_SharedClassStatistics_cachePathImpl
+	Java_com_ibm_oti_shared_SharedClassStatistics_debugDataCompressionPercentImpl
+	Java_com_ibm_oti_shared_SharedClassStatistics_debugDataDecompressionMicrosImpl
 	Java_com_ibm_oti_shared_SharedClassStatistics_freeSpaceBytesImpl
 	Java_com_ibm_oti_shared_SharedClassStatistics_maxAotBytesImpl
 	Java_com_ibm_oti_shared_SharedClassStatistics_maxJitDataBytesImpl
@@ -267,6 +296,7 @@ omr_add_exports(jclse
 	Java_com_ibm_oti_shared_SharedClassStatistics_minJitDataBytesImpl
 	Java_com_ibm_oti_shared_SharedClassStatistics_numberAttachedImpl
 	Java_com_ibm_oti_shared_SharedClassStatistics_softmxBytesImpl
+	Java_com_ibm_oti_shared_SharedClassStatistics_startupPagesPrefetchedImpl
 	Java_com_ibm_oti_shared_SharedClassTokenHelperImpl_findSharedClassImpl2
 	Java_com_ibm_oti_shared_SharedClassTokenHelperImpl_storeSharedClassImpl2
 	Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl2
@@ -372,6 +372,7 @@ extern "C" {
 /* constants for J9JavaVM.extendedRuntimeFlags3 */
 #define J9_EXTENDED_RUNTIME3_START_FLIGHT_RECORDING 0x1
 #define J9_EXTENDED_RUNTIME3_YIELD_PINNED_CONTINUATION 0x2
+#define J9_EXTENDED_RUNTIME3_VIRTUAL_THREAD_CPU_ACCOUNTING 0x4
 
 #define J9_OBJECT_HEADER_AGE_DEFAULT 0xA /* OBJECT_HEADER_AGE_DEFAULT */
 #define J9_OBJECT_HEADER_SHAPE_MASK 0xE /* OBJECT_HEADER_SHAPE_MASK */
@@ -517,6 +518,16 @@ extern "C" {
 #define J9_GC_CONTINUATION_STATE_CONCURRENT_SCAN_ANY (J9_GC_CONTINUATION_STATE_CONCURRENT_SCAN_LOCAL | J9_GC_CONTINUATION_STATE_CONCURRENT_SCAN_GLOBAL)
 #define J9_GC_CONTINUATION_STATE_CARRIERID_MASK (~(uintptr_t)0xff)
 
+/* Continuation stacks larger than this are freed before the continuation is cached. */
+#define J9_CONTINUATION_CACHE_DEFAULT_MAX_STACK_SIZE (256 * 1024)
+
+/* The sampled continuation cache lookup time, in nanoseconds, and the number of samples share one U_64 so they are updated together. */
+#define J9_CONTINUATION_CACHE_LOOKUP_SAMPLE_BITS 24
+#define J9_CONTINUATION_CACHE_LOOKUP_SAMPLE_MAX ((((U_64)1) << J9_CONTINUATION_CACHE_LOOKUP_SAMPLE_BITS) - 1)
+#define J9_CONTINUATION_CACHE_LOOKUP_TIME_MAX ((((U_64)1) << (64 - J9_CONTINUATION_CACHE_LOOKUP_SAMPLE_BITS)) - 1)
+#define J9_CONTINUATION_CACHE_LOOKUP_SAMPLES(statistics) ((statistics) & J9_CONTINUATION_CACHE_LOOKUP_SAMPLE_MAX)
+#define J9_CONTINUATION_CACHE_LOOKUP_TIME(statistics) ((statistics) >> J9_CONTINUATION_CACHE_LOOKUP_SAMPLE_BITS)
+
 #define J9VMGC_SIZECLASSES_MIN 0x1
 #define J9VMGC_SIZECLASSES_MIN_SMALL 0x1
 #define J9VMGC_SIZECLASSES_LOG_SMALLEST 0x4
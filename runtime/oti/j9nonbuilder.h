@@ -869,6 +869,9 @@ typedef struct J9ROMRecordComponentShape {
 #define J9GARBAGECOLLECTORDATA_MAX_NAME_BUFFER_SIZE   32
 #define J9VM_MAX_HEAP_MEMORYPOOL_COUNT 4
 #define J9VM_MAX_NONHEAP_MEMORYPOOL_COUNT 4
+#define J9VM_MANAGEMENT_GC_RECORD_COUNT 64
+#define J9VM_MANAGEMENT_GC_CAUSE_COUNT 32
+#define J9VM_MANAGEMENT_JVM_CPU_CATEGORY_COUNT 5
 
 typedef struct J9GarbageCollectionInfo {
 	U_32 gcID;
@@ -887,6 +890,19 @@ typedef struct J9GarbageCollectionInfo {
 	I_64 postMax[J9VM_MAX_HEAP_MEMORYPOOL_COUNT + J9VM_MAX_NONHEAP_MEMORYPOOL_COUNT];
 } J9GarbageCollectionInfo;
 
+typedef struct J9GarbageCollectionRecord {
+	U_64 index;
+	U_64 startTime;
+	U_64 pauseTime;
+	I_32 cause;
+	U_32 workerThreads;
+	U_64 copiedBytes;
+	U_64 flippedBytes;
+	U_64 tenuredBytes;
+	U_64 preUsed[J9VM_MAX_HEAP_MEMORYPOOL_COUNT];
+	U_64 postUsed[J9VM_MAX_HEAP_MEMORYPOOL_COUNT];
+} J9GarbageCollectionRecord;
+
 typedef struct J9GarbageCollectorData {
 	U_32 id;
 	char name[J9GARBAGECOLLECTORDATA_MAX_NAME_BUFFER_SIZE];
@@ -895,6 +911,8 @@ typedef struct J9GarbageCollectorData {
 	I_64 totalMemoryFreed;
 	U_64 totalCompacts;
 	J9GarbageCollectionInfo lastGcInfo;
+	I_64 lastGcStartNanos;
+	J9GarbageCollectionRecord records[J9VM_MANAGEMENT_GC_RECORD_COUNT];
 } J9GarbageCollectorData;
 
 typedef struct J9MemoryPoolData {
@@ -975,8 +993,14 @@ typedef struct J9JavaLangManagementData {
 	U_64 gcWorkerCpuTime;
 	U_32 gcMaxThreads;
 	U_32 gcCurrentThreads;
+	const char *gcCauses[J9VM_MANAGEMENT_GC_CAUSE_COUNT];
+	U_32 gcCauseCount;
 	char counterPath[2048];
 	U_32 isCounterPathInitialized;
+	U_32 jvmCpuUsageSampled;
+	IDATA jvmCpuUsageSampleRC;
+	I_64 jvmCpuUsageSampleTime;
+	U_64 jvmCpuUsageSample[J9VM_MANAGEMENT_JVM_CPU_CATEGORY_COUNT];
 } J9JavaLangManagementData;
 
 typedef struct J9LoadROMClassData {
@@ -1314,11 +1338,19 @@ typedef struct J9SharedClassJavacoreDataDescriptor {
 	UDATA numObjects;
 	UDATA numStartupHints;
 	UDATA startupHintBytes;
+	UDATA startupPagesLogged;
+	UDATA startupPagesPrefetched;
 	UDATA nattach;
 	UDATA currentOSPageSize; /* memory page size of the current running OS */
 	U_32 extraStartupHints;
 } J9SharedClassJavacoreDataDescriptor;
 
+typedef struct J9SharedClassDebugAreaCompressionStats {
+	UDATA uncompressedBytes;
+	UDATA compressedBytes;
+	U_64 decompressionMicros;
+} J9SharedClassDebugAreaCompressionStats;
+
 typedef struct J9SharedStringFarm {
 	char* freePtr;
 	UDATA bytesLeft;
@@ -1483,6 +1515,7 @@ typedef struct J9SharedClassConfig {
 	void (* increaseUnstoredBytes)(struct J9JavaVM *vm, U_32 aotBytes, U_32 jitBytes);
 	void (* getUnstoredBytes)(struct J9JavaVM *vm, U_32 *softmxUnstoredBytes, U_32 *maxAOTUnstoredBytes, U_32 *maxJITUnstoredBytes);
 	UDATA  ( *getFreeSpaceBytes)(struct J9JavaVM* vm) ;
+	BOOLEAN  ( *getDebugAreaCompressionStats)(struct J9VMThread* currentThread, struct J9SharedClassDebugAreaCompressionStats* stats) ;
 	IDATA  ( *findSharedData)(struct J9VMThread* currentThread, const char* key, UDATA keylen, UDATA limitDataType, UDATA includePrivateData, struct J9SharedDataDescriptor* firstItem, const struct J9Pool* descriptorPool) ;
 	const U_8*  ( *storeSharedData)(struct J9VMThread* vmThread, const char* key, UDATA keylen, const struct J9SharedDataDescriptor* data) ;
 	UDATA  ( *storeAttachedData)(struct J9VMThread* vmThread, const void* addressInCache, const struct J9SharedDataDescriptor* data, UDATA forceReplace) ;
@@ -1730,6 +1763,14 @@ typedef struct J9ObjectMonitor {
 #endif /* defined(J9VM_THR_SMART_DEFLATION) */
 	j9objectmonitor_t alternateLockword;
 	U_32 hash;
+	U_32 blockedTimeEstimate;
+	U_16 spinAttempts;
+	U_16 spinSuccesses;
+	U_32 contendedEnterCount;
+	U_32 spinAcquiredCount;
+	U_32 spinSkippedCount;
+	U_32 blockedEnterCount;
+	U_64 blockedTime;
 #if JAVA_SPEC_VERSION >= 24
 	volatile U_32 virtualThreadWaitCount;
 	volatile U_32 platformThreadWaitCount;
@@ -4048,6 +4089,31 @@ typedef struct J9ClassCastParms {
 	struct J9Class* castClass;
 } J9ClassCastParms;
 
+#define J9JIT_COMP_QUEUE_SYNC  0
+#define J9JIT_COMP_QUEUE_ASYNC_HIGH  1
+#define J9JIT_COMP_QUEUE_ASYNC_NORMAL  2
+#define J9JIT_COMP_QUEUE_ASYNC_LOW  3
+#define J9JIT_COMP_QUEUE_LOW_PRIORITY  4
+#define J9JIT_COMP_QUEUE_BUCKETS  5
+#define J9JIT_COMP_QUEUE_MAX_THREADS  16
+#define J9JIT_COMP_QUEUE_RECENT_DURATIONS  16
+#define J9JIT_COMP_OPT_LEVEL_COLD  0
+#define J9JIT_COMP_OPT_LEVEL_WARM  1
+#define J9JIT_COMP_OPT_LEVEL_HOT  2
+#define J9JIT_COMP_OPT_LEVEL_VERY_HOT  3
+#define J9JIT_COMP_OPT_LEVEL_SCORCHING  4
+
+typedef struct J9JITCompilationQueueInfo {
+	UDATA queueSizes[J9JIT_COMP_QUEUE_BUCKETS]; /**< number of queued requests, indexed by J9JIT_COMP_QUEUE_* */
+	U_64 oldestEntryAge; /**< time the oldest queued request has been waiting, in microseconds */
+	UDATA compThreadCount; /**< number of entries used in compThreadStates and compThreadBusyTimes */
+	UDATA compThreadStates[J9JIT_COMP_QUEUE_MAX_THREADS]; /**< CompilationThreadState of each compilation thread */
+	U_64 compThreadBusyTimes[J9JIT_COMP_QUEUE_MAX_THREADS]; /**< time spent on the current compilation, in microseconds, or 0 if idle */
+	UDATA recentDurationCount; /**< number of entries used in recentDurations */
+	U_64 recentDurations[J9JIT_COMP_QUEUE_RECENT_DURATIONS]; /**< durations of the most recent compilations, most recent first, in microseconds */
+	U_64 throttleRemaining; /**< time left before background compilations are no longer throttled, in milliseconds */
+} J9JITCompilationQueueInfo;
+
 /* @ddr_namespace: map_to_type=J9JITConfig */
 
 typedef struct J9JITConfig {
@@ -4400,6 +4466,9 @@ typedef struct J9JITConfig {
 	UDATA serverAOTQueryThread;
 #endif /* defined(J9VM_OPT_JITSERVER) */
 	I_32 lowCodeCacheFreeSpace; /* bool set to 1 when the JIT detects a very low amount of free code cache space; never reset */
+	void ( *getCompilationQueueInfo)(struct J9VMThread *vmThread, struct J9JITCompilationQueueInfo *info) ;
+	IDATA ( *queueMethodForCompilation)(struct J9VMThread *vmThread, struct J9Method *method, UDATA optLevel) ;
+	void ( *throttleBackgroundCompilations)(struct J9VMThread *vmThread, UDATA durationMillis) ;
 } J9JITConfig;
 
 #if defined(J9VM_OPT_CRIU_SUPPORT)
@@ -4438,6 +4507,7 @@ typedef struct J9DelayedLockingOpertionsRecord {
 #define J9VM_CRAC_IS_CHECKPOINT_ENABLED 0x80
 #define J9VM_CRIU_SUPPORT_DEBUG_ON_RESTORE 0x100
 #define J9VM_CRIU_TRANSITION_TO_DEBUG_INTERPRETER 0x200
+#define J9VM_CRIU_SHRINK_BEFORE_CHECKPOINT 0x400
 
 /* matches maximum count defined by JDWP in threadControl.c */
 #define J9VM_CRIU_MAX_DEBUG_THREADS_STORED 10
@@ -4651,6 +4721,13 @@ typedef struct J9InternalVMLabels {
 	void* cInterpreter;
 } J9InternalVMLabels;
 
+typedef struct J9AllocationSiteSample {
+	struct J9Class *clazz; /**< the class being allocated */
+	struct J9Method *method; /**< the method performing the allocation, or NULL if unknown */
+	IDATA bytecodeIndex; /**< bytecode index of the allocation within method, or -1 if unknown */
+	UDATA sampleCount; /**< estimated number of samples attributed to this site */
+} J9AllocationSiteSample;
+
 typedef struct J9MemoryManagerFunctions {
 	j9object_t  ( *J9AllocateIndexableObject)(struct J9VMThread *vmContext, J9Class *clazz, U_32 size, UDATA allocateFlags) ;
 	j9object_t  ( *J9AllocateObject)(struct J9VMThread *vmContext, J9Class *clazz, UDATA allocateFlags) ;
@@ -4897,8 +4974,15 @@ typedef struct J9MemoryManagerFunctions {
 	UDATA ( *j9gc_stringHashFn)(void *key, void *userData);
 	BOOLEAN ( *j9gc_stringHashEqualFn)(void *leftKey, void *rightKey, void *userData);
 	void  ( *j9gc_ensureLockedSynchronizersIntegrity)(struct J9VMThread *vmThread) ;
+	UDATA  ( *j9gc_get_allocation_site_sampling_depth)(struct J9JavaVM *javaVM) ;
+	UDATA  ( *j9gc_get_allocation_sites)(struct J9VMThread *vmThread, struct J9AllocationSiteSample *samples, UDATA maxSamples) ;
+	void  ( *j9gc_reset_allocation_sites)(struct J9VMThread *vmThread) ;
+	void  ( *j9gc_get_idle_heap_uncommit_stats)(struct J9JavaVM *javaVM, UDATA *uncommitCycles, UDATA *bytesReleased) ;
+	void  ( *j9gc_get_reference_processing_stats)(struct J9JavaVM *javaVM, UDATA *pending, UDATA *processed, UDATA *drainCount, U_64 *totalLatency, U_64 *maxLatency) ;
+	void  ( *j9gc_get_cycle_copy_stats)(struct OMR_VMThread *omrVMThread, UDATA *copiedBytes, UDATA *flippedBytes, UDATA *tenuredBytes) ;
 #if defined(J9VM_OPT_CRIU_SUPPORT)
 	void  ( *j9gc_prepare_for_checkpoint)(struct J9VMThread *vmThread) ;
+	UDATA  ( *j9gc_shrink_for_checkpoint)(struct J9VMThread *vmThread) ;
 	BOOLEAN  ( *j9gc_reinitialize_for_restore)(struct J9VMThread *vmThread, const char **nlsMsgFormat) ;
 #endif /* defined(J9VM_OPT_CRIU_SUPPORT) */
 } J9MemoryManagerFunctions;
@@ -5735,6 +5819,10 @@ typedef struct J9VMThread {
 	j9object_t carrierThreadObject;
 	j9object_t scopedValueCache;
 	J9VMContinuation **continuationT1Cache;
+	I_64 continuationMountCpuTime;
+	U_64 virtualThreadCpuTime;
+	struct J9VMThread *carrierLinkNext;
+	struct J9VMThread *carrierLinkPrevious;
 #endif /* JAVA_SPEC_VERSION >= 19 */
 #if JAVA_SPEC_VERSION >= 21
 	BOOLEAN isInCriticalDownCall;
@@ -6036,6 +6124,8 @@ typedef struct J9JavaVM {
 	UDATA thrMaxTryEnterYieldsBeforeBlocking;
 	UDATA thrNestedSpinning;
 	UDATA thrTryEnterNestedSpinning;
+	UDATA thrAdaptiveMonitorSpin;
+	UDATA thrAdaptiveSpinMaxBlockedTime;
 	UDATA thrDeflationPolicy;
 	UDATA gcOptions;
 	UDATA  ( *unhookVMEvent)(struct J9JavaVM *javaVM, UDATA eventNumber, void * currentHandler, void * oldHandler) ;
@@ -6353,7 +6443,12 @@ typedef struct J9JavaVM {
 	volatile U_32 cacheMiss;
 	volatile U_32 t2store;
 	volatile U_32 cacheFree;
+	volatile U_32 cacheTrim;
+	volatile U_64 cacheLookupStatistics;
+	UDATA continuationCacheMaxStackSize;
 	volatile U_64 totalContinuationStackSize;
+	volatile U_64 virtualThreadCpuTime;
+	struct J9VMThread *carrierThreadList;
 #if defined(J9VM_PROF_CONTINUATION_ALLOCATION)
 	volatile I_64 avgCacheLookupTime;
 	volatile U_32 fastAlloc;
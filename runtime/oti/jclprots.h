@@ -48,6 +48,10 @@ Java_com_ibm_oti_shared_SharedClassAbstractHelper_initializeShareableClassloader
 jstring JNICALL
 Java_com_ibm_oti_shared_SharedClassStatistics_cachePathImpl(JNIEnv* env, jobject thisObj);
 jlong JNICALL
+Java_com_ibm_oti_shared_SharedClassStatistics_debugDataCompressionPercentImpl(JNIEnv* env, jobject thisObj);
+jlong JNICALL
+Java_com_ibm_oti_shared_SharedClassStatistics_debugDataDecompressionMicrosImpl(JNIEnv* env, jobject thisObj);
+jlong JNICALL
 Java_com_ibm_oti_shared_SharedClassStatistics_freeSpaceBytesImpl(JNIEnv* env, jobject thisObj);
 jlong JNICALL
 Java_com_ibm_oti_shared_SharedClassStatistics_maxAotBytesImpl(JNIEnv* env, jobject thisObj);
@@ -65,6 +69,8 @@ jlong JNICALL
 Java_com_ibm_oti_shared_SharedClassStatistics_softMaxBytesImpl(JNIEnv* env, jobject thisObj);
 jlong JNICALL
 Java_com_ibm_oti_shared_SharedClassStatistics_softmxBytesImpl(JNIEnv* env, jobject thisObj);
+jlong JNICALL
+Java_com_ibm_oti_shared_SharedClassStatistics_startupPagesPrefetchedImpl(JNIEnv* env, jobject thisObj);
 jboolean JNICALL
 Java_com_ibm_oti_shared_SharedClassTokenHelperImpl_findSharedClassImpl2(JNIEnv* env, jobject thisObj, jint helperID, jstring classNameObj, jobject loaderObj, jstring tokenObj, jboolean doFind, jboolean doStore, jbyteArray romClassCookie);
 jint JNICALL
@@ -278,6 +284,10 @@ extern J9_CFUNC jboolean JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_isThreadContentionMonitoringSupportedImpl (JNIEnv *env, jobject beanInstance);
 extern J9_CFUNC jlong JNICALL
 Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadAllocatedBytesImpl (JNIEnv *env, jobject unused, jlong threadID);
+extern J9_CFUNC jint JNICALL
+Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getMonitorContentionImpl(JNIEnv *env, jclass unused, jobjectArray classNames, jlongArray statistics);
+extern J9_CFUNC jint JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMonitorContentionImpl(JNIEnv *env, jclass unused, jobjectArray classNames, jlongArray statistics);
 
 extern J9_CFUNC jobject JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_getThreadInfoImpl(JNIEnv *env, jobject beanInstance,
@@ -375,6 +385,10 @@ extern J9_CFUNC jlong JNICALL
 Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getMemoryUsedImpl(JNIEnv *env, jobject beanInstance, jint id);
 extern J9_CFUNC jobject JNICALL
 Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastGcInfoImpl(JNIEnv *env, jobject beanInstance, jint id);
+extern J9_CFUNC jint JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getCycleRecordsImpl(JNIEnv *env, jobject beanInstance, jint id, jlong afterIndex, jlongArray records);
+extern J9_CFUNC jstring JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getCycleCauseNameImpl(JNIEnv *env, jclass clazz, jint cause);
 
 /* BBjclNativesCommonClassLoader*/
 jboolean JNICALL Java_java_lang_ClassLoader_isVerboseImpl (JNIEnv *env, jclass clazz);
@@ -439,6 +453,48 @@ extern J9_CFUNC jint JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getMaximumGCThreadsImpl(JNIEnv *env, jobject beanInstance);
 extern J9_CFUNC jint JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getCurrentGCThreadsImpl(JNIEnv *env, jobject beanInstance);
+jint JNICALL
+Java_com_ibm_lang_management_internal_AllocationSiteMXBeanImpl_getSamplingDepthImpl(JNIEnv *env, jobject beanInstance);
+jint JNICALL
+Java_com_ibm_lang_management_internal_AllocationSiteMXBeanImpl_getAllocationSitesImpl(JNIEnv *env, jobject beanInstance, jobjectArray classNames, jobjectArray methodNames, jintArray bytecodeIndexes, jlongArray sampleCounts);
+void JNICALL
+Java_com_ibm_lang_management_internal_AllocationSiteMXBeanImpl_resetImpl(JNIEnv *env, jobject beanInstance);
+void JNICALL
+Java_com_ibm_lang_management_internal_ContinuationCacheMXBeanImpl_getContinuationCacheStatisticsImpl(JNIEnv *env, jobject beanInstance, jlongArray statistics);
+jint JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getAllocationSiteSamplingDepthImpl(JNIEnv *env, jclass unused);
+jint JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getAllocationSitesImpl(JNIEnv *env, jclass unused, jobjectArray classNames, jobjectArray methodNames, jintArray bytecodeIndexes, jlongArray sampleCounts);
+void JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_resetAllocationSitesImpl(JNIEnv *env, jclass unused);
+jint JNICALL
+Java_com_ibm_lang_management_internal_MetricsSnapshotMXBeanImpl_getMetricsSnapshotImpl(JNIEnv *env, jobject beanInstance, jlongArray values, jobjectArray keys);
+jint JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMetricsSnapshotImpl(JNIEnv *env, jclass unused, jlongArray values, jobjectArray keys);
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_getCompilationQueueInfoImpl(JNIEnv *env, jobject beanInstance, jlongArray info);
+jint JNICALL
+Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_queueMethodForCompilationImpl(JNIEnv *env, jobject beanInstance, jobject method, jint optLevel);
+jint JNICALL
+Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_findLoadedClassesImpl(JNIEnv *env, jobject beanInstance, jstring className, jobjectArray classes);
+void JNICALL
+Java_com_ibm_lang_management_internal_CompilationQueueMXBeanImpl_throttleBackgroundCompilationsImpl(JNIEnv *env, jobject beanInstance, jlong durationMillis);
+jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getCompilationQueueInfoImpl(JNIEnv *env, jclass unused, jlongArray info);
+void JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_throttleBackgroundCompilationsImpl(JNIEnv *env, jclass unused, jlong durationMillis);
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getIdleHeapUncommitCountImpl(JNIEnv *env, jobject beanInstance);
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getIdleHeapUncommitBytesReleasedImpl(JNIEnv *env, jobject beanInstance);
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getPendingReferenceCountImpl(JNIEnv *env, jobject beanInstance);
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getEnqueuedReferenceCountImpl(JNIEnv *env, jobject beanInstance);
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getAverageReferenceProcessingLatencyImpl(JNIEnv *env, jobject beanInstance);
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getMaxReferenceProcessingLatencyImpl(JNIEnv *env, jobject beanInstance);
 
 
 /* J9SourceJclSidecarInit*/
@@ -1243,6 +1299,26 @@ Java_com_ibm_lang_management_internal_JvmCpuMonitor_setThreadCategoryImpl(JNIEnv
  */
 jint JNICALL
 Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadCategoryImpl(JNIEnv *env, jobject beanInstance, jlong threadID);
+/**
+ * Returns the CPU time used by virtual threads, summed over all the carrier threads.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @return 				The CPU time in microseconds, or -1 if -XX:+VirtualThreadCPUAccounting is not specified.
+ */
+jlong JNICALL
+Java_com_ibm_lang_management_internal_JvmCpuMonitor_getVirtualThreadCpuTimeImpl(JNIEnv *env, jobject beanInstance);
+/**
+ * Returns the CPU time used by the virtual threads mounted on the carrier thread whose threadID is passed.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @param threadID 		The thread ID of the carrier thread.
+ * @return 				The CPU time in microseconds, or -1 if -XX:+VirtualThreadCPUAccounting is not
+ * 						specified or the thread is not alive.
+ */
+jlong JNICALL
+Java_com_ibm_lang_management_internal_JvmCpuMonitor_getCarrierVirtualThreadCpuTimeImpl(JNIEnv *env, jobject beanInstance, jlong threadID);
 /**
  * Sets the category of the current thread as J9THREAD_CATEGORY_SYSTEM_THREAD.
  *
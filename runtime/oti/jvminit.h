@@ -444,6 +444,8 @@ enum INIT_STAGE {
 #define VMOPT_XXSLEEPMILLISECONDSFORNOTCHECKPOINTSAFE_EQUALS "-XX:sleepMillisecondsForNotCheckpointSafe="
 #define VMOPT_XXENABLEDEBUGONRESTORE "-XX:+DebugOnRestore"
 #define VMOPT_XXDISABLEDEBUGONRESTORE "-XX:-DebugOnRestore"
+#define VMOPT_XXENABLECRIUSHRINKBEFORECHECKPOINT "-XX:+CRIUShrinkBeforeCheckpoint"
+#define VMOPT_XXDISABLECRIUSHRINKBEFORECHECKPOINT "-XX:-CRIUShrinkBeforeCheckpoint"
 #endif /* defined(J9VM_OPT_CRIU_SUPPORT) */
 
 #if defined(J9VM_OPT_CRAC_SUPPORT)
@@ -477,6 +479,12 @@ enum INIT_STAGE {
 #define VMOPT_XXNOYIELDPINNEDVIRTUALTHREADS "-XX:-YieldPinnedVirtualThreads"
 #endif /* JAVA_SPEC_VERSION >= 24 */
 
+#if JAVA_SPEC_VERSION >= 19
+/* Option to toggle on/off the accounting of the CPU time used by virtual threads on their carrier threads. */
+#define VMOPT_XXVIRTUALTHREADCPUACCOUNTING "-XX:+VirtualThreadCPUAccounting"
+#define VMOPT_XXNOVIRTUALTHREADCPUACCOUNTING "-XX:-VirtualThreadCPUAccounting"
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
 /* Option to turn on exception on synchronization on instances of value-based classes */
 #define VMOPT_XXDIAGNOSE_SYNC_ON_VALUEBASED_CLASSES_EQUALS1 "-XX:DiagnoseSyncOnValueBasedClasses=1"
 /* Option to turn on warning on synchronization on instances of value-based classes */
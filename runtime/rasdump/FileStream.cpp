@@ -29,9 +29,20 @@
 FileStream::FileStream(J9PortLibrary* portLibrary) :
 	_PortLibrary(portLibrary),
 	_FileHandle(-1),
-	_Error(0)
+	_Error(0),
+	_Deflater(NULL),
+	_DeflateBuffer(NULL),
+	_CompressionMonitor(NULL),
+	_FillIndex(0),
+	_PendingIndex(-1),
+	_CompressionError(0),
+	_CompressionThreadRunning(false),
+	_CompressionThreadStop(false)
 {
-	/* Nothing to do */
+	_InputBuffers[0] = NULL;
+	_InputBuffers[1] = NULL;
+	_InputLengths[0] = 0;
+	_InputLengths[1] = 0;
 }
 
 /* Destructor */
@@ -42,11 +53,15 @@ FileStream::~FileStream()
 
 /* Method for opening the file */
 void
-FileStream::open(const char* fileName)
+FileStream::open(const char* fileName, bool compress)
 {
 	if (fileName[0] != '-' ) {
 		_FileHandle = j9cached_file_open(_PortLibrary, fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate | EsOpenCreateNoTag, 0666);
 		_Error = 0;
+
+		if (compress && (_FileHandle != -1)) {
+			startCompression();
+		}
 	}
 }
 
@@ -54,6 +69,8 @@ FileStream::open(const char* fileName)
 void 
 FileStream::close(void)
 {
+	endCompression();
+
 	if (_FileHandle != -1) {
 		j9cached_file_sync(_PortLibrary, _FileHandle);
 		j9cached_file_close(_PortLibrary, _FileHandle);
@@ -78,6 +95,16 @@ void
 FileStream::writeCharacters(const char* data, IDATA length)
 {
 	if (_FileHandle != -1 && ! _Error) {
+		if (_CompressionThreadRunning) {
+			bufferCharacters(data, length);
+			return;
+		}
+
+		if (_Deflater != NULL) {
+			_Error = deflateCharacters(data, length, Z_NO_FLUSH);
+			return;
+		}
+
 		IDATA rc = j9cached_file_write(_PortLibrary, _FileHandle, data, length);
 
 		if (rc != length) {
@@ -111,3 +138,223 @@ FileStream::writeNumber(IDATA data, int length)
 	/* Write the data to the file */
 	writeCharacters(buffer, length);
 }
+
+/* Method for setting up a deflater producing a gzip wrapped stream */
+void
+FileStream::startCompression(void)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	_Deflater = (z_stream*)j9mem_allocate_memory(sizeof(z_stream), OMRMEM_CATEGORY_VM);
+	_DeflateBuffer = (Bytef*)j9mem_allocate_memory(compressedBufferSize(), OMRMEM_CATEGORY_VM);
+
+	if ((_Deflater != NULL) && (_DeflateBuffer != NULL)) {
+		memset(_Deflater, 0, sizeof(z_stream));
+
+		/* A window size of 15 + 16 asks zlib to write a gzip header and trailer rather than a zlib one */
+		if (deflateInit2(_Deflater, Z_BEST_SPEED, Z_DEFLATED, 15 + 16, 8, Z_DEFAULT_STRATEGY) == Z_OK) {
+			startCompressionThread();
+			return;
+		}
+	}
+
+	/* Compression could not be started so fail the file rather than silently write it uncompressed */
+	j9mem_free_memory(_DeflateBuffer);
+	j9mem_free_memory(_Deflater);
+	_DeflateBuffer = NULL;
+	_Deflater = NULL;
+	_Error = -1;
+}
+
+/* Method for compressing data, writing out the compressed bytes each time the buffer fills; returns 0 or the error */
+IDATA
+FileStream::deflateCharacters(const char* data, IDATA length, int flush)
+{
+	_Deflater->next_in = (Bytef*)data;
+	_Deflater->avail_in = (uInt)length;
+
+	do {
+		_Deflater->next_out = _DeflateBuffer;
+		_Deflater->avail_out = (uInt)compressedBufferSize();
+
+		int rc = deflate(_Deflater, flush);
+		if (rc == Z_STREAM_ERROR) {
+			return -1;
+		}
+
+		IDATA produced = compressedBufferSize() - (IDATA)_Deflater->avail_out;
+		if (produced > 0) {
+			IDATA written = j9cached_file_write(_PortLibrary, _FileHandle, _DeflateBuffer, produced);
+			if (written != produced) {
+				/* A short write may return a count of 0 or more, which must not read as success */
+				return (written < 0) ? written : -1;
+			}
+		}
+	} while (_Deflater->avail_out == 0);
+
+	return 0;
+}
+
+/* Method for flushing the gzip trailer and releasing the deflater */
+void
+FileStream::endCompression(void)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	if (_Deflater != NULL) {
+		/* Compress whatever is still buffered before writing the gzip trailer */
+		stopCompressionThread();
+
+		if ((_FileHandle != -1) && ! _Error) {
+			_Error = deflateCharacters(NULL, 0, Z_FINISH);
+		}
+
+		deflateEnd(_Deflater);
+		j9mem_free_memory(_DeflateBuffer);
+		j9mem_free_memory(_Deflater);
+		_DeflateBuffer = NULL;
+		_Deflater = NULL;
+	}
+}
+
+/* Method for starting the compression thread; without it, data is compressed as it is written */
+void
+FileStream::startCompressionThread(void)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	_InputBuffers[0] = (char*)j9mem_allocate_memory(uncompressedBufferSize(), OMRMEM_CATEGORY_VM);
+	_InputBuffers[1] = (char*)j9mem_allocate_memory(uncompressedBufferSize(), OMRMEM_CATEGORY_VM);
+	_InputLengths[0] = 0;
+	_InputLengths[1] = 0;
+	_FillIndex = 0;
+	_PendingIndex = -1;
+	_CompressionError = 0;
+	_CompressionThreadStop = false;
+
+	if ((_InputBuffers[0] != NULL) && (_InputBuffers[1] != NULL)
+		&& (omrthread_monitor_init_with_name(&_CompressionMonitor, 0, "heapdump compression") == 0)
+	) {
+		_CompressionThreadRunning = true;
+		if (omrthread_create(NULL, 0, J9THREAD_PRIORITY_NORMAL, 0, compressionThreadMain, this) == 0) {
+			return;
+		}
+		_CompressionThreadRunning = false;
+		omrthread_monitor_destroy(_CompressionMonitor);
+	}
+
+	j9mem_free_memory(_InputBuffers[1]);
+	j9mem_free_memory(_InputBuffers[0]);
+	_InputBuffers[0] = NULL;
+	_InputBuffers[1] = NULL;
+	_CompressionMonitor = NULL;
+}
+
+/* Method for gathering data in the fill buffer, handing the buffer to the compression thread each time it fills */
+void
+FileStream::bufferCharacters(const char* data, IDATA length)
+{
+	while ((length > 0) && ! _Error) {
+		IDATA space = uncompressedBufferSize() - _InputLengths[_FillIndex];
+		IDATA count = (length < space) ? length : space;
+
+		memcpy(_InputBuffers[_FillIndex] + _InputLengths[_FillIndex], data, count);
+		_InputLengths[_FillIndex] += count;
+		data += count;
+		length -= count;
+
+		if (_InputLengths[_FillIndex] == uncompressedBufferSize()) {
+			handOffBuffer();
+		}
+	}
+}
+
+/* Method for handing the fill buffer to the compression thread, once it has finished with the previous one */
+void
+FileStream::handOffBuffer(void)
+{
+	omrthread_monitor_enter(_CompressionMonitor);
+	while (_PendingIndex != -1) {
+		omrthread_monitor_wait(_CompressionMonitor);
+	}
+	_Error = _CompressionError;
+	if (0 != _Error) {
+		/* The compression thread failed, so the file is abandoned rather than the buffer compressed */
+		omrthread_monitor_exit(_CompressionMonitor);
+		return;
+	}
+	_PendingIndex = _FillIndex;
+	omrthread_monitor_notify_all(_CompressionMonitor);
+	omrthread_monitor_exit(_CompressionMonitor);
+
+	_FillIndex ^= 1;
+	_InputLengths[_FillIndex] = 0;
+}
+
+/* Method for compressing the last buffer and waiting for the compression thread to end */
+void
+FileStream::stopCompressionThread(void)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	if (_CompressionThreadRunning) {
+		if (_InputLengths[_FillIndex] > 0) {
+			handOffBuffer();
+		}
+
+		omrthread_monitor_enter(_CompressionMonitor);
+		_CompressionThreadStop = true;
+		omrthread_monitor_notify_all(_CompressionMonitor);
+		while (_CompressionThreadRunning) {
+			omrthread_monitor_wait(_CompressionMonitor);
+		}
+		if (0 == _Error) {
+			_Error = _CompressionError;
+		}
+		omrthread_monitor_exit(_CompressionMonitor);
+
+		omrthread_monitor_destroy(_CompressionMonitor);
+		_CompressionMonitor = NULL;
+		j9mem_free_memory(_InputBuffers[1]);
+		j9mem_free_memory(_InputBuffers[0]);
+		_InputBuffers[0] = NULL;
+		_InputBuffers[1] = NULL;
+	}
+}
+
+/* Main method of the compression thread, which deflates each buffer handed to it until told to stop */
+int J9THREAD_PROC
+FileStream::compressionThreadMain(void* stream)
+{
+	FileStream* fileStream = (FileStream*)stream;
+	IDATA error = 0;
+
+	omrthread_monitor_enter(fileStream->_CompressionMonitor);
+	for (;;) {
+		if (fileStream->_PendingIndex != -1) {
+			IDATA index = fileStream->_PendingIndex;
+
+			omrthread_monitor_exit(fileStream->_CompressionMonitor);
+			/* After an error the data is dropped; the writing thread sees the error at its next hand off and stops writing */
+			if (0 == error) {
+				error = fileStream->deflateCharacters(fileStream->_InputBuffers[index], fileStream->_InputLengths[index], Z_NO_FLUSH);
+			}
+			omrthread_monitor_enter(fileStream->_CompressionMonitor);
+
+			fileStream->_CompressionError = error;
+			fileStream->_PendingIndex = -1;
+			omrthread_monitor_notify_all(fileStream->_CompressionMonitor);
+		} else if (fileStream->_CompressionThreadStop) {
+			break;
+		} else {
+			omrthread_monitor_wait(fileStream->_CompressionMonitor);
+		}
+	}
+
+	fileStream->_CompressionThreadRunning = false;
+	omrthread_monitor_notify_all(fileStream->_CompressionMonitor);
+	omrthread_exit(fileStream->_CompressionMonitor);
+
+	/* NO GUARANTEED EXECUTION BEYOND THIS POINT */
+	return 0;
+}
@@ -24,6 +24,8 @@
 
 /* Includes */
 #include "j9port.h"
+#include "omrthread.h"
+#include "zlib.h"
 
 /**************************************************************************************************/
 /*                                                                                                */
@@ -39,8 +41,8 @@ public :
 	/* Destructor */
 	~FileStream();
 
-	/* Method for opening the file */
-	void open(const char* fileName);
+	/* Method for opening the file, optionally gzip compressing everything written to it */
+	void open(const char* fileName, bool compress = false);
 
 	/* Method for closing the file */
 	void close(void);
@@ -59,11 +61,45 @@ private :
 	FileStream(const FileStream& source);
 	FileStream& operator=(const FileStream& source);
 
+	/* Methods for managing the optional gzip compression */
+	void startCompression(void);
+	IDATA deflateCharacters(const char* data, IDATA length, int flush);
+	void endCompression(void);
+
+	/* Methods for managing the thread compressing the data while more is being written */
+	void startCompressionThread(void);
+	void bufferCharacters(const char* data, IDATA length);
+	void handOffBuffer(void);
+	void stopCompressionThread(void);
+	static int J9THREAD_PROC compressionThreadMain(void* stream);
+
+	/* Size of the buffer receiving compressed output before it is written to the file */
+	inline static IDATA compressedBufferSize(void) {return 64 * 1024;}
+
+	/* Size of each of the two buffers receiving data before it is compressed */
+	inline static IDATA uncompressedBufferSize(void) {return 1024 * 1024;}
+
 protected :
 	/* Declared data */
 	J9PortLibrary* _PortLibrary;
 	IDATA          _FileHandle;
 	IDATA          _Error;
+	z_stream*      _Deflater;
+	Bytef*         _DeflateBuffer;
+
+	/* Data written is gathered in one buffer while the compression thread deflates the other.
+	 * _Error belongs to the writing thread; the compression thread records its own failure in
+	 * _CompressionError, under the monitor, and the writing thread picks it up at each hand off
+	 * and once the compression thread has ended.
+	 */
+	omrthread_monitor_t _CompressionMonitor;
+	char*          _InputBuffers[2];
+	IDATA          _InputLengths[2];
+	IDATA          _FillIndex;
+	IDATA          _PendingIndex;
+	IDATA          _CompressionError;
+	bool           _CompressionThreadRunning;
+	bool           _CompressionThreadStop;
 };
 
 #endif
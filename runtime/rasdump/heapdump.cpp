@@ -873,6 +873,7 @@ private :
 	ClassCache        _ClassCache;
 	bool              _FileMode;
 	bool              _Error;
+	bool              _Compress;
 
 	/* Static methods returning constant values */
 	inline static const char* identifierField(void)        {return "portable heap dump";}
@@ -1124,7 +1125,8 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	_OutputStream(context->javaVM->portLibrary),
 	_CurrentObject(0),
 	_FileMode(false),
-	_Error(false)
+	_Error(false),
+	_Compress(false)
 {
 	PORT_ACCESS_FROM_PORT(_PortLibrary);
 
@@ -1133,8 +1135,13 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 		return;
 	}
 	
-	/* Remember the file name */
+	/* Remember the file name, gzip compressed dumps being given the usual suffix */
 	_FileName += fileName;
+	_Compress = (agent->dumpOptions != 0) && (strstr(agent->dumpOptions, "GZIP") != 0);
+	if (_Compress) {
+		_FileName += ".gz";
+		fileName = _FileName.data();
+	}
 	
 	/* Handle the cases of multiple dump files and a single dump file separately */
 	if (!(_Agent->requestMask & J9RAS_DUMP_DO_MULTIPLE_HEAPS)) {
@@ -1142,7 +1149,7 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 		reportDumpRequest(_PortLibrary,_Context,"Heap",fileName);
 		
 		/* It's a single file so open it */
-		_OutputStream.open(_FileName.data());
+		_OutputStream.open(_FileName.data(), _Compress);
 	
 		/* Performance measuring code 
 		startTimer();
@@ -1227,7 +1234,7 @@ BinaryHeapDumpWriter::openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDescript
 		_ClassCache.clear();
 
 		/* Open the file */
-		_OutputStream.open(fileName.data());
+		_OutputStream.open(fileName.data(), _Compress);
 
 		/* Start writing the file */
 		writeDumpFileHeader();
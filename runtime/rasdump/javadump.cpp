@@ -3522,6 +3522,16 @@ JavaCoreDumpWriter::writeSharedClassSectionAllLayersStatsSummaryHelper(J9SharedC
 	);
 	_OutputStream.writeInteger(javacoreData->numStartupHints, "%zu");
 
+	_OutputStream.writeCharacters(
+			"\n2SCLTEXTSPL            Number Startup Pages Logged               = "
+	);
+	_OutputStream.writeInteger(javacoreData->startupPagesLogged, "%zu");
+
+	_OutputStream.writeCharacters(
+			"\n2SCLTEXTSPP            Number Startup Pages Prefetched           = "
+	);
+	_OutputStream.writeInteger(javacoreData->startupPagesPrefetched, "%zu");
+
 	_OutputStream.writeCharacters(
 			"\n2SCLTEXTNJC            Number JCL Entries                        = "
 	);
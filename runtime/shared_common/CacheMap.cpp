@@ -244,6 +244,395 @@ SH_CacheMap::dontNeedMetadata(J9VMThread* currentThread)
 	} while (NULL != ccToUse);
 }
 
+/**
+ * Returns the composite cache for a layer, or NULL if the layer is not attached
+ */
+SH_CompositeCacheImpl*
+SH_CacheMap::getCacheForLayer(I_8 layer) const
+{
+	SH_CompositeCacheImpl* ccToUse = _ccHead;
+
+	while (NULL != ccToUse) {
+		if (layer == ccToUse->getLayer()) {
+			break;
+		}
+		ccToUse = ccToUse->getNext();
+	}
+	return ccToUse;
+}
+
+/**
+ * Record which pages of each cache layer are resident just after the cache is attached, so that
+ * createStartupPageLog() can tell the pages touched during startup from those already in the page
+ * cache. Does nothing unless -Xshareclasses:startupPagePrefetch is set.
+ *
+ * @param [in] currentThread  The current thread
+ */
+void
+SH_CacheMap::recordStartupResidencyBaseline(J9VMThread* currentThread)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+	UDATA pageSize = j9vmem_supported_page_sizes()[0];
+	SH_CompositeCacheImpl* ccToUse = _ccHead;
+	U_32 totalPages = 0;
+	U_32 offset = 0;
+
+	if (J9_ARE_NO_BITS_SET(_sharedClassConfig->runtimeFlags2, J9SHR_RUNTIMEFLAG2_STARTUP_PAGE_PREFETCH)
+		|| (NULL != _startupResidencyBaseline)
+	) {
+		return;
+	}
+
+	while (NULL != ccToUse) {
+		totalPages += ccToUse->getMappedPageCount(pageSize);
+		ccToUse = ccToUse->getNext();
+	}
+	if (0 == totalPages) {
+		return;
+	}
+	_startupResidencyBaseline = (U_8*)j9mem_allocate_memory(totalPages, J9MEM_CATEGORY_CLASSES);
+	if (NULL == _startupResidencyBaseline) {
+		return;
+	}
+
+	for (ccToUse = _ccHead; NULL != ccToUse; ccToUse = ccToUse->getNext()) {
+		U_32 numPages = ccToUse->getMappedPageCount(pageSize);
+
+		if ((0 != numPages)
+			&& (0 != ccToUse->getResidentPages(pageSize, 0, numPages, _startupResidencyBaseline + offset))
+		) {
+			/* residency cannot be determined on this platform */
+			j9mem_free_memory(_startupResidencyBaseline);
+			_startupResidencyBaseline = NULL;
+			return;
+		}
+		offset += numPages;
+	}
+
+	_startupBaselinePages = totalPages;
+	_startupBaselineResidentPages = 0;
+	for (U_32 page = 0; page < totalPages; page++) {
+		if (J9_ARE_ANY_BITS_SET(_startupResidencyBaseline[page], 1)) {
+			_startupBaselineResidentPages += 1;
+		}
+	}
+	Trc_SHR_CM_recordStartupResidencyBaseline_Event(currentThread, _startupBaselineResidentPages, _startupBaselinePages);
+}
+
+/**
+ * Build a log of the cache pages that became resident during the JVM startup phase: those resident
+ * at the end of startup which were not resident when the cache was attached. The pages of each layer
+ * are coalesced into runs, which a later JVM reads ahead in the background (see startStartupPagePrefetch()).
+ *
+ * A log is only built with -Xshareclasses:startupPagePrefetch, and only if there is no log in the cache
+ * yet or the one found is stale. No log is built if the cache pages were mostly resident when the cache
+ * was attached, since the pages touched during startup cannot be told apart then, nor if the log would
+ * cover more than CM_STARTUP_PAGE_LOG_MAX_PAGES_PERCENT of the cache, which a read-ahead of everything
+ * would serve as well.
+ *
+ * @param [in] currentThread  The current thread
+ * @param [out] logLength  The length in bytes of the log
+ * @param [out] replaceLog  Set to true if the log replaces a stale one
+ *
+ * @return The log, which the caller must free, or NULL if no log was built
+ */
+StartupPageLogHeader*
+SH_CacheMap::createStartupPageLog(J9VMThread* currentThread, UDATA* logLength, bool* replaceLog)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+	UDATA pageSize = j9vmem_supported_page_sizes()[0];
+	StartupPageLogHeader* log = NULL;
+	StartupPageRun* runs = NULL;
+	SH_CompositeCacheImpl* ccToUse = _ccHead;
+	U_32 offset = 0;
+	U_32 usedBytes = 0;
+
+	if (J9_ARE_NO_BITS_SET(_sharedClassConfig->runtimeFlags2, J9SHR_RUNTIMEFLAG2_STARTUP_PAGE_PREFETCH)
+		|| (NULL == _startupResidencyBaseline)
+		|| (_startupPageLogFound && !_startupPageLogStale)
+	) {
+		goto done;
+	}
+	if ((_startupBaselineResidentPages * (U_64)100) > (_startupBaselinePages * (U_64)CM_STARTUP_PAGE_WARM_PERCENT)) {
+		CACHEMAP_TRACE2(J9SHR_VERBOSEFLAG_ENABLE_VERBOSE, J9NLS_INFO, J9NLS_SHRC_CM_STARTUP_PAGE_LOG_WARM, _startupBaselineResidentPages, _startupBaselinePages);
+		goto done;
+	}
+
+	log = (StartupPageLogHeader*)j9mem_allocate_memory(sizeof(StartupPageLogHeader) + (CM_STARTUP_PAGE_LOG_MAX_RUNS * sizeof(StartupPageRun)), J9MEM_CATEGORY_CLASSES);
+	if (NULL == log) {
+		goto done;
+	}
+	log->version = CM_STARTUP_PAGE_LOG_VERSION;
+	log->pageSize = (U_32)pageSize;
+	log->numRuns = 0;
+	log->numPages = 0;
+	log->mappedPages = _startupBaselinePages;
+	runs = (StartupPageRun*)(log + 1);
+
+	while ((NULL != ccToUse) && (log->numRuns < CM_STARTUP_PAGE_LOG_MAX_RUNS)) {
+		U_32 numPages = ccToUse->getMappedPageCount(pageSize);
+		U_8* residencyVector = NULL;
+		U_8* baseline = _startupResidencyBaseline + offset;
+
+		usedBytes += ccToUse->getUsedBytes();
+		if (0 != numPages) {
+			residencyVector = (U_8*)j9mem_allocate_memory(numPages, J9MEM_CATEGORY_CLASSES);
+		}
+		if (NULL != residencyVector) {
+			if (0 == ccToUse->getResidentPages(pageSize, 0, numPages, residencyVector)) {
+				U_32 page = 0;
+
+				/* keep only the pages faulted in since the cache was attached */
+				for (page = 0; page < numPages; page++) {
+					if (J9_ARE_ANY_BITS_SET(baseline[page], 1)) {
+						residencyVector[page] = 0;
+					}
+				}
+				page = 0;
+				while ((page < numPages) && (log->numRuns < CM_STARTUP_PAGE_LOG_MAX_RUNS)) {
+					if (J9_ARE_ANY_BITS_SET(residencyVector[page], 1)) {
+						StartupPageRun* run = &runs[log->numRuns];
+
+						run->layer = (I_32)ccToUse->getLayer();
+						run->firstPage = page;
+						while ((page < numPages) && J9_ARE_ANY_BITS_SET(residencyVector[page], 1)) {
+							page += 1;
+						}
+						run->pageCount = page - run->firstPage;
+						log->numPages += run->pageCount;
+						log->numRuns += 1;
+					} else {
+						page += 1;
+					}
+				}
+			}
+			j9mem_free_memory(residencyVector);
+		}
+		offset += numPages;
+		ccToUse = ccToUse->getNext();
+	}
+	log->usedBytes = usedBytes;
+
+	Trc_SHR_CM_createStartupPageLog_Event(currentThread, log->numRuns, log->numPages, pageSize);
+
+	if ((0 == log->numRuns)
+		|| ((log->numPages * (U_64)100) > (log->mappedPages * (U_64)CM_STARTUP_PAGE_LOG_MAX_PAGES_PERCENT))
+	) {
+		CACHEMAP_TRACE2(J9SHR_VERBOSEFLAG_ENABLE_VERBOSE, J9NLS_INFO, J9NLS_SHRC_CM_STARTUP_PAGE_LOG_NOT_STORED, log->numPages, log->mappedPages);
+		j9mem_free_memory(log);
+		log = NULL;
+		goto done;
+	}
+	CACHEMAP_TRACE3(J9SHR_VERBOSEFLAG_ENABLE_VERBOSE, J9NLS_INFO, J9NLS_SHRC_CM_STARTUP_PAGE_LOG_CREATED, log->numPages, log->mappedPages, log->numRuns);
+	*logLength = sizeof(StartupPageLogHeader) + (log->numRuns * sizeof(StartupPageRun));
+	*replaceLog = _startupPageLogFound;
+
+done:
+	/* the baseline is only needed once */
+	j9mem_free_memory(_startupResidencyBaseline);
+	_startupResidencyBaseline = NULL;
+	return log;
+}
+
+/**
+ * Start a background thread which advises the OS to read ahead the cache pages
+ * listed in a startup page log stored by a previous JVM, so that they are resident
+ * before the classes on them are first used.
+ *
+ * A log recorded when the cache held much less data than it does now is stale: the
+ * pages are not read ahead, so that this JVM can record a fresh log at the end of startup.
+ *
+ * @param [in] currentThread  The current thread
+ * @param [in] logData  The startup page log found in the cache
+ * @param [in] logLength  The length in bytes of the log
+ */
+void
+SH_CacheMap::startStartupPagePrefetch(J9VMThread* currentThread, const U_8* logData, UDATA logLength)
+{
+	J9JavaVM* vm = currentThread->javaVM;
+	const StartupPageLogHeader* header = (const StartupPageLogHeader*)logData;
+	SH_CompositeCacheImpl* ccToUse = _ccHead;
+	U_64 usedBytes = 0;
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	_startupPageLogFound = true;
+	if ((logLength < sizeof(StartupPageLogHeader))
+		|| (CM_STARTUP_PAGE_LOG_VERSION != header->version)
+		|| (logLength != (sizeof(StartupPageLogHeader) + (header->numRuns * sizeof(StartupPageRun))))
+	) {
+		/* a log of an earlier version, or a malformed one, is replaced */
+		Trc_SHR_CM_startStartupPagePrefetch_BadLog(currentThread, logData, logLength);
+		_startupPageLogStale = true;
+		return;
+	}
+	_startupPagesLogged = header->numPages;
+
+	while (NULL != ccToUse) {
+		usedBytes += ccToUse->getUsedBytes();
+		ccToUse = ccToUse->getNext();
+	}
+	if ((usedBytes * 100) > (header->usedBytes * (U_64)(100 + CM_STARTUP_PAGE_LOG_REFRESH_PERCENT))) {
+		Trc_SHR_CM_startStartupPagePrefetch_StaleLog(currentThread, header->usedBytes, usedBytes);
+		_startupPageLogStale = true;
+		return;
+	}
+
+	if (J9_ARE_NO_BITS_SET(_sharedClassConfig->runtimeFlags2, J9SHR_RUNTIMEFLAG2_STARTUP_PAGE_PREFETCH)
+		|| (j9vmem_supported_page_sizes()[0] != header->pageSize)
+		|| (NULL != _startupPagePrefetchThread)
+	) {
+		Trc_SHR_CM_startStartupPagePrefetch_Skipped(currentThread, header->pageSize, j9vmem_supported_page_sizes()[0]);
+		return;
+	}
+
+	/* The log is copied as the thread may still be running when the cache is detached */
+	_startupPageLog = (StartupPageLogHeader*)j9mem_allocate_memory(logLength, J9MEM_CATEGORY_CLASSES);
+	if (NULL == _startupPageLog) {
+		return;
+	}
+	memcpy(_startupPageLog, logData, logLength);
+	_startupPagePrefetchStopRequested = false;
+
+	if (J9THREAD_SUCCESS != vm->internalVMFunctions->createJoinableThreadWithCategory(&_startupPagePrefetchThread,
+			vm->defaultOSStackSize,
+			J9THREAD_PRIORITY_NORMAL,
+			0,
+			startupPagePrefetchThreadProc,
+			this,
+			J9THREAD_CATEGORY_SYSTEM_THREAD)
+	) {
+		_startupPagePrefetchThread = NULL;
+		j9mem_free_memory(_startupPageLog);
+		_startupPageLog = NULL;
+		return;
+	}
+	Trc_SHR_CM_startStartupPagePrefetch_Event(currentThread, _startupPageLog->numRuns, _startupPageLog->numPages);
+}
+
+/**
+ * Stop the startup page prefetch thread, if there is one, and wait for it to finish.
+ * Must be called before the cache layers are detached.
+ *
+ * THREADING: Only ever single threaded
+ */
+void
+SH_CacheMap::stopStartupPagePrefetch(J9VMThread* currentThread)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	if (NULL != _startupPagePrefetchThread) {
+		_startupPagePrefetchStopRequested = true;
+		omrthread_join(_startupPagePrefetchThread);
+		_startupPagePrefetchThread = NULL;
+	}
+	if (NULL != _startupPageLog) {
+		j9mem_free_memory(_startupPageLog);
+		_startupPageLog = NULL;
+	}
+	if (NULL != _startupResidencyBaseline) {
+		/* the JVM did not leave its startup phase */
+		j9mem_free_memory(_startupResidencyBaseline);
+		_startupResidencyBaseline = NULL;
+	}
+}
+
+int J9THREAD_PROC
+SH_CacheMap::startupPagePrefetchThreadProc(void* entryarg)
+{
+	((SH_CacheMap*)entryarg)->prefetchStartupPages();
+	return 0;
+}
+
+/**
+ * Runs on the startup page prefetch thread. Each logged run of pages is checked for
+ * residency and the pages which are not resident are read ahead. The pages advised are
+ * counted; whether the startup path would have faulted on each of them is not known.
+ */
+void
+SH_CacheMap::prefetchStartupPages(void)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+	StartupPageRun* runs = (StartupPageRun*)(_startupPageLog + 1);
+	UDATA pageSize = _startupPageLog->pageSize;
+	U_32 vectorLength = 0;
+	U_8* residencyVector = NULL;
+	U_32 i = 0;
+
+	for (i = 0; i < _startupPageLog->numRuns; i++) {
+		if (runs[i].pageCount > vectorLength) {
+			vectorLength = runs[i].pageCount;
+		}
+	}
+	residencyVector = (U_8*)j9mem_allocate_memory(vectorLength, J9MEM_CATEGORY_CLASSES);
+	if (NULL == residencyVector) {
+		return;
+	}
+
+	for (i = 0; (i < _startupPageLog->numRuns) && !_startupPagePrefetchStopRequested; i++) {
+		SH_CompositeCacheImpl* cache = getCacheForLayer((I_8)runs[i].layer);
+		U_32 firstPage = runs[i].firstPage;
+		U_32 pageCount = runs[i].pageCount;
+
+		if ((NULL == cache)
+			|| (0 != cache->getResidentPages(pageSize, firstPage, pageCount, residencyVector))
+		) {
+			continue;
+		}
+		/* Only read ahead the sub-ranges that are not already resident */
+		for (U_32 page = 0; page < pageCount; page++) {
+			if (J9_ARE_NO_BITS_SET(residencyVector[page], 1)) {
+				U_32 start = page;
+
+				while ((page < pageCount) && J9_ARE_NO_BITS_SET(residencyVector[page], 1)) {
+					page += 1;
+				}
+				cache->willNeedPages(pageSize, firstPage + start, page - start);
+				_startupPagesPrefetched += page - start;
+			}
+		}
+	}
+
+	j9mem_free_memory(residencyVector);
+	Trc_SHR_CM_prefetchStartupPages_Event(_startupPagesPrefetched, (UDATA)_startupPagePrefetchStopRequested);
+}
+
+/**
+ * Measure how well the class debug area (LineNumberTables and LocalVariableTables) compresses.
+ * The debug data is deflated and inflated again in private buffers. Each layer caches the results for
+ * the data measured before, so only data added since the previous call is deflated.
+ *
+ * @param [in] currentThread  The current thread
+ * @param [out] stats  The uncompressed bytes, compressed bytes and decompression time in microseconds
+ * @param [in] topLayerOnly  If true only the top layer is measured, otherwise the results of all layers are added together
+ *
+ * @return true on success, false otherwise
+ *
+ * THREADING: Can be called multi-threaded. Only committed debug data is read, which is never modified.
+ */
+bool
+SH_CacheMap::getDebugAreaCompressionStats(J9VMThread* currentThread, J9SharedClassDebugAreaCompressionStats* stats, bool topLayerOnly)
+{
+	SH_CompositeCacheImpl* cache = _ccHead;
+	bool retval = true;
+
+	Trc_SHR_CM_getDebugAreaCompressionStats_Entry(currentThread, topLayerOnly);
+
+	memset(stats, 0, sizeof(J9SharedClassDebugAreaCompressionStats));
+	while (NULL != cache) {
+		if (!cache->getDebugAreaCompressionStats(currentThread, stats)) {
+			retval = false;
+			break;
+		}
+		if (topLayerOnly) {
+			break;
+		}
+		cache = cache->getNext();
+	}
+
+	Trc_SHR_CM_getDebugAreaCompressionStats_Exit(currentThread, retval, stats->uncompressedBytes, stats->compressedBytes, stats->decompressionMicros);
+	return retval;
+}
+
 /**
  * Builds a new SH_CacheMap for retrieving cache statistics
  *
@@ -288,6 +677,16 @@ SH_CacheMap::initialize(J9JavaVM* vm, J9SharedClassConfig* sharedClassConfig, Bl
 	_bytesRead = 0;
 	_isAssertEnabled = true;
 	_metadataReleaseCounter = 0;
+	_startupPagePrefetchThread = NULL;
+	_startupPageLog = NULL;
+	_startupPagePrefetchStopRequested = false;
+	_startupPagesLogged = 0;
+	_startupPagesPrefetched = 0;
+	_startupResidencyBaseline = NULL;
+	_startupBaselinePages = 0;
+	_startupBaselineResidentPages = 0;
+	_startupPageLogFound = false;
+	_startupPageLogStale = false;
 	_ccPool = NULL;
 
 	_managers = SH_Managers::newInstance(vm, (SH_Managers *)allocPtr);
@@ -357,6 +756,8 @@ SH_CacheMap::cleanup(J9VMThread* currentThread)
 
 	Trc_SHR_CM_cleanup_Entry(currentThread);
 
+	stopStartupPagePrefetch(currentThread);
+
 	walkManager = managers()->startDo(currentThread, 0, &state);
 	while (walkManager) {
 		walkManager->cleanup(currentThread);
@@ -2452,6 +2853,54 @@ done_skipHashUpdate:
 
 
 
+/**
+ * Try to locate a ROMClass that is already stored in the cache without entering the cache read mutex.
+ *
+ * The cache is append-only and every item added increments the cache update count. If this JVM has already
+ * read every update into its hashtables, a lookup in the local hashtables sees everything the read mutex
+ * would have protected. The update count and the cache lock are checked again after the lookup, and the
+ * result is discarded if another JVM has written to or locked the cache in the meantime.
+ *
+ * @param [in] currentThread Pointer to J9VMThread structure for the current thread
+ * @param [in] localRCM The started ROMClass manager
+ * @param [in] path The class name to be located
+ * @param [in] pathLen The length of the class name
+ * @param [in] cp ClasspathItem object representing the classpath of the caller classloader
+ * @param [in] partition Partition string to use (optional)
+ * @param [in] modContext Modification context string to use (optional)
+ * @param [in] confirmedEntries Number of confirmed entries in the classpath
+ * @param [out] locateResult Set to the result of the lookup
+ *
+ * @return true if the ROMClass was found and the result is valid, false if the caller must take the read mutex and look again
+ *
+ * THREADING: This function can be called multi-threaded. The read mutex must not be held.
+ */
+bool
+SH_CacheMap::locateStoredROMClassWithoutReadMutex(J9VMThread* currentThread, SH_ROMClassManager* localRCM, const char* path, U_16 pathLen, ClasspathItem* cp, const J9UTF8* partition, const J9UTF8* modContext, IDATA confirmedEntries, LocateROMClassResult* locateResult)
+{
+	UDATA updateCount = _ccHead->getCacheUpdateCount();
+	UDATA rc = LOCATE_ROMCLASS_RETURN_NOTFOUND;
+
+	VM_AtomicSupport::readBarrier();
+	if (_ccHead->isLocked() || _ccHead->isCacheCorrupt() || (0 != _ccHead->checkUpdates(currentThread))) {
+		/* Another JVM is writing to the cache, or there are updates not yet read into the hashtables */
+		return false;
+	}
+
+	rc = localRCM->locateROMClass(currentThread, path, pathLen, cp, -1, confirmedEntries, cp->getHelperID(), NULL, partition, modContext, locateResult);
+
+	VM_AtomicSupport::readBarrier();
+	if ((LOCATE_ROMCLASS_RETURN_FOUND != rc)
+		|| _ccHead->isLocked()
+		|| (updateCount != _ccHead->getCacheUpdateCount())
+	) {
+		Trc_SHR_CM_locateStoredROMClassWithoutReadMutex_Retry(currentThread, path, rc, updateCount);
+		return false;
+	}
+
+	return true;
+}
+
 /**
  * Locate a shared ROM class in the cache
  *
@@ -2546,6 +2995,14 @@ SH_CacheMap::findROMClass(J9VMThread* currentThread, const char* path, Classpath
 		}
 	}
 
+	/* Classes already stored in the cache can be found without the read mutex, which avoids every
+	 * loading thread updating the reader count in the shared cache header.
+	 */
+	if (locateStoredROMClassWithoutReadMutex(currentThread, localRCM, path, pathLen, cp, partition, modContext, confirmedEntries, &locateResult)) {
+		rc = LOCATE_ROMCLASS_RETURN_FOUND;
+		goto _foundWithoutReadMutex;
+	}
+
 	/* THREADING: We enter read mutex here. Multiple readers can read concurrently.
 	 * Readers can also read at the same time as a writer is writing. The mutex therefore serves
 	 * to indicate to the writers when readers have finished reading, incase they want a lock.
@@ -2701,6 +3158,7 @@ SH_CacheMap::findROMClass(J9VMThread* currentThread, const char* path, Classpath
 		markStale(currentThread, locateResult.staleCPEI, false);
 	}
 
+_foundWithoutReadMutex:
 	if (rc & LOCATE_ROMCLASS_RETURN_FOUND) {
 		/* It is quite possible for another JVM to set the writeHash field, load a class and set it back to zero
 		 * while we are pootling around in locateROMClass above. If so, we will incorrectly set the writeHash field,
@@ -4292,6 +4750,9 @@ SH_CacheMap::getJavacoreData(J9JavaVM *vm, J9SharedClassJavacoreDataDescriptor*
 		descriptor->numStartupHints = 0;
 	}
 
+	descriptor->startupPagesLogged = _startupPagesLogged;
+	descriptor->startupPagesPrefetched = _startupPagesPrefetched;
+
 	descriptor->objectBytes = 0;
 	descriptor->numObjects = 0;
 
@@ -4499,8 +4960,8 @@ SH_CacheMap::markItemStale(J9VMThread* currentThread, const ShcItem* item, bool
 	Trc_SHR_CM_markItemStale_Exit(currentThread, item);
 }
 
-/* THREADING: This must always be called with write mutex OR read mutex held. If the
- * read mutex is held, it is released.
+/* THREADING: If the read mutex is held, it is released. The write mutex need not be held,
+ * which allows an item to be marked stale by a lookup that did not take the read mutex.
  */
 void
 SH_CacheMap::markItemStaleCheckMutex(J9VMThread* currentThread, const ShcItem* item, bool isCacheLocked)
@@ -4521,7 +4982,9 @@ SH_CacheMap::markItemStaleCheckMutex(J9VMThread* currentThread, const ShcItem* i
 		}
 		_ccHead->markStale(currentThread, (BlockPtr)ITEMEND(item), true);
 	} else {
-		_ccHead->exitReadMutex(currentThread, fnName);
+		if (_ccHead->hasReadMutex(currentThread)) {
+			_ccHead->exitReadMutex(currentThread, fnName);
+		}
 		if (_ccHead->enterWriteMutex(currentThread, true, fnName) == 0) {
 			_ccHead->markStale(currentThread, (BlockPtr)ITEMEND(item), true);
 			_ccHead->exitWriteMutex(currentThread, fnName);
@@ -5092,6 +5555,17 @@ SH_CacheMap::printCacheStatsTopLayerStatsHelper(J9VMThread* currentThread, UDATA
 		CACHEMAP_FMTPRINT1(J9NLS_DO_NOT_PRINT_MESSAGE_TAG, J9NLS_SHRC_CM_PRINTSTATS_DEBUGAREA_USED_BYTES, javacoreData->debugAreaLineNumberTableBytes + javacoreData->debugAreaLocalVariableTableBytes);
 	}
 	CACHEMAP_FMTPRINT1(J9NLS_DO_NOT_PRINT_MESSAGE_TAG, J9NLS_SHRC_CM_PRINTSTATS_DEBUGAREA_USED, javacoreData->debugAreaUsed);
+	if (J9_ARE_ALL_BITS_SET(runtimeFlags, J9SHR_RUNTIMEFLAG_ENABLE_DETAILED_STATS)) {
+		J9SharedClassDebugAreaCompressionStats compressionStats;
+
+		if (getDebugAreaCompressionStats(currentThread, &compressionStats, true)
+			&& (0 != compressionStats.uncompressedBytes)
+		) {
+			CACHEMAP_FMTPRINT1(J9NLS_DO_NOT_PRINT_MESSAGE_TAG, J9NLS_SHRC_CM_PRINTSTATS_DEBUGAREA_COMPRESSED_BYTES, compressionStats.compressedBytes);
+			CACHEMAP_FMTPRINT1(J9NLS_DO_NOT_PRINT_MESSAGE_TAG, J9NLS_SHRC_CM_PRINTSTATS_DEBUGAREA_COMPRESSED_PERCENT, (compressionStats.compressedBytes * 100) / compressionStats.uncompressedBytes);
+			CACHEMAP_FMTPRINT1(J9NLS_DO_NOT_PRINT_MESSAGE_TAG, J9NLS_SHRC_CM_PRINTSTATS_DEBUGAREA_INFLATE_TIME, compressionStats.decompressionMicros);
+		}
+	}
 }
 /*
  * Helper funtion to print the statistics summary of the top layer cache.
@@ -5307,6 +5781,8 @@ SH_CacheMap::runExitCode(J9VMThread* currentThread)
 	SH_Managers::ManagerWalkState state;
 	SH_CompositeCacheImpl* cache = _ccHead;
 
+	stopStartupPagePrefetch(currentThread);
+
 	printShutdownStats();
 
 	walkManager = managers()->startDo(currentThread, 0, &state);
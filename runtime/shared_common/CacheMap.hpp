@@ -41,6 +41,16 @@
 
 #define CM_CACHE_MAX_METADATA_RELEASES 2
 
+#define CM_STARTUP_PAGE_LOG_KEY "J9StartupPageLog"
+#define CM_STARTUP_PAGE_LOG_VERSION 2
+#define CM_STARTUP_PAGE_LOG_MAX_RUNS 8192
+/* A log covering more than this percentage of the cache pages is not stored */
+#define CM_STARTUP_PAGE_LOG_MAX_PAGES_PERCENT 50
+/* No log is recorded if more than this percentage of the cache pages were resident when the cache was attached */
+#define CM_STARTUP_PAGE_WARM_PERCENT 50
+/* A log is recorded again once the cache holds this percentage more data than when the log was recorded */
+#define CM_STARTUP_PAGE_LOG_REFRESH_PERCENT 10
+
 /*
  * The maximum width of the hexadecimal representation of a value of type 'T'.
  */
@@ -72,6 +82,27 @@ typedef struct CacheAddressRange {
 	void* cacheEnd;
 } CacheAddressRange;
 
+/*
+ * The startup page access log is stored in the cache as J9SHR_DATA_TYPE_VM data.
+ * The header is followed by numRuns StartupPageRun entries, each describing a
+ * range of pages, relative to the start of the mapping of a cache layer, which
+ * the JVM that stored the log faulted in during its startup phase.
+ */
+typedef struct StartupPageLogHeader {
+	U_32 version;
+	U_32 pageSize;
+	U_32 numRuns;
+	U_32 numPages;
+	U_32 mappedPages; /* pages mapped for all the layers when the log was recorded */
+	U_32 usedBytes; /* bytes used in all the layers when the log was recorded */
+} StartupPageLogHeader;
+
+typedef struct StartupPageRun {
+	I_32 layer;
+	U_32 firstPage;
+	U_32 pageCount;
+} StartupPageRun;
+
 /* 
  * Implementation of SH_SharedCache interface
  */
@@ -135,6 +166,16 @@ public:
 
 	void dontNeedMetadata(J9VMThread* currentThread);
 
+	void recordStartupResidencyBaseline(J9VMThread* currentThread);
+
+	StartupPageLogHeader* createStartupPageLog(J9VMThread* currentThread, UDATA* logLength, bool* replaceLog);
+
+	void startStartupPagePrefetch(J9VMThread* currentThread, const U_8* logData, UDATA logLength);
+
+	void stopStartupPagePrefetch(J9VMThread* currentThread);
+
+	bool getDebugAreaCompressionStats(J9VMThread* currentThread, J9SharedClassDebugAreaCompressionStats* stats, bool topLayerOnly);
+
 	/**
 	 * This function is extremely hot.
 	 * Peeks to see whether compiled code exists for a given ROMMethod in the CompiledMethodManager hashtable
@@ -326,6 +367,17 @@ private:
 	J9Pool* _ccPool;
 	int32_t _metadataReleaseCounter;
 
+	omrthread_t _startupPagePrefetchThread;
+	StartupPageLogHeader* _startupPageLog;
+	volatile bool _startupPagePrefetchStopRequested;
+	UDATA _startupPagesLogged;
+	UDATA _startupPagesPrefetched;
+	U_8* _startupResidencyBaseline;
+	U_32 _startupBaselinePages;
+	U_32 _startupBaselineResidentPages;
+	bool _startupPageLogFound;
+	bool _startupPageLogStale;
+
 	bool _isAssertEnabled; /* flag to turn on/off assertion before acquiring local mutex */
 	
 	SH_Managers * _managers;
@@ -334,10 +386,18 @@ private:
 
 	IDATA readCacheUpdates(J9VMThread* currentThread);
 
+	static int J9THREAD_PROC startupPagePrefetchThreadProc(void* entryarg);
+
+	void prefetchStartupPages(void);
+
+	SH_CompositeCacheImpl* getCacheForLayer(I_8 layer) const;
+
 	IDATA readCache(J9VMThread* currentThread, SH_CompositeCacheImpl* cache, IDATA expectedUpdates, bool startupForStats);
 
 	IDATA refreshHashtables(J9VMThread* currentThread, bool hasClassSegmentMutex);
 
+	bool locateStoredROMClassWithoutReadMutex(J9VMThread* currentThread, SH_ROMClassManager* localRCM, const char* path, U_16 pathLen, ClasspathItem* cp, const J9UTF8* partition, const J9UTF8* modContext, IDATA confirmedEntries, LocateROMClassResult* locateResult);
+
 	ClasspathWrapper* addClasspathToCache(J9VMThread* currentThread, ClasspathItem* obj);
 
 	const J9UTF8* addScopeToCache(J9VMThread* currentThread, const J9UTF8* scope, U_16 type = TYPE_SCOPE); 
@@ -37,8 +37,19 @@
 #include "j9shrnls.h"
 #include "j9protos.h"
 
+#ifdef AIXPPC	/* hack for zlib/AIX problem */
+#define STDC
+#endif
+
+#include "zlib.h"
+
 #define CREATE_CLASS_DEBUG_AREA 1
 
+/* The debug area is deflated in chunks of this size when measuring its compressibility */
+#define DEBUG_AREA_COMPRESSION_CHUNK_SIZE (64 * 1024)
+/* Upper bound of the deflated size of one chunk, see the zlib documentation of compress() */
+#define DEBUG_AREA_COMPRESSION_BOUND (DEBUG_AREA_COMPRESSION_CHUNK_SIZE + (DEBUG_AREA_COMPRESSION_CHUNK_SIZE >> 8) + 64)
+
 /*Note: GET_DEBUG_MEM is the same as CADEBUGSTART*/
 typedef char* BlockPtr;
 #define GET_DEBUG_MEM_START(ca) (((BlockPtr)(ca)) + (ca)->totalBytes - (ca)->debugRegionSize)
@@ -62,6 +73,18 @@ ClassDebugDataProvider::initialize()
 	 * getJavacoreData() will update _theca if its NULL. 
 	 */
 	_theca = NULL;
+	_compressionStatsMutex = NULL;
+	_debugAreaGeneration = 0;
+	_compressionCacheGeneration = 0;
+}
+
+void
+ClassDebugDataProvider::cleanup()
+{
+	if (NULL != _compressionStatsMutex) {
+		omrthread_monitor_destroy(_compressionStatsMutex);
+		_compressionStatsMutex = NULL;
+	}
 }
 
 bool 
@@ -75,6 +98,16 @@ ClassDebugDataProvider::Init(J9VMThread* currentThread, J9SharedCacheHeader * ca
 	_theca = ca;
 	_storedLineNumberTableBytes = 0;
 	_storedLocalVariableTableBytes = 0;
+	/* The debug area may have been created or reset since the last Init(), the compression
+	 * estimate cached for the previous area is discarded by the next getCompressionStats().
+	 */
+	_debugAreaGeneration += 1;
+	if (NULL == _compressionStatsMutex) {
+		if (0 != omrthread_monitor_init_with_name(&_compressionStatsMutex, 0, "Shared class debug area compression stats mutex")) {
+			/* getCompressionStats() fails without the mutex, the debug area itself is usable */
+			_compressionStatsMutex = NULL;
+		}
+	}
 	_runtimeFlags = runtimeFlags;
 	_osPageSize = osPageSize;
 	
@@ -572,6 +605,141 @@ ClassDebugDataProvider::getLocalVariableTableBytes()
 	return (U_32)(dataEnd - dataStart);
 }
 
+/**
+ * Deflate one chunk of the debug area and inflate it again, adding the results to the given totals.
+ *
+ * @param [in] currentThread The current thread
+ * @param [in] chunk The start of the chunk
+ * @param [in] chunkLength The length of the chunk, at most DEBUG_AREA_COMPRESSION_CHUNK_SIZE
+ * @param [in] deflateBuffer A buffer of DEBUG_AREA_COMPRESSION_BOUND bytes
+ * @param [in] inflateBuffer A buffer of DEBUG_AREA_COMPRESSION_CHUNK_SIZE bytes
+ * @param [out] totals Accumulates the uncompressed bytes, compressed bytes and decompression time in microseconds
+ *
+ * @return true on success, false if zlib failed
+ */
+static bool
+measureDebugAreaChunk(J9VMThread* currentThread, U_8 * chunk, UDATA chunkLength, U_8 * deflateBuffer, U_8 * inflateBuffer, J9SharedClassDebugAreaCompressionStats * totals)
+{
+	PORT_ACCESS_FROM_VMC(currentThread);
+	uLongf deflatedLength = DEBUG_AREA_COMPRESSION_BOUND;
+	uLongf inflatedLength = DEBUG_AREA_COMPRESSION_CHUNK_SIZE;
+	U_64 startTime = 0;
+	int rc = Z_OK;
+
+	if (Z_OK != compress2(deflateBuffer, &deflatedLength, chunk, (uLong)chunkLength, Z_DEFAULT_COMPRESSION)) {
+		return false;
+	}
+
+	startTime = j9time_hires_clock();
+	rc = uncompress(inflateBuffer, &inflatedLength, deflateBuffer, deflatedLength);
+	totals->decompressionMicros += j9time_hires_delta(startTime, j9time_hires_clock(), J9PORT_TIME_DELTA_IN_MICROSECONDS);
+	if ((Z_OK != rc) || (inflatedLength != chunkLength)) {
+		return false;
+	}
+
+	totals->uncompressedBytes += chunkLength;
+	totals->compressedBytes += deflatedLength;
+	return true;
+}
+
+/**
+ * Estimate how well the line number and local variable tables in this debug area compress.
+ *
+ * Each table is cut into chunks of DEBUG_AREA_COMPRESSION_CHUNK_SIZE bytes counted from the end it
+ * grows away from: the start of the debug area for the LineNumberTables, and the end of the debug
+ * area for the LocalVariableTables. Committed debug data is never modified, so the deflated size and
+ * inflate time of every complete chunk are cached and only chunks added since the previous call are
+ * deflated. The last, partial chunk of each table is measured on every call. The debug area itself
+ * is not modified. The results are added to the values already in stats so that the caller can sum
+ * them across cache layers.
+ *
+ * @param [in] currentThread The current thread
+ * @param [out] stats Accumulates the uncompressed bytes, compressed bytes and decompression time in microseconds
+ *
+ * @return true on success, false if the mutex or the buffers could not be allocated or zlib failed
+ *
+ * THREADING: Can be called multi-threaded, the cached estimate is updated under _compressionStatsMutex.
+ */
+bool
+ClassDebugDataProvider::getCompressionStats(J9VMThread* currentThread, J9SharedClassDebugAreaCompressionStats * stats)
+{
+	PORT_ACCESS_FROM_VMC(currentThread);
+	U_8 * regionStart[2];
+	UDATA regionLength[2];
+	U_8 * deflateBuffer = NULL;
+	U_8 * inflateBuffer = NULL;
+	bool retval = true;
+
+	Trc_SHR_ClassDebugData_getCompressionStats_Entry(currentThread);
+
+	regionStart[0] = (U_8 *)getDebugAreaStartAddress();
+	regionLength[0] = getLineNumberTableBytes();
+	regionStart[1] = (U_8 *)getLVTNextAddress();
+	regionLength[1] = getLocalVariableTableBytes();
+
+	if (NULL == _compressionStatsMutex) {
+		retval = false;
+		goto done;
+	}
+
+	deflateBuffer = (U_8 *)j9mem_allocate_memory(DEBUG_AREA_COMPRESSION_BOUND, J9MEM_CATEGORY_CLASSES);
+	inflateBuffer = (U_8 *)j9mem_allocate_memory(DEBUG_AREA_COMPRESSION_CHUNK_SIZE, J9MEM_CATEGORY_CLASSES);
+	if ((NULL == deflateBuffer) || (NULL == inflateBuffer)) {
+		retval = false;
+		goto done;
+	}
+
+	omrthread_monitor_enter(_compressionStatsMutex);
+
+	if (_compressionCacheGeneration != _debugAreaGeneration) {
+		/* the cached chunks were measured in a debug area that has since been reset */
+		memset(_compressionCache, 0, sizeof(_compressionCache));
+		_compressionCacheGeneration = _debugAreaGeneration;
+	}
+
+	for (UDATA i = 0; retval && (i < 2); i++) {
+		J9SharedClassDebugAreaCompressionStats * cached = &_compressionCache[i];
+		J9SharedClassDebugAreaCompressionStats tail;
+		UDATA completeLength = regionLength[i] - (regionLength[i] % DEBUG_AREA_COMPRESSION_CHUNK_SIZE);
+
+		/* measure the complete chunks added since the last call */
+		while (cached->uncompressedBytes < completeLength) {
+			U_8 * chunk = NULL;
+
+			if (0 == i) {
+				chunk = regionStart[i] + cached->uncompressedBytes;
+			} else {
+				chunk = regionStart[i] + regionLength[i] - cached->uncompressedBytes - DEBUG_AREA_COMPRESSION_CHUNK_SIZE;
+			}
+			if (!measureDebugAreaChunk(currentThread, chunk, DEBUG_AREA_COMPRESSION_CHUNK_SIZE, deflateBuffer, inflateBuffer, cached)) {
+				retval = false;
+				break;
+			}
+		}
+
+		memset(&tail, 0, sizeof(tail));
+		if (retval && (completeLength < regionLength[i])) {
+			/* the partial chunk is at the growing end of the table */
+			U_8 * chunk = (0 == i) ? (regionStart[i] + completeLength) : regionStart[i];
+			retval = measureDebugAreaChunk(currentThread, chunk, regionLength[i] - completeLength, deflateBuffer, inflateBuffer, &tail);
+		}
+
+		if (retval) {
+			stats->uncompressedBytes += cached->uncompressedBytes + tail.uncompressedBytes;
+			stats->compressedBytes += cached->compressedBytes + tail.compressedBytes;
+			stats->decompressionMicros += cached->decompressionMicros + tail.decompressionMicros;
+		}
+	}
+
+	omrthread_monitor_exit(_compressionStatsMutex);
+
+done:
+	j9mem_free_memory(inflateBuffer);
+	j9mem_free_memory(deflateBuffer);
+	Trc_SHR_ClassDebugData_getCompressionStats_Exit(currentThread, retval, stats->uncompressedBytes, stats->compressedBytes);
+	return retval;
+}
+
 void *
 ClassDebugDataProvider::getDebugAreaStartAddress()
 {
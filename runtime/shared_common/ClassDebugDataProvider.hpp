@@ -32,6 +32,7 @@ class ClassDebugDataProvider
 {
 public:	
 	void initialize();
+	void cleanup();
 	bool Init(J9VMThread* currentThread, J9SharedCacheHeader * ca, AbstractMemoryPermission * permSetter, UDATA verboseFlags, U_64 * runtimeFlags, UDATA osPageSize, bool startupForStats);
 	UDATA getJavacoreData(J9JavaVM *vm, J9SharedClassJavacoreDataDescriptor* descriptor, J9SharedCacheHeader * ca);
 	IDATA allocateClassDebugData(J9VMThread* currentThread, U_16 classnameLength, const char* classnameData, const J9RomClassRequirements * sizes, J9SharedRomClassPieces * pieces, AbstractMemoryPermission * permSetter);
@@ -41,6 +42,7 @@ public:
 	U_32 getFreeDebugSpaceBytes();
 	U_32 getLineNumberTableBytes();
 	U_32 getLocalVariableTableBytes();
+	bool getCompressionStats(J9VMThread* currentThread, J9SharedClassDebugAreaCompressionStats * stats);
 	void * getDebugAreaStartAddress();
 	void * getDebugAreaEndAddress();
 	bool processUpdates(J9VMThread* currentThread, AbstractMemoryPermission * permSetter);
@@ -68,6 +70,10 @@ private:
 	J9SharedCacheHeader * _theca;
 	U_32 _storedLineNumberTableBytes;
 	U_32 _storedLocalVariableTableBytes;
+	omrthread_monitor_t _compressionStatsMutex; /**< serializes updates of _compressionCache */
+	UDATA _debugAreaGeneration; /**< incremented each time Init() attaches to a new or reset debug area */
+	UDATA _compressionCacheGeneration; /**< the _debugAreaGeneration that _compressionCache was measured in */
+	J9SharedClassDebugAreaCompressionStats _compressionCache[2]; /**< results for the complete chunks measured so far of the LineNumberTables [0] and LocalVariableTables [1] */
 	void * _lntLastUpdate;
 	void * _lvtLastUpdate;
 	IDATA failureReason;
@@ -425,6 +425,9 @@ SH_CompositeCacheImpl::cleanup(J9VMThread* currentThread)
 	} else if (_utMutex) {
 		omrthread_monitor_destroy(_utMutex);
 	}
+	if (NULL != _debugData) {
+		_debugData->cleanup();
+	}
 	_started = false;
 	_commonCCInfo->cacheIsCorrupt = 0;
 
@@ -1767,6 +1770,23 @@ SH_CompositeCacheImpl::checkUpdates(J9VMThread* currentThread)
 	return returnVal;
 }
 
+/**
+ * Returns the cache update count as currently stored in the cache header.
+ *
+ * Items are only ever appended to the cache, and every append increments the update count.
+ * A reader can therefore take a snapshot of the count before looking up an item without the
+ * read mutex, and compare it again afterwards to detect that the cache was written meanwhile.
+ *
+ * @return The current cache update count
+ */
+UDATA
+SH_CompositeCacheImpl::getCacheUpdateCount(void) const
+{
+	volatile UDATA* updateCountAddress = WSRP_GET(_theca->updateCountPtr, volatile UDATA*);
+
+	return *updateCountAddress;
+}
+
 /**
  * Tells CompositeCache that updates returned by checkUpdates have been read.
  *
@@ -3612,6 +3632,24 @@ SH_CompositeCacheImpl::getLocalVariableTableBytes(void) const
 	return _debugData->getLocalVariableTableBytes();
 }
 
+/**
+ * Measure the compressibility of the LineNumberTable and LocalVariableTable debug bytes in the shared classes cache
+ *
+ * @param [in] currentThread The current thread
+ * @param [out] stats Accumulates the uncompressed bytes, compressed bytes and decompression time
+ *
+ * @return true on success, false otherwise
+ */
+bool
+SH_CompositeCacheImpl::getDebugAreaCompressionStats(J9VMThread *currentThread, J9SharedClassDebugAreaCompressionStats *stats)
+{
+	if (!_started) {
+		Trc_SHR_Assert_ShouldNeverHappen();
+		return false;
+	}
+	return _debugData->getCompressionStats(currentThread, stats);
+}
+
 /**
  * Get the number of free readWrite bytes remaining
  *
@@ -5751,6 +5789,68 @@ SH_CompositeCacheImpl::dontNeedMetadata(J9VMThread *currentThread)
 		_oscache->dontNeedMetadata(currentThread, (const void *)min, length);
 	}
 }
+
+/**
+ * Returns the number of pages of the given size spanned by the mapping of this cache,
+ * or 0 if the mapping is not available
+ */
+U_32
+SH_CompositeCacheImpl::getMappedPageCount(UDATA pageSize)
+{
+	if ((NULL == _oscache)
+		|| (NULL == _oscache->getOSCacheStart())
+		|| (0 == pageSize)
+	) {
+		return 0;
+	}
+	return (U_32)(ROUND_UP_TO(pageSize, (UDATA)getTotalSize()) / pageSize);
+}
+
+/**
+ * Query which pages in a range of this cache are resident in memory.
+ *
+ * @param[in] pageSize The OS page size
+ * @param[in] firstPage The index of the first page, relative to the start of the mapping
+ * @param[in] pageCount The number of pages
+ * @param[out] residencyVector One byte per page, at least pageCount bytes long
+ *
+ * @return 0 on success, -1 if the range is outside the mapping or residency cannot be determined
+ */
+IDATA
+SH_CompositeCacheImpl::getResidentPages(UDATA pageSize, U_32 firstPage, U_32 pageCount, U_8 *residencyVector)
+{
+	U_32 numPages = getMappedPageCount(pageSize);
+
+	if ((firstPage >= numPages)
+		|| (pageCount > (numPages - firstPage))
+	) {
+		return -1;
+	}
+	return _oscache->getResidentPages((U_8 *)_oscache->getOSCacheStart() + ((UDATA)firstPage * pageSize), (size_t)pageCount * pageSize, residencyVector);
+}
+
+/**
+ * Advise the OS to read ahead a range of pages of this cache
+ *
+ * @param[in] pageSize The OS page size
+ * @param[in] firstPage The index of the first page, relative to the start of the mapping
+ * @param[in] pageCount The number of pages
+ */
+void
+SH_CompositeCacheImpl::willNeedPages(UDATA pageSize, U_32 firstPage, U_32 pageCount)
+{
+	U_32 numPages = getMappedPageCount(pageSize);
+
+	if ((firstPage < numPages)
+		&& (0 != pageCount)
+	) {
+		if (pageCount > (numPages - firstPage)) {
+			pageCount = numPages - firstPage;
+		}
+		_oscache->willNeedPages((U_8 *)_oscache->getOSCacheStart() + ((UDATA)firstPage * pageSize), (size_t)pageCount * pageSize);
+	}
+}
+
 /**
  * This function changes the permission of the page containing given address by marking the page as read-only or read-write.
  * The address may belong to either segment region, metadata region or class debug data region.
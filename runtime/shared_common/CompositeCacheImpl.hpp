@@ -120,6 +120,8 @@ public:
 
 	UDATA checkUpdates(J9VMThread* currentThread);
 
+	UDATA getCacheUpdateCount(void) const;
+
 	void doneReadUpdates(J9VMThread* currentThread, IDATA updates);
 
 	void updateStoredSegmentUsedBytes(U_32 usedBytes);
@@ -190,6 +192,8 @@ public:
 
 	U_32 getLocalVariableTableBytes(void) const;
 
+	bool getDebugAreaCompressionStats(J9VMThread *currentThread, J9SharedClassDebugAreaCompressionStats *stats);
+
 	UDATA getFreeReadWriteBytes(void);
 	
 	UDATA getTotalStoredBytes(void);
@@ -363,6 +367,12 @@ public:
 	IDATA restoreFromSnapshot(J9JavaVM* vm, const char* cacheName, bool* cacheExist);
 	void dontNeedMetadata(J9VMThread *currentThread);
 
+	U_32 getMappedPageCount(UDATA pageSize);
+
+	IDATA getResidentPages(UDATA pageSize, U_32 firstPage, U_32 pageCount, U_8 *residencyVector);
+
+	void willNeedPages(UDATA pageSize, U_32 firstPage, U_32 pageCount);
+
 	void changePartialPageProtection(J9VMThread *currentThread, void *addr, bool readOnly, bool phaseCheck = true);
 
 	void protectPartiallyFilledPages(J9VMThread *currentThread, bool protectSegmentPage = true, bool protectMetadataPage = true, bool protectDebugDataPages = true, bool phaseCheck = true);
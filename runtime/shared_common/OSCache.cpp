@@ -455,6 +455,18 @@ SH_OSCache::dontNeedMetadata(J9VMThread* currentThread, const void* startAddress
 	return;
 }
 
+/* override if the residency of the cache pages can be queried */
+IDATA
+SH_OSCache::getResidentPages(const void* startAddress, size_t length, U_8* residencyVector) {
+	return -1;
+}
+
+/* override if the cache is persistent */
+void
+SH_OSCache::willNeedPages(const void* startAddress, size_t length) {
+	return;
+}
+
 /* Function that initializes class variables common to OSCache subclasses */
 void
 SH_OSCache::commonInit(J9PortLibrary* portLibrary, UDATA generation, I_8 layer)
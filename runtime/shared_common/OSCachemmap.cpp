@@ -26,6 +26,9 @@
  */
 
 #include <string.h>
+#if defined(LINUX)
+#include <sys/mman.h>
+#endif /* defined(LINUX) */
 #include "j2sever.h"
 #include "j9cfg.h"
 #include "j9port.h"
@@ -474,6 +477,36 @@ SH_OSCachemmap::dontNeedMetadata(J9VMThread* currentThread, const void* startAdd
 #endif
 }
 
+/**
+ * Query which pages of a section of the shared classes cache are resident in memory
+ *
+ * @param[in] startAddress The page aligned start of the section
+ * @param[in] length The length of the section in bytes
+ * @param[out] residencyVector One byte per page, the least significant bit is set if the page is resident
+ *
+ * @return 0 on success, -1 if residency cannot be determined on this platform
+ */
+IDATA
+SH_OSCachemmap::getResidentPages(const void* startAddress, size_t length, U_8* residencyVector) {
+#if defined(LINUX)
+	if (0 == mincore((void *)startAddress, length, (unsigned char *)residencyVector)) {
+		return 0;
+	}
+#endif /* defined(LINUX) */
+	return -1;
+}
+
+/**
+ * Advise the OS that a section of the shared classes cache will be accessed soon,
+ * so that it can be read ahead from the cache file
+ */
+void
+SH_OSCachemmap::willNeedPages(const void* startAddress, size_t length) {
+#if defined(LINUX)
+	madvise((void *)startAddress, length, MADV_WILLNEED);
+#endif /* defined(LINUX) */
+}
+
 /**
  * Destroy a persistent shared classes cache
  *
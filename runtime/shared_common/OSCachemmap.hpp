@@ -94,6 +94,8 @@ public:
 
 	SH_CacheAccess isCacheAccessible(void) const;
 	virtual void dontNeedMetadata(J9VMThread* currentThread, const void* startAddress, size_t length);
+	virtual IDATA getResidentPages(const void* startAddress, size_t length, U_8* residencyVector);
+	virtual void willNeedPages(const void* startAddress, size_t length);
 
 protected:
 	virtual void * getAttachedMemory();
@@ -388,6 +388,7 @@ J9SharedClassesOptions J9SHAREDCLASSESOPTIONS[] = {
 	{ OPTION_TEST_HALF_PAGESIZE, PARSE_TYPE_EXACT, RESULT_DO_ADD_RUNTIMEFLAG2, J9SHR_RUNTIMEFLAG2_TEST_HALF_PAGESIZE},
 	{ OPTION_EXTRA_STARTUPHINTS_EQUALS, PARSE_TYPE_STARTSWITH, RESULT_DO_SET_EXTRA_STARTUPHINTS, 0},
 	{ OPTION_SHARE_LAMBDAFORM, PARSE_TYPE_EXACT, RESULT_DO_ADD_RUNTIMEFLAG2, J9SHR_RUNTIMEFLAG2_SHARE_LAMBDAFORM},
+	{ OPTION_STARTUP_PAGE_PREFETCH, PARSE_TYPE_EXACT, RESULT_DO_ADD_RUNTIMEFLAG2, J9SHR_RUNTIMEFLAG2_STARTUP_PAGE_PREFETCH},
 	{ NULL, 0, 0 }
 };
 
@@ -414,6 +415,8 @@ static J9Module* getModule(J9VMThread* vmThread, U_8* className, UDATA className
 static bool isFreeDiskSpaceLow(J9JavaVM *vm, U_64* maxsize, U_64 runtimeFlags);
 static char* generateStartupHintsKey(J9JavaVM *vm);
 static void fetchStartupHintsFromSharedCache(J9VMThread* vmThread);
+static void startStartupPagePrefetch(J9VMThread* currentThread);
+static void storeStartupPageLogToSharedCache(J9VMThread* currentThread);
 static void findExistingCacheLayerNumbers(J9JavaVM* vm, const char* ctrlDirName, const char* cacheName, U_64 runtimeFlags, I_8 *maxLayerNo);
 static IDATA sysinfoGetUserNameHelper(J9JavaVM *vm, UDATA verboseFlags, char *buffer, UDATA length);
 static UDATA romToRamGetRomAddress(void *item);
@@ -3581,6 +3584,9 @@ j9shr_init(J9JavaVM *vm, UDATA loadFlags, UDATA* nonfatal)
 		J9SharedClassConfig* config = vm->sharedClassConfig;
 		J9HookInterface **shcHooks;
 
+		/* Before any class is loaded from the cache, note which cache pages are already in the page cache */
+		cm->recordStartupResidencyBaseline(currentThread);
+
 		/* Create the pools */
 
 		config->jclClasspathCache = NULL;
@@ -3620,6 +3626,7 @@ j9shr_init(J9JavaVM *vm, UDATA loadFlags, UDATA* nonfatal)
 		config->increaseUnstoredBytes = j9shr_increaseUnstoredBytes;
 		config->getUnstoredBytes = j9shr_getUnstoredBytes;
 		config->getFreeSpaceBytes = j9shr_getFreeAvailableSpaceBytes;
+		config->getDebugAreaCompressionStats = j9shr_getDebugAreaCompressionStats;
 		config->findSharedData = j9shr_findSharedData;
 		config->storeSharedData = j9shr_storeSharedData;
 		config->findCompiledMethodEx1 = j9shr_findCompiledMethodEx1;
@@ -3959,6 +3966,10 @@ j9shr_lateInit(J9JavaVM *vm, UDATA* nonfatal)
 		} else {
 			/* If bytecode agent has hooked, try to detect this early on... this is also tested on each class load */
 			testForBytecodeModification(vm);
+			J9VMThread* currentThread = vm->internalVMFunctions->currentVMThread(vm);
+			if (NULL != currentThread) {
+				startStartupPagePrefetch(currentThread);
+			}
 			returnVal = J9VMDLLMAIN_OK;
 		}
 	}
@@ -4186,6 +4197,20 @@ j9shr_getFreeAvailableSpaceBytes(J9JavaVM *vm)
 	return ((SH_CacheMap*)vm->sharedClassConfig->sharedClassCache)->getCompositeCacheAPI()->getFreeAvailableBytes();
 }
 
+/**
+ * Measure how well the class debug area of all cache layers compresses
+ *
+ * @param [in] currentThread The current thread
+ * @param [out] stats The uncompressed bytes, compressed bytes and decompression time in microseconds
+ *
+ * @return TRUE on success, FALSE otherwise
+ */
+BOOLEAN
+j9shr_getDebugAreaCompressionStats(J9VMThread *currentThread, J9SharedClassDebugAreaCompressionStats *stats)
+{
+	return ((SH_CacheMap*)currentThread->javaVM->sharedClassConfig->sharedClassCache)->getDebugAreaCompressionStats(currentThread, stats, false) ? TRUE : FALSE;
+}
+
 static void
 freeClasspathItemsForPool(J9JavaVM* vm, J9Pool* pool, UDATA alsoFreeCpEntries)
 {
@@ -5084,6 +5109,8 @@ j9shr_jvmPhaseChange(J9VMThread *currentThread, UDATA phase)
 		/* OpenJ9 issue; https://github.com/eclipse-openj9/openj9/issues/3743
 		 * GC decides whether to calls vm->sharedClassConfig->storeGCHints() to store the GC hints into the shared cache. */
 		storeStartupHintsToSharedCache(currentThread);
+		/* The page log must be taken before dontNeedMetadata() releases the metadata pages */
+		storeStartupPageLogToSharedCache(currentThread);
 		if (J9_ARE_NO_BITS_SET(vm->sharedClassConfig->runtimeFlags, J9SHR_RUNTIMEFLAG_MPROTECT_PARTIAL_PAGES_ON_STARTUP)) {
 			((SH_CacheMap*)vm->sharedClassConfig->sharedClassCache)->protectPartiallyFilledPages(currentThread);
 		}
@@ -5377,6 +5404,62 @@ storeStartupHintsToSharedCache(J9VMThread* currentThread)
 	return ret;
 }
 
+/**
+ * This function finds the startup page log stored by a previous JVM and starts
+ * reading ahead the cache pages it lists on a background thread.
+ * @param[in] currentThread  The current VM thread
+ *
+ */
+static void
+startStartupPagePrefetch(J9VMThread* currentThread)
+{
+	J9JavaVM* vm = currentThread->javaVM;
+	J9SharedDataDescriptor dataDescriptor = {0};
+	const char* key = CM_STARTUP_PAGE_LOG_KEY;
+
+	if (J9_ARE_NO_BITS_SET(vm->sharedClassConfig->runtimeFlags2, J9SHR_RUNTIMEFLAG2_STARTUP_PAGE_PREFETCH)) {
+		return;
+	}
+	if (0 < j9shr_findSharedData(currentThread, key, strlen(key), J9SHR_DATA_TYPE_VM, 0, &dataDescriptor, NULL)) {
+		((SH_CacheMap*)vm->sharedClassConfig->sharedClassCache)->startStartupPagePrefetch(currentThread, dataDescriptor.address, dataDescriptor.length);
+	} else {
+		Trc_SHR_INIT_startStartupPagePrefetch_Log_Not_Found(currentThread);
+	}
+}
+
+/**
+ * This function stores a log of the cache pages touched during startup into the shared cache,
+ * unless a log that is not stale is already present. A stale log is marked stale and replaced.
+ * @param[in] currentThread  The current VM thread
+ *
+ */
+static void
+storeStartupPageLogToSharedCache(J9VMThread* currentThread)
+{
+	J9JavaVM* vm = currentThread->javaVM;
+	UDATA logLength = 0;
+	bool replaceLog = false;
+	StartupPageLogHeader* log = ((SH_CacheMap*)vm->sharedClassConfig->sharedClassCache)->createStartupPageLog(currentThread, &logLength, &replaceLog);
+
+	if (NULL != log) {
+		J9SharedDataDescriptor dataDescriptor = {0};
+		const char* key = CM_STARTUP_PAGE_LOG_KEY;
+		PORT_ACCESS_FROM_JAVAVM(vm);
+
+		dataDescriptor.address = (U_8*)log;
+		dataDescriptor.type = J9SHR_DATA_TYPE_VM;
+		dataDescriptor.length = logLength;
+		/* without J9SHRDATA_SINGLE_STORE_FOR_KEY_TYPE, the existing log is marked stale */
+		dataDescriptor.flags = replaceLog ? 0 : J9SHRDATA_SINGLE_STORE_FOR_KEY_TYPE;
+		if (NULL == j9shr_storeSharedData(currentThread, key, strlen(key), &dataDescriptor)) {
+			Trc_SHR_INIT_storeStartupPageLogToSharedCache_Store_Failed(currentThread);
+		} else {
+			Trc_SHR_INIT_storeStartupPageLogToSharedCache_Store_Successful(currentThread, log->numRuns, log->numPages);
+		}
+		j9mem_free_memory(log);
+	}
+}
+
 /**
  * Stores the GC hints into vm->sharedClassConfig->localStartupHints.hintsData. This function is not thread safe.
  * @param[in] vmThread  The current thread
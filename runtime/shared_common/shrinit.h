@@ -53,6 +53,7 @@ I_32 j9shr_setMinMaxBytes(J9JavaVM *vm, U_32 softmx, I_32 minAOT, I_32 maxAOT, I
 void j9shr_increaseUnstoredBytes(J9JavaVM *vm, U_32 aotBytes, U_32 jitBytes);
 void j9shr_getUnstoredBytes(J9JavaVM *vm, U_32 *softmxUnstoredBytes, U_32 *maxAOTUnstoredBytes, U_32 *maxJITUnstoredBytes);
 UDATA j9shr_getFreeAvailableSpaceBytes(J9JavaVM *vm);
+BOOLEAN j9shr_getDebugAreaCompressionStats(J9VMThread *currentThread, J9SharedClassDebugAreaCompressionStats *stats);
 void j9shr_hookZipLoadEvent(J9HookInterface** hook, UDATA eventNum, void* eventData, void* userData);
 void j9shr_resetSharedStringTable(J9JavaVM* vm);
 BOOLEAN j9shr_isCacheFull(J9JavaVM *vm);
@@ -200,6 +201,7 @@ typedef struct J9SharedClassesOptions {
 #define OPTION_TEST_HALF_PAGESIZE "testHalfPageSize"
 #define OPTION_EXTRA_STARTUPHINTS_EQUALS "extraStartupHints="
 #define OPTION_SHARE_LAMBDAFORM "shareLambdaForm" /* internal option for dev/testing */
+#define OPTION_STARTUP_PAGE_PREFETCH "startupPagePrefetch" /* internal option, opt-in while the benefit is measured */
 
 /* public options for printallstats= and printstats=  */
 #define SUB_OPTION_PRINTSTATS_ALL "all"
@@ -34,6 +34,7 @@
 static ClassDebugDataProvider * debugProviderMemalloc(J9JavaVM* vm);
 static void * debugmemalloc(J9JavaVM* vm);
 static void debugmemfree(J9JavaVM* vm, void * memory);
+static void debugProviderFree(J9JavaVM* vm, ClassDebugDataProvider * debugarea);
 
 /*
  * The class is used for testing mprotect logic in ClassDebugDataProvider
@@ -121,6 +122,7 @@ public:
 	IDATA debugmemtest13(J9JavaVM* vm);
 	IDATA debugmemtest14(J9JavaVM* vm);
 	IDATA debugmemtest15(J9JavaVM* vm);
+	IDATA debugmemtest16(J9JavaVM* vm);
 };
 
 IDATA
@@ -148,6 +150,7 @@ testClassDebugDataTests(J9JavaVM* vm)
 		rc |= tester.debugmemtest13(vm);
 		rc |= tester.debugmemtest14(vm);
 		rc |= tester.debugmemtest15(vm);
+		rc |= tester.debugmemtest16(vm);
 	} else {
 		/* This is being done only to support the initial checking of this code which will create a debug area size of 0.
 		 * This is being done just to ensure there are no regressions.
@@ -200,6 +203,14 @@ debugmemfree(J9JavaVM* vm, void * memory)
 	return;
 }
 
+static void
+debugProviderFree(J9JavaVM* vm, ClassDebugDataProvider * debugarea)
+{
+	debugarea->cleanup();
+	debugProviderFree(vm, debugarea);
+	return;
+}
+
 IDATA
 DebugAreaUnitTests::debugmemtest1(J9JavaVM* vm)
 {
@@ -220,7 +231,7 @@ DebugAreaUnitTests::debugmemtest1(J9JavaVM* vm)
 	}
 
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -276,7 +287,7 @@ DebugAreaUnitTests::debugmemtest2(J9JavaVM* vm)
 	}
 
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -339,7 +350,7 @@ DebugAreaUnitTests::debugmemtest3(J9JavaVM* vm)
 	}
 
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -401,7 +412,7 @@ DebugAreaUnitTests::debugmemtest4(J9JavaVM* vm)
 	}
 
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -464,7 +475,7 @@ DebugAreaUnitTests::debugmemtest5(J9JavaVM* vm)
 	}
 
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -550,7 +561,7 @@ DebugAreaUnitTests::debugmemtest6(J9JavaVM* vm)
 	}
 
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -642,7 +653,7 @@ DebugAreaUnitTests::debugmemtest7(J9JavaVM* vm)
 	}
 
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -734,7 +745,7 @@ DebugAreaUnitTests::debugmemtest8(J9JavaVM* vm)
 	}
 
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -827,7 +838,7 @@ DebugAreaUnitTests::debugmemtest9(J9JavaVM* vm)
 	}
 
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -902,7 +913,7 @@ DebugAreaUnitTests::debugmemtest10(J9JavaVM* vm)
 	}
 
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -1013,7 +1024,7 @@ DebugAreaUnitTests::debugmemtest11(J9JavaVM* vm)
 	}
 
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -1077,7 +1088,7 @@ DebugAreaUnitTests::debugmemtest12(J9JavaVM* vm)
 	}
 	
 	done:
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -1241,7 +1252,7 @@ done:
 	/* Enable Trc_SHR_Assert_False() back */
 	j9shr_UtActive[1013] = 1;
 	j9tty_printf(PORTLIB,"\n");
-	debugmemfree(vm, debugarea);
+	debugProviderFree(vm, debugarea);
 	debugmemfree(vm, theca);
 	return retval;
 }
@@ -1576,10 +1587,146 @@ DebugAreaUnitTests::debugmemtest15(J9JavaVM* vm)
 
 done:
 	if (NULL != debugArea) {
-		debugmemfree(vm, debugArea);
+		debugProviderFree(vm, debugArea);
 	}
 	if (NULL != memAlloc) {
 		j9mem_free_memory(memAlloc);
 	}
 	return retval;
 }
+
+/**
+ * Store count line number tables of size bytes, filled with a constant byte if compressible is true
+ * and with pseudo random bytes otherwise.
+ */
+static bool
+storeLineNumberTables(J9JavaVM* vm, ClassDebugDataProvider * debugarea, const char * testName, UDATA count, U_32 size, bool compressible)
+{
+	J9RomClassRequirements sizes;
+	J9SharedRomClassPieces pieces;
+	U_32 seed = 12345;
+
+	memset((void *)&sizes, 0, sizeof(J9RomClassRequirements));
+	sizes.lineNumberTableSize = size;
+	for (UDATA i = 0; i < count; i++) {
+		memset((void *)&pieces, 0, sizeof(J9SharedRomClassPieces));
+		if (debugarea->allocateClassDebugData(vm->mainThread, (U_16)strlen(testName), testName, (const J9RomClassRequirements *)&sizes, &pieces, NULL) != 0) {
+			return false;
+		}
+		U_8 * table = (U_8 *)pieces.lineNumberTable;
+		for (U_32 j = 0; j < size; j++) {
+			if (compressible) {
+				table[j] = 'A';
+			} else {
+				seed = (seed * 1103515245) + 12345;
+				table[j] = (U_8)(seed >> 16);
+			}
+		}
+		if (!debugarea->commitClassDebugData(vm->mainThread, (U_16)strlen(testName), testName, NULL)) {
+			return false;
+		}
+	}
+	return true;
+}
+
+IDATA
+DebugAreaUnitTests::debugmemtest16(J9JavaVM* vm)
+{
+	IDATA retval = TEST_PASS;
+	const char * testName = "debugmemtest16";
+	UDATA memorySize = (2 * 1024 * 1024);	// 2 MB
+	U_32 debugRegionSize = (U_32)(memorySize / 2);	// 1 MB
+	U_32 chunkSize = 64 * 1024;
+	U_64 runtimeFlags = 0;
+	J9SharedCacheHeader * theca = NULL;
+	ClassDebugDataProvider * debugarea = NULL;
+	ClassDebugDataProvider * freshDebugarea = NULL;
+	J9SharedClassDebugAreaCompressionStats stats;
+	J9SharedClassDebugAreaCompressionStats freshStats;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	j9tty_printf(PORTLIB, "%s: Test ::getCompressionStats() after the debug area is reset and regrows past its old size.\n", testName);
+
+	theca = (J9SharedCacheHeader *)j9mem_allocate_memory(memorySize, J9MEM_CATEGORY_CLASSES);
+	debugarea = debugProviderMemalloc(vm);
+	freshDebugarea = debugProviderMemalloc(vm);
+	if ((NULL == theca) || (NULL == debugarea) || (NULL == freshDebugarea)) {
+		ERRPRINTF("Failed to allocate memory for the cache\n");
+		retval = TEST_ERROR;
+		goto done;
+	}
+	memset(theca, 0, memorySize);
+	theca->totalBytes = (U_32)memorySize;
+	theca->osPageSize = 1;
+	ClassDebugDataProvider::HeaderInit(theca, debugRegionSize);
+
+	if (debugarea->Init(vm->mainThread, theca, NULL, 0, &runtimeFlags, theca->osPageSize, false) == false) {
+		ERRPRINTF("debugarea->Init(...) == false\n");
+		retval = TEST_ERROR;
+		goto done;
+	}
+
+	/* two compressible chunks are measured and cached */
+	if (!storeLineNumberTables(vm, debugarea, testName, 2, chunkSize, true)) {
+		ERRPRINTF("Failed to store the compressible LineNumberTables\n");
+		retval = TEST_ERROR;
+		goto done;
+	}
+	memset(&stats, 0, sizeof(stats));
+	if (!debugarea->getCompressionStats(vm->mainThread, &stats)) {
+		ERRPRINTF("getCompressionStats() failed before the reset\n");
+		retval = TEST_ERROR;
+		goto done;
+	}
+
+	/* reset the debug area, and refill it with three incompressible chunks */
+	ClassDebugDataProvider::HeaderInit(theca, debugRegionSize);
+	if (debugarea->Init(vm->mainThread, theca, NULL, 0, &runtimeFlags, theca->osPageSize, false) == false) {
+		ERRPRINTF("debugarea->Init(...) == false after the reset\n");
+		retval = TEST_ERROR;
+		goto done;
+	}
+	if (!storeLineNumberTables(vm, debugarea, testName, 3, chunkSize, false)) {
+		ERRPRINTF("Failed to store the incompressible LineNumberTables\n");
+		retval = TEST_ERROR;
+		goto done;
+	}
+	memset(&stats, 0, sizeof(stats));
+	if (!debugarea->getCompressionStats(vm->mainThread, &stats)) {
+		ERRPRINTF("getCompressionStats() failed after the reset\n");
+		retval = TEST_ERROR;
+		goto done;
+	}
+
+	if (freshDebugarea->Init(vm->mainThread, theca, NULL, 0, &runtimeFlags, theca->osPageSize, false) == false) {
+		ERRPRINTF("freshDebugarea->Init(...) == false\n");
+		retval = TEST_ERROR;
+		goto done;
+	}
+	memset(&freshStats, 0, sizeof(freshStats));
+	if (!freshDebugarea->getCompressionStats(vm->mainThread, &freshStats)) {
+		ERRPRINTF("getCompressionStats() failed for a fresh provider\n");
+		retval = TEST_ERROR;
+		goto done;
+	}
+
+	if ((stats.uncompressedBytes != freshStats.uncompressedBytes) || (stats.compressedBytes != freshStats.compressedBytes)) {
+		ERRPRINTF4("Stale estimate after the reset: %zu/%zu bytes, expected %zu/%zu bytes\n",
+				stats.compressedBytes, stats.uncompressedBytes, freshStats.compressedBytes, freshStats.uncompressedBytes);
+		retval = TEST_ERROR;
+		goto done;
+	}
+	INFOPRINTF2("Debug area compressed to %zu of %zu bytes after the reset\n", stats.compressedBytes, stats.uncompressedBytes);
+
+done:
+	if (NULL != freshDebugarea) {
+		debugProviderFree(vm, freshDebugarea);
+	}
+	if (NULL != debugarea) {
+		debugProviderFree(vm, debugarea);
+	}
+	if (NULL != theca) {
+		debugmemfree(vm, theca);
+	}
+	return retval;
+}
@@ -1518,6 +1518,197 @@ checkTransitionToDebugInterpreter(J9VMThread *currentThread)
 	}
 }
 
+/**
+ * Sizes, in bytes, of the areas of the VM footprint reported before and after
+ * shrinking for checkpoint. The thread counts are numbers of threads.
+ */
+typedef struct J9CheckpointFootprint {
+	UDATA heapCommitted;
+	UDATA heapFree;
+	UDATA classMemory;
+	UDATA jitCodeCache;
+	UDATA jitDataCache;
+	UDATA threadCount;
+	UDATA threadStacks;
+	UDATA continuationCacheStacks;
+	UDATA deadThreadCount;
+} J9CheckpointFootprint;
+
+static VMINLINE BOOLEAN
+isShrinkBeforeCheckpointEnabled(J9JavaVM *vm)
+{
+	return J9_ARE_ALL_BITS_SET(vm->checkpointState.flags, J9VM_CRIU_SHRINK_BEFORE_CHECKPOINT);
+}
+
+static UDATA
+sizeOfMemorySegmentList(J9MemorySegmentList *segmentList)
+{
+	UDATA size = 0;
+
+	if (NULL != segmentList) {
+		if (NULL != segmentList->segmentMutex) {
+			omrthread_monitor_enter(segmentList->segmentMutex);
+		}
+		J9MemorySegment *segment = segmentList->nextSegment;
+		while (NULL != segment) {
+			size += segment->size;
+			segment = segment->nextSegment;
+		}
+		if (NULL != segmentList->segmentMutex) {
+			omrthread_monitor_exit(segmentList->segmentMutex);
+		}
+	}
+
+	return size;
+}
+
+#if JAVA_SPEC_VERSION >= 19
+static VMINLINE UDATA
+sizeOfCachedContinuationStack(J9VMContinuation *continuation)
+{
+	UDATA size = 0;
+
+	if ((NULL != continuation) && (NULL != continuation->stackObject)) {
+		size = continuation->stackObject->size;
+	}
+
+	return size;
+}
+
+/**
+ * Free the stack of a continuation in the T1 or T2 cache. The continuation
+ * allocates a new stack if it is reused after restore.
+ *
+ * @param[in] vm the J9JavaVM
+ * @param[in] continuation the cached continuation, may be NULL
+ * @return the size of the freed stack in bytes
+ */
+static UDATA
+trimCachedContinuationStack(J9JavaVM *vm, J9VMContinuation *continuation)
+{
+	UDATA size = sizeOfCachedContinuationStack(continuation);
+
+	if (0 != size) {
+		freeJavaStack(vm, continuation->stackObject);
+		continuation->stackObject = NULL;
+	}
+
+	return size;
+}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
+static void
+measureCheckpointFootprint(J9JavaVM *vm, J9CheckpointFootprint *footprint)
+{
+	memset(footprint, 0, sizeof(J9CheckpointFootprint));
+
+	footprint->heapCommitted = vm->memoryManagerFunctions->j9gc_heap_total_memory(vm);
+	footprint->heapFree = vm->memoryManagerFunctions->j9gc_heap_free_memory(vm);
+	footprint->classMemory = sizeOfMemorySegmentList(vm->classMemorySegments);
+	if (NULL != vm->jitConfig) {
+		footprint->jitCodeCache = sizeOfMemorySegmentList(vm->jitConfig->codeCacheList);
+		footprint->jitDataCache = sizeOfMemorySegmentList(vm->jitConfig->dataCacheList);
+	}
+
+	omrthread_monitor_enter(vm->vmThreadListMutex);
+	J9VMThread *walkThread = J9_LINKED_LIST_START_DO(vm->mainThread);
+	while (NULL != walkThread) {
+		J9JavaStack *stack = walkThread->stackObject;
+		while (NULL != stack) {
+			footprint->threadStacks += stack->size;
+			stack = stack->previous;
+		}
+#if JAVA_SPEC_VERSION >= 19
+		if (NULL != walkThread->continuationT1Cache) {
+			for (U_32 i = 0; i < vm->continuationT1Size; i++) {
+				footprint->continuationCacheStacks += sizeOfCachedContinuationStack(walkThread->continuationT1Cache[i]);
+			}
+		}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+		footprint->threadCount += 1;
+		walkThread = J9_LINKED_LIST_NEXT_DO(vm->mainThread, walkThread);
+	}
+	walkThread = J9_LINKED_LIST_START_DO(vm->deadThreadList);
+	while (NULL != walkThread) {
+		footprint->deadThreadCount += 1;
+		walkThread = J9_LINKED_LIST_NEXT_DO(vm->deadThreadList, walkThread);
+	}
+	omrthread_monitor_exit(vm->vmThreadListMutex);
+
+#if JAVA_SPEC_VERSION >= 19
+	if (NULL != vm->continuationT2Cache) {
+		for (U_32 i = 0; i < vm->continuationT2Size; i++) {
+			footprint->continuationCacheStacks += sizeOfCachedContinuationStack(vm->continuationT2Cache[i]);
+		}
+	}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+}
+
+static void
+traceCheckpointFootprint(J9VMThread *currentThread, const char *phase, J9CheckpointFootprint *footprint)
+{
+	Trc_VM_criu_shrinkForCheckpoint_footprint(currentThread, phase,
+			footprint->heapCommitted, footprint->heapFree, footprint->classMemory,
+			footprint->jitCodeCache, footprint->jitDataCache,
+			footprint->threadCount, footprint->threadStacks,
+			footprint->continuationCacheStacks, footprint->deadThreadCount);
+}
+
+/**
+ * Release the memory held for threads which are no longer running: the J9VMThreads
+ * kept on the dead thread list for reuse, and the stacks of the continuations kept
+ * in the T1 and T2 caches after their virtual threads terminated. The stacks of
+ * live threads, including parked ones, are in use and are not released.
+ * Must be called with exclusive or safe point VM access.
+ *
+ * @param[in] currentThread the current J9VMThread
+ * @param[out] deadThreadsReleased the number of dead J9VMThreads freed
+ * @return the number of bytes of continuation stacks freed
+ */
+static UDATA
+releaseThreadsForCheckpoint(J9VMThread *currentThread, UDATA *deadThreadsReleased)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	UDATA stackBytesReleased = 0;
+	UDATA threadsReleased = 0;
+
+	omrthread_monitor_enter(vm->vmThreadListMutex);
+	while (!J9_LINKED_LIST_IS_EMPTY(vm->deadThreadList)) {
+		J9VMThread *deadThread = NULL;
+		J9_LINKED_LIST_REMOVE_FIRST(vm->deadThreadList, deadThread);
+
+		if (NULL != deadThread->publicFlagsMutex) {
+			omrthread_monitor_destroy(deadThread->publicFlagsMutex);
+		}
+		destroyOMRVMThread(vm, deadThread);
+		freeVMThread(vm, deadThread);
+		threadsReleased += 1;
+	}
+#if JAVA_SPEC_VERSION >= 19
+	J9VMThread *walkThread = J9_LINKED_LIST_START_DO(vm->mainThread);
+	while (NULL != walkThread) {
+		if (NULL != walkThread->continuationT1Cache) {
+			for (U_32 i = 0; i < vm->continuationT1Size; i++) {
+				stackBytesReleased += trimCachedContinuationStack(vm, walkThread->continuationT1Cache[i]);
+			}
+		}
+		walkThread = J9_LINKED_LIST_NEXT_DO(vm->mainThread, walkThread);
+	}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+	omrthread_monitor_exit(vm->vmThreadListMutex);
+
+#if JAVA_SPEC_VERSION >= 19
+	if (NULL != vm->continuationT2Cache) {
+		for (U_32 i = 0; i < vm->continuationT2Size; i++) {
+			stackBytesReleased += trimCachedContinuationStack(vm, vm->continuationT2Cache[i]);
+		}
+	}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
+	*deadThreadsReleased = threadsReleased;
+	return stackBytesReleased;
+}
+
 void JNICALL
 criuCheckpointJVMImpl(JNIEnv *env,
 		jstring imagesDir,
@@ -1594,6 +1785,8 @@ criuCheckpointJVMImpl(JNIEnv *env,
 		U_32 intGhostFileLimit = 0;
 		IDATA criuDumpReturnCode = 0;
 		bool restoreFailure = false;
+		J9CheckpointFootprint footprintBeforeShrink = {0};
+		UDATA heapBytesReleased = 0;
 
 		internalEnterVMFromJNI(currentThread);
 
@@ -1806,6 +1999,11 @@ criuCheckpointJVMImpl(JNIEnv *env,
 		vm->memoryManagerFunctions->j9gc_prepare_for_checkpoint(currentThread);
 		vm->extendedRuntimeFlags2 |= J9_EXTENDED_RUNTIME2_CRIU_SINGLE_THROW_BLOCKING_EXCEPTIONS;
 
+		if (isShrinkBeforeCheckpointEnabled(vm)) {
+			measureCheckpointFootprint(vm, &footprintBeforeShrink);
+			heapBytesReleased = vm->memoryManagerFunctions->j9gc_shrink_for_checkpoint(currentThread);
+		}
+
 		acquireSafeOrExcusiveVMAccess(currentThread, safePoint);
 
 		VM_VMHelpers::setVMState(currentThread, J9VMSTATE_CRIU_SUPPORT_CHECKPOINT_PHASE_INTERNAL_HOOKS);
@@ -1816,6 +2014,17 @@ criuCheckpointJVMImpl(JNIEnv *env,
 			goto wakeJavaThreadsWithExclusiveVMAccess;
 		}
 
+		if (isShrinkBeforeCheckpointEnabled(vm)) {
+			J9CheckpointFootprint footprintAfterShrink = {0};
+			UDATA deadThreadsReleased = 0;
+			UDATA stackBytesReleased = releaseThreadsForCheckpoint(currentThread, &deadThreadsReleased);
+
+			measureCheckpointFootprint(vm, &footprintAfterShrink);
+			traceCheckpointFootprint(currentThread, "before", &footprintBeforeShrink);
+			traceCheckpointFootprint(currentThread, "after", &footprintAfterShrink);
+			Trc_VM_criu_shrinkForCheckpoint_released(currentThread, heapBytesReleased, stackBytesReleased, deadThreadsReleased);
+		}
+
 		if (J9_ARE_ANY_BITS_SET(vm->checkpointState.flags, J9VM_CRIU_IS_JDWP_ENABLED)) {
 			/* Suspending the threads marked with J9_PRIVATE_FLAGS2_DELAY_HALT_FOR_CHECKPOINT
 			 * is only required for JDWP threads.
@@ -35,6 +35,37 @@
 #include "OutOfLineINL.hpp"
 #include "VMHelpers.hpp"
 
+/* One in every (mask + 1) continuation cache lookups is timed for the cache statistics. */
+#define J9VM_CONTINUATION_CACHE_LOOKUP_SAMPLE_MASK 63
+
+/**
+ * Add a sampled cache lookup time to the packed time and sample count, so that a reader never sees
+ * the time of a sample without its count. Both totals are halved rather than let either overflow,
+ * which keeps the average lookup time.
+ *
+ * @param[in] vm the J9JavaVM
+ * @param[in] lookupTime the time of the lookup in nanoseconds
+ */
+static void
+recordCacheLookupSample(J9JavaVM *vm, U_64 lookupTime)
+{
+	U_64 oldStatistics = 0;
+	U_64 newStatistics = 0;
+
+	if (lookupTime > (J9_CONTINUATION_CACHE_LOOKUP_TIME_MAX / 2)) {
+		lookupTime = J9_CONTINUATION_CACHE_LOOKUP_TIME_MAX / 2;
+	}
+	do {
+		oldStatistics = vm->cacheLookupStatistics;
+		U_64 time = J9_CONTINUATION_CACHE_LOOKUP_TIME(oldStatistics);
+		U_64 samples = J9_CONTINUATION_CACHE_LOOKUP_SAMPLES(oldStatistics);
+		if ((J9_CONTINUATION_CACHE_LOOKUP_SAMPLE_MAX == samples) || ((J9_CONTINUATION_CACHE_LOOKUP_TIME_MAX - time) < lookupTime)) {
+			time /= 2;
+			samples /= 2;
+		}
+		newStatistics = ((time + lookupTime) << J9_CONTINUATION_CACHE_LOOKUP_SAMPLE_BITS) | (samples + 1);
+	} while (oldStatistics != VM_AtomicSupport::lockCompareExchangeU64(&vm->cacheLookupStatistics, oldStatistics, newStatistics));
+}
 
 extern "C" {
 
@@ -48,6 +79,8 @@ createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 #if defined(J9VM_PROF_CONTINUATION_ALLOCATION)
 	I_64 start = j9time_hires_clock();
 #endif /* defined(J9VM_PROF_CONTINUATION_ALLOCATION) */
+	bool sampleLookup = (0 == ((vm->t1CacheHit + vm->t2CacheHit + vm->cacheMiss) & J9VM_CONTINUATION_CACHE_LOOKUP_SAMPLE_MASK));
+	U_64 lookupStart = sampleLookup ? j9time_hires_clock() : 0;
 
 	/* First check if local cache is available. */
 	if (NULL != currentThread->continuationT1Cache) {
@@ -79,6 +112,15 @@ createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 #if defined(J9VM_PROF_CONTINUATION_ALLOCATION)
 		vm->avgCacheLookupTime += (I_64)j9time_hires_delta(start, j9time_hires_clock(), OMRPORT_TIME_DELTA_IN_NANOSECONDS);
 #endif /* defined(J9VM_PROF_CONTINUATION_ALLOCATION) */
+	if (sampleLookup) {
+		recordCacheLookupSample(vm, j9time_hires_delta(lookupStart, j9time_hires_clock(), OMRPORT_TIME_DELTA_IN_NANOSECONDS));
+	}
+
+#ifdef J9VM_INTERP_GROWABLE_STACKS
+#define VMTHR_INITIAL_STACK_SIZE ((vm->initialStackSize > (UDATA) vm->stackSize) ? vm->stackSize : vm->initialStackSize)
+#else
+#define VMTHR_INITIAL_STACK_SIZE vm->stackSize
+#endif
 
 	J9JavaStack *stack = NULL;
 	J9SFJNINativeMethodFrame *frame = NULL;
@@ -94,12 +136,6 @@ createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 			goto end;
 		}
 
-#ifdef J9VM_INTERP_GROWABLE_STACKS
-#define VMTHR_INITIAL_STACK_SIZE ((vm->initialStackSize > (UDATA) vm->stackSize) ? vm->stackSize : vm->initialStackSize)
-#else
-#define VMTHR_INITIAL_STACK_SIZE vm->stackSize
-#endif
-
 		if ((stack = allocateJavaStack(vm, VMTHR_INITIAL_STACK_SIZE, NULL)) == NULL) {
 			vm->internalVMFunctions->setNativeOutOfMemoryError(currentThread, 0, 0);
 			j9mem_free_memory(continuation);
@@ -107,8 +143,6 @@ createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 			goto end;
 		}
 
-#undef VMTHR_INITIAL_STACK_SIZE
-
 #if defined(J9VM_PROF_CONTINUATION_ALLOCATION)
 		I_64 totalTime = (I_64)j9time_hires_delta(start, j9time_hires_clock(), OMRPORT_TIME_DELTA_IN_NANOSECONDS);
 		if (totalTime > 10000) {
@@ -120,6 +154,19 @@ createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 		}
 #endif /* defined(J9VM_PROF_CONTINUATION_ALLOCATION) */
 		vm->cacheMiss += 1;
+	} else if (NULL == continuation->stackObject) {
+		/* The oversized stack was trimmed when the continuation was cached, allocate a fresh one. */
+		if ((stack = allocateJavaStack(vm, VMTHR_INITIAL_STACK_SIZE, NULL)) == NULL) {
+			vm->internalVMFunctions->setNativeOutOfMemoryError(currentThread, 0, 0);
+#if JAVA_SPEC_VERSION >= 24
+			if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_YIELD_PINNED_CONTINUATION)) {
+				pool_kill(continuation->monitorEnterRecordPool);
+			}
+#endif /* JAVA_SPEC_VERSION >= 24 */
+			j9mem_free_memory(continuation);
+			result = FALSE;
+			goto end;
+		}
 	} else {
 		/* Reset and reuse the stack in the recycled continuation. */
 		stack = continuation->stackObject;
@@ -127,6 +174,8 @@ createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 		stack->firstReferenceFrame = 0;
 	}
 
+#undef VMTHR_INITIAL_STACK_SIZE
+
 	/* Reset all fields in the new or recycled continuation. */
 	memset(continuation, 0, sizeof(J9VMContinuation));
 
@@ -292,6 +341,29 @@ enterContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 	currentThread->continuationPinCount = 0;
 	currentThread->callOutCount = 0;
 
+	if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_VIRTUAL_THREAD_CPU_ACCOUNTING)) {
+		if (NULL == currentThread->carrierLinkNext) {
+			/* First mount on this carrier thread: list it so its CPU time can be looked up without walking all the threads.
+			 * It is unlinked in deallocateVMThread().
+			 */
+			omrthread_monitor_enter(vm->vmThreadListMutex);
+			J9VMThread *head = vm->carrierThreadList;
+			if (NULL == head) {
+				currentThread->carrierLinkNext = currentThread;
+				currentThread->carrierLinkPrevious = currentThread;
+				vm->carrierThreadList = currentThread;
+			} else {
+				currentThread->carrierLinkNext = head;
+				currentThread->carrierLinkPrevious = head->carrierLinkPrevious;
+				head->carrierLinkPrevious->carrierLinkNext = currentThread;
+				head->carrierLinkPrevious = currentThread;
+			}
+			omrthread_monitor_exit(vm->vmThreadListMutex);
+		}
+		/* The CPU time of the carrier thread is charged to virtual threads until the continuation yields. */
+		currentThread->continuationMountCpuTime = omrthread_get_self_cpu_time(currentThread->osThread);
+	}
+
 	if (started) {
 #if JAVA_SPEC_VERSION >= 24
 		if (J9_ARE_ANY_BITS_SET(currentThread->javaVM->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_YIELD_PINNED_CONTINUATION)) {
@@ -348,6 +420,17 @@ yieldContinuation(J9VMThread *currentThread, BOOLEAN isFinished, UDATA returnSta
 		VM_ContinuationHelpers::setFinished(continuationStatePtr);
 	}
 
+	if (J9_ARE_ANY_BITS_SET(currentThread->javaVM->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_VIRTUAL_THREAD_CPU_ACCOUNTING)) {
+		I_64 mountCpuTime = currentThread->continuationMountCpuTime;
+		I_64 cpuTime = omrthread_get_self_cpu_time(currentThread->osThread);
+		if ((0 <= mountCpuTime) && (mountCpuTime < cpuTime)) {
+			U_64 delta = (U_64)(cpuTime - mountCpuTime);
+			/* Only the carrier thread updates its own counter, the VM wide counter is shared by all the carriers. */
+			currentThread->virtualThreadCpuTime += delta;
+			VM_AtomicSupport::addU64(&currentThread->javaVM->virtualThreadCpuTime, delta);
+		}
+	}
+
 	currentThread->currentContinuation = NULL;
 	VM_ContinuationHelpers::swapFieldsWithContinuation(currentThread, continuation, continuationObject);
 
@@ -425,7 +508,20 @@ recycleContinuation(J9JavaVM *vm, J9VMThread *vmThread, J9VMContinuation* contin
 {
 	PORT_ACCESS_FROM_JAVAVM(vm);
 	bool cached = false;
-	vm->totalContinuationStackSize += continuation->stackObject->size;
+	J9JavaStack *stack = continuation->stackObject;
+
+	/* The stack may already have been trimmed if the continuation is moved out of a T1 cache. */
+	if (NULL != stack) {
+		/* Continuations are recycled concurrently by many carrier threads. */
+		VM_AtomicSupport::addU64(&vm->totalContinuationStackSize, stack->size);
+
+		/* Trim a stack that grew beyond the cacheable size, a new one is allocated when the continuation is reused. */
+		if ((0 != vm->continuationCacheMaxStackSize) && (stack->size > vm->continuationCacheMaxStackSize)) {
+			freeJavaStack(vm, stack);
+			continuation->stackObject = NULL;
+			VM_AtomicSupport::addU32(&vm->cacheTrim, 1);
+		}
+	}
 
 	if (!skipLocalCache && (0 < vm->continuationT1Size)) {
 		/* If called by carrier thread (not global), try to store in local cache first.
@@ -467,7 +563,9 @@ T2:
 		if (!cached) {
 			vm->cacheFree += 1;
 			/* Caching failed, free the J9VMContinuation struct. */
-			freeJavaStack(vm, continuation->stackObject);
+			if (NULL != continuation->stackObject) {
+				freeJavaStack(vm, continuation->stackObject);
+			}
 #if JAVA_SPEC_VERSION >= 24
 			if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_YIELD_PINNED_CONTINUATION)) {
 				pool_kill(continuation->monitorEnterRecordPool);
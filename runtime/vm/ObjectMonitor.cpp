@@ -47,12 +47,29 @@ extern "C" {
 
 #define J9VM_SAMPLE_TIMESTAMP_FREQUENCY 1024
 
+/* Adaptive spinning: the spin history of a monitor is halved once it reaches the limit so that
+ * recent behaviour dominates, no decision is made until the minimum history has been gathered,
+ * and every probe interval'th contended enter spins regardless so that a monitor which has been
+ * judged not worth spinning on can be re-evaluated.
+ */
+#define J9VM_ADAPTIVE_SPIN_HISTORY_LIMIT 256
+#define J9VM_ADAPTIVE_SPIN_MINIMUM_HISTORY 16
+#define J9VM_ADAPTIVE_SPIN_PROBE_INTERVAL 16
+/* Spinning is abandoned if fewer than 1 in this many recent spins acquired the monitor */
+#define J9VM_ADAPTIVE_SPIN_MINIMUM_SUCCESS_RATIO 8
+
 static bool
 spinOnFlatLock(J9VMThread *currentThread, j9objectmonitor_t volatile *lwEA, j9object_t object);
 
 static bool
 spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9objectmonitor_t volatile *lwEA, j9object_t object);
 
+static bool
+adaptiveSpinShouldBlock(J9JavaVM *vm, J9ObjectMonitor *objectMonitor, U_32 contendedEnterCount);
+
+static void
+adaptiveSpinRecordResult(J9ObjectMonitor *objectMonitor, bool acquired);
+
 void
 monitorExitWriteBarrier()
 {
@@ -146,6 +163,12 @@ objectMonitorEnterBlocking(J9VMThread *currentThread)
 	if (J9_EVENT_IS_HOOKED(vm->hookInterface, J9HOOK_VM_MONITOR_CONTENDED_ENTERED)) {
 		startTicks = j9time_nano_time();
 	}
+	/* The contention statistics are only kept for adaptive spinning, so that the clock is not read otherwise */
+	bool const adaptiveSpin = (0 != vm->thrAdaptiveMonitorSpin);
+	I_64 blockedStartTicks = startTicks;
+	if (adaptiveSpin && (0 == blockedStartTicks)) {
+		blockedStartTicks = j9time_nano_time();
+	}
 	/* Throughout this function, note that inlineGetLockAddress cannot run into out of memory case because
 	 * an entry in monitor table will have been created by the earlier call in objectMonitorEnterNonBlocking.
 	 */
@@ -300,6 +323,16 @@ done:
 		/* Clear the SUPPRESS_CONTENDED_EXITS bit in the monitor saying that CONTENDED EXIT can be sent again */
 		((J9ThreadMonitor*)monitor)->flags &= ~(UDATA)J9THREAD_MONITOR_SUPPRESS_CONTENDED_EXIT;
 		VM_AtomicSupport::subtract(&monitor->pinCount, 1);
+		if (adaptiveSpin) {
+			/* This thread owns the monitor, so the statistics can be updated without atomics */
+			I_64 blockedTicks = j9time_nano_time() - blockedStartTicks;
+			U_64 const blocked = (blockedTicks > 0) ? (U_64)blockedTicks : 0;
+			U_32 const sample = (blocked > U_32_MAX) ? U_32_MAX : (U_32)blocked;
+			objectMonitor->blockedEnterCount += 1;
+			objectMonitor->blockedTime += blocked;
+			/* Exponentially weighted moving average, giving each new sample a weight of 1/8 */
+			objectMonitor->blockedTimeEstimate = objectMonitor->blockedTimeEstimate - (objectMonitor->blockedTimeEstimate >> 3) + (sample >> 3);
+		}
 		if (J9_EVENT_IS_HOOKED(vm->hookInterface, J9HOOK_VM_MONITOR_CONTENDED_ENTERED)) {
 			bool frameBuilt = saveBlockingEnterObject(currentThread);
 			ALWAYS_TRIGGER_J9HOOK_VM_MONITOR_CONTENDED_ENTERED(vm->hookInterface, currentThread, monitor, startTicks, ramClass, previousOwner);
@@ -693,9 +726,26 @@ spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9obje
 				tryEnterYieldCount);
 	}
 #else /* J9VM_INTERP_CUSTOM_SPIN_OPTIONS */
-	UDATA const tryEnterSpinCount1 = vm->thrMaxTryEnterSpins1BeforeBlocking;
+	UDATA tryEnterSpinCount1 = vm->thrMaxTryEnterSpins1BeforeBlocking;
 #endif /* J9VM_INTERP_CUSTOM_SPIN_OPTIONS */
 
+	/* The contention statistics and the spin history are only kept with -Xthr:adaptiveMonitorSpin */
+	bool const adaptiveSpin = (0 != vm->thrAdaptiveMonitorSpin);
+	/* Only a full spin says whether spinning pays off on this monitor */
+	bool recordSpinResult = adaptiveSpin;
+	if (adaptiveSpin) {
+		/* The monitor is not owned by this thread yet, so other contending threads may be updating the counts */
+		U_32 const contendedEnterCount = VM_AtomicSupport::addU32(&objectMonitor->contendedEnterCount, 1);
+		/* Make a single attempt to enter before blocking if the monitor's history shows spinning does not pay off */
+		if (adaptiveSpinShouldBlock(vm, objectMonitor, contendedEnterCount)) {
+			VM_AtomicSupport::addU32(&objectMonitor->spinSkippedCount, 1);
+			tryEnterSpinCount1 = 1;
+			tryEnterSpinCount2 = 1;
+			tryEnterYieldCount = 1;
+			recordSpinResult = false;
+		}
+	}
+
 #if defined(OMR_THR_JLM)
 	/* Initialize JLM */
 	J9ThreadMonitorTracing *tracing = NULL;
@@ -714,6 +764,8 @@ spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9obje
 			tryEnterSpinCount2 = 1;
 			tryEnterYieldCount = 1;
 			tryEnterSpin = false;
+			/* Spinning was capped by the number of spinning threads, not judged by this monitor's history */
+			recordSpinResult = false;
 		}
 	}
 #endif /* defined(OMR_THR_THREE_TIER_LOCKING) && defined(OMR_THR_SPIN_WAKE_CONTROL) */
@@ -819,7 +871,73 @@ update_jlm:
 	}
 #endif /* defined(OMR_THR_THREE_TIER_LOCKING) && defined(OMR_THR_SPIN_WAKE_CONTROL) */
 
+	if (adaptiveSpin && rc) {
+		/* This thread owns the monitor now */
+		objectMonitor->spinAcquiredCount += 1;
+	}
+	if (recordSpinResult) {
+		adaptiveSpinRecordResult(objectMonitor, rc);
+	}
+
 	return rc;
 }
 
+/**
+ * Decide whether a thread contending for an inflated monitor should block
+ * immediately rather than spin. Spinning is abandoned when threads recently
+ * blocked on the monitor for longer than a spin could cover, or when few of
+ * the recent spins on the monitor acquired it.
+ *
+ * The statistics are read and updated without synchronization; they are
+ * heuristics, and an occasional lost update only delays a decision.
+ *
+ * @param vm[in] the J9JavaVM
+ * @param objectMonitor[in] the contended monitor
+ * @param contendedEnterCount[in] the number of contended enters on the monitor, including this one
+ *
+ * @returns	true if the thread should block without spinning, false to spin
+ */
+static bool
+adaptiveSpinShouldBlock(J9JavaVM *vm, J9ObjectMonitor *objectMonitor, U_32 contendedEnterCount)
+{
+	bool block = false;
+
+	if (0 != (contendedEnterCount % J9VM_ADAPTIVE_SPIN_PROBE_INTERVAL)) {
+		U_32 const attempts = objectMonitor->spinAttempts;
+		if (objectMonitor->blockedTimeEstimate > (U_64)vm->thrAdaptiveSpinMaxBlockedTime) {
+			block = true;
+		} else if ((attempts >= J9VM_ADAPTIVE_SPIN_MINIMUM_HISTORY)
+			&& ((objectMonitor->spinSuccesses * J9VM_ADAPTIVE_SPIN_MINIMUM_SUCCESS_RATIO) < attempts)
+		) {
+			block = true;
+		}
+	}
+	return block;
+}
+
+/**
+ * Add the outcome of a spin on an inflated monitor to its spin history.
+ *
+ * @param objectMonitor[in] the contended monitor
+ * @param acquired[in] true if the spin acquired the monitor
+ */
+static void
+adaptiveSpinRecordResult(J9ObjectMonitor *objectMonitor, bool acquired)
+{
+	U_32 attempts = objectMonitor->spinAttempts + 1;
+	U_32 successes = objectMonitor->spinSuccesses;
+
+	if (acquired) {
+		successes += 1;
+		/* Nobody had to block, so decay the blocked time estimate towards zero */
+		objectMonitor->blockedTimeEstimate -= (objectMonitor->blockedTimeEstimate >> 3);
+	}
+	if (attempts >= J9VM_ADAPTIVE_SPIN_HISTORY_LIMIT) {
+		attempts >>= 1;
+		successes >>= 1;
+	}
+	objectMonitor->spinAttempts = (U_16)attempts;
+	objectMonitor->spinSuccesses = (U_16)successes;
+}
+
 } /* extern "C" */
@@ -233,6 +233,23 @@ deallocateVMThread(J9VMThread * vmThread, UDATA decrementZombieCount, UDATA send
 
 	J9_LINKED_LIST_REMOVE(vm->mainThread, vmThread);
 
+#if JAVA_SPEC_VERSION >= 19
+	/* Unlink the thread from the carrier thread list, if it ever mounted a virtual thread */
+	if (NULL != vmThread->carrierLinkNext) {
+		if (vmThread == vmThread->carrierLinkNext) {
+			vm->carrierThreadList = NULL;
+		} else {
+			vmThread->carrierLinkPrevious->carrierLinkNext = vmThread->carrierLinkNext;
+			vmThread->carrierLinkNext->carrierLinkPrevious = vmThread->carrierLinkPrevious;
+			if (vm->carrierThreadList == vmThread) {
+				vm->carrierThreadList = vmThread->carrierLinkNext;
+			}
+		}
+		vmThread->carrierLinkNext = NULL;
+		vmThread->carrierLinkPrevious = NULL;
+	}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
 	/* This must be called before the GC cleans up, as the cleanup deletes the gc extensions.  The
 	 * extensions are used by the RT vm's when calling getVMThreadName because it must go through
 	 * the access barrier.
@@ -881,7 +881,9 @@ freeJavaVM(J9JavaVM * vm)
 	if (NULL != vm->continuationT2Cache) {
 		for (U_32 i = 0; i < vm->continuationT2Size; i++) {
 			if (NULL != vm->continuationT2Cache[i]) {
-				freeJavaStack(vm, vm->continuationT2Cache[i]->stackObject);
+				if (NULL != vm->continuationT2Cache[i]->stackObject) {
+					freeJavaStack(vm, vm->continuationT2Cache[i]->stackObject);
+				}
 				j9mem_free_memory(vm->continuationT2Cache[i]);
 			}
 		}
@@ -1926,11 +1928,13 @@ processMemoryInterleaveOptions(J9JavaVM * vm)
 
 #if JAVA_SPEC_VERSION >= 19
 /**
- * -XX:ContinuationCache:t1=<U_32>,t2=<U_32>
+ * -XX:ContinuationCache:t1=<U_32>,t2=<U_32>,maxStackSize=<size>
  *
  * This helper searches for and consumes the Continuation cache option,
  * if option found, it is parsed based on the above syntax.
  * if option not found, default values are set for T1 and T2 cache size.
+ * Stacks larger than maxStackSize are freed before a continuation is cached,
+ * a maxStackSize of 0 keeps stacks of any size.
  *
  * Returns 0 on success, -1 if option parsing failed.
  */
@@ -1939,10 +1943,13 @@ processContinuationCacheOptions(J9JavaVM *vm)
 {
 	IDATA rc = -1;
 	IDATA argIndex = FIND_AND_CONSUME_VMARG(STARTSWITH_MATCH, VMOPT_XXCONTINUATIONCACHE, NULL);
+
+	vm->continuationCacheMaxStackSize = J9_CONTINUATION_CACHE_DEFAULT_MAX_STACK_SIZE;
 	if (-1 != argIndex) {
 		char *cursor = NULL;
 		char* scanEnd = NULL;
 		U_32 cacheSize = 0;
+		UDATA maxStackSize = 0;
 
 		GET_OPTION_OPTION(argIndex, ':', ':', &cursor);
 		scanEnd = cursor + strlen(cursor);
@@ -1955,6 +1962,9 @@ processContinuationCacheOptions(J9JavaVM *vm)
 					vm->continuationT2Size = cacheSize;
 					rc = 0;
 				}
+			} else if (try_scan(&cursor, "maxStackSize=") && (0 == scan_udata_memory_size(&cursor, &maxStackSize))) {
+				vm->continuationCacheMaxStackSize = maxStackSize;
+				rc = 0;
 			} else if (try_scan(&cursor, "printSummary")) {
 				/* Set VM flag. */
 				vm->extendedRuntimeFlags2 |= J9_EXTENDED_RUNTIME2_ENABLE_CONTINUATION_CACHE_SUMMARY;
@@ -4176,6 +4186,14 @@ processVMArgsFromFirstToLast(J9JavaVM * vm)
 		}
 	}
 
+	{
+		IDATA enableShrinkBeforeCheckpoint = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXENABLECRIUSHRINKBEFORECHECKPOINT, NULL);
+		IDATA disableShrinkBeforeCheckpoint = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXDISABLECRIUSHRINKBEFORECHECKPOINT, NULL);
+		if (enableShrinkBeforeCheckpoint > disableShrinkBeforeCheckpoint) {
+			vm->checkpointState.flags |= J9VM_CRIU_SHRINK_BEFORE_CHECKPOINT;
+		}
+	}
+
 	{
 		if ((FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, MAPOPT_AGENTLIB_JDWP_EQUALS, NULL) >= 0)
 			|| (FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, MAPOPT_XRUNJDWP, NULL) >= 0)
@@ -4396,6 +4414,17 @@ processVMArgsFromFirstToLast(J9JavaVM * vm)
 	}
 #endif /* JAVA_SPEC_VERSION >= 24 */
 
+#if JAVA_SPEC_VERSION >= 19
+	{
+		IDATA enableVirtualThreadCPUAccounting = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXVIRTUALTHREADCPUACCOUNTING, NULL);
+		IDATA disableVirtualThreadCPUAccounting = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXNOVIRTUALTHREADCPUACCOUNTING, NULL);
+
+		if (enableVirtualThreadCPUAccounting > disableVirtualThreadCPUAccounting) {
+			vm->extendedRuntimeFlags3 |= J9_EXTENDED_RUNTIME3_VIRTUAL_THREAD_CPU_ACCOUNTING;
+		}
+	}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
 	if (FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXKEEPJNIIDS, NULL) != -1) {
 		vm->extendedRuntimeFlags2 |= J9_EXTENDED_RUNTIME2_ALWAYS_KEEP_JNI_IDS;
 	}
@@ -6747,6 +6776,15 @@ runExitStages(J9JavaVM* vm, J9VMThread* vmThread)
 		j9tty_printf(PORTLIB, "\n     T1 Cache store:            %u", vm->t1CacheHit + vm->t2CacheHit + vm->cacheMiss - vm->cacheFree - vm->t2store);
 		j9tty_printf(PORTLIB, "\n     T2 Cache store:            %u", vm->t2store);
 		j9tty_printf(PORTLIB, "\nCache Freed:                %u\n", vm->cacheFree);
+		j9tty_printf(PORTLIB, "\nStacks Trimmed:             %u", vm->cacheTrim);
+		j9tty_printf(PORTLIB, "\n     Max Cached Stack Size:     %zu KB\n", vm->continuationCacheMaxStackSize / 1024);
+		{
+			U_64 lookupStatistics = vm->cacheLookupStatistics;
+			U_64 lookupSamples = J9_CONTINUATION_CACHE_LOOKUP_SAMPLES(lookupStatistics);
+			if (0 < lookupSamples) {
+				j9tty_printf(PORTLIB, "\nSampled Lookup Time:        %llu ns (%llu samples)\n", J9_CONTINUATION_CACHE_LOOKUP_TIME(lookupStatistics) / lookupSamples, lookupSamples);
+			}
+		}
 		j9tty_printf(PORTLIB, "\nAvg Cache Stack Size:       %.2f KB\n", (double)vm->totalContinuationStackSize / (vm->t1CacheHit + vm->t2CacheHit + vm->cacheMiss) / 1024);
 	}
 #endif /* JAVA_SPEC_VERSION >= 19 */
@@ -316,6 +316,14 @@ monitorTableAt(J9VMThread* vmStruct, j9object_t object)
 #endif /* J9VM_INTERP_CUSTOM_SPIN_OPTIONS */
 
 				key_objectMonitor.monitor = monitor;
+				key_objectMonitor.spinAttempts = 0;
+				key_objectMonitor.spinSuccesses = 0;
+				key_objectMonitor.contendedEnterCount = 0;
+				key_objectMonitor.spinAcquiredCount = 0;
+				key_objectMonitor.spinSkippedCount = 0;
+				key_objectMonitor.blockedEnterCount = 0;
+				key_objectMonitor.blockedTime = 0;
+				key_objectMonitor.blockedTimeEstimate = 0;
 
 #ifdef J9VM_THR_SMART_DEFLATION
 				key_objectMonitor.proDeflationCount = 0;
@@ -574,6 +574,8 @@ threadParseArguments(J9JavaVM *vm, char *optArg)
 	vm->thrMaxTryEnterYieldsBeforeBlocking = 45;
 	vm->thrNestedSpinning = 1;
 	vm->thrTryEnterNestedSpinning = 1;
+	vm->thrAdaptiveMonitorSpin = 0;
+	vm->thrAdaptiveSpinMaxBlockedTime = 200000;
 
 #if JAVA_SPEC_VERSION >= 24
 	/* Currently, there are timing holes between JVM_TakeVirtualThreadListToUnblock and monitor deflation.
@@ -825,6 +827,23 @@ threadParseArguments(J9JavaVM *vm, char *optArg)
 			continue;
 		}
 
+		if (try_scan(&scan_start, "adaptiveMonitorSpin")) {
+			vm->thrAdaptiveMonitorSpin = 1;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "noAdaptiveMonitorSpin")) {
+			vm->thrAdaptiveMonitorSpin = 0;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "adaptiveSpinMaxBlockedTime=")) {
+			if (scan_udata(&scan_start, &vm->thrAdaptiveSpinMaxBlockedTime)) {
+				goto _error;
+			}
+			continue;
+		}
+
 
 		if (try_scan(&scan_start, "staggerStep=")) {
 			if (scan_udata(&scan_start, &vm->thrStaggerStep)) {
@@ -1393,6 +1412,8 @@ dumpThreadingInfo(J9JavaVM* jvm)
 	j9tty_printf(PORTLIB, LEADING_SPACE "tryEnterYield=%zu,\n", jvm->thrMaxTryEnterYieldsBeforeBlocking);
 	j9tty_printf(PORTLIB, LEADING_SPACE "%sestedSpinning,\n", (jvm->thrNestedSpinning) ? "n" : "noN");
 	j9tty_printf(PORTLIB, LEADING_SPACE "%sryEnterNestedSpinning,\n", (jvm->thrTryEnterNestedSpinning) ? "t" : "noT");
+	j9tty_printf(PORTLIB, LEADING_SPACE "%sdaptiveMonitorSpin,\n", (jvm->thrAdaptiveMonitorSpin) ? "a" : "noA");
+	j9tty_printf(PORTLIB, LEADING_SPACE "adaptiveSpinMaxBlockedTime=%zu,\n", jvm->thrAdaptiveSpinMaxBlockedTime);
 	j9tty_printf(PORTLIB, LEADING_SPACE "%sestroyMutexOnMonitorFree,\n",
 		J9_ARE_ALL_BITS_SET(omrthread_lib_get_flags(), J9THREAD_LIB_FLAG_DESTROY_MUTEX_ON_MONITOR_FREE) ? "d" : "noD");
 #if !defined(WIN32) && defined(OMR_NOTIFY_POLICY_CONTROL)
@@ -73,6 +73,8 @@ public class TestUtils {
 	public static final String RunSimpleJavaProgramWithAgentWithPersistentCache = "runSimpleJavaProgramWithAgentWithPersistentCache";
 	public static final String RunSimpleJavaProgramWithAgentWithNonPersistentCache = "runSimpleJavaProgramWithAgentWithNonPersistentCache";
 	public static final String RunHanoiProgramWithCache = "runHanoiProgramWithCache";
+	public static final String RunConcurrentClassLoadProgramWithCache = "runConcurrentClassLoadProgramWithCache";
+	public static final String RunSharedClassCachePopulator = "runSharedClassCachePopulator";
 	public static final String CheckJavaVersion = "checkJavaVersion";
 	
 	private static final String CMD_PREFIX="cmd.";
@@ -545,6 +547,30 @@ public class TestUtils {
 		checkOutputForDump(false);
 	}
 	
+	/**
+	 * Will execute a program that loads the same classes from the named cache on the given number of
+	 * concurrent threads, each thread using its own class loader.
+	 *
+	 * @param cachename name of the cache to use
+	 * @param threads number of threads loading classes
+	 */
+	public static void runConcurrentClassLoadProgramWithCache(String cachename, int threads) {
+		RunCommand.execute(getCommand(RunConcurrentClassLoadProgramWithCache, cachename, Integer.toString(threads)));
+		checkOutputForDump(false);
+	}
+
+	/**
+	 * Will run the SharedClassCachePopulator tool with the named cache, to load the classes of the
+	 * class list from the current directory.
+	 *
+	 * @param cachename name of the cache to populate
+	 * @param classList path of the class list file
+	 */
+	public static void runSharedClassCachePopulator(String cachename, String classList) {
+		RunCommand.execute(getCommand(RunSharedClassCachePopulator, cachename, classList));
+		checkOutputForDump(false);
+	}
+
 	protected static String getCacheFileLocationForNonPersistentCache(String cachename) {
 		String cacheDir = getCacheDir(cachename,false);		
 		String expectedFileLocation = 
@@ -0,0 +1,87 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package tests.sharedclasses.options;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import tests.sharedclasses.TestUtils;
+
+/*
+ * Start-up benchmark for class loading from a warm shared cache. The same set of classes
+ * is loaded by a growing number of concurrent threads, each with its own class loader,
+ * and the time taken for each thread count is reported. Lookups of classes already in
+ * the cache must not serialize the loading threads.
+ */
+public class TestConcurrentClassLoadScaling extends TestUtils {
+	private static final String cacheName = "testConcurrentClassLoadScaling";
+	private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16, 32, 64 };
+	private static final Pattern RESULT_PATTERN = Pattern.compile(
+			"Concurrent class load: threads=(\\d+) classes=(\\d+) failed=(\\d+) time=(\\d+)ms");
+
+	public static void main(String[] args) {
+		runDestroyAllCaches();
+
+		/* Populate the cache */
+		runConcurrentClassLoadProgramWithCache(cacheName, 1);
+		int expectedClasses = parseResult()[1];
+
+		System.out.println("threads\tclasses\ttime (ms)\tper thread (ms)");
+		for (int threads : THREAD_COUNTS) {
+			runConcurrentClassLoadProgramWithCache(cacheName, threads);
+			int[] result = parseResult();
+			if (result[2] != 0) {
+				fail("Failed to load " + result[2] + " classes with " + threads + " threads");
+			}
+			if (result[1] != (expectedClasses * threads)) {
+				fail("Expected " + (expectedClasses * threads) + " classes to be loaded with " + threads + " threads but got " + result[1]);
+			}
+			System.out.println(threads + "\t" + result[1] + "\t" + result[3] + "\t" + (result[3] / threads));
+		}
+
+		runDestroyAllCaches();
+	}
+
+	/**
+	 * Parse the result line printed by ConcurrentClassLoadApp.
+	 *
+	 * @return an array holding the thread count, loaded classes, failed classes and time in milliseconds
+	 */
+	private static int[] parseResult() {
+		String[] lines = getLastCommandStdout();
+		if (lines != null) {
+			for (String line : lines) {
+				Matcher matcher = RESULT_PATTERN.matcher(line);
+				if (matcher.find()) {
+					return new int[] {
+							Integer.parseInt(matcher.group(1)),
+							Integer.parseInt(matcher.group(2)),
+							Integer.parseInt(matcher.group(3)),
+							Integer.parseInt(matcher.group(4)) };
+				}
+			}
+		}
+		fail("Did not see the expected output of ConcurrentClassLoadApp");
+		return null;
+	}
+}
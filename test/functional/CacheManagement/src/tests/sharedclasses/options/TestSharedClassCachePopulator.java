@@ -0,0 +1,73 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package tests.sharedclasses.options;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import tests.sharedclasses.TestUtils;
+
+/*
+ * Populate a cache with the SharedClassCachePopulator tool from a class list holding plain class
+ * names, -verbose:class and -Xlog:class+load lines, a comment and a missing class. Check that the
+ * listed classes are stored in the cache, and that an application with the same classpath loads
+ * them from the cache.
+ */
+public class TestSharedClassCachePopulator extends TestUtils {
+	private static final String cacheName = "testSharedClassCachePopulator";
+	private static final String classListName = "populatorClassList.txt";
+
+	public static void main(String[] args) {
+		runDestroyAllCaches();
+
+		File classList = new File(classListName);
+		try (PrintWriter writer = new PrintWriter(new FileWriter(classList))) {
+			writer.println("# classes for TestSharedClassCachePopulator");
+			writer.println("SimpleApp");
+			writer.println("[Loaded SimpleApp2 from file:/SimpleApp2.class]");
+			writer.println("[0.025s][info][class,load] ResetApp source: file:/ResetApp.class");
+			writer.println("NoSuchClass");
+		} catch (IOException e) {
+			fail("Unable to write the class list " + classList.getAbsolutePath() + ": " + e);
+		}
+
+		runSharedClassCachePopulator(cacheName, classListName);
+		checkOutputContains("Loaded 3 of 4 classes", "Did not get the expected number of classes loaded by SharedClassCachePopulator");
+
+		runPrintAllStats(cacheName, true);
+		checkOutputContains("ROMCLASS: SimpleApp at", "Did not find SimpleApp in the populated cache");
+		checkOutputContains("ROMCLASS: SimpleApp2 at", "Did not find SimpleApp2, listed in -verbose:class format, in the populated cache");
+		checkOutputContains("ROMCLASS: ResetApp at", "Did not find ResetApp, listed in -Xlog:class+load format, in the populated cache");
+		checkOutputDoesNotContain("ROMCLASS: NoSuchClass", "Found a class which does not exist in the populated cache");
+
+		/* The application class loader with the same classpath finds the classes stored by the populator */
+		runSimpleJavaProgramWithPersistentCache(cacheName + ",verboseIO");
+		checkOutputContains("Found class SimpleApp in shared cache", "Did not find SimpleApp in the cache when running the application");
+		checkOutputContains("Found class SimpleApp2 in shared cache", "Did not find SimpleApp2 in the cache when running the application");
+
+		classList.delete();
+		runDestroyAllCaches();
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package tests.sharedclasses.options;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import tests.sharedclasses.TestUtils;
+
+/*
+ * Check the startup page log is only recorded with -Xshareclasses:startupPagePrefetch, and that
+ * a recorded log covers a bounded part of the cache rather than every resident page.
+ */
+public class TestStartupPageLog extends TestUtils {
+	private static final String cacheName = "testStartupPageLog";
+	private static final int MAX_PAGES_PERCENT = 50;
+	private static final int MAX_RUNS = 8192;
+	private static final Pattern CREATED_PATTERN = Pattern.compile(
+			"Stored a startup page log of (\\d+) pages out of (\\d+) shared cache pages in (\\d+) runs");
+	private static final String PAGE_LOG_MESSAGE = "startup page log";
+
+	public static void main(String[] args) {
+		runDestroyAllCaches();
+
+		/* The page log is opt-in */
+		runHanoiProgramWithCache(cacheName, "verbose", null);
+		checkOutputDoesNotContain(PAGE_LOG_MESSAGE, "Startup page log handled without startupPagePrefetch");
+		runHanoiProgramWithCache(cacheName, "verbose", null);
+		checkOutputDoesNotContain(PAGE_LOG_MESSAGE, "Startup page log handled without startupPagePrefetch");
+
+		runDestroyAllCaches();
+
+		/* A new cache is not resident when attached, so the pages used during startup are logged */
+		runHanoiProgramWithCache(cacheName, "startupPagePrefetch,verbose", null);
+		int[] created = parseCreated();
+		if (null == created) {
+			checkOutputContains("No startup page log is stored because", "Expected the startup page log to be stored or skipped");
+		} else {
+			if ((0 == created[0]) || (created[0] > created[1])) {
+				fail("Startup page log of " + created[0] + " pages out of " + created[1] + " cache pages");
+			}
+			if ((created[0] * 100L) > (created[1] * (long)MAX_PAGES_PERCENT)) {
+				fail("Startup page log covers " + created[0] + " of " + created[1] + " cache pages");
+			}
+			if ((created[2] > MAX_RUNS) || (created[2] > created[0])) {
+				fail("Startup page log has " + created[2] + " runs for " + created[0] + " pages");
+			}
+
+			/* A log that is not stale is kept, not recorded again */
+			runHanoiProgramWithCache(cacheName, "startupPagePrefetch,verbose", null);
+			if (null != parseCreated()) {
+				fail("Startup page log recorded again although the cache did not grow");
+			}
+		}
+
+		runDestroyAllCaches();
+	}
+
+	/**
+	 * Parse the message issued when a startup page log is stored.
+	 *
+	 * @return an array holding the logged pages, the cache pages and the runs, or null if no log was stored
+	 */
+	private static int[] parseCreated() {
+		String[][] outputs = { getLastCommandStderr(), getLastCommandStdout() };
+		for (String[] lines : outputs) {
+			if (lines != null) {
+				for (String line : lines) {
+					Matcher matcher = CREATED_PATTERN.matcher(line);
+					if (matcher.find()) {
+						return new int[] {
+								Integer.parseInt(matcher.group(1)),
+								Integer.parseInt(matcher.group(2)),
+								Integer.parseInt(matcher.group(3)) };
+					}
+				}
+			}
+		}
+		return null;
+	}
+}
@@ -130,4 +130,10 @@ public abstract class TestOptionsBase extends TestOptionsNonpersistent {
 	}
 	
 	public void testSharedCacheEnableBCI() { TestSharedCacheEnableBCI.main(null); }
+
+	public void testConcurrentClassLoadScaling() { TestConcurrentClassLoadScaling.main(null); }
+
+	public void testSharedClassCachePopulator() { TestSharedClassCachePopulator.main(null); }
+
+	public void testStartupPageLog() { TestStartupPageLog.main(null); }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/*
+ * Used by TestConcurrentClassLoadScaling.java to measure how class loading from a warm
+ * shared cache scales with the number of loading threads. Each thread loads the same
+ * classes through its own URLClassLoader, so every class is looked up in the shared
+ * cache once per thread.
+ *
+ * Usage: ConcurrentClassLoadApp <jar> <threads>
+ */
+public class ConcurrentClassLoadApp {
+	public static void main(String[] args) throws Exception {
+		final URL[] classpath = new URL[] { new File(args[0]).toURI().toURL() };
+		final int threadCount = Integer.parseInt(args[1]);
+		final List<String> classNames = new ArrayList<>();
+		final AtomicInteger loaded = new AtomicInteger();
+		final AtomicInteger failed = new AtomicInteger();
+		final CountDownLatch start = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(threadCount);
+
+		try (JarFile jar = new JarFile(args[0])) {
+			for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
+				String name = entries.nextElement().getName();
+				/* Skip the junit classes, whose superclasses are not on the classpath */
+				if (name.startsWith("tests/sharedclasses/") && name.endsWith(".class") && !name.contains("/junit/")) {
+					classNames.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+				}
+			}
+		}
+
+		for (int i = 0; i < threadCount; i++) {
+			Thread loader = new Thread(() -> {
+				try (URLClassLoader classLoader = new URLClassLoader(classpath, null)) {
+					start.await();
+					for (String className : classNames) {
+						try {
+							Class.forName(className, false, classLoader);
+							loaded.incrementAndGet();
+						} catch (ClassNotFoundException | LinkageError e) {
+							failed.incrementAndGet();
+						}
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+				} finally {
+					done.countDown();
+				}
+			});
+			loader.start();
+		}
+
+		long startTime = System.nanoTime();
+		start.countDown();
+		done.await();
+		long elapsedMillis = (System.nanoTime() - startTime) / 1000000;
+
+		/* Do not change following print statement, TestConcurrentClassLoadScaling parses it */
+		System.out.println("Concurrent class load: threads=" + threadCount + " classes=" + loaded.get()
+				+ " failed=" + failed.get() + " time=" + elapsedMillis + "ms");
+	}
+}
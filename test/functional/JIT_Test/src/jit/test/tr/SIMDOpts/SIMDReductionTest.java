@@ -0,0 +1,246 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package jit.test.tr.SIMDOpts;
+
+import org.testng.annotations.Test;
+import org.testng.AssertJUnit;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * The reduce* methods are compiled at scorching optimization level, where SPMDKernelParallelization
+ * vectorizes their loops and combines the vector elements after the loop. The array lengths are not
+ * multiples of any vector length, so the scalar residue loop is also exercised. The expected values
+ * are computed by the expected* methods, which are excluded from compilation.
+ * <p>
+ * When the SIMDReductionTest.logPrefix property is set, each integral reduce* method is expected to
+ * have a traceOptDetails log named after it with that prefix, and the log must show that its loop was
+ * vectorized; otherwise the results above only prove that the scalar loop is correct.
+ */
+@Test(groups = { "level.sanity","component.jit" })
+public class SIMDReductionTest {
+	private static final int ITERATIONS = 200;
+	private static final int[] LENGTHS = { 0, 1, 3, 7, 16, 33, 1001 };
+	private static final Random rand = new Random(1234);
+	private static final String LOG_PREFIX_PROPERTY = "SIMDReductionTest.logPrefix";
+	private static final String SIMDIZED_MESSAGE = "O^O AUTO SIMD: Simdizing loop";
+	private static final String[] VECTORIZED_METHODS = {
+		"reduceIntSum", "reduceLongSum", "reduceIntDot", "reduceIntMax", "reduceIntMin", "reduceLongMax", "reduceLongMin"
+	};
+
+	static int reduceIntSum(int[] a) {
+		int sum = 0;
+		for (int i = 0; i < a.length; i++)
+			sum += a[i];
+		return sum;
+	}
+
+	static long reduceLongSum(long[] a) {
+		long sum = 0;
+		for (int i = 0; i < a.length; i++)
+			sum += a[i];
+		return sum;
+	}
+
+	static int reduceIntDot(int[] a, int[] b) {
+		int dot = 0;
+		for (int i = 0; i < a.length; i++)
+			dot += a[i] * b[i];
+		return dot;
+	}
+
+	static int reduceIntMax(int[] a) {
+		int max = Integer.MIN_VALUE;
+		for (int i = 0; i < a.length; i++)
+			max = Math.max(max, a[i]);
+		return max;
+	}
+
+	static int reduceIntMin(int[] a, int initial) {
+		int min = initial;
+		for (int i = 0; i < a.length; i++)
+			min = Math.min(a[i], min);
+		return min;
+	}
+
+	static long reduceLongMax(long[] a) {
+		long max = Long.MIN_VALUE;
+		for (int i = 0; i < a.length; i++)
+			max = Math.max(max, a[i]);
+		return max;
+	}
+
+	static long reduceLongMin(long[] a) {
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < a.length; i++)
+			min = Math.min(min, a[i]);
+		return min;
+	}
+
+	/* Floating point addition is not associative, so this must give the same result as the sequential loop. */
+	static double reduceDoubleSum(double[] a) {
+		double sum = 0;
+		for (int i = 0; i < a.length; i++)
+			sum += a[i];
+		return sum;
+	}
+
+	static int expectedIntSum(int[] a) {
+		int sum = 0;
+		for (int v : a)
+			sum += v;
+		return sum;
+	}
+
+	static long expectedLongSum(long[] a) {
+		long sum = 0;
+		for (long v : a)
+			sum += v;
+		return sum;
+	}
+
+	static int expectedIntDot(int[] a, int[] b) {
+		int dot = 0;
+		for (int i = 0; i < a.length; i++)
+			dot += a[i] * b[i];
+		return dot;
+	}
+
+	static int expectedIntMax(int[] a, int initial) {
+		int max = initial;
+		for (int v : a)
+			max = (v > max) ? v : max;
+		return max;
+	}
+
+	static int expectedIntMin(int[] a, int initial) {
+		int min = initial;
+		for (int v : a)
+			min = (v < min) ? v : min;
+		return min;
+	}
+
+	static long expectedLongMax(long[] a) {
+		long max = Long.MIN_VALUE;
+		for (long v : a)
+			max = (v > max) ? v : max;
+		return max;
+	}
+
+	static long expectedLongMin(long[] a) {
+		long min = Long.MAX_VALUE;
+		for (long v : a)
+			min = (v < min) ? v : min;
+		return min;
+	}
+
+	static double expectedDoubleSum(double[] a) {
+		double sum = 0;
+		for (double v : a)
+			sum += v;
+		return sum;
+	}
+
+	private static int[] randomInts(int length) {
+		int[] a = new int[length];
+		for (int i = 0; i < length; i++)
+			a[i] = rand.nextInt();
+		return a;
+	}
+
+	private static long[] randomLongs(int length) {
+		long[] a = new long[length];
+		for (int i = 0; i < length; i++)
+			a[i] = rand.nextLong();
+		return a;
+	}
+
+	private static double[] randomDoubles(int length) {
+		double[] a = new double[length];
+		for (int i = 0; i < length; i++)
+			a[i] = (rand.nextDouble() - 0.5) * Math.pow(10, rand.nextInt(20));
+		return a;
+	}
+
+	@Test
+	public void testIntReductions() {
+		for (int iter = 0; iter < ITERATIONS; iter++) {
+			for (int length : LENGTHS) {
+				int[] a = randomInts(length);
+				int[] b = randomInts(length);
+				AssertJUnit.assertEquals("Wrong int sum for length " + length, expectedIntSum(a), reduceIntSum(a));
+				AssertJUnit.assertEquals("Wrong int dot product for length " + length, expectedIntDot(a, b), reduceIntDot(a, b));
+				AssertJUnit.assertEquals("Wrong int max for length " + length, expectedIntMax(a, Integer.MIN_VALUE), reduceIntMax(a));
+				AssertJUnit.assertEquals("Wrong int min for length " + length, expectedIntMin(a, Integer.MAX_VALUE), reduceIntMin(a, Integer.MAX_VALUE));
+				/* the initial value of the reduction variable takes part in the result */
+				AssertJUnit.assertEquals("Wrong int min with initial value for length " + length, expectedIntMin(a, -7), reduceIntMin(a, -7));
+			}
+		}
+	}
+
+	@Test
+	public void testLongReductions() {
+		for (int iter = 0; iter < ITERATIONS; iter++) {
+			for (int length : LENGTHS) {
+				long[] a = randomLongs(length);
+				AssertJUnit.assertEquals("Wrong long sum for length " + length, expectedLongSum(a), reduceLongSum(a));
+				AssertJUnit.assertEquals("Wrong long max for length " + length, expectedLongMax(a), reduceLongMax(a));
+				AssertJUnit.assertEquals("Wrong long min for length " + length, expectedLongMin(a), reduceLongMin(a));
+			}
+		}
+	}
+
+	@Test
+	public void testDoubleSumIsSequential() {
+		for (int iter = 0; iter < ITERATIONS; iter++) {
+			for (int length : LENGTHS) {
+				double[] a = randomDoubles(length);
+				AssertJUnit.assertEquals("Wrong double sum for length " + length,
+						Double.doubleToRawLongBits(expectedDoubleSum(a)), Double.doubleToRawLongBits(reduceDoubleSum(a)));
+			}
+		}
+	}
+
+	@Test(dependsOnMethods = { "testIntReductions", "testLongReductions" })
+	public void testLoopsVectorized() throws IOException {
+		String logPrefix = System.getProperty(LOG_PREFIX_PROPERTY);
+		if (null == logPrefix) {
+			/* the logs are not written by the variation run on every platform */
+			return;
+		}
+		for (String method : VECTORIZED_METHODS) {
+			File log = new File(logPrefix + method + ".log");
+			AssertJUnit.assertTrue("No compilation log " + log + " for " + method, log.exists());
+			boolean vectorized = false;
+			try (BufferedReader reader = new BufferedReader(new FileReader(log))) {
+				String line;
+				while (!vectorized && (null != (line = reader.readLine()))) {
+					vectorized = line.contains(SIMDIZED_MESSAGE);
+				}
+			}
+			AssertJUnit.assertTrue("The loop of " + method + " was not vectorized, see " + log, vectorized);
+		}
+	}
+}
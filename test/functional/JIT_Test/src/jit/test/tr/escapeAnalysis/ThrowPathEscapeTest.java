@@ -0,0 +1,114 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package jit.test.tr.escapeAnalysis;
+
+import java.lang.management.ManagementFactory;
+
+import org.testng.annotations.Test;
+import org.testng.AssertJUnit;
+
+/**
+ * The Range object built by validate() escapes only into the exception thrown on the
+ * rarely taken path. Escape analysis allocates it locally and heapifies it at the entry
+ * of the throwing block, so the exception must still see the right field values, and the
+ * path that does not throw should not allocate.
+ */
+@Test(groups = { "level.sanity","component.jit" })
+public class ThrowPathEscapeTest {
+	private static final int WARMUP = 20000;
+	private static final int MEASURED = 1000000;
+
+	static final class Range {
+		final int low;
+		final int high;
+
+		Range(int low, int high) {
+			this.low = low;
+			this.high = high;
+		}
+	}
+
+	static final class RangeException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+		final Range range;
+
+		RangeException(Range range) {
+			super("invalid range");
+			this.range = range;
+		}
+	}
+
+	static int validate(int low, int high) {
+		Range range = new Range(low, high);
+		if (range.low > range.high) {
+			throw new RangeException(range);
+		}
+		return range.high - range.low;
+	}
+
+	private static int run(int iterations) {
+		int sum = 0;
+		for (int i = 0; i < iterations; i++) {
+			sum += validate(i & 0xff, (i & 0xff) + 3);
+		}
+		return sum;
+	}
+
+	@Test
+	public void testThrowPathSeesFields() {
+		AssertJUnit.assertEquals("Wrong result on the non-throwing path", 3 * WARMUP, run(WARMUP));
+		for (int i = 0; i < 100; i++) {
+			try {
+				validate(i + 10, i);
+				AssertJUnit.fail("RangeException not thrown");
+			} catch (RangeException e) {
+				AssertJUnit.assertEquals("Wrong low value in heapified object", i + 10, e.range.low);
+				AssertJUnit.assertEquals("Wrong high value in heapified object", i, e.range.high);
+			}
+			AssertJUnit.assertEquals("Wrong result after the throwing path", 5, validate(i, i + 5));
+		}
+	}
+
+	@Test
+	public void testNonThrowingPathDoesNotAllocate() {
+		String vmInfo = System.getProperty("java.vm.info", "");
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!vmInfo.contains("JIT enabled") || !(bean instanceof com.sun.management.ThreadMXBean)) {
+			return;
+		}
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean)bean;
+		if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+			return;
+		}
+
+		run(WARMUP);
+		long threadId = Thread.currentThread().getId();
+		long before = threadBean.getThreadAllocatedBytes(threadId);
+		int sum = run(MEASURED);
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+		AssertJUnit.assertEquals("Wrong result on the non-throwing path", 3 * MEASURED, sum);
+		/* a heap allocated Range is at least 16 bytes, so this fails if most iterations allocate */
+		AssertJUnit.assertTrue("Allocated " + allocated + " bytes in " + MEASURED + " non-throwing iterations",
+				allocated < (MEASURED * 16L) / 4);
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package jit.test.tr.stringPeephole;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Checks the result of StringBuilder append chains which the StringBuilderTransformer fuses into a single
+ * allocation of the value array of the resulting String.
+ */
+@Test(groups = { "level.sanity","component.jit" })
+public class StringBuilderFusionTest {
+
+	private static final int ITERATIONS = 1000;
+
+	private static StringBuilder order;
+
+	private static class Tagged {
+		private final String tag;
+
+		Tagged(String tag) {
+			this.tag = tag;
+		}
+
+		@Override
+		public String toString() {
+			order.append(tag);
+			return tag;
+		}
+	}
+
+	private static String mixed(String s, int i, long l, char c, boolean b) {
+		return new StringBuilder().append(s).append(':').append(i).append('/').append(l).append(c).append(b).toString();
+	}
+
+	private static String converted(Object o, float f, double d) {
+		return new StringBuilder().append("o=").append(o).append(" f=").append(f).append(" d=").append(d).toString();
+	}
+
+	private static String objects(Object first, Object second) {
+		return new StringBuilder().append(first).append(second).toString();
+	}
+
+	@Test
+	public void testMixedLatin1() {
+		for (int n = 0; n < ITERATIONS; n++) {
+			Assert.assertEquals(mixed("id", 42, 7L, 'x', true), "id:42/7xtrue");
+			Assert.assertEquals(mixed("", 0, 0L, 'y', false), ":0/0yfalse");
+		}
+	}
+
+	@Test
+	public void testIntegralLimits() {
+		for (int n = 0; n < ITERATIONS; n++) {
+			Assert.assertEquals(mixed("min", Integer.MIN_VALUE, Long.MIN_VALUE, '-', false), "min:-2147483648/-9223372036854775808-false");
+			Assert.assertEquals(mixed("max", Integer.MAX_VALUE, Long.MAX_VALUE, '+', true), "max:2147483647/9223372036854775807+true");
+			Assert.assertEquals(mixed("neg", -1, -10L, '0', true), "neg:-1/-100true");
+		}
+	}
+
+	@Test
+	public void testUTF16() {
+		for (int n = 0; n < ITERATIONS; n++) {
+			Assert.assertEquals(mixed("id", 1, 2L, '\u20ac', true), "id:1/2\u20actrue");
+			Assert.assertEquals(mixed("\u00e9t\u00e9 \u0394", -3, 4L, 'z', false), "\u00e9t\u00e9 \u0394:-3/4zfalse");
+		}
+	}
+
+	@Test
+	public void testNulls() {
+		for (int n = 0; n < ITERATIONS; n++) {
+			Assert.assertEquals(mixed(null, 5, 6L, 'n', true), "null:5/6ntrue");
+			Assert.assertEquals(converted(null, 1.5f, 2.25d), "o=null f=1.5 d=2.25");
+		}
+	}
+
+	@Test
+	public void testConvertedArguments() {
+		for (int n = 0; n < ITERATIONS; n++) {
+			Assert.assertEquals(converted(Integer.valueOf(12), -0.0f, Double.NaN), "o=12 f=-0.0 d=NaN");
+			Assert.assertEquals(converted("\u03c0", Float.POSITIVE_INFINITY, 1e100d), "o=\u03c0 f=Infinity d=1.0E100");
+		}
+	}
+
+	@Test
+	public void testConversionOrder() {
+		for (int n = 0; n < ITERATIONS; n++) {
+			order = new StringBuilder();
+			Assert.assertEquals(objects(new Tagged("a"), new Tagged("b")), "ab");
+			Assert.assertEquals(order.toString(), "ab");
+		}
+	}
+}
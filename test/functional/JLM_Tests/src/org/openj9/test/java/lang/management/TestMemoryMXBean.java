@@ -27,14 +27,19 @@ import org.testng.log4testng.Logger;
 import org.testng.annotations.BeforeClass;
 import org.testng.Assert;
 import org.testng.AssertJUnit;
+import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryNotificationInfo;
 import java.lang.management.MemoryUsage;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.management.Attribute;
 import javax.management.AttributeList;
@@ -77,6 +82,8 @@ public class TestMemoryMXBean {
 
 	private static final int javaVersion = VersionCheck.major();
 
+	private static final long IDLE_HEAP_UNCOMMIT_TIMEOUT_SECONDS = 60;
+
 	static {
 		ignoredAttributes = new HashSet<>();
 		ignoredAttributes.add("ObjectName");
@@ -121,6 +128,12 @@ public class TestMemoryMXBean {
 		}
 		attribs.put("MaximumGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
 		attribs.put("CurrentGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("IdleHeapUncommitCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("IdleHeapUncommitBytesReleased", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("PendingReferenceCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("EnqueuedReferenceCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("AverageReferenceProcessingLatency", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("MaxReferenceProcessingLatency", new AttributeData(Long.TYPE.getName(), true, false, false));
 	}// end static initializer
 
 	private ExtendedMemoryMXBeanImpl mb;
@@ -848,6 +861,81 @@ public class TestMemoryMXBean {
 		}
 	}
 
+	/**
+	 * Test that an idle VM started with -XXgc:enableIdleHeapUncommit uncommits free heap memory, as
+	 * reported by the getIdleHeapUncommitCount() and getIdleHeapUncommitBytesReleased() APIs.
+	 */
+	@Test
+	public void testIdleHeapUncommit() throws Exception {
+		String javaExec = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		List<String> processArgs = new ArrayList<>();
+		processArgs.add(javaExec);
+		processArgs.add("-Xmx256m");
+		processArgs.add("-XXgc:enableIdleHeapUncommit,idleHeapUncommitCheckInterval=100,"
+				+ "idleHeapUncommitQuietIntervals=3,idleHeapUncommitMinimumInterval=0");
+		processArgs.add("-classpath");
+		processArgs.add(System.getProperty("java.class.path"));
+		processArgs.add(IdleHeapUncommitChild.class.getName());
+		ProcessBuilder builder = new ProcessBuilder(processArgs);
+		builder.inheritIO();
+		logger.debug(builder.command());
+
+		Process child = builder.start();
+		if (!child.waitFor(IDLE_HEAP_UNCOMMIT_TIMEOUT_SECONDS * 2, TimeUnit.SECONDS)) {
+			child.destroyForcibly();
+			Assert.fail("Idle heap uncommit child VM did not exit");
+		}
+		AssertJUnit.assertEquals("No idle heap uncommit cycle ran while the VM was idle", 0, child.exitValue());
+
+		/* this VM runs without the option, so its counters stay zero */
+		AssertJUnit.assertEquals(0, mb.getIdleHeapUncommitCount());
+		AssertJUnit.assertEquals(0, mb.getIdleHeapUncommitBytesReleased());
+	}
+
+	/**
+	 * Allocates garbage, then stays idle until an idle heap uncommit cycle runs. Exits with 0 if one ran.
+	 */
+	public static final class IdleHeapUncommitChild {
+		public static void main(String[] args) throws InterruptedException {
+			MemoryMXBean bean = (MemoryMXBean) ManagementFactory.getMemoryMXBean();
+			List<byte[]> garbage = new ArrayList<>();
+			for (int i = 0; i < 64; i++) {
+				garbage.add(new byte[1024 * 1024]);
+			}
+			garbage = null;
+
+			long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(IDLE_HEAP_UNCOMMIT_TIMEOUT_SECONDS);
+			while ((0 == bean.getIdleHeapUncommitCount()) && (System.currentTimeMillis() < deadline)) {
+				Thread.sleep(100);
+			}
+			long count = bean.getIdleHeapUncommitCount();
+			long bytesReleased = bean.getIdleHeapUncommitBytesReleased();
+			System.out.println("Idle heap uncommit count = " + count + ", bytes released = " + bytesReleased);
+			System.exit((count > 0) ? 0 : 1);
+		}
+	}
+
+	/**
+	 * Test the reference processing counters and latencies.
+	 */
+	@Test
+	public void testGetReferenceProcessingStats() {
+		for (int i = 0; i < 1000; i++) {
+			new WeakReference<Object>(new Object(), new ReferenceQueue<Object>());
+		}
+		System.gc();
+		long pending = mb.getPendingReferenceCount();
+		long enqueued = mb.getEnqueuedReferenceCount();
+		long averageLatency = mb.getAverageReferenceProcessingLatency();
+		long maxLatency = mb.getMaxReferenceProcessingLatency();
+		AssertJUnit.assertTrue(pending >= 0);
+		AssertJUnit.assertTrue(enqueued >= 0);
+		AssertJUnit.assertTrue(averageLatency >= 0);
+		AssertJUnit.assertTrue(maxLatency >= averageLatency);
+		logger.debug("Pending references = " + pending + ", enqueued = " + enqueued
+				+ ", average latency = " + averageLatency + "ns, max latency = " + maxLatency + "ns");
+	}
+
 	// -----------------------------------------------------------------
 	// Notification implementation tests follow ....
 	// -----------------------------------------------------------------
@@ -36,6 +36,7 @@ import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.management.Attribute;
@@ -56,6 +57,7 @@ import javax.management.ReflectionException;
 import javax.management.openmbean.CompositeData;
 
 import com.ibm.lang.management.ExtendedThreadInfo;
+import com.ibm.lang.management.MonitorContentionInfo;
 import com.ibm.lang.management.ThreadMXBean;
 
 /**
@@ -292,6 +294,72 @@ public class TestThreadMXBean {
 		}
 	}
 
+	/* Instances are only locked by testDumpMonitorContention(), so any contention reported is its own. */
+	private static final class ContendedLock {
+	}
+
+	/* Returns true if the last -Xthr: option which sets adaptive monitor spinning enables it. */
+	private static boolean isAdaptiveMonitorSpinEnabled() {
+		boolean enabled = false;
+		for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+			if (argument.startsWith("-Xthr:")) {
+				for (String option : argument.substring("-Xthr:".length()).split(",")) {
+					if ("adaptiveMonitorSpin".equals(option)) {
+						enabled = true;
+					} else if ("noAdaptiveMonitorSpin".equals(option)) {
+						enabled = false;
+					}
+				}
+			}
+		}
+		return enabled;
+	}
+
+	@Test
+	public final void testDumpMonitorContention() throws InterruptedException {
+		final ContendedLock lock = new ContendedLock();
+		final CountDownLatch locked = new CountDownLatch(1);
+		Thread owner = new Thread(() -> {
+			synchronized (lock) {
+				locked.countDown();
+				try {
+					Thread.sleep(500);
+				} catch (InterruptedException e) {
+					/* ignore */
+				}
+			}
+		});
+		owner.start();
+		locked.await();
+		synchronized (lock) {
+			/* This thread had to block until the owner released the lock. */
+		}
+		owner.join();
+
+		MonitorContentionInfo[] contention = tb.dumpMonitorContention();
+		AssertJUnit.assertNotNull(contention);
+		MonitorContentionInfo found = null;
+		for (MonitorContentionInfo info : contention) {
+			AssertJUnit.assertNotNull(info.getClassName());
+			AssertJUnit.assertTrue(info.getMonitorCount() > 0);
+			AssertJUnit.assertTrue(info.getBlockedTime() >= 0);
+			if (ContendedLock.class.getName().equals(info.getClassName())) {
+				found = info;
+			}
+		}
+		if (!isAdaptiveMonitorSpinEnabled()) {
+			/* Contention is only recorded with -Xthr:adaptiveMonitorSpin. */
+			AssertJUnit.assertNull("Contention recorded without -Xthr:adaptiveMonitorSpin: " + found, found);
+			return;
+		}
+		AssertJUnit.assertNotNull("No contention reported for " + ContendedLock.class.getName(), found);
+		AssertJUnit.assertEquals(1, found.getMonitorCount());
+		AssertJUnit.assertTrue(found.getBlockedEnterCount() >= 1);
+		/* The owner held the lock for 500ms, most of which this thread spent blocked. */
+		AssertJUnit.assertTrue("Blocked time " + found.getBlockedTime() + "ns", found.getBlockedTime() > 100_000_000L);
+		logger.debug("Monitor contention: " + found);
+	}
+
 	@Test
 	public final void testGetCurrentThreadCpuTime() {
 		// Outcome depends on whether or not CPU time measurement is supported
@@ -1564,10 +1632,10 @@ public class TestThreadMXBean {
 		int numOperations;
 		int numAttributes;
 		if (isIBMJava8) {
-			numOperations = 18;
+			numOperations = 19;
 			numAttributes = 17;
 		} else {
-			numOperations = 20;
+			numOperations = 21;
 			numAttributes = 19;
 		}
 		MBeanOperationInfo[] operations = mbi.getOperations();
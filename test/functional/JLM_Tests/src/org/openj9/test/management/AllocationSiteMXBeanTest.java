@@ -0,0 +1,108 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package org.openj9.test.management;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.AllocationSiteInfo;
+import com.ibm.lang.management.AllocationSiteMXBean;
+import com.ibm.lang.management.internal.AllocationSiteInfoUtil;
+
+/**
+ * Tests for {@link AllocationSiteMXBean}. Requires -XXgc:enableAllocationSiteSampling.
+ */
+@Test(groups = { "level.extended" })
+public class AllocationSiteMXBeanTest {
+
+	private static final Logger logger = Logger.getLogger(AllocationSiteMXBeanTest.class);
+
+	private static final String MXBEAN_NAME = "com.ibm.lang.management:type=AllocationSites";
+
+	/* Retained so the allocations cannot be optimized away */
+	private static volatile Object sink;
+
+	private static void allocate() {
+		List<Object> list = new ArrayList<>();
+		for (int i = 0; i < 2_000_000; ++i) {
+			list.add(new long[16]);
+			if (list.size() > 1000) {
+				sink = list;
+				list = new ArrayList<>();
+			}
+		}
+	}
+
+	@Test
+	public void testGetAllocationSites() throws Exception {
+		MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(MXBEAN_NAME);
+		Assert.assertTrue(mbeanServer.isRegistered(name), MXBEAN_NAME + " is not registered");
+
+		AllocationSiteMXBean bean = JMX.newMXBeanProxy(mbeanServer, name, AllocationSiteMXBean.class);
+		Assert.assertTrue(bean.isAllocationSiteSamplingEnabled(), "allocation site sampling is not enabled");
+		int depth = bean.getAllocationSiteSamplingDepth();
+		Assert.assertTrue(depth > 0, "unexpected depth " + depth);
+
+		bean.resetAllocationSites();
+		allocate();
+
+		AllocationSiteInfo[] sites = bean.getAllocationSites();
+		Assert.assertTrue(sites.length > 0, "no allocation sites were sampled");
+		Assert.assertTrue(sites.length <= depth, "more sites than the sampling depth");
+
+		boolean found = false;
+		long previousCount = Long.MAX_VALUE;
+		for (AllocationSiteInfo site : sites) {
+			logger.debug(site);
+			Assert.assertTrue(site.getSampleCount() <= previousCount, "sites are not in descending order");
+			previousCount = site.getSampleCount();
+			String methodName = site.getMethodName();
+			if ("long[]".equals(site.getClassName()) && (null != methodName)
+					&& methodName.startsWith(AllocationSiteMXBeanTest.class.getName() + ".allocate(")) {
+				found = true;
+			}
+		}
+		Assert.assertTrue(found, "allocation site in allocate() not reported");
+	}
+
+	@Test
+	public void testGetAllocationSitesLocalBean() {
+		AllocationSiteMXBean bean = ManagementFactory.getPlatformMXBean(AllocationSiteMXBean.class);
+		Assert.assertNotNull(bean);
+		Assert.assertEquals(bean.getObjectName().toString(), MXBEAN_NAME);
+		for (AllocationSiteInfo site : bean.getAllocationSites()) {
+			Assert.assertNotNull(site.getClassName());
+			Assert.assertEquals(AllocationSiteInfo.from(AllocationSiteInfoUtil.toCompositeData(site)), site);
+		}
+	}
+}
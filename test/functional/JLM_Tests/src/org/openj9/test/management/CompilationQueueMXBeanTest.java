@@ -0,0 +1,165 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.management;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.CompilationQueueMXBean;
+
+/**
+ * Tests for {@link CompilationQueueMXBean}.
+ */
+@Test(groups = { "level.extended" })
+public class CompilationQueueMXBeanTest {
+
+	private static final Logger logger = Logger.getLogger(CompilationQueueMXBeanTest.class);
+
+	private static final String MXBEAN_NAME = "com.ibm.lang.management:type=CompilationQueue";
+
+	static int target(int value) {
+		return value * 31;
+	}
+
+	private static boolean isJITRunning(CompilationQueueMXBean bean) {
+		return bean.getCompilationThreadStates().length > 0;
+	}
+
+	@Test
+	public void testQueueInfo() {
+		CompilationQueueMXBean bean = ManagementFactory.getPlatformMXBean(CompilationQueueMXBean.class);
+		Assert.assertNotNull(bean);
+		Assert.assertEquals(bean.getObjectName().toString(), MXBEAN_NAME);
+
+		long[] sizes = bean.getQueueSizes();
+		Assert.assertEquals(sizes.length, CompilationQueueMXBean.QUEUE_COUNT);
+		for (long size : sizes) {
+			Assert.assertTrue(size >= 0, "negative queue size " + size);
+		}
+		Assert.assertTrue(bean.getOldestEntryAge() >= 0);
+
+		String[] states = bean.getCompilationThreadStates();
+		for (String state : states) {
+			Assert.assertNotNull(state);
+			logger.debug("compilation thread state " + state);
+		}
+		Assert.assertTrue(bean.getCompilationThreadBusyTimes().length <= 16);
+
+		long[] durations = bean.getRecentCompilationDurations();
+		Assert.assertTrue(durations.length <= 16, "too many durations " + durations.length);
+		for (long duration : durations) {
+			Assert.assertTrue(duration >= 0, "negative duration " + duration);
+		}
+	}
+
+	@Test
+	public void testThrottle() {
+		CompilationQueueMXBean bean = ManagementFactory.getPlatformMXBean(CompilationQueueMXBean.class);
+		try {
+			bean.throttleBackgroundCompilations(60_000);
+			long remaining = bean.getThrottleRemainingTime();
+			Assert.assertTrue(remaining <= 60_000, "unexpected remaining time " + remaining);
+			if (isJITRunning(bean)) {
+				Assert.assertTrue(remaining > 0, "background compilations are not throttled");
+			}
+		} finally {
+			bean.throttleBackgroundCompilations(0);
+		}
+		Assert.assertEquals(bean.getThrottleRemainingTime(), 0);
+
+		try {
+			bean.throttleBackgroundCompilations(-1);
+			Assert.fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testQueueMethods() {
+		CompilationQueueMXBean bean = ManagementFactory.getPlatformMXBean(CompilationQueueMXBean.class);
+		String targetName = CompilationQueueMXBeanTest.class.getName() + ".target";
+
+		int queued = bean.queueMethodsForCompilation(new String[] { targetName }, CompilationQueueMXBean.OPT_LEVEL_WARM);
+		Assert.assertTrue((0 <= queued) && (queued <= 1), "unexpected queued count " + queued);
+		Assert.assertEquals(target(1), 31);
+
+		String[] unknown = { "org.openj9.test.management.NoSuchClass.method", targetName + "NoSuchMethod" };
+		Assert.assertEquals(bean.queueMethodsForCompilation(unknown, CompilationQueueMXBean.OPT_LEVEL_HOT), 0);
+
+		try {
+			bean.queueMethodsForCompilation(new String[] { targetName }, CompilationQueueMXBean.OPT_LEVEL_SCORCHING + 1);
+			Assert.fail("IllegalArgumentException expected for an invalid level");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			bean.queueMethodsForCompilation(new String[] { "target" }, CompilationQueueMXBean.OPT_LEVEL_WARM);
+			Assert.fail("IllegalArgumentException expected for a name without a class");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testQueueMethodsOfLoadedClass() throws Exception {
+		CompilationQueueMXBean bean = ManagementFactory.getPlatformMXBean(CompilationQueueMXBean.class);
+		/* A proxy class defined by a custom class loader cannot be found by the system class loader,
+		 * so it is only found among the loaded classes.
+		 */
+		try (URLClassLoader loader = new URLClassLoader(new URL[0], null)) {
+			Runnable proxy = (Runnable) Proxy.newProxyInstance(loader, new Class<?>[] { Runnable.class }, (p, m, a) -> null);
+			String proxyClassName = proxy.getClass().getName();
+			try {
+				Class.forName(proxyClassName, false, ClassLoader.getSystemClassLoader());
+				Assert.fail(proxyClassName + " is visible to the system class loader");
+			} catch (ClassNotFoundException e) {
+				// expected
+			}
+
+			int queued = bean.queueMethodsForCompilation(new String[] { proxyClassName + ".run" }, CompilationQueueMXBean.OPT_LEVEL_WARM);
+			logger.debug("queued " + queued + " methods of " + proxyClassName);
+			Assert.assertEquals(queued, isJITRunning(bean) ? 1 : 0, "unexpected queued count for " + proxyClassName + ".run");
+		}
+	}
+
+	@Test
+	public void testQueueInfoRemote() throws Exception {
+		MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(MXBEAN_NAME);
+		Assert.assertTrue(mbeanServer.isRegistered(name), MXBEAN_NAME + " is not registered");
+
+		CompilationQueueMXBean bean = JMX.newMXBeanProxy(mbeanServer, name, CompilationQueueMXBean.class);
+		Assert.assertEquals(bean.getQueueSizes().length, CompilationQueueMXBean.QUEUE_COUNT);
+		Assert.assertEquals(bean.getCompilationThreadBusyTimes().length, bean.getCompilationThreadStates().length);
+	}
+}
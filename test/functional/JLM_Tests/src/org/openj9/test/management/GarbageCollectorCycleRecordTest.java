@@ -0,0 +1,190 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.management;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.GarbageCollectorCycleRecordFiller;
+import com.ibm.lang.management.GarbageCollectorMXBean;
+
+/**
+ * Tests for the cycle records of {@link GarbageCollectorMXBean}.
+ */
+@Test(groups = { "level.extended" })
+public class GarbageCollectorCycleRecordTest {
+
+	private static final Logger logger = Logger.getLogger(GarbageCollectorCycleRecordTest.class);
+
+	private static final String SYSTEM_GC_CAUSE = "Java code has requested a System.gc()";
+
+	private static GarbageCollectorMXBean[] getBeans() {
+		return ManagementFactory.getPlatformMXBeans(GarbageCollectorMXBean.class).toArray(new GarbageCollectorMXBean[0]);
+	}
+
+	private static GarbageCollectorCycleRecordFiller getFiller(GarbageCollectorMXBean bean) {
+		Assert.assertTrue(bean instanceof GarbageCollectorCycleRecordFiller, bean.getName() + " does not fill cycle records");
+		return (GarbageCollectorCycleRecordFiller) bean;
+	}
+
+	private static long[] getCounts(GarbageCollectorMXBean[] beans) {
+		long[] counts = new long[beans.length];
+		for (int i = 0; i < beans.length; ++i) {
+			counts[i] = beans[i].getCollectionCount();
+		}
+		return counts;
+	}
+
+	@Test
+	public void testCycleRecords() {
+		GarbageCollectorMXBean[] beans = getBeans();
+		Assert.assertTrue(beans.length > 0, "no garbage collector beans");
+		long[] before = getCounts(beans);
+		for (int i = 0; i < 3; ++i) {
+			System.gc();
+		}
+		long[] after = getCounts(beans);
+
+		boolean systemGCSeen = false;
+		for (int i = 0; i < beans.length; ++i) {
+			GarbageCollectorMXBean bean = beans[i];
+			int capacity = bean.getCycleRecordCapacity();
+			Assert.assertTrue(capacity > 0);
+			long[] records = new long[capacity * GarbageCollectorMXBean.CYCLE_RECORD_LENGTH];
+			int count = getFiller(bean).fillCycleRecords(before[i], records);
+			long lastIndex = bean.getCollectionCount();
+			Assert.assertTrue(count >= Math.min(after[i] - before[i], capacity), bean.getName() + " returned " + count + " records");
+			for (int r = 0; r < count; ++r) {
+				int base = r * GarbageCollectorMXBean.CYCLE_RECORD_LENGTH;
+				long index = records[base + GarbageCollectorMXBean.CYCLE_RECORD_INDEX];
+				Assert.assertTrue((before[i] < index) && (index <= lastIndex), bean.getName() + " unexpected index " + index);
+				if (r > 0) {
+					Assert.assertEquals(index, records[base - GarbageCollectorMXBean.CYCLE_RECORD_LENGTH + GarbageCollectorMXBean.CYCLE_RECORD_INDEX] + 1);
+				}
+				Assert.assertTrue(records[base + GarbageCollectorMXBean.CYCLE_RECORD_START_TIME] >= 0);
+				Assert.assertTrue(records[base + GarbageCollectorMXBean.CYCLE_RECORD_PAUSE_TIME] >= 0);
+				Assert.assertTrue(records[base + GarbageCollectorMXBean.CYCLE_RECORD_WORKER_THREADS] >= 0);
+				Assert.assertTrue(records[base + GarbageCollectorMXBean.CYCLE_RECORD_COPIED_BYTES] >= (records[base + GarbageCollectorMXBean.CYCLE_RECORD_FLIPPED_BYTES]
+						+ records[base + GarbageCollectorMXBean.CYCLE_RECORD_TENURED_BYTES]));
+				for (int p = 0; p < GarbageCollectorMXBean.CYCLE_RECORD_POOL_COUNT; ++p) {
+					int poolBase = base + GarbageCollectorMXBean.CYCLE_RECORD_POOL_BASE + (p * GarbageCollectorMXBean.CYCLE_RECORD_POOL_FIELDS);
+					Assert.assertTrue(records[poolBase + GarbageCollectorMXBean.CYCLE_RECORD_POOL_USED_BEFORE] >= -1);
+					Assert.assertTrue(records[poolBase + GarbageCollectorMXBean.CYCLE_RECORD_POOL_USED_AFTER] >= -1);
+				}
+				int cause = (int)records[base + GarbageCollectorMXBean.CYCLE_RECORD_CAUSE];
+				String causeName = bean.getCycleCauseName(cause);
+				logger.debug(bean.getName() + " #" + index + " cause=" + causeName
+						+ " pause=" + records[base + GarbageCollectorMXBean.CYCLE_RECORD_PAUSE_TIME] + "ns");
+				if (SYSTEM_GC_CAUSE.equals(causeName)) {
+					systemGCSeen = true;
+				}
+			}
+		}
+		Assert.assertTrue(systemGCSeen, "no collection was recorded with the System.gc() cause");
+	}
+
+	@Test
+	public void testCursor() {
+		for (GarbageCollectorMXBean bean : getBeans()) {
+			GarbageCollectorCycleRecordFiller filler = getFiller(bean);
+			long[] record = new long[GarbageCollectorMXBean.CYCLE_RECORD_LENGTH];
+			Assert.assertEquals(filler.fillCycleRecords(0, new long[GarbageCollectorMXBean.CYCLE_RECORD_LENGTH - 1]), 0);
+			Assert.assertEquals(filler.fillCycleRecords(Long.MAX_VALUE, record), 0);
+			long lastIndex = 0;
+			while (1 == filler.fillCycleRecords(lastIndex, record)) {
+				long index = record[GarbageCollectorMXBean.CYCLE_RECORD_INDEX];
+				Assert.assertTrue(index > lastIndex);
+				lastIndex = index;
+			}
+			Assert.assertTrue(lastIndex <= bean.getCollectionCount(), bean.getName() + " unexpected index " + lastIndex);
+		}
+	}
+
+	@Test
+	public void testOverwrittenRecords() {
+		GarbageCollectorMXBean[] beans = getBeans();
+		int capacity = beans[0].getCycleRecordCapacity();
+		for (int i = 0; i <= capacity; ++i) {
+			System.gc();
+		}
+		for (GarbageCollectorMXBean bean : beans) {
+			long lastIndex = bean.getCollectionCount();
+			if (lastIndex > capacity) {
+				long[] records = new long[(capacity + 1) * GarbageCollectorMXBean.CYCLE_RECORD_LENGTH];
+				int count = getFiller(bean).fillCycleRecords(0, records);
+				Assert.assertTrue(count <= capacity, bean.getName() + " returned " + count + " records");
+				Assert.assertTrue(records[GarbageCollectorMXBean.CYCLE_RECORD_INDEX] > (lastIndex - capacity),
+						bean.getName() + " returned an overwritten record");
+			}
+		}
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void testNullRecords() {
+		getFiller(getBeans()[0]).fillCycleRecords(0, null);
+	}
+
+	@Test
+	public void testReturnedRecords() {
+		System.gc();
+		for (GarbageCollectorMXBean bean : getBeans()) {
+			Assert.assertEquals(bean.getCycleRecords(Long.MAX_VALUE).length, 0);
+			long[] records = bean.getCycleRecords(0);
+			Assert.assertEquals(records.length % GarbageCollectorMXBean.CYCLE_RECORD_LENGTH, 0);
+			int count = records.length / GarbageCollectorMXBean.CYCLE_RECORD_LENGTH;
+			Assert.assertTrue(count <= bean.getCycleRecordCapacity(), bean.getName() + " returned " + count + " records");
+			long[] filled = new long[bean.getCycleRecordCapacity() * GarbageCollectorMXBean.CYCLE_RECORD_LENGTH];
+			int filledCount = getFiller(bean).fillCycleRecords(0, filled);
+			/* a collection may end between the two calls */
+			Assert.assertTrue(filledCount >= count, bean.getName() + " filled " + filledCount + " records, returned " + count);
+			if (count > 0) {
+				Assert.assertTrue(records[GarbageCollectorMXBean.CYCLE_RECORD_INDEX] <= filled[GarbageCollectorMXBean.CYCLE_RECORD_INDEX],
+						bean.getName() + " returned a record older than the oldest one filled");
+			}
+		}
+	}
+
+	@Test
+	public void testRecordsRemote() throws Exception {
+		System.gc();
+		MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+		boolean recordsSeen = false;
+		for (GarbageCollectorMXBean bean : getBeans()) {
+			GarbageCollectorMXBean proxy = JMX.newMXBeanProxy(mbeanServer, bean.getObjectName(), GarbageCollectorMXBean.class);
+			Assert.assertFalse(proxy instanceof GarbageCollectorCycleRecordFiller, "a proxy cannot fill a local array");
+			long[] records = proxy.getCycleRecords(0);
+			Assert.assertEquals(records.length % GarbageCollectorMXBean.CYCLE_RECORD_LENGTH, 0);
+			for (int base = 0; base < records.length; base += GarbageCollectorMXBean.CYCLE_RECORD_LENGTH) {
+				long index = records[base + GarbageCollectorMXBean.CYCLE_RECORD_INDEX];
+				Assert.assertTrue((0 < index) && (index <= bean.getCollectionCount()), bean.getName() + " unexpected index " + index);
+				recordsSeen = true;
+			}
+		}
+		Assert.assertTrue(recordsSeen, "no cycle record was returned through the proxy");
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+
+package org.openj9.test.management;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.MetricsSnapshotFiller;
+import com.ibm.lang.management.MetricsSnapshotMXBean;
+
+/**
+ * Tests for {@link MetricsSnapshotMXBean}.
+ */
+@Test(groups = { "level.extended" })
+public class MetricsSnapshotMXBeanTest {
+
+	private static final Logger logger = Logger.getLogger(MetricsSnapshotMXBeanTest.class);
+
+	private static final String MXBEAN_NAME = "com.ibm.lang.management:type=MetricsSnapshot";
+
+	@Test
+	public void testGetSnapshot() {
+		MetricsSnapshotMXBean bean = ManagementFactory.getPlatformMXBean(MetricsSnapshotMXBean.class);
+		Assert.assertNotNull(bean);
+		Assert.assertEquals(bean.getObjectName().toString(), MXBEAN_NAME);
+
+		long before = System.nanoTime();
+		long[] values = bean.getSnapshot();
+		long after = System.nanoTime();
+		Assert.assertEquals(values.length, MetricsSnapshotMXBean.SNAPSHOT_LENGTH);
+
+		long timestamp = values[MetricsSnapshotMXBean.TIMESTAMP];
+		Assert.assertTrue((before <= timestamp) && (timestamp <= after), "unexpected timestamp " + timestamp);
+		Assert.assertTrue(values[MetricsSnapshotMXBean.HEAP_USED] > 0);
+		Assert.assertTrue(values[MetricsSnapshotMXBean.HEAP_USED] <= values[MetricsSnapshotMXBean.HEAP_COMMITTED]);
+		Assert.assertTrue(values[MetricsSnapshotMXBean.HEAP_COMMITTED] <= values[MetricsSnapshotMXBean.HEAP_MAX]);
+		Assert.assertTrue(values[MetricsSnapshotMXBean.THREAD_COUNT] > 0);
+		Assert.assertTrue(values[MetricsSnapshotMXBean.THREAD_COUNT] <= values[MetricsSnapshotMXBean.PEAK_THREAD_COUNT]);
+		Assert.assertTrue(values[MetricsSnapshotMXBean.LOADED_CLASS_COUNT] > 0);
+		Assert.assertEquals(values[MetricsSnapshotMXBean.LOADED_CLASS_COUNT],
+				values[MetricsSnapshotMXBean.TOTAL_LOADED_CLASS_COUNT] - values[MetricsSnapshotMXBean.UNLOADED_CLASS_COUNT]);
+
+		MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+		Assert.assertEquals(values[MetricsSnapshotMXBean.HEAP_MAX], heap.getMax());
+
+		String[] poolNames = bean.getHeapPoolNames();
+		Assert.assertTrue(poolNames.length > 0, "no heap pools reported");
+		for (int i = 0; i < MetricsSnapshotMXBean.HEAP_POOL_COUNT; ++i) {
+			int base = MetricsSnapshotMXBean.HEAP_POOL_BASE + (i * MetricsSnapshotMXBean.HEAP_POOL_FIELDS);
+			long used = values[base + MetricsSnapshotMXBean.HEAP_POOL_USED];
+			long committed = values[base + MetricsSnapshotMXBean.HEAP_POOL_COMMITTED];
+			if (i < poolNames.length) {
+				Assert.assertTrue((0 <= used) && (used <= committed), poolNames[i] + " used " + used + " committed " + committed);
+			} else {
+				Assert.assertEquals(used, -1);
+				Assert.assertEquals(committed, -1);
+			}
+		}
+	}
+
+	@Test
+	public void testFillSnapshot() {
+		MetricsSnapshotMXBean bean = ManagementFactory.getPlatformMXBean(MetricsSnapshotMXBean.class);
+		Assert.assertTrue(bean instanceof MetricsSnapshotFiller, "the platform bean does not fill snapshots");
+		MetricsSnapshotFiller filler = (MetricsSnapshotFiller) bean;
+
+		long[] values = new long[MetricsSnapshotMXBean.SNAPSHOT_LENGTH];
+		long before = System.nanoTime();
+		Assert.assertEquals(filler.fillSnapshot(values), MetricsSnapshotMXBean.SNAPSHOT_LENGTH);
+		long after = System.nanoTime();
+		long timestamp = values[MetricsSnapshotMXBean.TIMESTAMP];
+		Assert.assertTrue((before <= timestamp) && (timestamp <= after), "unexpected timestamp " + timestamp);
+		Assert.assertTrue(values[MetricsSnapshotMXBean.HEAP_USED] > 0);
+
+		long[] shortValues = { Long.MIN_VALUE, Long.MIN_VALUE };
+		Assert.assertEquals(filler.fillSnapshot(shortValues), MetricsSnapshotMXBean.SNAPSHOT_LENGTH);
+		Assert.assertTrue(shortValues[MetricsSnapshotMXBean.UPTIME] >= 0);
+
+		long[] longValues = new long[MetricsSnapshotMXBean.SNAPSHOT_LENGTH + 1];
+		longValues[MetricsSnapshotMXBean.SNAPSHOT_LENGTH] = 42;
+		filler.fillSnapshot(longValues);
+		Assert.assertEquals(longValues[MetricsSnapshotMXBean.SNAPSHOT_LENGTH], 42);
+
+		try {
+			filler.fillSnapshot(null);
+			Assert.fail("NullPointerException expected");
+		} catch (NullPointerException e) {
+			/* expected */
+		}
+	}
+
+	@Test
+	public void testReservedIndexes() {
+		MetricsSnapshotMXBean bean = ManagementFactory.getPlatformMXBean(MetricsSnapshotMXBean.class);
+		long[] values = bean.getSnapshot();
+		String[] keys = bean.getSnapshotKeys();
+		Assert.assertTrue(MetricsSnapshotMXBean.SCALAR_COUNT <= MetricsSnapshotMXBean.HEAP_POOL_BASE);
+		for (int i = MetricsSnapshotMXBean.SCALAR_COUNT; i < MetricsSnapshotMXBean.HEAP_POOL_BASE; ++i) {
+			Assert.assertEquals(values[i], -1, "reserved index " + i);
+			Assert.assertNull(keys[i], "reserved index " + i);
+		}
+		Assert.assertEquals(keys[MetricsSnapshotMXBean.SHARED_CACHE_FREE], "sharedCache.free");
+		Assert.assertTrue(keys[MetricsSnapshotMXBean.HEAP_POOL_BASE].startsWith("pool."));
+	}
+
+	@Test
+	public void testSnapshotRemote() throws Exception {
+		MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(MXBEAN_NAME);
+		Assert.assertTrue(mbeanServer.isRegistered(name), MXBEAN_NAME + " is not registered");
+
+		MetricsSnapshotMXBean bean = JMX.newMXBeanProxy(mbeanServer, name, MetricsSnapshotMXBean.class);
+		Assert.assertFalse(bean instanceof MetricsSnapshotFiller, "a proxy cannot fill a local array");
+		long[] values = bean.getSnapshot();
+		String[] keys = bean.getSnapshotKeys();
+		Assert.assertEquals(values.length, MetricsSnapshotMXBean.SNAPSHOT_LENGTH);
+		Assert.assertEquals(keys.length, MetricsSnapshotMXBean.SNAPSHOT_LENGTH);
+		Assert.assertEquals(keys[MetricsSnapshotMXBean.HEAP_USED], "heap.used");
+		for (int i = 0; i < keys.length; ++i) {
+			boolean reserved = (MetricsSnapshotMXBean.SCALAR_COUNT <= i) && (i < MetricsSnapshotMXBean.HEAP_POOL_BASE);
+			Assert.assertEquals(null == keys[i], reserved, "key " + i);
+			logger.debug(keys[i] + "=" + values[i]);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.management;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.MemoryMXBean;
+
+/**
+ * Tests the reference handler threads started by -Xgc:referenceHandlerThreads=&lt;n&gt;.
+ * The tests also pass without the option, when the finalize worker enqueues every reference.
+ */
+@Test(groups = { "level.extended" })
+public class ReferenceHandlerTest {
+
+	private static final Logger logger = Logger.getLogger(ReferenceHandlerTest.class);
+
+	private static final int REFERENCE_COUNT = 20000;
+
+	private static final long ENQUEUE_TIMEOUT_MILLIS = 60000;
+
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+	@Test
+	public void testAllClearedReferencesEnqueued() throws InterruptedException {
+		MemoryMXBean bean = (MemoryMXBean) ManagementFactory.getMemoryMXBean();
+		long enqueuedBefore = bean.getEnqueuedReferenceCount();
+		ReferenceQueue<Object> queue = new ReferenceQueue<>();
+		List<Reference<Object>> references = new ArrayList<>(REFERENCE_COUNT);
+		for (int i = 0; i < REFERENCE_COUNT; i++) {
+			references.add(new WeakReference<>(new Object(), queue));
+		}
+		System.gc();
+
+		int received = 0;
+		long deadline = System.currentTimeMillis() + ENQUEUE_TIMEOUT_MILLIS;
+		while (received < REFERENCE_COUNT) {
+			long remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0) {
+				break;
+			}
+			Reference<?> reference = queue.remove(remaining);
+			if (null == reference) {
+				break;
+			}
+			Assert.assertNull(reference.get());
+			received += 1;
+		}
+		Assert.assertEquals(received, REFERENCE_COUNT, "cleared references not enqueued");
+		Assert.assertNull(queue.poll(), "reference enqueued twice");
+
+		long enqueuedDelta = bean.getEnqueuedReferenceCount() - enqueuedBefore;
+		logger.debug("Enqueued " + enqueuedDelta + " references, pending " + bean.getPendingReferenceCount());
+		Assert.assertTrue(enqueuedDelta >= REFERENCE_COUNT, "enqueued count only increased by " + enqueuedDelta);
+		Reference.reachabilityFence(references);
+	}
+
+	@Test
+	public void testShutdownWithPendingReferences() throws Exception {
+		String javaExec = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		List<String> processArgs = new ArrayList<>();
+		processArgs.add(javaExec);
+		processArgs.add("-Xgc:referenceHandlerThreads=4");
+		processArgs.add("-Xgc:referenceHandlerBatchSize=16");
+		processArgs.add("-classpath");
+		processArgs.add(System.getProperty("java.class.path"));
+		processArgs.add(PendingReferencesAtExit.class.getName());
+		ProcessBuilder builder = new ProcessBuilder(processArgs);
+		builder.inheritIO();
+		logger.info(builder.command());
+
+		Process child = builder.start();
+		if (!child.waitFor(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+			child.destroyForcibly();
+			Assert.fail("VM did not shut down with a reference backlog pending");
+		}
+		Assert.assertEquals(child.exitValue(), 0, "unexpected exit value");
+	}
+
+	/**
+	 * Leaves a large backlog of cleared references to the reference handler threads and exits at once.
+	 */
+	public static final class PendingReferencesAtExit {
+		public static void main(String[] args) {
+			ReferenceQueue<Object> queue = new ReferenceQueue<>();
+			List<Reference<Object>> references = new ArrayList<>();
+			for (int i = 0; i < 200000; i++) {
+				references.add(new PhantomReference<>(new Object(), queue));
+			}
+			System.gc();
+			Reference.reachabilityFence(references);
+		}
+	}
+}
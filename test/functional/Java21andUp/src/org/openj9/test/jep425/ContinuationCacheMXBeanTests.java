@@ -0,0 +1,71 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jep425;
+
+import java.lang.management.ManagementFactory;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.lang.management.ContinuationCacheMXBean;
+
+/**
+ * Test cases for the continuation cache statistics reported by {@link ContinuationCacheMXBean}.
+ */
+@Test(groups = { "level.sanity" })
+public class ContinuationCacheMXBeanTests {
+
+	@Test
+	public void test_continuationCacheConfiguration() {
+		ContinuationCacheMXBean bean = ManagementFactory.getPlatformMXBean(ContinuationCacheMXBean.class);
+		Assert.assertNotNull(bean, "ContinuationCacheMXBean is not registered");
+		Assert.assertTrue(bean.getT1CacheSize() >= 0, "Unexpected T1 cache size " + bean.getT1CacheSize());
+		Assert.assertTrue(bean.getT2CacheSize() >= 0, "Unexpected T2 cache size " + bean.getT2CacheSize());
+		Assert.assertTrue(bean.getMaxCachedStackSize() >= 0, "Unexpected max cached stack size " + bean.getMaxCachedStackSize());
+	}
+
+	@Test
+	public void test_continuationCacheStatistics() throws Exception {
+		ContinuationCacheMXBean bean = ManagementFactory.getPlatformMXBean(ContinuationCacheMXBean.class);
+		int numThreads = 1000;
+		long createdBefore = bean.getT1CacheHitCount() + bean.getT2CacheHitCount() + bean.getCacheMissCount();
+
+		/* Run the virtual threads one at a time so that each can reuse the continuation cached by the previous one. */
+		for (int i = 0; i < numThreads; i++) {
+			Thread.ofVirtual().start(() -> {}).join();
+		}
+
+		long hits = bean.getT1CacheHitCount() + bean.getT2CacheHitCount();
+		long createdAfter = hits + bean.getCacheMissCount();
+		Assert.assertTrue(createdAfter > createdBefore, "No continuation creation was counted");
+		if ((bean.getT1CacheSize() > 0) || (bean.getT2CacheSize() > 0)) {
+			Assert.assertTrue(hits > 0, "No continuation was reused from the cache");
+		}
+
+		double ratio = bean.getCacheHitRatio();
+		Assert.assertTrue((ratio >= 0.0) && (ratio <= 1.0), "Unexpected cache hit ratio " + ratio);
+		long lookupTime = bean.getAverageLookupTime();
+		Assert.assertTrue(lookupTime >= -1, "Unexpected average lookup time " + lookupTime);
+		Assert.assertTrue(bean.getTrimmedStackCount() >= 0, "Unexpected trimmed stack count " + bean.getTrimmedStackCount());
+		Assert.assertTrue(bean.getCacheFreedCount() >= 0, "Unexpected freed count " + bean.getCacheFreedCount());
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jep425;
+
+import java.lang.management.ManagementFactory;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.lang.management.ContinuationCacheMXBean;
+
+/**
+ * Test cases for trimming the stacks of cached continuations, run with -XX:ContinuationCache:maxStackSize=64k.
+ */
+@Test(groups = { "level.sanity" })
+public class ContinuationCacheTrimTests {
+
+	private static final long MAX_CACHED_STACK_SIZE = 64 * 1024;
+	private static final int RECURSION_DEPTH = 2000;
+	private static final long TRIM_TIMEOUT_MILLIS = 10000;
+
+	private static long recurse(int depth, long value) {
+		if (depth <= 0) {
+			return value;
+		}
+		return recurse(depth - 1, value + depth) + 1;
+	}
+
+	/* A finished continuation is recycled after its virtual thread has terminated; wait for the count to change. */
+	private static long waitForTrimmedStackCount(ContinuationCacheMXBean bean, long previousCount) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TRIM_TIMEOUT_MILLIS;
+		long count = bean.getTrimmedStackCount();
+		while ((count == previousCount) && (System.currentTimeMillis() < deadline)) {
+			Thread.sleep(10);
+			count = bean.getTrimmedStackCount();
+		}
+		return count;
+	}
+
+	@Test
+	public void test_oversizedStackIsTrimmed() throws Exception {
+		ContinuationCacheMXBean bean = ManagementFactory.getPlatformMXBean(ContinuationCacheMXBean.class);
+		Assert.assertEquals(bean.getMaxCachedStackSize(), MAX_CACHED_STACK_SIZE, "-XX:ContinuationCache:maxStackSize=64k is not in effect");
+
+		long trimmedBefore = bean.getTrimmedStackCount();
+		/* Grow the stack of the virtual thread well beyond the maximum cached stack size. */
+		long[] result = new long[1];
+		Thread.ofVirtual().start(() -> result[0] = recurse(RECURSION_DEPTH, 0)).join();
+		Assert.assertTrue(result[0] > 0);
+
+		long trimmedAfter = waitForTrimmedStackCount(bean, trimmedBefore);
+		Assert.assertTrue(trimmedAfter > trimmedBefore, "The oversized stack of a finished continuation was not trimmed");
+
+		/* The continuation is reused with a new stack, which can grow and be trimmed again. */
+		Thread.ofVirtual().start(() -> result[0] = recurse(RECURSION_DEPTH, 0)).join();
+		Assert.assertTrue(result[0] > 0);
+		Assert.assertTrue(waitForTrimmedStackCount(bean, trimmedAfter) > trimmedAfter, "The regrown stack was not trimmed");
+	}
+
+	@Test
+	public void test_smallStackIsNotTrimmed() throws Exception {
+		ContinuationCacheMXBean bean = ManagementFactory.getPlatformMXBean(ContinuationCacheMXBean.class);
+		long trimmedBefore = bean.getTrimmedStackCount();
+		long createdBefore = bean.getT1CacheHitCount() + bean.getT2CacheHitCount() + bean.getCacheMissCount();
+		for (int i = 0; i < 100; i++) {
+			Thread.ofVirtual().start(() -> {}).join();
+		}
+		long createdAfter = bean.getT1CacheHitCount() + bean.getT2CacheHitCount() + bean.getCacheMissCount();
+		Assert.assertTrue(createdAfter > createdBefore, "No continuation creation was counted");
+		Assert.assertEquals(bean.getTrimmedStackCount(), trimmedBefore, "A stack smaller than the maximum cached stack size was trimmed");
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jep425;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.lang.management.JvmCpuMonitorMXBean;
+
+/**
+ * Test cases for the virtual thread CPU accounting reported by {@link JvmCpuMonitorMXBean}.
+ * Requires the -XX:+VirtualThreadCPUAccounting option.
+ */
+@Test(groups = { "level.sanity" })
+public class VirtualThreadCpuAccountingTests {
+
+	private static long spin(long nanos) {
+		long sum = 0;
+		long end = System.nanoTime() + nanos;
+		while (System.nanoTime() < end) {
+			sum += System.identityHashCode(new Object());
+		}
+		return sum;
+	}
+
+	@Test
+	public void test_virtualThreadCpuTime() throws Exception {
+		JvmCpuMonitorMXBean bean = ManagementFactory.getPlatformMXBean(JvmCpuMonitorMXBean.class);
+		Assert.assertNotNull(bean, "JvmCpuMonitorMXBean is not registered");
+		long before = bean.getVirtualThreadCpuTime();
+		Assert.assertTrue(before >= 0, "Virtual thread CPU accounting is not enabled");
+
+		AtomicLong spinNanos = new AtomicLong();
+		Thread vthread = Thread.ofVirtual().start(() -> {
+			long start = System.nanoTime();
+			spin(200_000_000L);
+			long spun = System.nanoTime() - start;
+			/* The CPU time is accounted at each unmount, so split the work across a yield. */
+			Thread.yield();
+			start = System.nanoTime();
+			spin(100_000_000L);
+			spinNanos.set(spun + (System.nanoTime() - start));
+		});
+		vthread.join();
+
+		long after = bean.getVirtualThreadCpuTime();
+		/* The spinning never blocks, so most of its wall time is CPU time charged to the virtual thread
+		 * when it unmounts; half of it leaves room for the time the carrier is descheduled on a loaded machine.
+		 */
+		long minimumMicros = spinNanos.get() / 2 / 1000;
+		Assert.assertTrue((after - before) >= minimumMicros, "Virtual thread CPU time only increased by " + (after - before)
+				+ "us, expected at least " + minimumMicros + "us for " + (spinNanos.get() / 1000) + "us of spinning");
+	}
+
+	@Test
+	public void test_carrierVirtualThreadCpuTime() {
+		JvmCpuMonitorMXBean bean = ManagementFactory.getPlatformMXBean(JvmCpuMonitorMXBean.class);
+		/* A platform thread which never carried a virtual thread is not a carrier thread. */
+		Assert.assertEquals(bean.getCarrierVirtualThreadCpuTime(Thread.currentThread().threadId()), -1);
+		Assert.assertEquals(bean.getCarrierVirtualThreadCpuTime(Long.MAX_VALUE), -1);
+		try {
+			bean.getCarrierVirtualThreadCpuTime(0);
+			Assert.fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException e) {
+			/* expected */
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jep425;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+/**
+ * Scaling benchmark for monitors on virtual threads, run on JDK 24+ where a virtual thread
+ * blocked on a monitor or in Object.wait() unmounts from its carrier.
+ */
+@Test(groups = { "level.extended" })
+public class VirtualThreadMonitorScalingTests {
+
+	private static final int SCALING_THREAD_COUNT = 100_000;
+	private static final int SCALING_LOCK_COUNT = 64;
+	private static final long SCALING_TIMEOUT = 300L; /* seconds */
+	private static final String CARRIER_THREAD_CLASS = "jdk.internal.misc.CarrierThread";
+
+	private static final class ScalingLock {
+		long counter;
+		int tokens;
+	}
+
+	private static int getParallelism() {
+		return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+	}
+
+	/* Count the live carrier threads of the virtual thread scheduler. */
+	private static int countCarrierThreads() {
+		int carriers = 0;
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (CARRIER_THREAD_CLASS.equals(thread.getClass().getName())) {
+				carriers += 1;
+			}
+		}
+		return carriers;
+	}
+
+	/**
+	 * 100k virtual threads share 64 locks, and every thread contends on a synchronized block.
+	 * The first half of the threads wait for a token; the second half is only started once
+	 * they are all waiting, to hand the tokens off with notify(). All the waiters must be
+	 * waiting at once while the scheduler runs no more carriers than its parallelism: a
+	 * waiter which pinned its carrier would make the scheduler add a carrier to compensate.
+	 * The time taken by each phase is printed so that runs can be compared.
+	 */
+	@Test
+	public void test_monitorScalingWithManyVirtualThreads() {
+		final int waiterCount = SCALING_THREAD_COUNT / 2;
+		final int parallelism = getParallelism();
+		final ScalingLock[] locks = new ScalingLock[SCALING_LOCK_COUNT];
+		for (int i = 0; i < SCALING_LOCK_COUNT; i++) {
+			locks[i] = new ScalingLock();
+		}
+		final AtomicInteger waiting = new AtomicInteger();
+		int maxCarriers = 0;
+		long waitMillis = 0;
+		long start = System.nanoTime();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			/* Interrupt the waiters if the test fails, so that closing the executor does not wait for them forever */
+			boolean finished = false;
+			try {
+				Future<?>[] futures = new Future<?>[SCALING_THREAD_COUNT];
+				for (int i = 0; i < waiterCount; i++) {
+					final ScalingLock lock = locks[i % SCALING_LOCK_COUNT];
+					futures[i] = executor.submit(() -> {
+						synchronized (lock) {
+							lock.counter += 1;
+							waiting.incrementAndGet();
+							while (0 == lock.tokens) {
+								lock.wait();
+							}
+							lock.tokens -= 1;
+						}
+						return null;
+					});
+				}
+				long deadline = start + TimeUnit.SECONDS.toNanos(SCALING_TIMEOUT);
+				for (;;) {
+					int waiters = waiting.get();
+					maxCarriers = Math.max(maxCarriers, countCarrierThreads());
+					AssertJUnit.assertTrue(maxCarriers + " carrier threads ran with a parallelism of " + parallelism
+							+ ", " + waiters + " of " + waiterCount + " virtual threads were waiting", maxCarriers <= parallelism);
+					if (waiters == waiterCount) {
+						break;
+					}
+					AssertJUnit.assertTrue("Only " + waiters + " of " + waiterCount + " virtual threads are waiting at once",
+							System.nanoTime() < deadline);
+					Thread.sleep(10);
+				}
+				waitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+				for (int i = waiterCount; i < SCALING_THREAD_COUNT; i++) {
+					/* Each signaler uses the lock of the waiter with the same index in its half. */
+					final ScalingLock lock = locks[(i - waiterCount) % SCALING_LOCK_COUNT];
+					futures[i] = executor.submit(() -> {
+						synchronized (lock) {
+							lock.counter += 1;
+							lock.tokens += 1;
+							lock.notify();
+						}
+						return null;
+					});
+				}
+				executor.shutdown();
+				AssertJUnit.assertTrue("Virtual threads did not finish within " + SCALING_TIMEOUT + " seconds",
+						executor.awaitTermination(SCALING_TIMEOUT, TimeUnit.SECONDS));
+				for (Future<?> future : futures) {
+					future.get();
+				}
+				finished = true;
+			} finally {
+				if (!finished) {
+					executor.shutdownNow();
+				}
+			}
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception occured : " + e.getMessage(), e);
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		System.out.println("test_monitorScalingWithManyVirtualThreads: " + SCALING_THREAD_COUNT + " virtual threads, "
+				+ SCALING_LOCK_COUNT + " locks, parallelism " + parallelism + ", at most " + maxCarriers + " carriers, "
+				+ waiterCount + " waiting after " + waitMillis + " ms, " + elapsedMillis + " ms in total");
+
+		long total = 0;
+		for (int i = 0; i < SCALING_LOCK_COUNT; i++) {
+			total += locks[i].counter;
+			Assert.assertEquals(locks[i].tokens, 0, "Lock " + i + " has unconsumed tokens");
+		}
+		Assert.assertEquals(total, SCALING_THREAD_COUNT);
+	}
+}
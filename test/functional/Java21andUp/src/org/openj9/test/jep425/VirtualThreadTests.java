@@ -29,7 +29,9 @@ import java.lang.reflect.*;
 import java.time.Duration;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.LockSupport;
 import java.util.stream.IntStream;
 
@@ -151,6 +153,86 @@ public class VirtualThreadTests {
 		}
 	}
 
+	private static final int SCALING_THREAD_COUNT = 10_000;
+	private static final int SCALING_LOCK_COUNT = 64;
+	private static final long SCALING_TIMEOUT = 120L; /* seconds */
+
+	private static final class ScalingLock {
+		long counter;
+		int tokens;
+	}
+
+	/**
+	 * Monitors on many virtual threads: 10k virtual threads share 64 locks, and every thread
+	 * contends on a synchronized block. On JDK 24+, where a virtual thread blocked on a monitor
+	 * or in Object.wait() unmounts from its carrier, the first half of the threads wait for a
+	 * token, and the second half is only started once they are all waiting, to hand the tokens
+	 * off with notify(). Far more threads wait at once than there are carriers, so they could
+	 * not all be waiting if waiting pinned the carriers.
+	 */
+	@Test
+	public void test_monitorScalingWithManyVirtualThreads() {
+		final boolean handOff = VersionCheck.major() >= 24;
+		final int waiterCount = handOff ? (SCALING_THREAD_COUNT / 2) : 0;
+		final ScalingLock[] locks = new ScalingLock[SCALING_LOCK_COUNT];
+		for (int i = 0; i < SCALING_LOCK_COUNT; i++) {
+			locks[i] = new ScalingLock();
+		}
+		final AtomicInteger waiting = new AtomicInteger();
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			Future<?>[] futures = new Future<?>[SCALING_THREAD_COUNT];
+			for (int i = 0; i < waiterCount; i++) {
+				final ScalingLock lock = locks[i % SCALING_LOCK_COUNT];
+				futures[i] = executor.submit(() -> {
+					synchronized (lock) {
+						lock.counter += 1;
+						waiting.incrementAndGet();
+						while (0 == lock.tokens) {
+							lock.wait();
+						}
+						lock.tokens -= 1;
+					}
+					return null;
+				});
+			}
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SCALING_TIMEOUT);
+			while (waiting.get() < waiterCount) {
+				AssertJUnit.assertTrue("Only " + waiting.get() + " of " + waiterCount + " virtual threads are waiting at once",
+						System.nanoTime() < deadline);
+				Thread.sleep(10);
+			}
+			for (int i = waiterCount; i < SCALING_THREAD_COUNT; i++) {
+				/* Each signaler uses the lock of the waiter with the same index in its half. */
+				final ScalingLock lock = locks[(i - waiterCount) % SCALING_LOCK_COUNT];
+				futures[i] = executor.submit(() -> {
+					synchronized (lock) {
+						lock.counter += 1;
+						if (handOff) {
+							lock.tokens += 1;
+							lock.notify();
+						}
+					}
+					return null;
+				});
+			}
+			executor.shutdown();
+			AssertJUnit.assertTrue("Virtual threads did not finish within " + SCALING_TIMEOUT + " seconds",
+					executor.awaitTermination(SCALING_TIMEOUT, TimeUnit.SECONDS));
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception occured : " + e.getMessage(), e);
+		}
+
+		long total = 0;
+		for (int i = 0; i < SCALING_LOCK_COUNT; i++) {
+			total += locks[i].counter;
+			Assert.assertEquals(locks[i].tokens, 0, "Lock " + i + " has unconsumed tokens");
+		}
+		Assert.assertEquals(total, SCALING_THREAD_COUNT);
+	}
+
 	private static volatile boolean testJNIThreadReady = false;
 
 	@Test
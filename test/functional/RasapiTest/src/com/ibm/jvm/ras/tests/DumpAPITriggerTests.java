@@ -28,10 +28,15 @@ import static com.ibm.jvm.ras.tests.DumpAPISuite.getContentType;
 import static com.ibm.jvm.ras.tests.DumpAPISuite.getFilesByPattern;
 import static com.ibm.jvm.ras.tests.DumpAPISuite.isZOS;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import junit.framework.TestCase;
 
@@ -151,6 +156,62 @@ public class DumpAPITriggerTests extends TestCase {
 		assertTrue("Failed to find file " + fileName + " after requesting " + fileName, dumpFile.exists());
 	}
 	
+	public void testTriggerDumpCompressedHeapToFile() throws IOException {
+		String fileName = "heap." + getName() + "." + uid + ".phd";
+		assertFalse("Found file " + fileName + ".gz before requesting " + fileName, new File(fileName + ".gz").exists());
+
+		// Keep enough objects alive for the dump to fill several of the buffers handed to the compression thread.
+		Integer[] objects = new Integer[1000000];
+		for( int i = 0; i < objects.length; i++ ) {
+			objects[i] = Integer.valueOf(i);
+		}
+
+		String dumpName = null;
+		try {
+			dumpName = com.ibm.jvm.Dump.triggerDump("heap:file=" + fileName + ",opts=PHD+GZIP");
+		} catch (InvalidDumpOptionException e) {
+			e.printStackTrace();
+			fail("Exception thrown by triggerDump(heap:file=" + fileName + ",opts=PHD+GZIP)");
+		}
+		assertNotNull("Expected triggerDump to return file name, not null", dumpName);
+		assertTrue("Expected a compressed dump file name, got " + dumpName, dumpName.endsWith(fileName + ".gz"));
+		File dumpFile = new File(dumpName);
+		assertTrue("Failed to find file " + dumpName + " after requesting " + fileName, dumpFile.exists());
+		fileNames.add(dumpName);
+
+		// GZIPInputStream checks the CRC and length in the gzip trailer when the end of the stream is read.
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(dumpFile))));
+		try {
+			byte[] identifier = new byte[in.readUnsignedShort()];
+			in.readFully(identifier);
+			assertEquals("Unexpected file identifier", "portable heap dump", new String(identifier, "US-ASCII"));
+			assertEquals("Unexpected version", 6, in.readInt());
+			in.readInt(); // primary flags
+			assertEquals("Expected the header start tag", 1, in.readUnsignedByte());
+			assertEquals("Expected the full version record tag", 4, in.readUnsignedByte());
+			in.skipBytes(in.readUnsignedShort());
+			assertEquals("Expected the header end tag", 2, in.readUnsignedByte());
+			assertEquals("Expected the dump start tag", 2, in.readUnsignedByte());
+
+			// The object and class records run up to the dump end tag, which must be the last byte of the dump.
+			long recordBytes = 0;
+			int last = -1;
+			byte[] buffer = new byte[64 * 1024];
+			int read = in.read(buffer);
+			while( read > -1 ) {
+				if( read > 0 ) {
+					last = buffer[read - 1];
+					recordBytes += read;
+				}
+				read = in.read(buffer);
+			}
+			assertEquals("Expected the dump end tag at the end of " + dumpName, 3, last);
+			assertTrue("Expected more than 1MB of records, found " + recordBytes, recordBytes > 1024 * 1024);
+		} finally {
+			in.close();
+		}
+		assertEquals(objects.length - 1, objects[objects.length - 1].intValue());
+	}
 	
 	public void testTriggerDumpSnapToFile() {
 		doTestTriggerDumpWithFile("snap", "snap." + getName() + "." + uid + ".trc", DumpType.SNAP_TYPE);
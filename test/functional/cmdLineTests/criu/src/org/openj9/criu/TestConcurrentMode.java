@@ -23,6 +23,9 @@ package org.openj9.criu;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -65,6 +68,9 @@ public class TestConcurrentMode {
 			case "TestConcurrentModePostRestoreHookPriorities":
 				TestConcurrentModePostRestoreHookPriorities();
 				break;
+			case "TestParallelModePostRestoreHooks":
+				TestParallelModePostRestoreHooks();
+				break;
 			default:
 				throw new RuntimeException("Incorrect test name");
 			}
@@ -268,4 +274,52 @@ public class TestConcurrentMode {
 			System.out.println("TestConcurrentModePostRestoreHookPriorities() FAILED");
 		}
 	}
+
+	// parallel-mode postRestoreHooks of the same priority run together, before the hooks of lower priority
+	static void TestParallelModePostRestoreHooks() {
+		CRIUTestUtils.showThreadCurrentTime("TestParallelModePostRestoreHooks() starts ..");
+		CRIUSupport criu = CRIUTestUtils.prepareCheckPointJVM(CRIUTestUtils.imagePath);
+		final int parallelHooks = 3;
+		final CountDownLatch allStarted = new CountDownLatch(parallelHooks);
+		final TestResult testResult = new TestResult(true, 0);
+		for (int i = 0; i < parallelHooks; i++) {
+			criu.registerPostRestoreHook(() -> {
+				allStarted.countDown();
+				try {
+					// only completes if the other hooks of this priority are running at the same time
+					if (!allStarted.await(30, TimeUnit.SECONDS)) {
+						testResult.testPassed = false;
+						CRIUTestUtils.showThreadCurrentTime("The postRestoreHook in PARALLEL_MODE did not run in parallel");
+					}
+				} catch (InterruptedException e) {
+					testResult.testPassed = false;
+				}
+				testResult.lockStatus.incrementAndGet();
+			}, CRIUSupport.HookMode.PARALLEL_MODE, USER_HOOK_MODE_PRIORITY_HIGH);
+		}
+		criu.registerPostRestoreHook(() -> {
+			CRIUTestUtils.showThreadCurrentTime("The postRestoreHook with lower priority in CONCURRENT_MODE");
+			// check that all the hooks with USER_HOOK_MODE_PRIORITY_HIGH in PARALLEL_MODE have completed
+			if (testResult.lockStatus.get() != parallelHooks) {
+				testResult.testPassed = false;
+				CRIUTestUtils.showThreadCurrentTime("The postRestoreHook with lower priority in CONCURRENT_MODE failed with testResult.lockStatus = "
+						+ testResult.lockStatus.get());
+			}
+		}, CRIUSupport.HookMode.CONCURRENT_MODE, USER_HOOK_MODE_PRIORITY_LOW);
+
+		CRIUTestUtils.showThreadCurrentTime("TestParallelModePostRestoreHooks() Pre-checkpoint");
+		CRIUTestUtils.checkPointJVMNoSetup(criu, CRIUTestUtils.imagePath, false);
+		CRIUTestUtils.showThreadCurrentTime("TestParallelModePostRestoreHooks() after doCheckpoint()");
+		Map<String, Long> hookTimes = CRIUSupport.getLastRestoreHookTimes();
+		// every hook is timed separately, even the ones registered with the same name
+		if (hookTimes.size() < (parallelHooks + 1)) {
+			testResult.testPassed = false;
+			CRIUTestUtils.showThreadCurrentTime("TestParallelModePostRestoreHooks() hook times missing: " + hookTimes);
+		}
+		if (testResult.testPassed) {
+			System.out.println("TestParallelModePostRestoreHooks() PASSED");
+		} else {
+			System.out.println("TestParallelModePostRestoreHooks() FAILED");
+		}
+	}
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.tests.garbagecollector;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks the copy-forward statistics stanzas of a balanced verbose GC log and prints their totals.
+ * Usage: CopyForwardStatsCheck &lt;verbose GC log&gt; &lt;stanza&gt; [--required]
+ * where the stanza is one of:
+ * hot-field-copy Every &lt;hot-field-copy objects= colocated= colocated-percent= /&gt; must count at least one object, no
+ *                more co-located objects than objects, and a percentage matching the two counts
+ * numa-copy      Every &lt;numa-copy local= remote= remote-percent= /&gt; must count at least one object and a percentage
+ *                matching the two counts.  The totals printed give the share of objects copied to a remote node, to
+ *                compare runs with and without -XXgc:tarokEnableCopyForwardToWorkerNode
+ * --required     The log must contain at least one stanza, otherwise the check also passes when there is none (for
+ *                example numa-copy on a machine with a single NUMA node)
+ */
+public class CopyForwardStatsCheck
+{
+	private static final Pattern HOT_FIELD_COPY = Pattern.compile("<hot-field-copy objects=\"(\\d+)\" colocated=\"(\\d+)\" colocated-percent=\"(\\d+)\" />");
+	private static final Pattern NUMA_COPY = Pattern.compile("<numa-copy local=\"(\\d+)\" remote=\"(\\d+)\" remote-percent=\"(\\d+)\" />");
+
+	public static void main(String[] args) throws IOException
+	{
+		if ((args.length < 2) || (args.length > 3) || ((3 == args.length) && !"--required".equals(args[2])))
+		{
+			System.err.println("Usage: CopyForwardStatsCheck <verbose GC log> <stanza> [--required]");
+			System.exit(1);
+		}
+		Pattern pattern = null;
+		if ("hot-field-copy".equals(args[1]))
+		{
+			pattern = HOT_FIELD_COPY;
+		}
+		else if ("numa-copy".equals(args[1]))
+		{
+			pattern = NUMA_COPY;
+		}
+		else
+		{
+			System.err.println("Unknown stanza " + args[1]);
+			System.exit(1);
+		}
+		boolean required = (3 == args.length);
+
+		long stanzas = 0;
+		long total = 0;
+		long part = 0;
+		boolean pass = true;
+		BufferedReader reader = new BufferedReader(new FileReader(args[0]));
+		try
+		{
+			String line = null;
+			while (null != (line = reader.readLine()))
+			{
+				Matcher matcher = pattern.matcher(line);
+				if (matcher.find())
+				{
+					long first = Long.parseLong(matcher.group(1));
+					long second = Long.parseLong(matcher.group(2));
+					long percent = Long.parseLong(matcher.group(3));
+					/* hot-field-copy reports the total first and the co-located part of it second, numa-copy reports two parts */
+					long stanzaTotal = (NUMA_COPY == pattern) ? (first + second) : first;
+					long stanzaPart = second;
+					if ((0 == stanzaTotal) || (stanzaPart > stanzaTotal) || (percent != ((100 * stanzaPart) / stanzaTotal)))
+					{
+						System.out.println("Inconsistent stanza: " + line.trim());
+						pass = false;
+					}
+					stanzas += 1;
+					total += stanzaTotal;
+					part += stanzaPart;
+				}
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+
+		if (0 == stanzas)
+		{
+			System.out.println("No " + args[1] + " stanza found");
+			pass = !required;
+		}
+		else
+		{
+			System.out.println(args[1] + ": " + stanzas + " stanzas, total " + total + ", part " + part + ", percent " + ((100 * part) / total));
+		}
+		System.out.println(pass ? "Stats check passed" : "Stats check failed");
+	}
+}
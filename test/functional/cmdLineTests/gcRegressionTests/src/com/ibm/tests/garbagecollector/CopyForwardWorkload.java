@@ -0,0 +1,87 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.tests.garbagecollector;
+
+/**
+ * This test keeps a rotating set of linked lists alive while it allocates garbage, so that the balanced collector's
+ * partial GCs copy-forward many small objects whose first field references the next object of the list.  It is run
+ * with -Xverbosegclog and the resulting log is checked by CopyForwardStatsCheck.
+ */
+public class CopyForwardWorkload
+{
+	private static final int LIST_COUNT = 256;
+	private static final int LIST_LENGTH = 2000;
+
+	public static Node[] _lists = new Node[LIST_COUNT];
+	public static Object _garbage;
+
+	private static class Node
+	{
+		Node _next;
+		int _value;
+
+		Node(Node next, int value)
+		{
+			_next = next;
+			_value = value;
+		}
+	}
+
+	/**
+	 * @param args Takes one argument:  number of lists to replace before terminating.  It must be at least 1.
+	 */
+	public static void main(String[] args)
+	{
+		if (1 != args.length)
+		{
+			System.err.println("Missing argument for the number of lists to replace.");
+			System.exit(1);
+		}
+		int replacements = Integer.parseInt(args[0]);
+		if (replacements < 1)
+		{
+			System.err.println("Invalid number of lists to replace (" + replacements + ").  Value given must be at least 1.");
+			System.exit(2);
+		}
+
+		for (int i = 0; i < replacements; i++)
+		{
+			Node head = null;
+			for (int j = 0; j < LIST_LENGTH; j++)
+			{
+				head = new Node(head, j);
+				_garbage = new int[16];
+			}
+			_lists[i % LIST_COUNT] = head;
+		}
+
+		long checksum = 0;
+		for (int i = 0; i < _lists.length; i++)
+		{
+			for (Node node = _lists[i]; null != node; node = node._next)
+			{
+				checksum += node._value;
+			}
+		}
+		System.out.println("Workload ran to completion, checksum " + checksum);
+	}
+}
@@ -0,0 +1,82 @@
+
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.vectorapi;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernels run by VectorAPITesting.xml with -Xjit:verbose={vectorAPI}.
+ */
+public class VectorAPIKernels {
+	/* 64-bit vectors are not vectorized by the JIT, so the operations on them are scalarized */
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_64;
+
+	private static final int LENGTH = 1024;
+
+	private static final int ITERATIONS = 50000;
+
+	static IntVector escaped;
+
+	static void minMax(int[] a, int[] b, int[] min, int[] max) {
+		for (int i = 0; i < SPECIES.loopBound(a.length); i += SPECIES.length()) {
+			IntVector va = IntVector.fromArray(SPECIES, a, i);
+			IntVector vb = IntVector.fromArray(SPECIES, b, i);
+			va.min(vb).intoArray(min, i);
+			va.max(vb).intoArray(max, i);
+		}
+	}
+
+	/* the sum is stored to a static field, so these intrinsics can be neither vectorized nor scalarized */
+	static void escape(int[] a, int[] b) {
+		for (int i = 0; i < SPECIES.loopBound(a.length); i += SPECIES.length()) {
+			IntVector va = IntVector.fromArray(SPECIES, a, i);
+			IntVector vb = IntVector.fromArray(SPECIES, b, i);
+			escaped = va.add(vb);
+		}
+	}
+
+	public static void main(String[] args) {
+		int[] a = new int[LENGTH];
+		int[] b = new int[LENGTH];
+		int[] min = new int[LENGTH];
+		int[] max = new int[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			a[i] = (i % 2 == 0) ? i : -i;
+			b[i] = LENGTH / 2 - i;
+		}
+
+		for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+			minMax(a, b, min, max);
+			escape(a, b);
+		}
+
+		for (int i = 0; i < LENGTH; i++) {
+			if ((min[i] != Math.min(a[i], b[i])) || (max[i] != Math.max(a[i], b[i]))) {
+				System.out.println("Wrong min/max at index " + i + ": min " + min[i] + ", max " + max[i]);
+				System.exit(1);
+			}
+		}
+		System.out.println("Vector API kernels completed");
+	}
+}
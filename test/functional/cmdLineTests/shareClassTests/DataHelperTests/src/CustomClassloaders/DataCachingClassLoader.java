@@ -162,4 +162,28 @@ public class DataCachingClassLoader extends URLClassLoader {
 		bBuffer = sdHelper.storeSharedData(token, bBuffer);
 		return (bBuffer!=null);
 	}
+
+	// -- operations using a namespace and a version
+
+	public InputStream findInCache(String namespace, String token, long version) {
+		if (sdHelper!=null) {
+			ByteBuffer bBuffer = sdHelper.findSharedData(namespace, token, version);
+			if (bBuffer!=null) return newInputStream(bBuffer);
+		}
+		return null;
+	}
+
+	public void storeNull(String namespace, String token) {
+		if (sdHelper!=null) {
+			sdHelper.storeSharedData(namespace, token, 0, null);
+		}
+	}
+
+	/** Stores the data from a heap buffer, the returned view of the cached data must be read-only and hold just the data */
+	public boolean forceStore(String namespace, String token, long version, String data) {
+		byte[] dataBytes = data.getBytes();
+		ByteBuffer bBuffer = ByteBuffer.wrap(dataBytes);
+		bBuffer = sdHelper.storeSharedData(namespace, token, version, bBuffer);
+		return (bBuffer!=null) && bBuffer.isReadOnly() && (bBuffer.remaining()==dataBytes.length);
+	}
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package apitesting.datahelper;
+
+import java.io.InputStream;
+
+import CustomClassloaders.DataCachingClassLoader;
+
+/**
+ * Namespaced, versioned tokens - data stored in one namespace is not seen from another namespace or
+ * without a namespace, and data is only found with the version it was stored with. Namespaces containing
+ * the key separator, and plain tokens starting with it, are rejected.
+ */
+public class DataCachingTest07 extends DataCachingTestbase {
+
+	static final String NAMESPACE_ONE = "namespace.one";
+	static final String NAMESPACE_TWO = "namespace.two";
+
+	public static void main(String[] args) {
+		new DataCachingTest07().run();
+	}
+
+	public void run() {
+		log("working with namespaced and versioned entries");
+		DataCachingClassLoader classLoader = getDataCachingLoader(CLASSPATH_JARONE);
+		InputStream dataStream = null;
+
+		log("make sure the resource we are testing is not in the cache already");
+		dataStream = classLoader.findInCache(NAMESPACE_ONE, FILEONE, 1);
+		if (dataStream!=null) fail("'"+FILEONE+"' should not already be in namespace '"+NAMESPACE_ONE+"'");
+
+		log("store version 1 in the first namespace");
+		if (!classLoader.forceStore(NAMESPACE_ONE, FILEONE, 1, "namespace one, version one")) {
+			fail("storeSharedData('"+NAMESPACE_ONE+"','"+FILEONE+"',1,...) did not return a read-only view of the stored data");
+		}
+		dataStream = classLoader.findInCache(NAMESPACE_ONE, FILEONE, 1);
+		readAndCheck(dataStream,"namespace one, version one");
+
+		log("the data must not be found with another version");
+		dataStream = classLoader.findInCache(NAMESPACE_ONE, FILEONE, 2);
+		if (dataStream!=null) fail("'"+FILEONE+"' should not be found with version 2");
+
+		log("the data must not be found from another namespace or without a namespace");
+		dataStream = classLoader.findInCache(NAMESPACE_TWO, FILEONE, 1);
+		if (dataStream!=null) fail("'"+FILEONE+"' should not be found in namespace '"+NAMESPACE_TWO+"'");
+		dataStream = classLoader.findInCache(FILEONE);
+		if (dataStream!=null) fail("'"+FILEONE+"' should not be found without a namespace");
+
+		log("store the same token in the second namespace and without a namespace");
+		if (!classLoader.forceStore(NAMESPACE_TWO, FILEONE, 1, "namespace two, version one")) {
+			fail("storeSharedData('"+NAMESPACE_TWO+"','"+FILEONE+"',1,...) did not return a read-only view of the stored data");
+		}
+		classLoader.storeInCache = true;
+		dataStream = classLoader.getResourceAsStream(FILEONE);
+		readAndCheck(dataStream,CONTENTS_JARONE_FILEONE);
+		readAndCheck(classLoader.findInCache(NAMESPACE_ONE, FILEONE, 1),"namespace one, version one");
+		readAndCheck(classLoader.findInCache(NAMESPACE_TWO, FILEONE, 1),"namespace two, version one");
+		readAndCheck(classLoader.findInCache(FILEONE),CONTENTS_JARONE_FILEONE);
+
+		log("a new version replaces the old one");
+		if (!classLoader.forceStore(NAMESPACE_ONE, FILEONE, 2, "namespace one, version two")) {
+			fail("storeSharedData('"+NAMESPACE_ONE+"','"+FILEONE+"',2,...) did not return a read-only view of the stored data");
+		}
+		readAndCheck(classLoader.findInCache(NAMESPACE_ONE, FILEONE, 2),"namespace one, version two");
+		dataStream = classLoader.findInCache(NAMESPACE_ONE, FILEONE, 1);
+		if (dataStream!=null) fail("version 1 of '"+FILEONE+"' should have been replaced by version 2");
+		readAndCheck(classLoader.findInCache(NAMESPACE_TWO, FILEONE, 1),"namespace two, version one");
+
+		log("storing null marks the data stale");
+		classLoader.storeNull(NAMESPACE_ONE, FILEONE);
+		dataStream = classLoader.findInCache(NAMESPACE_ONE, FILEONE, 2);
+		if (dataStream!=null) fail("'"+FILEONE+"' should have been marked stale in namespace '"+NAMESPACE_ONE+"'");
+		readAndCheck(classLoader.findInCache(NAMESPACE_TWO, FILEONE, 1),"namespace two, version one");
+		readAndCheck(classLoader.findInCache(FILEONE),CONTENTS_JARONE_FILEONE);
+
+		log("a null namespace is rejected");
+		dataStream = classLoader.findInCache(null, FILEONE, 1);
+		if (dataStream!=null) fail("findSharedData() with a null namespace should return null");
+
+		log("the separator of namespaced keys is rejected where it could make two keys collide");
+		String token = "token\0with.separator";
+		if (!classLoader.forceStore(NAMESPACE_ONE, token, 1, "namespace one, token with a separator")) {
+			fail("storeSharedData('"+NAMESPACE_ONE+"',<token with a NUL>,1,...) did not return a read-only view of the stored data");
+		}
+		readAndCheck(classLoader.findInCache(NAMESPACE_ONE, token, 1),"namespace one, token with a separator");
+		String splitNamespace = NAMESPACE_ONE + "\0token";
+		if (classLoader.forceStore(splitNamespace, "with.separator", 1, "namespace with a separator")) {
+			fail("storeSharedData() with a namespace containing a NUL should return null");
+		}
+		dataStream = classLoader.findInCache(splitNamespace, "with.separator", 1);
+		if (dataStream!=null) fail("findSharedData() with a namespace containing a NUL should return null");
+		String plainToken = "\0" + NAMESPACE_ONE + "\0" + token;
+		if (classLoader.forceStore(plainToken, "plain token starting with a separator")) {
+			fail("storeSharedData() with a token starting with a NUL should return null");
+		}
+		dataStream = classLoader.findInCache(plainToken);
+		if (dataStream!=null) fail("findSharedData() with a token starting with a NUL should return null");
+		readAndCheck(classLoader.findInCache(NAMESPACE_ONE, token, 1),"namespace one, token with a separator");
+
+		log("test successful");
+	}
+}